@@ -0,0 +1,930 @@
+package io.warmup.aop;
+
+import io.warmup.framework.aop.PointcutMatcher;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.commons.GeneratorAdapter;
+import org.objectweb.asm.commons.Method;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * 🧵 ASPECT WEAVER - Teje los advices de los aspectos en el bytecode de las clases
+ *
+ * Mismo modelo que en runtime ({@code @Aspect}, {@code @Pointcut}, {@code @Before},
+ * {@code @After}, {@code @Around}, {@code @AfterReturning}, {@code @AfterThrowing},
+ * {@code @Order} y {@link PointcutMatcher}), pero el matching se hace una vez al
+ * compilar leyendo solo bytes. Cada método interceptado se renombra a
+ * {@code nombre$warmup$N} y en su lugar queda un método con la firma y anotaciones
+ * originales que llama a los advices directamente:
+ *
+ * <ul>
+ * <li>@Before/@After/@AfterReturning/@AfterThrowing: llamadas {@code invokevirtual}
+ * sobre la instancia del aspecto, cada una en su try/catch (un advice que falla se
+ * registra y no interrumpe el método, como en {@code AdviceChain})</li>
+ * <li>@Around: un método estático sintético por nivel; el {@code ProceedingJoinPoint}
+ * recibe un {@code MethodInvocation} creado con {@code invokedynamic}/LambdaMetafactory
+ * que apunta al siguiente nivel o al método original</li>
+ * </ul>
+ *
+ * Sin proxy, sin {@code AspectManager} y sin reflexión por llamada: el {@code Method}
+ * y la instancia del aspecto se resuelven una sola vez por clase tejida. Las clases
+ * tejidas se marcan con {@code @Woven(aspectos)} y el contenedor solo les genera
+ * proxy para los aspectos registrados en runtime que no están en esa lista.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+public final class AspectWeaver {
+
+    private static final Logger log = Logger.getLogger(AspectWeaver.class.getName());
+
+    private static final String ANNOTATION_PACKAGE = "Lio/warmup/framework/annotation/";
+    private static final String ASPECT = ANNOTATION_PACKAGE + "Aspect;";
+    private static final String ORDER = ANNOTATION_PACKAGE + "Order;";
+    private static final String POINTCUT = ANNOTATION_PACKAGE + "Pointcut;";
+    private static final String WOVEN = ANNOTATION_PACKAGE + "Woven;";
+    private static final String ASYNC = ANNOTATION_PACKAGE + "Async;";
+
+    private static final Type OBJECT = Type.getType(Object.class);
+    private static final Type OBJECT_ARRAY = Type.getType(Object[].class);
+    private static final Type THROWABLE = Type.getType(Throwable.class);
+    private static final Type CLASS = Type.getType(Class.class);
+    private static final Type REFLECT_METHOD = Type.getType(java.lang.reflect.Method.class);
+    private static final Type JOIN_POINT = Type.getObjectType("io/warmup/framework/aop/JoinPoint");
+    private static final Type PROCEEDING_JOIN_POINT = Type.getObjectType("io/warmup/framework/aop/ProceedingJoinPoint");
+    private static final Type METHOD_INVOCATION = Type.getObjectType("io/warmup/framework/aop/MethodInvocation");
+    private static final Type WOVEN_ASPECTS = Type.getObjectType("io/warmup/framework/aop/WovenAspects");
+
+    private static final Method JOIN_POINT_INIT = Method.getMethod("void <init> (Object, java.lang.reflect.Method, Object[])");
+    private static final Method PROCEEDING_JOIN_POINT_INIT = new Method("<init>", Type.VOID_TYPE,
+            new Type[]{OBJECT, REFLECT_METHOD, OBJECT_ARRAY, METHOD_INVOCATION});
+    private static final Method ASPECT_OF = Method.getMethod("Object aspectOf (Class)");
+    private static final Method IS_REGISTERED = Method.getMethod("boolean isRegistered (Class)");
+    private static final Method ADVICE_FAILED = Method.getMethod("void adviceFailed (String, Throwable)");
+    private static final Method GET_DECLARED_METHOD = Method.getMethod("java.lang.reflect.Method getDeclaredMethod (String, Class[])");
+    private static final Method GET_ANNOTATION = Method.getMethod("java.lang.annotation.Annotation getAnnotation (Class)");
+
+    private static final Handle LAMBDA_METAFACTORY = new Handle(Opcodes.H_INVOKESTATIC,
+            "java/lang/invoke/LambdaMetafactory", "metafactory",
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;"
+                    + "Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodHandle;Ljava/lang/invoke/MethodType;)"
+                    + "Ljava/lang/invoke/CallSite;",
+            false);
+    private static final Type PROCEED_TYPE = Type.getMethodType(OBJECT);
+
+    private final List<AdviceDefinition> advices = new ArrayList<>();
+    private final Map<String, String> localPointcuts = new HashMap<>();
+    private final Map<String, String> globalPointcuts = new HashMap<>();
+    private final Set<String> aspectNames = new HashSet<>();
+    private boolean compiled;
+
+    /**
+     * Registra un aspecto a partir de su bytecode.
+     *
+     * @return false si la clase no es un {@code @Aspect}
+     */
+    public boolean addAspect(byte[] classBytes) {
+        ClassNode node = read(classBytes, ClassReader.SKIP_CODE);
+        if (findAnnotation(node.visibleAnnotations, ASPECT) == null) {
+            return false;
+        }
+        if ((node.access & Opcodes.ACC_PUBLIC) == 0) {
+            throw new WeavingException("El aspecto " + node.name + " debe ser público para tejerlo");
+        }
+        AnnotationNode orderAnnotation = findAnnotation(node.visibleAnnotations, ORDER);
+        Object orderValue = orderAnnotation != null ? value(orderAnnotation, "value") : null;
+        int order = orderValue instanceof Integer ? (Integer) orderValue : 0;
+        String simpleName = simpleName(node.name);
+
+        for (MethodNode method : node.methods) {
+            AnnotationNode pointcut = findAnnotation(method.visibleAnnotations, POINTCUT);
+            if (pointcut != null) {
+                String expression = stringValue(pointcut, "value", "");
+                localPointcuts.put(simpleName + "." + method.name, expression);
+                globalPointcuts.put(method.name, expression);
+            }
+        }
+        for (MethodNode method : node.methods) {
+            AdviceDefinition advice = AdviceDefinition.of(node.name, simpleName, order, method);
+            if (advice != null) {
+                advices.add(advice);
+            }
+        }
+        aspectNames.add(node.name);
+        compiled = false;
+        log.log(Level.FINE, "Aspecto para tejer: {0} ({1} advices)", new Object[]{node.name, advices.size()});
+        return true;
+    }
+
+    /**
+     * @return true si hay al menos un advice registrado
+     */
+    public boolean hasAdvices() {
+        return !advices.isEmpty();
+    }
+
+    /**
+     * Teje los advices que aplican a la clase.
+     *
+     * @param classBytes bytecode original
+     * @param loader loader con el que resolver superclases al recalcular frames
+     * @return bytecode tejido, o null si la clase no cambia
+     */
+    public byte[] weave(byte[] classBytes, ClassLoader loader) {
+        compilePointcuts();
+        ClassNode node = read(classBytes, 0);
+        if (!isWeavable(node)) {
+            return null;
+        }
+        String className = node.name.replace('/', '.');
+        List<AdviceDefinition> candidates = new ArrayList<>();
+        for (AdviceDefinition advice : advices) {
+            if (advice.matcher.couldMatch(className)) {
+                candidates.add(advice);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (hasAsyncMethods(node)) {
+            // @Async lo despacha AspectManager: la clase sigue usando proxy
+            log.log(Level.FINE, "Clase con métodos @Async, se mantiene el proxy: {0}", className);
+            return null;
+        }
+
+        ClassWeaving weaving = new ClassWeaving(node);
+        for (MethodNode method : new ArrayList<>(node.methods)) {
+            if (!isInterceptable(method)) {
+                continue;
+            }
+            List<AdviceDefinition> matching = matching(candidates, className, method);
+            if (!matching.isEmpty()) {
+                weaving.weaveMethod(method, matching);
+            }
+        }
+        if (weaving.wovenMethods == 0) {
+            return null;
+        }
+        weaving.finish();
+
+        ClassWriter writer = new FrameComputingClassWriter(loader);
+        node.accept(writer);
+        log.log(Level.FINE, "🧵 {0}: {1} métodos tejidos", new Object[]{className, weaving.wovenMethods});
+        return writer.toByteArray();
+    }
+
+    private void compilePointcuts() {
+        if (compiled) {
+            return;
+        }
+        for (AdviceDefinition advice : advices) {
+            String expression = resolveReference(advice.expression, advice.aspectSimpleName);
+            advice.matcher = PointcutMatcher.compile(expression, globalPointcuts::get);
+        }
+        Collections.sort(advices);
+        compiled = true;
+    }
+
+    /**
+     * Igual que {@code AspectManager}: una expresión {@code nombre()} completa se
+     * resuelve primero en el aspecto que la declara y después globalmente.
+     */
+    private String resolveReference(String expression, String aspectSimpleName) {
+        if (expression == null || !expression.endsWith("()")) {
+            return expression;
+        }
+        String reference = expression.substring(0, expression.length() - 2);
+        String local = localPointcuts.get(aspectSimpleName + "." + reference);
+        if (local != null) {
+            return local;
+        }
+        String global = globalPointcuts.get(reference);
+        return global != null ? global : expression;
+    }
+
+    private boolean isWeavable(ClassNode node) {
+        if ((node.access & (Opcodes.ACC_INTERFACE | Opcodes.ACC_ANNOTATION | Opcodes.ACC_MODULE)) != 0) {
+            return false;
+        }
+        if ((node.version & 0xFFFF) < Opcodes.V1_7) {
+            // invokedynamic necesita class files 51+
+            return false;
+        }
+        return !aspectNames.contains(node.name)
+                && findAnnotation(node.visibleAnnotations, ASPECT) == null
+                && findAnnotation(node.visibleAnnotations, WOVEN) == null;
+    }
+
+    private static boolean hasAsyncMethods(ClassNode node) {
+        for (MethodNode method : node.methods) {
+            if (findAnnotation(method.visibleAnnotations, ASYNC) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInterceptable(MethodNode method) {
+        int excluded = Opcodes.ACC_STATIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE
+                | Opcodes.ACC_BRIDGE | Opcodes.ACC_SYNTHETIC;
+        return (method.access & excluded) == 0 && !method.name.startsWith("<");
+    }
+
+    private static List<AdviceDefinition> matching(List<AdviceDefinition> candidates, String className, MethodNode method) {
+        Type returnType = Type.getReturnType(method.desc);
+        String returnTypeName = returnType.getSort() == Type.ARRAY
+                ? returnType.getDescriptor().replace('/', '.')
+                : returnType.getClassName();
+        Set<String> annotations = new HashSet<>();
+        collectAnnotationNames(method.visibleAnnotations, annotations);
+        collectAnnotationNames(method.invisibleAnnotations, annotations);
+
+        List<AdviceDefinition> matching = new ArrayList<>();
+        for (AdviceDefinition advice : candidates) {
+            if (advice.matcher.matches(className, method.name, returnTypeName, annotations::contains)) {
+                matching.add(advice);
+            }
+        }
+        return matching;
+    }
+
+    /* ---------- tejido de una clase ---------- */
+
+    /**
+     * Estado del tejido de una clase: helpers estáticos compartidos por los
+     * métodos tejidos (instancias de aspecto y objetos {@code Method}).
+     */
+    private static final class ClassWeaving {
+
+        private final ClassNode node;
+        private final Type owner;
+        private final Map<String, String> aspectAccessors = new HashMap<>();
+        private final Set<String> wovenAspects = new LinkedHashSet<>();
+        private final List<MethodNode> generated = new ArrayList<>();
+        private int wovenMethods;
+
+        ClassWeaving(ClassNode node) {
+            this.node = node;
+            this.owner = Type.getObjectType(node.name);
+        }
+
+        void weaveMethod(MethodNode original, List<AdviceDefinition> matching) {
+            int index = wovenMethods++;
+            Method signature = new Method(original.name, original.desc);
+
+            List<AdviceDefinition> before = new ArrayList<>();
+            List<AdviceDefinition> around = new ArrayList<>();
+            List<AdviceDefinition> after = new ArrayList<>();
+            List<AdviceDefinition> afterReturning = new ArrayList<>();
+            List<AdviceDefinition> afterThrowing = new ArrayList<>();
+            for (AdviceDefinition advice : matching) {
+                switch (advice.kind) {
+                    case BEFORE: before.add(advice); break;
+                    case AROUND: around.add(advice); break;
+                    case AFTER: after.add(advice); break;
+                    case AFTER_RETURNING: afterReturning.add(advice); break;
+                    default: afterThrowing.add(advice); break;
+                }
+                advice.validate(original, node.name);
+                wovenAspects.add(advice.aspect.replace('/', '.'));
+            }
+
+            // El método original pasa a ser privado y sintético; el wrapper hereda firma y anotaciones
+            MethodNode wrapper = new MethodNode(Opcodes.ASM9, original.access, original.name, original.desc,
+                    original.signature, original.exceptions.toArray(new String[0]));
+            wrapper.visibleAnnotations = original.visibleAnnotations;
+            wrapper.invisibleAnnotations = original.invisibleAnnotations;
+            wrapper.visibleParameterAnnotations = original.visibleParameterAnnotations;
+            wrapper.invisibleParameterAnnotations = original.invisibleParameterAnnotations;
+            wrapper.visibleAnnotableParameterCount = original.visibleAnnotableParameterCount;
+            wrapper.invisibleAnnotableParameterCount = original.invisibleAnnotableParameterCount;
+            wrapper.parameters = original.parameters;
+            original.visibleAnnotations = null;
+            original.invisibleAnnotations = null;
+            original.visibleParameterAnnotations = null;
+            original.invisibleParameterAnnotations = null;
+            original.visibleAnnotableParameterCount = 0;
+            original.invisibleAnnotableParameterCount = 0;
+            original.parameters = null;
+            original.signature = null;
+            original.name = original.name + "$warmup$" + index;
+            original.access = (original.access & ~(Opcodes.ACC_PUBLIC | Opcodes.ACC_PROTECTED | Opcodes.ACC_VARARGS))
+                    | Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC;
+            Method target = new Method(original.name, original.desc);
+
+            String methodAccessor = methodAccessor(index, signature);
+            GeneratorAdapter body = new GeneratorAdapter(wrapper, wrapper.access, wrapper.name, wrapper.desc);
+            body.visitCode();
+            if (!around.isEmpty()) {
+                String firstLevel = aroundLevels(index, signature, target, around, methodAccessor);
+                weaveAroundWrapper(body, signature, firstLevel, afterReturning, afterThrowing, methodAccessor);
+            } else {
+                weaveAdviceWrapper(body, signature, target, before, after, afterReturning,
+                        afterThrowing, methodAccessor);
+            }
+            body.endMethod();
+            generated.add(wrapper);
+        }
+
+        void finish() {
+            node.methods.addAll(generated);
+            AnnotationNode woven = new AnnotationNode(WOVEN);
+            woven.values = new ArrayList<>(List.of("value", new ArrayList<>(wovenAspects)));
+            if (node.visibleAnnotations == null) {
+                node.visibleAnnotations = new ArrayList<>();
+            }
+            node.visibleAnnotations.add(woven);
+        }
+
+        /**
+         * @Before → método → @AfterReturning/@After, con @AfterThrowing si lanza.
+         */
+        private void weaveAdviceWrapper(GeneratorAdapter body, Method signature, Method target,
+                                        List<AdviceDefinition> before, List<AdviceDefinition> after,
+                                        List<AdviceDefinition> afterReturning, List<AdviceDefinition> afterThrowing,
+                                        String methodAccessor) {
+            int joinPoint = -1;
+            if (needsJoinPoint(before) || needsJoinPoint(after) || needsJoinPoint(afterReturning)
+                    || needsJoinPoint(afterThrowing)) {
+                joinPoint = body.newLocal(JOIN_POINT);
+                body.newInstance(JOIN_POINT);
+                body.dup();
+                body.loadThis();
+                body.invokeStatic(owner, new Method(methodAccessor, REFLECT_METHOD, new Type[0]));
+                body.loadArgArray();
+                body.invokeConstructor(JOIN_POINT, JOIN_POINT_INIT);
+                body.storeLocal(joinPoint);
+            }
+            for (AdviceDefinition advice : before) {
+                callAdvice(body, advice, joinPoint, -1, -1);
+            }
+
+            Type returnType = signature.getReturnType();
+            Label start = body.mark();
+            body.loadThis();
+            body.loadArgs();
+            body.visitMethodInsn(Opcodes.INVOKESPECIAL, owner.getInternalName(), target.getName(),
+                    target.getDescriptor(), false);
+            Label end = body.mark();
+            int result = -1;
+            if (returnType.getSort() != Type.VOID) {
+                result = body.newLocal(returnType);
+                body.storeLocal(result);
+            }
+            Label done = body.newLabel();
+            body.goTo(done);
+
+            body.catchException(start, end, THROWABLE);
+            int thrown = body.newLocal(THROWABLE);
+            body.storeLocal(thrown);
+            for (AdviceDefinition advice : afterThrowing) {
+                callAdvice(body, advice, joinPoint, -1, thrown);
+            }
+            body.loadLocal(thrown);
+            body.throwException();
+
+            body.mark(done);
+            int boxedResult = -1;
+            if (!afterReturning.isEmpty()) {
+                boxedResult = body.newLocal(OBJECT);
+                if (result >= 0) {
+                    body.loadLocal(result);
+                    body.valueOf(returnType);
+                } else {
+                    body.push((String) null);
+                }
+                body.storeLocal(boxedResult);
+            }
+            for (AdviceDefinition advice : afterReturning) {
+                callAdvice(body, advice, joinPoint, boxedResult, -1);
+            }
+            for (AdviceDefinition advice : after) {
+                callAdvice(body, advice, joinPoint, -1, -1);
+            }
+            if (result >= 0) {
+                body.loadLocal(result);
+            }
+            body.returnValue();
+        }
+
+        /**
+         * Cadena @Around → @AfterReturning, con @AfterThrowing si lanza.
+         */
+        private void weaveAroundWrapper(GeneratorAdapter body, Method signature, String firstLevel,
+                                        List<AdviceDefinition> afterReturning, List<AdviceDefinition> afterThrowing,
+                                        String methodAccessor) {
+            int args = body.newLocal(OBJECT_ARRAY);
+            body.loadArgArray();
+            body.storeLocal(args);
+
+            Label start = body.mark();
+            body.loadThis();
+            body.loadLocal(args);
+            body.invokeStatic(owner, new Method(firstLevel, OBJECT, new Type[]{owner, OBJECT_ARRAY}));
+            Label end = body.mark();
+            int result = body.newLocal(OBJECT);
+            body.storeLocal(result);
+            Label done = body.newLabel();
+            body.goTo(done);
+
+            body.catchException(start, end, THROWABLE);
+            int thrown = body.newLocal(THROWABLE);
+            body.storeLocal(thrown);
+            int joinPoint = -1;
+            if (needsJoinPoint(afterThrowing)) {
+                joinPoint = newJoinPoint(body, args, methodAccessor);
+            }
+            for (AdviceDefinition advice : afterThrowing) {
+                callAdvice(body, advice, joinPoint, -1, thrown);
+            }
+            body.loadLocal(thrown);
+            body.throwException();
+
+            body.mark(done);
+            if (!afterReturning.isEmpty()) {
+                joinPoint = needsJoinPoint(afterReturning) ? newJoinPoint(body, args, methodAccessor) : -1;
+                for (AdviceDefinition advice : afterReturning) {
+                    callAdvice(body, advice, joinPoint, result, -1);
+                }
+            }
+            Type returnType = signature.getReturnType();
+            if (returnType.getSort() != Type.VOID) {
+                body.loadLocal(result);
+                body.unbox(returnType);
+            }
+            body.returnValue();
+        }
+
+        private int newJoinPoint(GeneratorAdapter body, int args, String methodAccessor) {
+            int joinPoint = body.newLocal(JOIN_POINT);
+            body.newInstance(JOIN_POINT);
+            body.dup();
+            body.loadThis();
+            body.invokeStatic(owner, new Method(methodAccessor, REFLECT_METHOD, new Type[0]));
+            body.loadLocal(args);
+            body.invokeConstructor(JOIN_POINT, JOIN_POINT_INIT);
+            body.storeLocal(joinPoint);
+            return joinPoint;
+        }
+
+        /**
+         * Genera un método estático {@code (C, Object[])Object} por nivel @Around y el
+         * último nivel, que desempaqueta los argumentos y llama al método original.
+         *
+         * @return nombre del primer nivel
+         */
+        private String aroundLevels(int index, Method signature, Method target, List<AdviceDefinition> around,
+                                    String methodAccessor) {
+            Type[] levelArgs = {owner, OBJECT_ARRAY};
+            Method proceed = new Method(signature.getName() + "$warmup$proceed$" + index, OBJECT, levelArgs);
+            GeneratorAdapter last = staticMethod(proceed);
+            last.loadArg(0);
+            Type[] params = signature.getArgumentTypes();
+            for (int i = 0; i < params.length; i++) {
+                last.loadArg(1);
+                last.push(i);
+                last.arrayLoad(OBJECT);
+                last.unbox(params[i]);
+            }
+            last.visitMethodInsn(Opcodes.INVOKESPECIAL, owner.getInternalName(), target.getName(),
+                    target.getDescriptor(), false);
+            if (signature.getReturnType().getSort() == Type.VOID) {
+                last.push((String) null);
+            } else {
+                last.valueOf(signature.getReturnType());
+            }
+            last.returnValue();
+            last.endMethod();
+
+            Method next = proceed;
+            for (int level = around.size() - 1; level >= 0; level--) {
+                AdviceDefinition advice = around.get(level);
+                Method current = new Method(signature.getName() + "$warmup$around$" + index + "$" + level,
+                        OBJECT, levelArgs);
+                GeneratorAdapter body = staticMethod(current);
+
+                int joinPoint = body.newLocal(PROCEEDING_JOIN_POINT);
+                body.newInstance(PROCEEDING_JOIN_POINT);
+                body.dup();
+                body.loadArg(0);
+                body.invokeStatic(owner, new Method(methodAccessor, REFLECT_METHOD, new Type[0]));
+                body.loadArg(1);
+                body.loadArg(0);
+                body.loadArg(1);
+                body.invokeDynamic("proceed", Type.getMethodDescriptor(METHOD_INVOCATION, levelArgs),
+                        LAMBDA_METAFACTORY, PROCEED_TYPE,
+                        new Handle(Opcodes.H_INVOKESTATIC, owner.getInternalName(), next.getName(),
+                                next.getDescriptor(), false),
+                        PROCEED_TYPE);
+                body.invokeConstructor(PROCEEDING_JOIN_POINT, PROCEEDING_JOIN_POINT_INIT);
+                body.storeLocal(joinPoint);
+
+                body.invokeStatic(owner, aspectAccessor(advice.aspect));
+                Type[] adviceParams = Type.getArgumentTypes(advice.descriptor);
+                for (Type param : adviceParams) {
+                    if (param.equals(PROCEEDING_JOIN_POINT)) {
+                        body.loadLocal(joinPoint);
+                    } else {
+                        // Parámetro anotación: la del método interceptado (validada al tejer)
+                        body.invokeStatic(owner, new Method(methodAccessor, REFLECT_METHOD, new Type[0]));
+                        body.push(param);
+                        body.invokeVirtual(REFLECT_METHOD, GET_ANNOTATION);
+                        body.checkCast(param);
+                    }
+                }
+                body.invokeVirtual(Type.getObjectType(advice.aspect), new Method(advice.name, advice.descriptor));
+                Type adviceReturn = Type.getReturnType(advice.descriptor);
+                if (adviceReturn.getSort() == Type.VOID) {
+                    body.push((String) null);
+                } else {
+                    body.valueOf(adviceReturn);
+                }
+                body.returnValue();
+                body.endMethod();
+                next = current;
+            }
+            return next.getName();
+        }
+
+        /**
+         * Llamada a un advice no-@Around dentro de su propio try/catch.
+         */
+        private void callAdvice(GeneratorAdapter body, AdviceDefinition advice, int joinPoint, int result, int thrown) {
+            Label skip = body.newLabel();
+            Type[] params = Type.getArgumentTypes(advice.descriptor);
+            int value = advice.kind == AdviceKind.AFTER_RETURNING ? result : thrown;
+            if (!advice.bindsByName()) {
+                // Sin nombre de binding el advice solo aplica si el tipo encaja
+                for (Type param : params) {
+                    if (!param.equals(JOIN_POINT) && !param.equals(OBJECT) && !param.equals(THROWABLE)) {
+                        body.loadLocal(value);
+                        body.instanceOf(param);
+                        body.ifZCmp(GeneratorAdapter.EQ, skip);
+                    }
+                }
+            }
+            Label start = body.mark();
+            body.invokeStatic(owner, aspectAccessor(advice.aspect));
+            for (Type param : params) {
+                if (param.equals(JOIN_POINT)) {
+                    body.loadLocal(joinPoint);
+                } else {
+                    body.loadLocal(value);
+                    if (!param.equals(OBJECT)) {
+                        body.checkCast(param);
+                    }
+                }
+            }
+            body.invokeVirtual(Type.getObjectType(advice.aspect), new Method(advice.name, advice.descriptor));
+            Type adviceReturn = Type.getReturnType(advice.descriptor);
+            if (adviceReturn.getSize() == 2) {
+                body.pop2();
+            } else if (adviceReturn.getSize() == 1) {
+                body.pop();
+            }
+            Label end = body.mark();
+            body.goTo(skip);
+            body.catchException(start, end, THROWABLE);
+            body.push("@" + advice.kind.label + " " + advice.name);
+            body.swap();
+            body.invokeStatic(WOVEN_ASPECTS, ADVICE_FAILED);
+            body.mark(skip);
+        }
+
+        /**
+         * Getter estático de la instancia del aspecto ({@code WovenAspects.aspectOf}),
+         * uno por aspecto y clase tejida. Solo guarda la instancia cuando es la
+         * registrada por el contenedor, así una llamada anterior al registro no
+         * fija para siempre una instancia distinta.
+         */
+        private Method aspectAccessor(String aspect) {
+            String name = aspectAccessors.get(aspect);
+            Type aspectType = Type.getObjectType(aspect);
+            if (name == null) {
+                name = "$warmup$aspect$" + aspectAccessors.size();
+                aspectAccessors.put(aspect, name);
+                node.fields.add(new FieldNode(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_VOLATILE
+                        | Opcodes.ACC_SYNTHETIC, name, aspectType.getDescriptor(), null, null));
+                GeneratorAdapter body = staticMethod(new Method(name, aspectType, new Type[0]));
+                Label ready = body.newLabel();
+                body.getStatic(owner, name, aspectType);
+                body.dup();
+                body.ifNonNull(ready);
+                body.pop();
+                body.push(aspectType);
+                body.invokeStatic(WOVEN_ASPECTS, ASPECT_OF);
+                body.checkCast(aspectType);
+                body.push(aspectType);
+                body.invokeStatic(WOVEN_ASPECTS, IS_REGISTERED);
+                body.ifZCmp(GeneratorAdapter.EQ, ready);
+                body.dup();
+                body.putStatic(owner, name, aspectType);
+                body.mark(ready);
+                body.returnValue();
+                body.endMethod();
+            }
+            return new Method(name, aspectType, new Type[0]);
+        }
+
+        /**
+         * Getter estático y perezoso del {@code Method} interceptado (lo usan JoinPoint y los parámetros anotación).
+         */
+        private String methodAccessor(int index, Method signature) {
+            String name = "$warmup$method$" + index;
+            lazyStaticField(name, REFLECT_METHOD, body -> {
+                body.push(owner);
+                body.push(signature.getName());
+                Type[] params = signature.getArgumentTypes();
+                body.push(params.length);
+                body.newArray(CLASS);
+                for (int i = 0; i < params.length; i++) {
+                    body.dup();
+                    body.push(i);
+                    body.push(params[i]);
+                    body.arrayStore(CLASS);
+                }
+                body.invokeVirtual(CLASS, GET_DECLARED_METHOD);
+            });
+            return name;
+        }
+
+        private void lazyStaticField(String name, Type type, java.util.function.Consumer<GeneratorAdapter> initializer) {
+            node.fields.add(new FieldNode(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_VOLATILE
+                    | Opcodes.ACC_SYNTHETIC, name, type.getDescriptor(), null, null));
+            GeneratorAdapter body = staticMethod(new Method(name, type, new Type[0]));
+            Label ready = body.newLabel();
+            body.getStatic(owner, name, type);
+            body.dup();
+            body.ifNonNull(ready);
+            body.pop();
+            initializer.accept(body);
+            body.dup();
+            body.putStatic(owner, name, type);
+            body.mark(ready);
+            body.returnValue();
+            body.endMethod();
+        }
+
+        private GeneratorAdapter staticMethod(Method method) {
+            MethodNode generatedMethod = new MethodNode(Opcodes.ASM9,
+                    Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_SYNTHETIC,
+                    method.getName(), method.getDescriptor(), null, null);
+            generated.add(generatedMethod);
+            GeneratorAdapter body = new GeneratorAdapter(generatedMethod, generatedMethod.access,
+                    generatedMethod.name, generatedMethod.desc);
+            body.visitCode();
+            return body;
+        }
+
+        private static boolean needsJoinPoint(List<AdviceDefinition> advices) {
+            for (AdviceDefinition advice : advices) {
+                for (Type param : Type.getArgumentTypes(advice.descriptor)) {
+                    if (param.equals(JOIN_POINT)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /* ---------- modelo de aspectos ---------- */
+
+    private enum AdviceKind {
+        BEFORE("Before"), AFTER("After"), AROUND("Around"), AFTER_RETURNING("AfterReturning"),
+        AFTER_THROWING("AfterThrowing");
+
+        final String label;
+        final String descriptor;
+
+        AdviceKind(String label) {
+            this.label = label;
+            this.descriptor = ANNOTATION_PACKAGE + label + ";";
+        }
+    }
+
+    /**
+     * Advice leído del bytecode del aspecto.
+     */
+    private static final class AdviceDefinition implements Comparable<AdviceDefinition> {
+
+        final String aspect;
+        final String aspectSimpleName;
+        final int order;
+        final AdviceKind kind;
+        final String name;
+        final String descriptor;
+        final String expression;
+        final String bindingName;
+        PointcutMatcher matcher = PointcutMatcher.NEVER;
+
+        private AdviceDefinition(String aspect, String aspectSimpleName, int order, AdviceKind kind, String name,
+                                 String descriptor, String expression, String bindingName) {
+            this.aspect = aspect;
+            this.aspectSimpleName = aspectSimpleName;
+            this.order = order;
+            this.kind = kind;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.expression = expression;
+            this.bindingName = bindingName;
+        }
+
+        static AdviceDefinition of(String aspect, String aspectSimpleName, int order, MethodNode method) {
+            // Mismo orden de precedencia que AspectManager.registerAspect
+            for (AdviceKind kind : AdviceKind.values()) {
+                AnnotationNode annotation = findAnnotation(method.visibleAnnotations, kind.descriptor);
+                if (annotation == null) {
+                    continue;
+                }
+                if ((method.access & Opcodes.ACC_PUBLIC) == 0 || (method.access & Opcodes.ACC_STATIC) != 0) {
+                    throw new WeavingException("El advice " + aspect + "." + method.name
+                            + " debe ser un método público de instancia para tejerlo");
+                }
+                switch (kind) {
+                    case AFTER_RETURNING:
+                        return new AdviceDefinition(aspect, aspectSimpleName, order, kind, method.name, method.desc,
+                                stringValue(annotation, "pointcut", ""), stringValue(annotation, "returning", ""));
+                    case AFTER_THROWING:
+                        return new AdviceDefinition(aspect, aspectSimpleName, order, kind, method.name, method.desc,
+                                stringValue(annotation, "pointcut", ""), stringValue(annotation, "throwing", "ex"));
+                    default:
+                        return new AdviceDefinition(aspect, aspectSimpleName, order, kind, method.name, method.desc,
+                                stringValue(annotation, "value", ""), null);
+                }
+            }
+            return null;
+        }
+
+        boolean bindsByName() {
+            return bindingName != null && !bindingName.isEmpty();
+        }
+
+        /**
+         * Los parámetros no soportados fallan el build en lugar de fallar en cada llamada.
+         */
+        void validate(MethodNode target, String targetClass) {
+            for (Type param : Type.getArgumentTypes(descriptor)) {
+                boolean valid;
+                switch (kind) {
+                    case AROUND:
+                        valid = param.equals(PROCEEDING_JOIN_POINT)
+                                || (param.getSort() == Type.OBJECT && hasAnnotation(target, param.getDescriptor()));
+                        break;
+                    case AFTER_RETURNING:
+                    case AFTER_THROWING:
+                        valid = param.getSort() == Type.OBJECT || param.getSort() == Type.ARRAY;
+                        break;
+                    default:
+                        valid = param.equals(JOIN_POINT);
+                        break;
+                }
+                if (!valid) {
+                    throw new WeavingException("Parámetro " + param.getClassName() + " no soportado en @" + kind.label
+                            + " " + aspect + "." + name + " aplicado a " + targetClass + "." + target.name);
+                }
+            }
+        }
+
+        private static boolean hasAnnotation(MethodNode method, String descriptor) {
+            return findAnnotation(method.visibleAnnotations, descriptor) != null;
+        }
+
+        @Override
+        public int compareTo(AdviceDefinition other) {
+            int byOrder = Integer.compare(order, other.order);
+            return byOrder != 0 ? byOrder : name.compareTo(other.name);
+        }
+    }
+
+    /* ---------- utilidades ---------- */
+
+    private static ClassNode read(byte[] classBytes, int flags) {
+        ClassNode node = new ClassNode();
+        new ClassReader(classBytes).accept(node, flags);
+        return node;
+    }
+
+    private static AnnotationNode findAnnotation(List<AnnotationNode> annotations, String descriptor) {
+        if (annotations != null) {
+            for (AnnotationNode annotation : annotations) {
+                if (annotation.desc.equals(descriptor)) {
+                    return annotation;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void collectAnnotationNames(List<AnnotationNode> annotations, Set<String> names) {
+        if (annotations != null) {
+            for (AnnotationNode annotation : annotations) {
+                names.add(Type.getType(annotation.desc).getClassName());
+            }
+        }
+    }
+
+    private static Object value(AnnotationNode annotation, String name) {
+        if (annotation.values != null) {
+            for (int i = 0; i < annotation.values.size(); i += 2) {
+                if (name.equals(annotation.values.get(i))) {
+                    return annotation.values.get(i + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String stringValue(AnnotationNode annotation, String name, String defaultValue) {
+        Object value = value(annotation, name);
+        return value instanceof String ? (String) value : defaultValue;
+    }
+
+    private static String simpleName(String internalName) {
+        String name = internalName.substring(internalName.lastIndexOf('/') + 1);
+        return name.substring(name.lastIndexOf('$') + 1);
+    }
+
+    /**
+     * ClassWriter que recalcula frames leyendo la jerarquía desde los .class del
+     * loader, sin cargar (ni inicializar) las clases que se están tejiendo.
+     */
+    private static final class FrameComputingClassWriter extends ClassWriter {
+
+        private final ClassLoader loader;
+
+        FrameComputingClassWriter(ClassLoader loader) {
+            super(COMPUTE_FRAMES);
+            this.loader = loader != null ? loader : ClassLoader.getSystemClassLoader();
+        }
+
+        @Override
+        protected ClassLoader getClassLoader() {
+            return loader;
+        }
+
+        @Override
+        protected String getCommonSuperClass(String type1, String type2) {
+            List<String> chain = superChain(type1);
+            if (chain == null) {
+                return "java/lang/Object";
+            }
+            List<String> other = superChain(type2);
+            if (other == null) {
+                return "java/lang/Object";
+            }
+            for (String candidate : other) {
+                if (chain.contains(candidate)) {
+                    return candidate;
+                }
+            }
+            return "java/lang/Object";
+        }
+
+        /**
+         * @return el tipo y sus superclases, o null si es una interfaz o no se encuentra
+         */
+        private List<String> superChain(String type) {
+            List<String> chain = new ArrayList<>();
+            String current = type;
+            while (current != null) {
+                chain.add(current);
+                if ("java/lang/Object".equals(current)) {
+                    break;
+                }
+                try (InputStream in = loader.getResourceAsStream(current + ".class")) {
+                    if (in == null) {
+                        return null;
+                    }
+                    ClassReader reader = new ClassReader(in);
+                    if ((reader.getAccess() & Opcodes.ACC_INTERFACE) != 0) {
+                        return null;
+                    }
+                    current = reader.getSuperName();
+                } catch (IOException e) {
+                    return null;
+                }
+            }
+            return chain;
+        }
+    }
+}
@@ -1,16 +1,105 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- */
-
 package io.warmup.aop;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
+ * 🧵 WARMUP AOP - Weaving de aspectos en build
  *
- * @author CNA
+ * Teje en sitio un directorio de clases compiladas: busca los {@code @Aspect}
+ * del directorio y aplica sus advices al resto de clases. Lo usan el goal
+ * {@code warmup-aop:weave} y la línea de comandos:
+ *
+ * <pre>
+ * java -cp warmup-aop.jar:warmup-core.jar:asm... io.warmup.aop.WarmupAop target/classes [classpath...]
+ * </pre>
+ *
+ * @author Warmup Framework
+ * @version 3.1
  */
 public class WarmupAop {
 
-    public static void main(String[] args) {
-        System.out.println("Hello World!");
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Uso: WarmupAop <directorio-de-clases> [classpath...]");
+            System.exit(2);
+        }
+        Path classesDirectory = Paths.get(args[0]);
+        List<Path> classpath = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            for (String element : args[i].split(File.pathSeparator)) {
+                classpath.add(Paths.get(element));
+            }
+        }
+        int woven = weaveDirectory(classesDirectory, classpath, System.out::println);
+        System.out.println("🧵 Clases tejidas: " + woven);
+    }
+
+    /**
+     * Teje en sitio las clases de {@code classesDirectory}.
+     *
+     * @param classpath dependencias de las clases (para pointcuts con anotaciones y cálculo de frames)
+     * @param log destino de los mensajes
+     * @return número de clases modificadas
+     */
+    public static int weaveDirectory(Path classesDirectory, List<Path> classpath, Consumer<String> log) throws IOException {
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            classFiles = files.filter(file -> file.toString().endsWith(".class")).collect(Collectors.toList());
+        }
+
+        AspectWeaver weaver = new AspectWeaver();
+        for (Path classFile : classFiles) {
+            if (weaver.addAspect(Files.readAllBytes(classFile))) {
+                log.accept("Aspecto: " + classesDirectory.relativize(classFile));
+            }
+        }
+        if (!weaver.hasAdvices()) {
+            return 0;
+        }
+
+        List<URL> urls = new ArrayList<>();
+        urls.add(toUrl(classesDirectory));
+        for (Path element : classpath) {
+            urls.add(toUrl(element));
+        }
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        int woven = 0;
+        try (URLClassLoader loader = new URLClassLoader(urls.toArray(new URL[0]), WarmupAop.class.getClassLoader())) {
+            // Los pointcuts @annotation(...) resuelven la anotación con el loader de contexto
+            thread.setContextClassLoader(loader);
+            for (Path classFile : classFiles) {
+                byte[] result = weaver.weave(Files.readAllBytes(classFile), loader);
+                if (result != null) {
+                    Files.write(classFile, result);
+                    log.accept("Tejida: " + classesDirectory.relativize(classFile));
+                    woven++;
+                }
+            }
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        return woven;
+    }
+
+    private static URL toUrl(Path path) {
+        try {
+            return path.toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
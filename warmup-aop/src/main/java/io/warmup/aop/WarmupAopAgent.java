@@ -0,0 +1,95 @@
+package io.warmup.aop;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.security.ProtectionDomain;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 🧵 WARMUP AOP AGENT - Weaving en carga con {@code -javaagent}
+ *
+ * Alternativa al goal de Maven cuando no se puede tejer en build:
+ *
+ * <pre>
+ * java -javaagent:warmup-aop.jar=com.acme.LoggingAspect,com.acme.TxAspect -jar app.jar
+ * </pre>
+ *
+ * Los aspectos se leen del classpath del sistema al arrancar; cada clase que se
+ * carga después pasa por el mismo {@link AspectWeaver} que en build.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+public final class WarmupAopAgent {
+
+    private static final Logger log = Logger.getLogger(WarmupAopAgent.class.getName());
+
+    private WarmupAopAgent() {
+    }
+
+    public static void premain(String agentArgs, Instrumentation instrumentation) {
+        AspectWeaver weaver = new AspectWeaver();
+        if (agentArgs != null) {
+            for (String aspect : agentArgs.split(",")) {
+                String name = aspect.trim();
+                if (!name.isEmpty() && !weaver.addAspect(readClass(name))) {
+                    log.log(Level.WARNING, "No es un @Aspect, se ignora: {0}", name);
+                }
+            }
+        }
+        if (!weaver.hasAdvices()) {
+            log.warning("warmup-aop agent sin advices: indique los aspectos como -javaagent:warmup-aop.jar=<clase>,<clase>");
+            return;
+        }
+        instrumentation.addTransformer(new WeavingTransformer(weaver));
+    }
+
+    private static byte[] readClass(String className) {
+        String resource = className.replace('.', '/') + ".class";
+        try (InputStream in = ClassLoader.getSystemResourceAsStream(resource)) {
+            if (in == null) {
+                throw new WeavingException("Aspecto no encontrado en el classpath: " + className);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new WeavingException("No se pudo leer el aspecto " + className, e);
+        }
+    }
+
+    /**
+     * Teje las clases de aplicación al cargarse (no las del JDK ni las del framework).
+     */
+    private static final class WeavingTransformer implements ClassFileTransformer {
+
+        private final AspectWeaver weaver;
+
+        WeavingTransformer(AspectWeaver weaver) {
+            this.weaver = weaver;
+        }
+
+        @Override
+        public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+                                ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+            if (loader == null || className == null || classBeingRedefined != null || isInfrastructure(className)) {
+                return null;
+            }
+            try {
+                return weaver.weave(classfileBuffer, loader);
+            } catch (RuntimeException e) {
+                // Una excepción aquí la descarta la JVM en silencio: se registra y la clase queda sin tejer
+                log.log(Level.SEVERE, "Error tejiendo " + className, e);
+                return null;
+            }
+        }
+
+        private static boolean isInfrastructure(String className) {
+            return className.startsWith("java/") || className.startsWith("javax/") || className.startsWith("jdk/")
+                    || className.startsWith("sun/") || className.startsWith("com/sun/")
+                    || className.startsWith("org/objectweb/asm/") || className.startsWith("io/warmup/framework/")
+                    || className.startsWith("io/warmup/aop/");
+        }
+    }
+}
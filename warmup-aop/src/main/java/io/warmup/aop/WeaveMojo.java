@@ -0,0 +1,58 @@
+package io.warmup.aop;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+/**
+ * 🧵 Goal {@code weave}: teje los aspectos del proyecto en {@code target/classes}
+ * tras compilar, para que en runtime no haga falta proxy.
+ *
+ * <pre>
+ * &lt;plugin&gt;
+ *     &lt;groupId&gt;io.warmup.framework&lt;/groupId&gt;
+ *     &lt;artifactId&gt;warmup-aop&lt;/artifactId&gt;
+ *     &lt;executions&gt;&lt;execution&gt;&lt;goals&gt;&lt;goal&gt;weave&lt;/goal&gt;&lt;/goals&gt;&lt;/execution&gt;&lt;/executions&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ */
+@Mojo(name = "weave", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class WeaveMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    @Parameter(defaultValue = "${project.compileClasspathElements}", readonly = true, required = true)
+    private List<String> classpathElements;
+
+    @Parameter(property = "warmup.weave.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip || !classesDirectory.isDirectory()) {
+            getLog().info("warmup-aop: nada que tejer");
+            return;
+        }
+        List<Path> classpath = new ArrayList<>();
+        for (String element : classpathElements) {
+            classpath.add(Paths.get(element));
+        }
+        try {
+            int woven = WarmupAop.weaveDirectory(classesDirectory.toPath(), classpath, getLog()::debug);
+            getLog().info("warmup-aop: " + woven + " clases tejidas en " + classesDirectory);
+        } catch (IOException | WeavingException e) {
+            throw new MojoExecutionException("warmup-aop: error tejiendo " + classesDirectory, e);
+        }
+    }
+}
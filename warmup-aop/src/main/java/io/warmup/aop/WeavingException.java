@@ -0,0 +1,16 @@
+package io.warmup.aop;
+
+/**
+ * Error de tejido: aspecto o advice que no se puede tejer (visibilidad,
+ * parámetros no soportados...). Falla el build en lugar de fallar en runtime.
+ */
+public class WeavingException extends RuntimeException {
+
+    public WeavingException(String message) {
+        super(message);
+    }
+
+    public WeavingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,228 @@
+package io.warmup.aop;
+
+import io.warmup.framework.annotation.After;
+import io.warmup.framework.annotation.AfterReturning;
+import io.warmup.framework.annotation.AfterThrowing;
+import io.warmup.framework.annotation.Around;
+import io.warmup.framework.annotation.Aspect;
+import io.warmup.framework.annotation.Before;
+import io.warmup.framework.annotation.Order;
+import io.warmup.framework.annotation.Pointcut;
+import io.warmup.framework.aop.JoinPoint;
+import io.warmup.framework.aop.ProceedingJoinPoint;
+import io.warmup.framework.aop.WovenAspects;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧵 TEST ASPECT WEAVER - Advices tejidos en el bytecode, sin proxy
+ */
+public class AspectWeaverTest {
+
+    private AspectWeaver weaver;
+    private TracingAspect tracing;
+    private BracketAspect bracket;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        weaver = new AspectWeaver();
+        assertTrue(weaver.addAspect(bytes(TracingAspect.class)));
+        assertTrue(weaver.addAspect(bytes(BracketAspect.class)));
+        assertFalse(weaver.addAspect(bytes(Calculator.class)));
+
+        // El código tejido usa las instancias publicadas (como hace AspectManager.registerAspect)
+        tracing = new TracingAspect();
+        bracket = new BracketAspect();
+        WovenAspects.register(tracing);
+        WovenAspects.register(bracket);
+    }
+
+    @Test
+    void testBeforeAndAfterReturningAreInlined() throws Exception {
+        Class<?> woven = weave(Calculator.class);
+        Object calculator = woven.getDeclaredConstructor().newInstance();
+
+        assertEquals(5, woven.getMethod("add", int.class, int.class).invoke(calculator, 2, 3));
+        assertEquals(List.of("before add", "returned 5", "after add"), tracing.events);
+
+        assertTrue(WovenAspects.isWoven(woven));
+        Method renamed = woven.getDeclaredMethod("add$warmup$0", int.class, int.class);
+        assertTrue(renamed.isSynthetic());
+        assertTrue(Modifier.isPrivate(renamed.getModifiers()));
+    }
+
+    @Test
+    void testAroundChainProceedsToOriginal() throws Exception {
+        Class<?> woven = weave(Calculator.class);
+        Object calculator = woven.getDeclaredConstructor().newInstance();
+
+        // Dos niveles @Around ordenados por @Order: bracket (1) envuelve a tracing (2)
+        assertEquals("[<hello world>]", woven.getMethod("greet", String.class).invoke(calculator, "world"));
+        assertEquals(List.of("around greet"), tracing.events);
+        assertEquals(1, bracket.calls);
+    }
+
+    @Test
+    void testAfterThrowingSeesExceptionAndItIsRethrown() throws Exception {
+        Class<?> woven = weave(Calculator.class);
+        Object calculator = woven.getDeclaredConstructor().newInstance();
+
+        InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+                () -> woven.getMethod("fail").invoke(calculator));
+
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+        assertEquals(List.of("threw boom"), tracing.events);
+    }
+
+    @Test
+    void testAspectsAndWovenClassesAreNotRewoven() throws Exception {
+        byte[] once = weaver.weave(bytes(Calculator.class), getClass().getClassLoader());
+
+        assertNotNull(once);
+        assertNull(weaver.weave(once, getClass().getClassLoader()));
+        assertNull(weaver.weave(bytes(TracingAspect.class), getClass().getClassLoader()));
+        assertNull(weaver.weave(bytes(Untouched.class), getClass().getClassLoader()));
+    }
+
+    @Test
+    void testWovenCodeSwitchesToTheRegisteredAspectInstance() throws Exception {
+        assertTrue(weaver.addAspect(bytes(LateAspect.class)));
+        Class<?> woven = weave(LateTarget.class);
+        Object target = woven.getDeclaredConstructor().newInstance();
+        Method run = woven.getMethod("run");
+
+        // Sin registrar: instancia propia de WovenAspects, que la clase tejida no guarda
+        run.invoke(target);
+        LateAspect standalone = (LateAspect) WovenAspects.aspectOf(LateAspect.class);
+        assertEquals(1, standalone.calls);
+
+        LateAspect registered = new LateAspect();
+        WovenAspects.register(registered);
+        run.invoke(target);
+        run.invoke(target);
+
+        assertEquals(1, standalone.calls);
+        assertEquals(2, registered.calls);
+    }
+
+    private Class<?> weave(Class<?> type) throws IOException {
+        byte[] woven = weaver.weave(bytes(type), getClass().getClassLoader());
+        assertNotNull(woven);
+        return new IsolatedLoader(getClass().getClassLoader()).define(type.getName(), woven);
+    }
+
+    static byte[] bytes(Class<?> type) throws IOException {
+        String resource = type.getName().replace('.', '/') + ".class";
+        try (InputStream in = type.getClassLoader().getResourceAsStream(resource)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Define la clase tejida junto a la original ya cargada; el resto se delega al padre.
+     */
+    static final class IsolatedLoader extends ClassLoader {
+
+        IsolatedLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class Calculator {
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public String greet(String name) {
+            return "hello " + name;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    public static class LateTarget {
+        public void run() {
+        }
+    }
+
+    @Aspect
+    public static class LateAspect {
+        int calls;
+
+        @Before("execution(* *$LateTarget.run(..))")
+        public void before() {
+            calls++;
+        }
+    }
+
+    public static class Untouched {
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+
+    @Aspect
+    @Order(2)
+    public static class TracingAspect {
+        final List<String> events = new ArrayList<>();
+
+        @Pointcut("execution(* *$Calculator.add(..))")
+        public void additions() {
+        }
+
+        @Before("additions()")
+        public void before(JoinPoint joinPoint) {
+            events.add("before " + joinPoint.getMethodName());
+        }
+
+        @AfterReturning(pointcut = "additions()", returning = "result")
+        public void returned(Object result) {
+            events.add("returned " + result);
+        }
+
+        @After("additions()")
+        public void after(JoinPoint joinPoint) {
+            events.add("after " + joinPoint.getMethod().getName());
+        }
+
+        @Around("execution(* *$Calculator.greet(..))")
+        public Object angle(ProceedingJoinPoint joinPoint) {
+            events.add("around " + joinPoint.getMethodName());
+            return "<" + joinPoint.proceed() + ">";
+        }
+
+        @AfterThrowing(pointcut = "execution(* *$Calculator.fail(..))", throwing = "error")
+        public void threw(IllegalStateException error) {
+            events.add("threw " + error.getMessage());
+        }
+    }
+
+    @Aspect
+    @Order(1)
+    public static class BracketAspect {
+        int calls;
+
+        @Around("execution(java.lang.String *$Calculator.*(..))")
+        public Object bracket(ProceedingJoinPoint joinPoint) {
+            calls++;
+            return "[" + joinPoint.proceed() + "]";
+        }
+    }
+}
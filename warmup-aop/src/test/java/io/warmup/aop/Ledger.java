@@ -0,0 +1,13 @@
+package io.warmup.aop;
+
+/**
+ * Clase de nivel superior para {@link WovenAspectManagerTest}: la versión tejida
+ * se define en otro loader y el proxy necesita resolver su jerarquía sin una
+ * clase contenedora.
+ */
+public class Ledger {
+
+    public int add(int a, int b) {
+        return a + b;
+    }
+}
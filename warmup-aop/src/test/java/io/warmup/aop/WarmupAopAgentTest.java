@@ -0,0 +1,74 @@
+package io.warmup.aop;
+
+import io.warmup.framework.aop.WovenAspects;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧵 TEST WARMUP AOP AGENT - Weaving en carga con -javaagent
+ */
+public class WarmupAopAgentTest {
+
+    private final List<ClassFileTransformer> transformers = new ArrayList<>();
+
+    @Test
+    void testTransformerWeavesApplicationClasses() throws Exception {
+        WarmupAopAgent.premain(AspectWeaverTest.TracingAspect.class.getName(), instrumentation());
+        assertEquals(1, transformers.size());
+        ClassFileTransformer transformer = transformers.get(0);
+        ClassLoader loader = getClass().getClassLoader();
+        byte[] original = AspectWeaverTest.bytes(AspectWeaverTest.Calculator.class);
+
+        // El nombre solo decide el filtro de infraestructura; el weaving usa los bytes
+        byte[] woven = transformer.transform(loader, "com/acme/Calculator", null, null, original);
+
+        assertNotNull(woven);
+        Class<?> type = new AspectWeaverTest.IsolatedLoader(loader)
+                .define(AspectWeaverTest.Calculator.class.getName(), woven);
+        assertTrue(WovenAspects.isWoven(type));
+    }
+
+    @Test
+    void testFrameworkAndRedefinedClassesAreSkipped() throws Exception {
+        WarmupAopAgent.premain(AspectWeaverTest.TracingAspect.class.getName(), instrumentation());
+        ClassFileTransformer transformer = transformers.get(0);
+        ClassLoader loader = getClass().getClassLoader();
+        byte[] original = AspectWeaverTest.bytes(AspectWeaverTest.Calculator.class);
+
+        assertNull(transformer.transform(loader, "io/warmup/aop/AspectWeaverTest$Calculator", null, null, original));
+        assertNull(transformer.transform(null, "com/acme/Calculator", null, null, original));
+        assertNull(transformer.transform(loader, "com/acme/Calculator", Object.class, null, original));
+    }
+
+    @Test
+    void testWithoutAspectsNoTransformerIsInstalled() {
+        WarmupAopAgent.premain(null, instrumentation());
+        WarmupAopAgent.premain(AspectWeaverTest.Untouched.class.getName(), instrumentation());
+
+        assertTrue(transformers.isEmpty());
+    }
+
+    @Test
+    void testUnknownAspectFailsFast() {
+        assertThrows(WeavingException.class, () -> WarmupAopAgent.premain("com.acme.Missing", instrumentation()));
+    }
+
+    /**
+     * Instrumentation mínima: solo registra los transformers añadidos.
+     */
+    private Instrumentation instrumentation() {
+        return (Instrumentation) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Instrumentation.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("addTransformer")) {
+                        transformers.add((ClassFileTransformer) args[0]);
+                    }
+                    return method.getReturnType() == boolean.class ? false : null;
+                });
+    }
+}
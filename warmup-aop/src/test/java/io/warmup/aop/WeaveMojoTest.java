@@ -0,0 +1,84 @@
+package io.warmup.aop;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧵 TEST WEAVE MOJO - Goal warmup-aop:weave sobre un directorio de clases
+ */
+public class WeaveMojoTest {
+
+    @TempDir
+    Path classes;
+
+    @Test
+    void testWeavesClassesInPlace() throws Exception {
+        Path calculator = copy(AspectWeaverTest.Calculator.class);
+        Path untouched = copy(AspectWeaverTest.Untouched.class);
+        copy(AspectWeaverTest.TracingAspect.class);
+        byte[] untouchedBefore = Files.readAllBytes(untouched);
+
+        mojo(classes.toFile(), false).execute();
+
+        assertTrue(isWoven(Files.readAllBytes(calculator)));
+        assertArrayEquals(untouchedBefore, Files.readAllBytes(untouched));
+    }
+
+    @Test
+    void testSkipLeavesClassesUntouched() throws Exception {
+        Path calculator = copy(AspectWeaverTest.Calculator.class);
+        copy(AspectWeaverTest.TracingAspect.class);
+        byte[] before = Files.readAllBytes(calculator);
+
+        mojo(classes.toFile(), true).execute();
+
+        assertArrayEquals(before, Files.readAllBytes(calculator));
+    }
+
+    @Test
+    void testMissingClassesDirectoryIsIgnored() throws Exception {
+        mojo(classes.resolve("missing").toFile(), false).execute();
+    }
+
+    private Path copy(Class<?> type) throws IOException {
+        Path target = classes.resolve(type.getName().replace('.', '/') + ".class");
+        Files.createDirectories(target.getParent());
+        Files.write(target, AspectWeaverTest.bytes(type));
+        return target;
+    }
+
+    private static WeaveMojo mojo(File classesDirectory, boolean skip) throws Exception {
+        // Sin harness de Maven: los @Parameter se inyectan como lo haría el contenedor de plugins
+        WeaveMojo mojo = new WeaveMojo();
+        set(mojo, "classesDirectory", classesDirectory);
+        set(mojo, "classpathElements", Collections.<String>emptyList());
+        set(mojo, "skip", skip);
+        return mojo;
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static boolean isWoven(byte[] bytes) {
+        ClassNode node = new ClassNode();
+        new ClassReader(bytes).accept(node, ClassReader.SKIP_CODE);
+        List<AnnotationNode> annotations = node.visibleAnnotations;
+        return annotations != null && annotations.stream()
+                .anyMatch(annotation -> annotation.desc.equals("Lio/warmup/framework/annotation/Woven;"));
+    }
+}
@@ -0,0 +1,96 @@
+package io.warmup.aop;
+
+import io.warmup.framework.annotation.Around;
+import io.warmup.framework.annotation.Aspect;
+import io.warmup.framework.annotation.Before;
+import io.warmup.framework.aop.AspectManager;
+import io.warmup.framework.aop.AspectProxyASM;
+import io.warmup.framework.aop.JoinPoint;
+import io.warmup.framework.aop.ProceedingJoinPoint;
+import io.warmup.framework.core.AopHandler;
+import io.warmup.framework.core.WarmupContainer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧵 TEST WOVEN + ASPECT MANAGER - El proxy solo aplica los aspectos no tejidos
+ */
+public class WovenAspectManagerTest {
+
+    private WarmupContainer container;
+    private AspectManager aspectManager;
+    private AuditAspect audit;
+    private Class<?> woven;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        container = new WarmupContainer();
+        AopHandler handler = (AopHandler) container.getAopHandler();
+        handler.setContainer(container);
+        aspectManager = handler.getAspectManager();
+
+        // Solo AuditAspect se teje en build
+        AspectWeaver weaver = new AspectWeaver();
+        assertTrue(weaver.addAspect(AspectWeaverTest.bytes(AuditAspect.class)));
+        ClassLoader loader = getClass().getClassLoader();
+        woven = new AspectWeaverTest.IsolatedLoader(loader).define(Ledger.class.getName(),
+                weaver.weave(AspectWeaverTest.bytes(Ledger.class), loader));
+
+        audit = new AuditAspect();
+        aspectManager.registerAspect(AuditAspect.class, audit);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Test
+    void testOnlyWovenAspectsNeedNoProxy() {
+        assertFalse(aspectManager.shouldApplyAopToClass(woven));
+    }
+
+    @Test
+    void testRuntimeAspectsStillProxyWovenClass() throws Exception {
+        CountingAspect counting = new CountingAspect();
+        aspectManager.registerAspect(CountingAspect.class, counting);
+
+        assertTrue(aspectManager.shouldApplyAopToClass(woven));
+        assertEquals(1, aspectManager.getAdviceChain(woven.getMethod("add", int.class, int.class)).size());
+
+        Object proxy = AspectProxyASM.createProxyForObject(woven.getDeclaredConstructor().newInstance(), woven, container);
+        assertEquals(5, woven.getMethod("add", int.class, int.class).invoke(proxy, 2, 3));
+
+        // Los advices tejidos corren una sola vez: el proxy no los vuelve a aplicar
+        assertEquals(List.of("add"), audit.events);
+        assertEquals(1, counting.calls);
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    @Aspect
+    public static class AuditAspect {
+        final List<String> events = new ArrayList<>();
+
+        @Before("execution(* io.warmup.aop.Ledger.add(..))")
+        public void audit(JoinPoint joinPoint) {
+            events.add(joinPoint.getMethodName());
+        }
+    }
+
+    @Aspect
+    public static class CountingAspect {
+        int calls;
+
+        @Around("execution(* io.warmup.aop.Ledger.add(..))")
+        public Object count(ProceedingJoinPoint joinPoint) {
+            calls++;
+            return joinPoint.proceed();
+        }
+    }
+}
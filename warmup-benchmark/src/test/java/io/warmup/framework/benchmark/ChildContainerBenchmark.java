@@ -0,0 +1,113 @@
+package io.warmup.framework.benchmark;
+
+import io.warmup.framework.annotation.Inject;
+import io.warmup.framework.core.ChildContainer;
+import io.warmup.framework.core.WarmupContainer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🌿 BENCHMARK - Contenedores hijo por tenant/request
+ *
+ * Crea y descarta 100k hijos por operación: sin overrides (solo delegación),
+ * con un override de instancia y con un override más un componente cableado
+ * en el hijo. Como referencia incluye la creación de un WarmupContainer
+ * completo, que es lo que había que hacer antes para tener overrides.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xmx2G"})
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public class ChildContainerBenchmark {
+
+    private static final int CHILDREN = 100_000;
+
+    public interface DataSource {}
+
+    public static class DefaultDataSource implements DataSource {}
+
+    public static class TenantDataSource implements DataSource {}
+
+    public static class Repository {
+        @Inject
+        DataSource dataSource;
+    }
+
+    private WarmupContainer container;
+    private final DataSource tenantDataSource = new TenantDataSource();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        container = new WarmupContainer();
+        container.registerImplementation(DataSource.class, DefaultDataSource.class, true);
+        container.start();
+        container.get(DataSource.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHILDREN)
+    public void createAndDiscard(Blackhole bh) {
+        for (int i = 0; i < CHILDREN; i++) {
+            ChildContainer child = container.createChild();
+            bh.consume(child.get(DataSource.class));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHILDREN)
+    public void createWithInstanceOverride(Blackhole bh) {
+        for (int i = 0; i < CHILDREN; i++) {
+            ChildContainer child = container.createChild();
+            child.register(DataSource.class, tenantDataSource);
+            bh.consume(child.get(DataSource.class));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHILDREN)
+    public void createWithWiredComponent(Blackhole bh) {
+        for (int i = 0; i < CHILDREN; i++) {
+            ChildContainer child = container.createChild();
+            child.register(DataSource.class, tenantDataSource);
+            child.register(Repository.class, false);
+            bh.consume(child.get(Repository.class));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void fullContainerReference(Blackhole bh) throws Exception {
+        WarmupContainer full = new WarmupContainer();
+        full.register(DataSource.class, tenantDataSource);
+        bh.consume(full.get(DataSource.class));
+        full.shutdown();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.println("🌿 CHILD CONTAINER - CREAR/DESCARTAR 100K HIJOS");
+        System.out.println("===============================================");
+
+        Options opt = new OptionsBuilder()
+                .include(ChildContainerBenchmark.class.getSimpleName())
+                .result("benchmark-results/" + System.currentTimeMillis() + "-child-container.json")
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
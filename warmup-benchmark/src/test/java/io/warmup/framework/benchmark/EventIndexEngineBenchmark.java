@@ -0,0 +1,99 @@
+package io.warmup.framework.benchmark;
+
+import io.warmup.framework.core.EventIndexEngine;
+import io.warmup.framework.event.EventListenerMethod;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📨 BENCHMARK - Dispatch de EventIndexEngine con invokers compilados
+ *
+ * Mide {@link EventIndexEngine#dispatchEvent(Object)} con 1, 10 y 100 listeners
+ * por tipo, publicando el tipo raíz o una subclase a 7 niveles de profundidad
+ * (los listeners escuchan el tipo raíz). {@code directCalls} es la referencia:
+ * el mismo bucle llamando a los listeners sin el motor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventIndexEngineBenchmark {
+
+    public static class Level0Event { }
+    public static class Level1Event extends Level0Event { }
+    public static class Level2Event extends Level1Event { }
+    public static class Level3Event extends Level2Event { }
+    public static class Level4Event extends Level3Event { }
+    public static class Level5Event extends Level4Event { }
+    public static class Level6Event extends Level5Event { }
+    public static class Level7Event extends Level6Event { }
+
+    public static class CountingListener {
+        long count;
+
+        public void onEvent(Level0Event event) {
+            count++;
+        }
+    }
+
+    @Param({"1", "10", "100"})
+    public int listeners;
+
+    @Param({"0", "7"})
+    public int hierarchyDepth;
+
+    private EventIndexEngine engine;
+    private CountingListener[] targets;
+    private Object event;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        engine = new EventIndexEngine();
+        targets = new CountingListener[listeners];
+        Method method = CountingListener.class.getMethod("onEvent", Level0Event.class);
+        for (int i = 0; i < listeners; i++) {
+            targets[i] = new CountingListener();
+            engine.registerListener(Level0Event.class, new EventListenerMethod(targets[i], method));
+        }
+        event = hierarchyDepth == 0 ? new Level0Event() : new Level7Event();
+        // Compilar la tabla de dispatch antes de medir
+        engine.dispatchEvent(event);
+    }
+
+    @Benchmark
+    public void dispatch() {
+        engine.dispatchEvent(event);
+    }
+
+    @Benchmark
+    public void directCalls(Blackhole blackhole) {
+        Level0Event typed = (Level0Event) event;
+        for (CountingListener target : targets) {
+            target.onEvent(typed);
+        }
+        blackhole.consume(targets);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.println("📨 EVENT INDEX ENGINE - DISPATCH CON INVOKERS COMPILADOS");
+        System.out.println("=======================================================");
+
+        Options opt = new OptionsBuilder()
+                .include(EventIndexEngineBenchmark.class.getSimpleName())
+                .result("benchmark-results/" + System.currentTimeMillis() + "-event-index-engine.json")
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,139 @@
+package io.warmup.framework.benchmark;
+
+import io.warmup.framework.annotation.AfterReturning;
+import io.warmup.framework.annotation.Around;
+import io.warmup.framework.annotation.Aspect;
+import io.warmup.framework.annotation.Before;
+import io.warmup.framework.aop.AspectManager;
+import io.warmup.framework.aop.JoinPoint;
+import io.warmup.framework.aop.ProceedingJoinPoint;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ♻️ BENCHMARK - Asignaciones por llamada en una cadena de 3 aspectos
+ *
+ * Mide con {@code -prof gc} los bytes por operación de una llamada advised
+ * con @Before, @Around y @AfterReturning (tres aspectos distintos) cuyos
+ * advices no retienen el join point. El {@code main} falla si la cadena
+ * asigna más de {@link #MAX_BYTES_PER_OP} bytes/op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JoinPointAllocationBenchmark {
+
+    static final double MAX_BYTES_PER_OP = 1.0;
+
+    public static class PricingService {
+        public String quote(String currency) {
+            return currency;
+        }
+    }
+
+    @Aspect
+    public static class CountingAspect {
+        long calls;
+
+        @Before("execution(* *$PricingService.quote(..))")
+        public void count(JoinPoint joinPoint) {
+            calls += joinPoint.getArgs().length;
+        }
+    }
+
+    @Aspect
+    public static class PassThroughAspect {
+        @Around("execution(* *$PricingService.quote(..))")
+        public Object around(ProceedingJoinPoint joinPoint) {
+            return joinPoint.proceed();
+        }
+    }
+
+    @Aspect
+    public static class ResultAspect {
+        Object last;
+
+        @AfterReturning(pointcut = "execution(* *$PricingService.quote(..))", returning = "result")
+        public void returned(Object result) {
+            last = result;
+        }
+    }
+
+    private AspectManager aspectManager;
+    private PricingService service;
+    private Method quote;
+    private Object[] args;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        aspectManager = new AspectManager();
+        aspectManager.registerAspect(CountingAspect.class, new CountingAspect());
+        aspectManager.registerAspect(PassThroughAspect.class, new PassThroughAspect());
+        aspectManager.registerAspect(ResultAspect.class, new ResultAspect());
+
+        service = new PricingService();
+        quote = PricingService.class.getMethod("quote", String.class);
+        args = new Object[]{"EUR"};
+        aspectManager.prepareAdviceChains(PricingService.class);
+    }
+
+    @Benchmark
+    public Object directCall() {
+        return service.quote("EUR");
+    }
+
+    @Benchmark
+    public Object threeAspectChain() throws Throwable {
+        return aspectManager.invokeWithAspects(service, quote, args);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.println("♻️ JOIN POINT - BYTES/OP DE UNA CADENA DE 3 ASPECTOS");
+        System.out.println("===================================================");
+
+        Options opt = new OptionsBuilder()
+                .include(JoinPointAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .result("benchmark-results/" + System.currentTimeMillis() + "-join-point-allocation.json")
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+
+        Collection<RunResult> results = new Runner(opt).run();
+        for (RunResult result : results) {
+            if (!result.getParams().getBenchmark().endsWith("threeAspectChain")) {
+                continue;
+            }
+            double bytesPerOp = allocationPerOp(result);
+            System.out.printf("threeAspectChain: %.2f bytes/op (máximo %.2f)%n", bytesPerOp, MAX_BYTES_PER_OP);
+            if (bytesPerOp > MAX_BYTES_PER_OP) {
+                throw new AssertionError("La cadena de 3 aspectos asigna " + bytesPerOp + " bytes/op");
+            }
+        }
+    }
+
+    private static double allocationPerOp(RunResult result) {
+        // getSecondaryResults() expone Result sin parametrizar; se lee por clave como Result<?>
+        for (String label : result.getSecondaryResults().keySet()) {
+            // "gc.alloc.rate.norm" (o "·gc.alloc.rate.norm" en versiones anteriores de JMH)
+            if (label.endsWith("gc.alloc.rate.norm")) {
+                Result<?> allocation = result.getSecondaryResults().get(label);
+                return allocation.getScore();
+            }
+        }
+        throw new IllegalStateException("GCProfiler no devolvió gc.alloc.rate.norm");
+    }
+}
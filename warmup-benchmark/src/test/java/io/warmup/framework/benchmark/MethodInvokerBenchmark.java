@@ -0,0 +1,101 @@
+package io.warmup.framework.benchmark;
+
+import io.warmup.framework.asm.AsmCoreUtils;
+import io.warmup.framework.aop.MethodInvoker;
+import io.warmup.framework.aop.MethodInvokers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⚡ BENCHMARK - Invocación de advices y métodos objetivo
+ *
+ * Compara la llamada directa con las formas de invocar un {@link Method} que
+ * usa la cadena de advices: el {@link MethodInvoker} generado por método, un
+ * MethodHandle con spread, {@code Method.invoke} y la invocación por nombre de
+ * {@code AsmCoreUtils.invokeMethod} (clave por clases de argumentos en cada llamada).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MethodInvokerBenchmark {
+
+    public static class PricingService {
+        public int price(int quantity, String currency) {
+            return currency.length() * quantity;
+        }
+    }
+
+    private PricingService service;
+    private Object[] args;
+    private int quantity;
+    private String currency;
+
+    private Method method;
+    private MethodInvoker invoker;
+    private MethodHandle spreadHandle;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        service = new PricingService();
+        quantity = 3;
+        currency = "EUR";
+        args = new Object[]{quantity, currency};
+
+        method = PricingService.class.getMethod("price", int.class, String.class);
+        invoker = MethodInvokers.of(method);
+        spreadHandle = MethodHandles.lookup().unreflect(method)
+                .asSpreader(Object[].class, 2)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+
+    @Benchmark
+    public int directCall() {
+        return service.price(quantity, currency);
+    }
+
+    @Benchmark
+    public Object generatedInvoker() throws Throwable {
+        return invoker.invoke(service, args);
+    }
+
+    @Benchmark
+    public Object spreadMethodHandle() throws Throwable {
+        return spreadHandle.invokeExact((Object) service, args);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return method.invoke(service, args);
+    }
+
+    @Benchmark
+    public Object invokeByName() {
+        return AsmCoreUtils.invokeMethod(service, "price", args);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.println("⚡ METHOD INVOKER - INVOCADORES TIPADOS vs LLAMADA DIRECTA");
+        System.out.println("=========================================================");
+
+        Options opt = new OptionsBuilder()
+                .include(MethodInvokerBenchmark.class.getSimpleName())
+                .result("benchmark-results/" + System.currentTimeMillis() + "-method-invoker.json")
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
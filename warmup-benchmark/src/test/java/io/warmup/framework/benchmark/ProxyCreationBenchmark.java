@@ -0,0 +1,121 @@
+package io.warmup.framework.benchmark;
+
+import io.warmup.framework.annotation.Around;
+import io.warmup.framework.annotation.Aspect;
+import io.warmup.framework.aop.AspectProxyASM;
+import io.warmup.framework.aop.ProceedingJoinPoint;
+import io.warmup.framework.core.AopHandler;
+import io.warmup.framework.core.WarmupContainer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🧊 BENCHMARK - Creación de proxies AOP para beans prototype
+ *
+ * Crea 1M proxies de un bean con aspectos por operación, por las dos rutas de
+ * AspectProxyASM. La clase proxy se genera una sola vez por clase original,
+ * así que tras cada iteración se informa del crecimiento de metaspace y de
+ * clases cargadas: debe mantenerse plano aunque se creen millones de proxies.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xmx2G"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ProxyCreationBenchmark {
+
+    private static final int PROTOTYPES = 1_000_000;
+
+    public static class PricingService {
+        int basePrice = 10;
+
+        public int price(int quantity) {
+            return basePrice * quantity;
+        }
+    }
+
+    @Aspect
+    public static class PassThroughAspect {
+        @Around("execution(* *$PricingService.price(..))")
+        public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+            return joinPoint.proceed();
+        }
+    }
+
+    private WarmupContainer container;
+    private long metaspaceAtStart;
+    private long classesAtStart;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = new WarmupContainer();
+        AopHandler handler = (AopHandler) container.getAopHandler();
+        handler.setContainer(container);
+        handler.getAspectManager().registerAspect(PassThroughAspect.class, new PassThroughAspect());
+
+        metaspaceAtStart = metaspaceUsed();
+        classesAtStart = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportMetaspace() {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        System.out.printf("%n   📦 Metaspace: +%,d KB | clases cargadas: +%,d%n",
+                (metaspaceUsed() - metaspaceAtStart) / 1024,
+                classLoading.getTotalLoadedClassCount() - classesAtStart);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROTOTYPES)
+    public void createTypedProxies(Blackhole bh) {
+        for (int i = 0; i < PROTOTYPES; i++) {
+            bh.consume(AspectProxyASM.createProxy(new PricingService(), PricingService.class, container));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROTOTYPES)
+    public void createObjectProxies(Blackhole bh) {
+        for (int i = 0; i < PROTOTYPES; i++) {
+            bh.consume(AspectProxyASM.createProxyForObject(new PricingService(), PricingService.class, container));
+        }
+    }
+
+    private static long metaspaceUsed() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) {
+                return pool.getUsage().getUsed();
+            }
+        }
+        return 0L;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.println("🧊 PROXY CREATION - 1M PROXIES PROTOTYPE");
+        System.out.println("========================================");
+
+        Options opt = new OptionsBuilder()
+                .include(ProxyCreationBenchmark.class.getSimpleName())
+                .result("benchmark-results/" + System.currentTimeMillis() + "-proxy-creation.json")
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
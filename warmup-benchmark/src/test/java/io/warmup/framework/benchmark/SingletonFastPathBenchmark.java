@@ -0,0 +1,85 @@
+package io.warmup.framework.benchmark;
+
+import io.warmup.framework.annotation.Inject;
+import io.warmup.framework.core.WarmupContainer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🚀 BENCHMARK - Singleton fast path multi-hilo
+ *
+ * Mide el throughput de {@code WarmupContainer.get()} para un singleton ya
+ * resuelto con 1 a 64 hilos concurrentes. Tras la primera creación la
+ * resolución es una lectura volatile del handle publicado por Dependency,
+ * por lo que el throughput debe escalar con el número de hilos.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xmx2G"})
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public class SingletonFastPathBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    public static class Repository {}
+
+    public static class Service {
+        @Inject
+        Repository repository;
+    }
+
+    private WarmupContainer container;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        container = new WarmupContainer();
+        container.register(Repository.class, true);
+        container.register(Service.class, true);
+        container.start();
+
+        // Primera resolución: publica el handle de ambos singletons
+        container.get(Service.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public void singletonGet(Blackhole bh) {
+        bh.consume(container.get(Service.class));
+    }
+
+    @Benchmark
+    public void singletonDependencyGet(Blackhole bh) {
+        bh.consume(container.get(Repository.class));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.println("🎯 SINGLETON FAST PATH - THROUGHPUT MULTI-HILO");
+        System.out.println("===============================================");
+
+        // @Threads no es parametrizable: una ejecución por número de hilos
+        for (int threads : THREAD_COUNTS) {
+            Options opt = new OptionsBuilder()
+                    .include(SingletonFastPathBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .result("benchmark-results/" + System.currentTimeMillis()
+                            + "-singleton-fast-path-" + threads + "t.json")
+                    .resultFormat(ResultFormatType.JSON)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
@@ -30,6 +30,13 @@ import java.lang.annotation.Target;
  * public String safeAsyncOperation() {
  *     // If exception occurs, returns null instead of throwing
  * }
+ *
+ * // Hedged read: a duplicate runs if the first attempt is slower than the
+ * // observed p95 (or 50ms until enough latencies are known); first wins
+ * {@literal @}Async(hedgeAfterMs = 50, hedgePercentile = 95, maxHedges = 1, deadlineMs = 300)
+ * public CompletableFuture<Profile> loadProfile(String id) {
+ *     // Nested @Async calls inherit the 300ms deadline and are skipped past it
+ * }
  * </pre>
  *
  * @author Warmup Framework
@@ -77,6 +84,44 @@ public @interface Async {
      */
     ExceptionHandling exceptionHandling() default ExceptionHandling.COMPLETE_EXCEPTIONALLY;
 
+    /**
+     * Fixed delay in milliseconds after which a duplicate (hedged) execution
+     * is launched on the same executor if no attempt has completed yet. The
+     * first attempt to complete wins; the others are ignored. When
+     * {@link #hedgePercentile()} is set, this is the fallback delay used until
+     * enough latencies have been observed.
+     *
+     * @return hedge delay in milliseconds, defaults to 0 (no fixed delay)
+     */
+    long hedgeAfterMs() default 0;
+
+    /**
+     * Latency percentile (for example 95 or 99) of the method's own completed
+     * executions used as hedge delay. Only idempotent methods should be hedged.
+     *
+     * @return percentile in the range (0, 100], defaults to 0 (fixed delay only)
+     */
+    double hedgePercentile() default 0;
+
+    /**
+     * Maximum number of hedged executions launched in addition to the first
+     * one. Hedges are not launched while the executor queue is full.
+     *
+     * @return maximum number of hedges, defaults to 1
+     */
+    int maxHedges() default 1;
+
+    /**
+     * Deadline in milliseconds, measured from the call, for this execution and
+     * for every nested {@code @Async} call made from it. Executions that start
+     * past their deadline are skipped and complete with
+     * {@link io.warmup.framework.async.DeadlineExceededException}. Nested calls
+     * always keep the earliest deadline.
+     *
+     * @return deadline in milliseconds, defaults to 0 (inherited deadline only)
+     */
+    long deadlineMs() default 0;
+
     /**
      * Enumeration defining exception handling strategies for asynchronous
      * methods.
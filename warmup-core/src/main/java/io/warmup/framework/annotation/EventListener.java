@@ -5,7 +5,31 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Marca un método como listener de eventos. Sin atributos el método recibe un
+ * único evento por llamada.
+ *
+ * <p>📦 Para procesar en lote, el método recibe una {@code List<T>} y declara
+ * {@code batchSize} y/o {@code maxDelayMs}: los eventos se acumulan por
+ * listener y el método se invoca cuando se llena el lote o vence el retraso
+ * contado desde el primer evento del lote.
+ *
+ * <pre>
+ * &#64;EventListener(batchSize = 500, maxDelayMs = 50)
+ * public void index(List&lt;ProductUpdatedEvent&gt; events) { ... }
+ * </pre>
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface EventListener {
+
+    /**
+     * Eventos por lote; solo aplica a métodos con parámetro {@code List<T>}.
+     */
+    int batchSize() default 1;
+
+    /**
+     * Retraso máximo en ms de un lote incompleto; 0 = entregar solo al llenarse.
+     */
+    long maxDelayMs() default 0;
 }
@@ -14,4 +14,17 @@ public @interface Timed {
     String description() default "";
 
     boolean recordExceptions() default true;
+
+    /**
+     * Mide una de cada N llamadas (elegidas al azar); el resto solo incrementa
+     * los contadores de llamadas. 1 = medir todas.
+     */
+    int sampleEvery() default 1;
+
+    /**
+     * Muestreo adaptativo: si es mayor que 0, el intervalo de muestreo se
+     * ajusta cada segundo para medir como mucho este número de llamadas por
+     * segundo, partiendo de {@link #sampleEvery()}.
+     */
+    int maxSamplesPerSecond() default 0;
 }
@@ -0,0 +1,21 @@
+package io.warmup.framework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca una clase cuyos advices ya fueron tejidos en su bytecode (weaver de
+ * warmup-aop en build o con {@code -javaagent}). El contenedor no vuelve a aplicar
+ * esos aspectos; el resto se aplican con proxy como en cualquier otra clase.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Woven {
+
+    /**
+     * @return aspectos tejidos en la clase
+     */
+    String[] value() default {};
+}
@@ -0,0 +1,430 @@
+package io.warmup.framework.aop;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 🔗 ADVICE CHAIN - Cadena de interceptores precompilada por método
+ *
+ * Se construye una sola vez por {@link Method} (al generar el proxy o en la
+ * primera invocación) con los advices ya filtrados por pointcut y ordenados,
+ * los tipos de parámetro de cada advice ya clasificados y un {@link MethodInvoker}
+ * tipado para cada advice y para el método original. Una llamada proxied es un
+ * recorrido de arrays: sin matching, sin listas, sin reflexión y sin búsquedas
+ * por nombre.
+ *
+ * Inmutable: si cambian los aspectos registrados, {@link AspectManager}
+ * descarta las cadenas y las vuelve a compilar.
+ */
+public final class AdviceChain {
+
+    private static final Logger log = Logger.getLogger(AdviceChain.class.getName());
+
+    // Tipos de argumento de un advice, resueltos al compilar la cadena
+    private static final byte ARG_JOIN_POINT = 0;
+    private static final byte ARG_CONSTANT = 1;
+    private static final byte ARG_RESULT = 2;
+    private static final byte ARG_RESULT_IF_INSTANCE = 3;
+    private static final byte ARG_THROWABLE = 4;
+    private static final byte ARG_THROWABLE_IF_INSTANCE = 5;
+
+    private static final Advice[] NO_ADVICE = new Advice[0];
+
+    private final Method method;
+    private final MethodInvoker targetInvoker;
+    private final boolean async;
+    private final Advice[] before;
+    private final Advice[] around;
+    private final Advice[] after;
+    private final Advice[] afterReturning;
+    private final Advice[] afterThrowing;
+
+    AdviceChain(Method method, boolean async, List<AspectInfo> before, List<AspectInfo> around,
+                List<AspectInfo> after, List<AspectInfo> afterReturning, List<AspectInfo> afterThrowing) {
+        this.method = method;
+        this.async = async;
+        this.targetInvoker = MethodInvokers.of(method);
+        this.before = compile(before, Kind.BEFORE, method);
+        this.around = compile(around, Kind.AROUND, method);
+        this.after = compile(after, Kind.AFTER, method);
+        this.afterReturning = compile(afterReturning, Kind.AFTER_RETURNING, method);
+        this.afterThrowing = compile(afterThrowing, Kind.AFTER_THROWING, method);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return true si el método es @Async (lo despacha {@link AspectManager})
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * @return true si ningún advice aplica al método
+     */
+    public boolean isEmpty() {
+        return before.length == 0 && around.length == 0 && after.length == 0
+                && afterReturning.length == 0 && afterThrowing.length == 0;
+    }
+
+    public int size() {
+        return before.length + around.length + after.length + afterReturning.length + afterThrowing.length;
+    }
+
+    /**
+     * Ejecuta la cadena sobre {@code target}: @Around (si hay) o
+     * @Before → método → @After, con @AfterReturning/@AfterThrowing en ambos casos.
+     *
+     * Todos los advices de la llamada comparten el {@link Frame} del hilo
+     * (join point, eslabón @Around y buffers de argumentos): un advice que no
+     * retiene el join point no provoca ninguna asignación.
+     */
+    public Object invoke(Object target, Object[] args) throws Throwable {
+        Frame frame = Frame.acquire(this, target, args);
+        try {
+            return invoke(frame);
+        } finally {
+            frame.release();
+        }
+    }
+
+    private Object invoke(Frame frame) throws Throwable {
+        if (around.length > 0) {
+            Object result;
+            try {
+                result = proceed(frame, 0);
+            } catch (Throwable thrown) {
+                runAfterThrowing(frame, thrown);
+                throw thrown;
+            }
+            runAfterReturning(frame, result);
+            return result;
+        }
+
+        runAll(before, frame, "@Before");
+
+        Object result;
+        try {
+            result = invokeTarget(frame.getTarget(), frame.getArgs());
+        } catch (Throwable thrown) {
+            runAfterThrowing(frame, thrown);
+            throw thrown;
+        }
+
+        runAfterReturning(frame, result);
+        runAll(after, frame, "@After");
+        return result;
+    }
+
+    /**
+     * Ejecuta el @Around {@code index} (o el método original tras el último).
+     * El frame apunta al siguiente eslabón mientras corre el advice y se
+     * restaura al volver, así que un advice puede llamar a proceed() varias veces.
+     */
+    Object proceed(Frame frame, int index) throws Throwable {
+        if (index >= around.length) {
+            return invokeTarget(frame.getTarget(), frame.getArgs());
+        }
+        Advice advice = around[index];
+        int previous = frame.next;
+        frame.next = index + 1;
+        try {
+            return advice.invoke(advice.arguments(frame, null, null));
+        } finally {
+            frame.next = previous;
+        }
+    }
+
+    Object invokeTarget(Object target, Object[] args) throws Throwable {
+        return targetInvoker.invoke(target, args);
+    }
+
+    private void runAll(Advice[] advices, Frame frame, String label) {
+        for (Advice advice : advices) {
+            try {
+                advice.invoke(advice.arguments(frame, null, null));
+            } catch (Throwable e) {
+                log.log(Level.SEVERE, "Error en {0}: {1}", new Object[]{label, e.getMessage()});
+            }
+        }
+    }
+
+    private void runAfterReturning(Frame frame, Object result) {
+        for (Advice advice : afterReturning) {
+            try {
+                Object[] adviceArgs = advice.arguments(frame, result, null);
+                if (adviceArgs != null) {
+                    advice.invoke(adviceArgs);
+                } else {
+                    log.log(Level.FINE, "Saltando @AfterReturning {0} por incompatibilidad de tipos", advice.name());
+                }
+            } catch (Throwable ex) {
+                log.log(Level.SEVERE, "Error en @AfterReturning: {0} - {1}", new Object[]{ex.getClass().getSimpleName(), ex.getMessage()});
+            }
+        }
+    }
+
+    private void runAfterThrowing(Frame frame, Throwable thrown) {
+        for (Advice advice : afterThrowing) {
+            try {
+                Object[] adviceArgs = advice.arguments(frame, null, thrown);
+                if (adviceArgs != null) {
+                    advice.invoke(adviceArgs);
+                } else {
+                    log.log(Level.FINE, "Saltando @AfterThrowing {0} por incompatibilidad de tipos", advice.name());
+                }
+            } catch (Throwable ex) {
+                log.log(Level.SEVERE, "Error en @AfterThrowing: {0} - {1}", new Object[]{ex.getClass().getSimpleName(), ex.getMessage()});
+            }
+        }
+    }
+
+    /* ---------- compilación ---------- */
+
+    private enum Kind { BEFORE, AROUND, AFTER, AFTER_RETURNING, AFTER_THROWING }
+
+    private static Advice[] compile(List<AspectInfo> aspects, Kind kind, Method method) {
+        if (aspects.isEmpty()) {
+            return NO_ADVICE;
+        }
+        Advice[] compiled = new Advice[aspects.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = new Advice(aspects.get(i), kind, method);
+        }
+        return compiled;
+    }
+
+    /**
+     * Advice compilado: invoker tipado, instancia del aspecto y
+     * clasificación de cada parámetro.
+     */
+    private static final class Advice {
+
+        private final AspectInfo info;
+        private final Object aspect;
+        private final MethodInvoker invoker;
+        private final byte[] argKinds;
+        private final Class<?>[] argTypes;
+        private final Object[] constants;
+        private final String error;
+
+        Advice(AspectInfo info, Kind kind, Method method) {
+            this.info = info;
+            Method adviceMethod = info.getAdviceMethod();
+            Class<?>[] paramTypes = adviceMethod.getParameterTypes();
+            this.argTypes = paramTypes;
+            this.argKinds = new byte[paramTypes.length];
+            this.constants = new Object[paramTypes.length];
+
+            String failure = null;
+            for (int i = 0; i < paramTypes.length && failure == null; i++) {
+                failure = classify(i, paramTypes[i], kind, method);
+            }
+            this.error = failure;
+            this.aspect = info.getAspectInstance();
+            this.invoker = info.getAdviceInvoker();
+        }
+
+        private String classify(int i, Class<?> paramType, Kind kind, Method method) {
+            boolean joinPointParam = JoinPoint.class.isAssignableFrom(paramType);
+            switch (kind) {
+                case AROUND:
+                    if (ProceedingJoinPoint.class.isAssignableFrom(paramType)) {
+                        argKinds[i] = ARG_JOIN_POINT;
+                    } else if (paramType.isAnnotation()) {
+                        @SuppressWarnings("unchecked")
+                        Annotation annotation = method.getAnnotation((Class<? extends Annotation>) paramType);
+                        if (annotation == null) {
+                            return "Required annotation " + paramType.getSimpleName() + " not found on method " + method.getName();
+                        }
+                        argKinds[i] = ARG_CONSTANT;
+                        constants[i] = annotation;
+                    } else {
+                        return "Unsupported parameter type in @Around advice: " + paramType.getName();
+                    }
+                    return null;
+                case AFTER_RETURNING:
+                    if (joinPointParam) {
+                        argKinds[i] = ARG_JOIN_POINT;
+                    } else if (hasText(info.getReturningParameter()) || paramType == Object.class) {
+                        argKinds[i] = ARG_RESULT;
+                    } else {
+                        argKinds[i] = ARG_RESULT_IF_INSTANCE;
+                    }
+                    return null;
+                case AFTER_THROWING:
+                    if (joinPointParam) {
+                        argKinds[i] = ARG_JOIN_POINT;
+                    } else if (hasText(info.getThrowingParameter()) || paramType == Throwable.class) {
+                        argKinds[i] = ARG_THROWABLE;
+                    } else {
+                        argKinds[i] = ARG_THROWABLE_IF_INSTANCE;
+                    }
+                    return null;
+                default:
+                    if (!joinPointParam) {
+                        return "Unsupported parameter type in advice " + info.getAdviceMethod().getName() + ": " + paramType.getName();
+                    }
+                    argKinds[i] = ARG_JOIN_POINT;
+                    return null;
+            }
+        }
+
+        /**
+         * @return argumentos del advice, o null si el resultado/excepción no
+         * encaja con el tipo declarado (el advice se omite)
+         */
+        Object[] arguments(Frame joinPoint, Object result, Throwable thrown) {
+            if (error != null) {
+                throw new IllegalArgumentException(error);
+            }
+            Object[] args = joinPoint.buffer(argKinds.length);
+            for (int i = 0; i < args.length; i++) {
+                switch (argKinds[i]) {
+                    case ARG_JOIN_POINT:
+                        args[i] = joinPoint;
+                        break;
+                    case ARG_CONSTANT:
+                        args[i] = constants[i];
+                        break;
+                    case ARG_RESULT:
+                        args[i] = result;
+                        break;
+                    case ARG_RESULT_IF_INSTANCE:
+                        if (!argTypes[i].isInstance(result)) {
+                            return null;
+                        }
+                        args[i] = result;
+                        break;
+                    case ARG_THROWABLE:
+                        args[i] = thrown;
+                        break;
+                    default:
+                        if (!argTypes[i].isInstance(thrown)) {
+                            return null;
+                        }
+                        args[i] = thrown;
+                        break;
+                }
+            }
+            return args;
+        }
+
+        Object invoke(Object[] args) throws Throwable {
+            return invoker.invoke(aspect, args);
+        }
+
+        String name() {
+            return info.getAdviceMethod().getName();
+        }
+
+        private static boolean hasText(String value) {
+            return value != null && !value.isEmpty();
+        }
+    }
+
+    /**
+     * ♻️ Join point reutilizable: uno por hilo y nivel de anidamiento.
+     *
+     * Hace a la vez de {@link ProceedingJoinPoint} para todos los niveles
+     * @Around ({@link #next} indica el siguiente eslabón) y guarda buffers de
+     * argumentos por aridad para invocar los advices. Reutilizar un buffer
+     * mientras un advice anterior sigue en ejecución es seguro porque el
+     * {@link MethodInvoker} desempaqueta los argumentos antes de invocar.
+     */
+    static final class Frame extends ProceedingJoinPoint {
+
+        private static final int MAX_BUFFERED_ARITY = 4;
+        private static final Object[] NO_ARGS = new Object[0];
+        private static final ThreadLocal<Stack> STACK = ThreadLocal.withInitial(Stack::new);
+
+        private final Stack stack;
+        private final Object[][] buffers = new Object[MAX_BUFFERED_ARITY + 1][];
+        private AdviceChain chain;
+        int next;
+
+        private Frame(Stack stack) {
+            this.stack = stack;
+        }
+
+        static Frame acquire(AdviceChain chain, Object target, Object[] args) {
+            Frame frame = STACK.get().push();
+            frame.chain = chain;
+            frame.next = chain.around.length;
+            frame.reset(target, chain.method, args);
+            return frame;
+        }
+
+        void release() {
+            chain = null;
+            reset(null, null, null);
+            for (Object[] buffer : buffers) {
+                if (buffer != null) {
+                    Arrays.fill(buffer, null);
+                }
+            }
+            stack.pop();
+        }
+
+        Object[] buffer(int arity) {
+            if (arity == 0) {
+                return NO_ARGS;
+            }
+            if (arity > MAX_BUFFERED_ARITY) {
+                return new Object[arity];
+            }
+            Object[] buffer = buffers[arity];
+            if (buffer == null) {
+                buffer = new Object[arity];
+                buffers[arity] = buffer;
+            }
+            return buffer;
+        }
+
+        @Override
+        public Object proceed() {
+            if (chain == null) {
+                throw new IllegalStateException("Join point used after its advice returned; retain snapshot() instead");
+            }
+            try {
+                return chain.proceed(this, next);
+            } catch (Throwable ex) {
+                log.severe(ex.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Pila de frames del hilo; crece solo con llamadas advised anidadas.
+     */
+    private static final class Stack {
+
+        private Frame[] frames = new Frame[4];
+        private int depth;
+
+        Frame push() {
+            if (depth == frames.length) {
+                frames = Arrays.copyOf(frames, depth * 2);
+            }
+            Frame frame = frames[depth];
+            if (frame == null) {
+                frame = new Frame(this);
+                frames[depth] = frame;
+            }
+            depth++;
+            return frame;
+        }
+
+        void pop() {
+            depth--;
+        }
+    }
+}
@@ -15,6 +15,7 @@ public class AspectInfo implements Comparable<AspectInfo> {
     private final String returningParameter; // Para @AfterReturning
     private final String throwingParameter; // Para @AfterThrowing
     private final int order; // Orden de ejecución
+    private volatile MethodInvoker adviceInvoker; // ⚡ Invoker tipado del advice, generado una vez
 
     public AspectInfo(Object aspectInstance, Method adviceMethod, String pointcutExpression,
             Class<?> annotationType, String pointcutName, String returningParameter,
@@ -61,6 +62,18 @@ public class AspectInfo implements Comparable<AspectInfo> {
         return order;
     }
 
+    /**
+     * ⚡ Invoker tipado del método advice (se invoca sobre {@link #getAspectInstance()})
+     */
+    public MethodInvoker getAdviceInvoker() {
+        MethodInvoker invoker = adviceInvoker;
+        if (invoker == null) {
+            invoker = MethodInvokers.of(adviceMethod);
+            adviceInvoker = invoker;
+        }
+        return invoker;
+    }
+
     @Override
     public int compareTo(AspectInfo other) {
         return Integer.compare(this.order, other.order);
@@ -11,10 +11,12 @@ import io.warmup.framework.annotation.Pointcut;
 import io.warmup.framework.core.WarmupContainer;
 import io.warmup.framework.asm.AsmCoreUtils;
 import io.warmup.framework.asm.AsmMethodInvoker;
+import io.warmup.framework.async.AsyncPolicy;
 import java.util.Arrays;
 // ✅ REFACTORIZADO: Comentado para migración a ASM
 //import java.lang.annotation.Annotation;
 //import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 //import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,19 +41,18 @@ public class AspectManager {
     // ✅ FASE 2 OPTIMIZACIÓN O(1): Mapa directo para lookups O(1) en lugar de O(n) iteration
     private final Map<String, String> pointcutDirectLookup = new ConcurrentHashMap<>();
     
-    // Caché para evitar reevaluar pointcuts: (method, expression) -> match
-    private final Map<String, Boolean> pointcutCache = new ConcurrentHashMap<>();
-    
-    // ✅ FASE 2 OPTIMIZACIÓN O(1): Cache pre-computado de aspectos aplicables por método
-    // Key: "ClassName.methodName(params)" -> Set de AspectInfo ya filtrados por tipo
-    private final ConcurrentHashMap<String, ConcurrentHashMap<Class<?>, ConcurrentHashMap<Integer, Set<AspectInfo>>>> methodAspectCache = new ConcurrentHashMap<>();
-    
-    // ✅ FASE 2 OPTIMIZACIÓN O(1): Índice rápido por tipo de anotación para getMatchingAspects
-    // annotationType -> methodSignature -> Set<AspectInfo> ya filtrados
-    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, Set<AspectInfo>>> fastAspectIndex = new ConcurrentHashMap<>();
-    
-    // ✅ FASE 2 OPTIMIZACIÓN O(1): Cache de evaluación de pointcuts para evitar recomputación
-    private final ConcurrentHashMap<String, Boolean> pointcutEvaluationCache = new ConcurrentHashMap<>();
+    // 🎯 Pointcuts compilados a árbol de matchers: expresión -> matcher (se compilan en registerAspect)
+    private final ConcurrentHashMap<String, PointcutMatcher> compiledPointcuts = new ConcurrentHashMap<>();
+
+    // 🎯 Índice por clase: aspectos cuyo pointcut puede aplicar a algún método de la clase
+    private final ConcurrentHashMap<Class<?>, List<AspectInfo>> classAspectIndex = new ConcurrentHashMap<>();
+
+    // 🔗 Cadenas de advices precompiladas e inmutables por método
+    private final ConcurrentHashMap<java.lang.reflect.Method, AdviceChain> adviceChains = new ConcurrentHashMap<>();
+    // Clases cuyas cadenas ya se precompilaron -> métodos con advices
+    private final ConcurrentHashMap<Class<?>, Integer> preparedClasses = new ConcurrentHashMap<>();
+    // ⏳ Política @Async por método (incluye el histograma de latencias para hedging)
+    private final ConcurrentHashMap<java.lang.reflect.Method, AsyncPolicy> asyncPolicies = new ConcurrentHashMap<>();
 
     public AspectManager(WarmupContainer container) {
         this.container = container;
@@ -126,11 +127,11 @@ public class AspectManager {
      */
     private void clearAllOptimizationCaches() {
         globalPointcutMap.clear();
-        pointcutCache.clear();
         pointcutDirectLookup.clear();
-        methodAspectCache.clear();
-        fastAspectIndex.clear();
-        pointcutEvaluationCache.clear();
+        compiledPointcuts.clear();
+        classAspectIndex.clear();
+        adviceChains.clear();
+        preparedClasses.clear();
         log.log(Level.INFO, "🧹 Cache de optimizaciones O(1) limpiado después de actualización de aspectos");
     }
 
@@ -184,6 +185,8 @@ public class AspectManager {
                             pointcutDirectLookup.put(pointcutName, pointcutValue);
                             pointcutDirectLookup.put("global." + asmMethod.name, pointcutValue);
                             
+                            // Las expresiones ya compiladas pueden referenciar este pointcut
+                            compiledPointcuts.clear();
                             log.log(Level.INFO, "   Pointcut registrado: {0} = {1}", new Object[]{pointcutName, pointcutValue});
                         }
                     } catch (Exception e) {
@@ -255,11 +258,21 @@ public class AspectManager {
                 }
 
                 aspects.add(new AspectInfo(instance, method, pointcutExpression, annotationType, pointcutName, returningParameter, throwingParameter, order));
+                // 🎯 Compilar el pointcut ahora: el matching posterior no parsea strings
+                compilePointcut(pointcutExpression);
                 log.log(Level.INFO, "   @{0} registrado: {1} -> {2} (orden: {3})",
                         new Object[]{annotationType.getSimpleName(), method.getName(), pointcutExpression, order});
                 registeredAdviceCount++;
             }
             log.log(Level.INFO, "   Advice methods registrados: {0} para {1}", new Object[]{registeredAdviceCount, clazz.getSimpleName()});
+            // 🧵 Las clases tejidas en build usan la misma instancia del aspecto
+            WovenAspects.register(instance);
+            if (registeredAdviceCount > 0) {
+                // 🔗 Nuevos advices: las cadenas y el índice compilados ya no son válidos
+                classAspectIndex.clear();
+                adviceChains.clear();
+                preparedClasses.clear();
+            }
         }
     }
 
@@ -289,481 +302,144 @@ public class AspectManager {
     }
 
     /**
-     * ✅ FASE 2 OPTIMIZACIÓN O(1): Verificar coincidencia de pointcut con cache mejorado
+     * 🎯 Verificar coincidencia de pointcut usando el matcher compilado de la expresión
      */
     public boolean matchesPointcut(java.lang.reflect.Method method, String pointcutExpression) {
         if (pointcutExpression == null || pointcutExpression.isEmpty()) {
             return false;
         }
-
-        // ✅ OPTIMIZACIÓN O(1): Generar clave de cache más eficiente
-        String cacheKey = generateMethodSignature(method) + "|" + pointcutExpression;
-        String legacyCacheKey = method.toString() + "|" + pointcutExpression;
-        
-        // ✅ OPTIMIZACIÓN O(1): Verificar cache de evaluación pre-computado
-        Boolean cachedResult = pointcutEvaluationCache.get(cacheKey);
-        if (cachedResult != null) {
-            return cachedResult;
-        }
-
-        try {
-            // ✅ MEJORADO: Usar también el cache original para compatibilidad
-            Boolean legacyCached = pointcutCache.get(legacyCacheKey);
-            if (legacyCached != null) {
-                pointcutEvaluationCache.put(cacheKey, legacyCached);
-                return legacyCached;
-            }
-            
-            boolean result = evaluatePointcutExpression(method, pointcutExpression.trim());
-            
-            // ✅ OPTIMIZACIÓN O(1): Guardar en ambos caches
-            pointcutEvaluationCache.put(cacheKey, result);
-            pointcutCache.put(legacyCacheKey, result);
-            
-            return result;
-        } catch (Exception e) {
-            log.log(Level.SEVERE, "Error parseando pointcut: {0} - {1}", new Object[]{pointcutExpression, e.getMessage()});
-            
-            // ✅ OPTIMIZACIÓN O(1): Cachear resultados negativos también
-            pointcutEvaluationCache.put(cacheKey, false);
-            pointcutCache.put(legacyCacheKey, false);
-            
-            return false;
-        }
-    }
-
-    private boolean evaluatePointcutExpression(java.lang.reflect.Method method, String expression) {
-        // Manejar paréntesis para agrupación
-        if (expression.startsWith("(") && expression.endsWith(")")) {
-            return evaluatePointcutExpression(method, expression.substring(1, expression.length() - 1));
-        }
-        // Negación !
-        if (expression.startsWith("!")) {
-            return !evaluatePointcutExpression(method, expression.substring(1).trim());
-        }
-        // AND &&
-        int andIndex = findOperatorIndex(expression, "&&");
-        if (andIndex != -1) {
-            String left = expression.substring(0, andIndex).trim();
-            String right = expression.substring(andIndex + 2).trim();
-            return evaluatePointcutExpression(method, left) && evaluatePointcutExpression(method, right);
-        }
-        // OR ||
-        int orIndex = findOperatorIndex(expression, "||");
-        if (orIndex != -1) {
-            String left = expression.substring(0, orIndex).trim();
-            String right = expression.substring(orIndex + 2).trim();
-            return evaluatePointcutExpression(method, left) || evaluatePointcutExpression(method, right);
-        }
-
-        if (expression.startsWith("@annotation(") && expression.endsWith(")")) {
-            String annotationClassName = expression.substring(12, expression.length() - 1).trim();
-            try {
-                // ✅ REFACTORIZADO: Usar cache de tipos en lugar de Class.forName
-                Class<?> clazz = getClassFromName(annotationClassName);
-                if (!java.lang.annotation.Annotation.class.isAssignableFrom(clazz)) {
-                    log.log(Level.WARNING, "️  {0} no es una anotación", annotationClassName);
-                    return false;
-                }
-                @SuppressWarnings("unchecked")
-                Class<? extends java.lang.annotation.Annotation> annotationClass = (Class<? extends java.lang.annotation.Annotation>) clazz;
-                return AsmCoreUtils.hasAnnotation(method, annotationClass.getName());
-            } catch (Exception e) {
-                log.log(Level.WARNING, "️  Clase de anotación no encontrada: {0}", annotationClassName);
-                return false;
-            }
-        }
-
-        // Expresión simple de execution
-        if (expression.startsWith("execution(") && expression.endsWith(")")) {
-            return matchesExecutionPointcut(method, expression.substring(10, expression.length() - 1));
-        }
-        // Referencia a pointcut por nombre
-        if (expression.endsWith("()")) {
-            return matchesNamedPointcut(method, expression.substring(0, expression.length() - 2));
-        }
-        return false;
-    }
-
-    private int findOperatorIndex(String expression, String operator) {
-        int depth = 0;
-        for (int i = 0; i < expression.length() - operator.length() + 1; i++) {
-            char c = expression.charAt(i);
-            if (c == '(') {
-                depth++;
-            }
-            if (c == ')') {
-                depth--;
-            }
-            if (depth == 0 && expression.startsWith(operator, i)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
-    private boolean matchesExecutionPointcut(java.lang.reflect.Method method, String expression) {
-        // Formato esperado: [modificadores] tipoRetorno paquete.Clase.metodo(parametros)
-        // Ej: "public * com.yrg.*.create*(..)" o "* *.service.*.*(..)"
-
-        String[] parts = expression.split("\\s+");
-        String returnTypePattern;
-        String rest;
-
-        if (parts.length >= 2 && (parts[0].equals("public") || parts[0].equals("private") || parts[0].equals("protected"))) {
-            // Ignoramos modificadores por ahora
-            returnTypePattern = parts[1];
-            // Usar substring en lugar de Arrays.copyOfRange para evitar ArrayStoreException
-            rest = String.join(" ", java.util.Arrays.asList(parts).subList(2, parts.length));
-        } else {
-            returnTypePattern = parts[0];
-            rest = parts.length > 1 ? String.join(" ", java.util.Arrays.asList(parts).subList(1, parts.length)) : expression;
-        }
-
-        int lastDot = rest.lastIndexOf('.');
-        if (lastDot == -1) {
-            return false;
-        }
-
-        String classPattern = rest.substring(0, lastDot);
-        String methodAndParams = rest.substring(lastDot + 1);
-
-        int parenIndex = methodAndParams.indexOf('(');
-        if (parenIndex == -1) {
-            return false;
-        }
-
-        String methodPattern = methodAndParams.substring(0, parenIndex);
-        // Ignoramos patrón de parámetros por ahora
-
-        String actualReturnType = AsmCoreUtils.getReturnType(method).getName();
-        String actualClass = AsmCoreUtils.getDeclaringClass(method).getName();
-        String actualMethod = method.getName();
-
-        boolean returnTypeMatch = matchPattern(actualReturnType, returnTypePattern);
-        boolean classMatch = matchPattern(actualClass, classPattern);
-        boolean methodMatch = matchPattern(actualMethod, methodPattern);
-
-        return returnTypeMatch && classMatch && methodMatch;
-    }
-
-    private boolean matchPattern(String actual, String pattern) {
-        if ("*".equals(pattern)) {
-            return true;
-        }
-        if (pattern.endsWith("*")) {
-            String prefix = pattern.substring(0, pattern.length() - 1);
-            return actual.startsWith(prefix);
-        }
-        if (pattern.startsWith("*")) {
-            String suffix = pattern.substring(1);
-            return actual.endsWith(suffix);
-        }
-        return actual.equals(pattern);
+        return compilePointcut(pointcutExpression).matches(method);
     }
 
     /**
-     * ✅ FASE 2 OPTIMIZACIÓN O(1): Busca pointcuts por nombre usando lookup directo
+     * 🎯 Obtener (o compilar) el matcher de una expresión de pointcut.
+     * Las referencias {@code nombre()} se resuelven con los pointcuts globales registrados.
      */
-    private boolean matchesNamedPointcut(java.lang.reflect.Method method, String pointcutName) {
-        // ✅ OPTIMIZACIÓN O(1): Buscar directamente por nombre de método
-        String globalKey = "global." + pointcutName;
-        String pointcutExpression = pointcutDirectLookup.get(globalKey);
-        if (pointcutExpression != null) {
-            return matchesPointcut(method, pointcutExpression);
+    public PointcutMatcher compilePointcut(String pointcutExpression) {
+        if (pointcutExpression == null || pointcutExpression.isEmpty()) {
+            return PointcutMatcher.NEVER;
+        }
+        PointcutMatcher matcher = compiledPointcuts.get(pointcutExpression);
+        if (matcher == null) {
+            matcher = compiledPointcuts.computeIfAbsent(pointcutExpression,
+                    expression -> PointcutMatcher.compile(expression, name -> pointcutDirectLookup.get("global." + name)));
         }
-        return false;
+        return matcher;
     }
 
     public Object invokeWithAspects(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
-        log.log(Level.INFO, "Ejecutando m\u00e9todo con AOP: {0}", method.getName());
+        // 🔗 Cadena precompilada: matching, orden y tipos de parámetro resueltos una sola vez
+        AdviceChain chain = getAdviceChain(method);
 
         // 🔥 @Async INTEGRATION: Detectar y manejar métodos @Async
-        if (AsmCoreUtils.hasAnnotation(method, "io.warmup.framework.annotation.Async")) {
+        if (chain.isAsync()) {
             return handleAsyncMethod(target, method, args);
         }
+        return chain.invoke(target, args);
+    }
 
-        // Obtener aspectos que aplican a este método y ORDENARLOS
-        List<AspectInfo> beforeAspects = getMatchingAspects(method, Before.class);
-        List<AspectInfo> afterAspects = getMatchingAspects(method, After.class);
-        List<AspectInfo> aroundAspects = getMatchingAspects(method, Around.class);
-        List<AspectInfo> afterReturningAspects = getMatchingAspects(method, AfterReturning.class);
-        List<AspectInfo> afterThrowingAspects = getMatchingAspects(method, AfterThrowing.class);
-
-        // Si hay aspectos @Around, encadenarlos
-        if (!aroundAspects.isEmpty()) {
-            log.log(Level.INFO, "Ejecutando {0} aspectos @Around para: {1}", new Object[]{aroundAspects.size(), method.getName()});
-
-            // Construir cadena de invocación
-            MethodInvocation finalInvocation = () -> {
-                // Ejecutar método original
-                log.log(Level.INFO, "Ejecutando m\u00e9todo original: {0}", method.getName());
-                // ✅ REFACTORIZADO: Usar ASM para invocar método sin reflexión
-                Object result = AsmCoreUtils.invokeMethod(target, method.getName(), args);
-                log.log(Level.INFO, "M\u00e9todo ejecutado exitosamente, resultado: {0}", result);
-                return result;
-            };
-
-            // Encadenar aspectos en orden inverso (el último se ejecuta primero)
-            MethodInvocation currentInvocation = finalInvocation;
-            for (int i = aroundAspects.size() - 1; i >= 0; i--) {
-                AspectInfo aspect = aroundAspects.get(i);
-                MethodInvocation nextInvocation = currentInvocation;
-                currentInvocation = () -> {
-                    ProceedingJoinPoint joinPoint = new ProceedingJoinPoint(target, method, args, nextInvocation);
-                    // ✅ REFACTORIZADO: Usar ASM en lugar de setAccessible
-
-                    // Preparar argumentos para el método @Around
-                    Class<?>[] paramTypes = AsmCoreUtils.getParameterTypes(aspect.getAdviceMethod());
-                    Object[] adviceArgs = new Object[paramTypes.length];
-
-                    for (int j = 0; j < paramTypes.length; j++) {
-                        if (AsmCoreUtils.isAssignableFrom(ProceedingJoinPoint.class, paramTypes[j])) {
-                            adviceArgs[j] = joinPoint;
-                        } else if (paramTypes[j].isAnnotation()) {
-                            @SuppressWarnings("unchecked")
-                            Class<? extends java.lang.annotation.Annotation> annotationClass = (Class<? extends java.lang.annotation.Annotation>) paramTypes[j];
-                            Object annotation = AsmCoreUtils.getAnnotation(method, annotationClass.getName());
-                            if (annotation != null) {
-                                adviceArgs[j] = annotation;
-                            } else {
-                                log.log(Level.WARNING, " No se encontró la anotación {0} en el método {1}",
-                                        new Object[]{paramTypes[j].getSimpleName(), method.getName()});
-                                throw new IllegalArgumentException("Required annotation " + paramTypes[j].getSimpleName() + " not found on method " + method.getName());
-                            }
-                        } else {
-                            log.log(Level.SEVERE, " Tipo de parámetro no soportado en @Around: {0}", paramTypes[j].getName());
-                            throw new IllegalArgumentException("Unsupported parameter type in @Around advice: " + paramTypes[j].getName());
-                        }
-                    }
-
-                    log.log(Level.INFO, "    Ejecutando @Around: {0} (orden: {1})", new Object[]{aspect.getAdviceMethod().getName(), aspect.getOrder()});
-                    // ✅ REFACTORIZADO: Usar ASM para invocar método de aspecto
-                    return AsmCoreUtils.invokeMethod(aspect.getAspectInstance(), aspect.getAdviceMethod().getName(), adviceArgs);
-                };
-            }
-
-            // Ejecutar la cadena
-            try {
-                Object result = currentInvocation.proceed();
-                executeAfterReturningAspects(afterReturningAspects, target, method, args, result);
-                return result;
-            } catch (InvocationTargetException e) {
-                Throwable cause = e.getTargetException() != null ? e.getTargetException() : e;
-                log.log(Level.INFO, "Excepci\u00f3n en cadena @Around: {0}", cause.getClass().getSimpleName());
-                if (cause.getMessage() != null) {
-                    log.log(Level.INFO, "   Mensaje: {0}", cause.getMessage());
-                }
-                executeAfterThrowingAspects(afterThrowingAspects, target, method, args, cause);
-                throw cause;
-            } catch (IllegalAccessException e) {
-                Throwable cause = e.getCause() != null ? e.getCause() : e;
-                log.log(Level.INFO, " Excepci\u00f3n en cadena @Around (Exception): {0}", cause.getClass().getSimpleName());
-                if (cause.getMessage() != null) {
-                    log.log(Level.INFO, "   Mensaje: {0}", cause.getMessage());
-                }
-                executeAfterThrowingAspects(afterThrowingAspects, target, method, args, cause);
-                throw cause;
-            }
-        }
-
-        // Ejecutar @Before EN ORDEN
-        log.info(" Ejecutando @Before en orden:");
-        for (AspectInfo aspect : beforeAspects) {
-            log.log(Level.INFO, "   Ejecutando @Before: {0} (orden: {1})", new Object[]{aspect.getAdviceMethod().getName(), aspect.getOrder()});
-            JoinPoint joinPoint = new JoinPoint(target, method, args);
-            try {
-                // ✅ REFACTORIZADO: Usar ASM para invocar método sin reflexión
-                AsmCoreUtils.invokeMethod(aspect.getAspectInstance(), aspect.getAdviceMethod().getName(), joinPoint);
-            } catch (Exception e) {
-                log.log(Level.SEVERE, "Error en @Before: {0}", e.getMessage());
-            }
+    /**
+     * 🔗 Obtener (o compilar) la cadena de advices inmutable del método
+     */
+    public AdviceChain getAdviceChain(java.lang.reflect.Method method) {
+        AdviceChain chain = adviceChains.get(method);
+        if (chain == null) {
+            chain = adviceChains.computeIfAbsent(method, this::compileAdviceChain);
         }
+        return chain;
+    }
 
-        // Ejecutar método original
-        Object result;
-        Throwable thrownException = null;
-        try {
-            log.log(Level.INFO, "Ejecutando m\u00e9todo original: {0}", method.getName());
-            // ✅ REFACTORIZADO: Usar ASM para invocar método sin reflexión
-            result = AsmCoreUtils.invokeMethod(target, method.getName(), args);
-            log.log(Level.INFO, "M\u00e9todo ejecutado exitosamente, resultado: {0}", result);
-            executeAfterReturningAspects(afterReturningAspects, target, method, args, result);
-        } catch (Exception e) {
-            // ✅ REFACTORIZADO: ASM no lanza InvocationTargetException ni IllegalAccessException
-            thrownException = e.getCause() != null ? e.getCause() : e;
-            log.log(Level.INFO, "Excepci\u00f3n capturada: {0}", thrownException.getClass().getSimpleName());
-            if (thrownException.getMessage() != null) {
-                log.log(Level.INFO, "   Mensaje: {0}", thrownException.getMessage());
+    /**
+     * 🔗 Precompilar las cadenas de todos los métodos interceptables de una clase.
+     * Se llama al generar el proxy para que la primera invocación ya sea un recorrido de arrays.
+     *
+     * @return número de métodos con al menos un advice
+     */
+    public int prepareAdviceChains(Class<?> targetClass) {
+        Integer prepared = preparedClasses.get(targetClass);
+        if (prepared != null) {
+            return prepared;
+        }
+        int advised = 0;
+        if (getCandidateAspects(targetClass).isEmpty()) {
+            preparedClasses.put(targetClass, advised);
+            return advised;
+        }
+        for (java.lang.reflect.Method method : targetClass.getDeclaredMethods()) {
+            int modifiers = method.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers) || method.isSynthetic()) {
+                continue;
             }
-            executeAfterThrowingAspects(afterThrowingAspects, target, method, args, thrownException);
-            throw thrownException;
-        }
-
-        // Ejecutar @After EN ORDEN (solo si no hubo excepción)
-        if (thrownException == null) {
-            log.info("Ejecutando @After en orden:");
-            for (AspectInfo aspect : afterAspects) {
-                log.log(Level.INFO, "   Ejecutando @After: {0} (orden: {1})", new Object[]{aspect.getAdviceMethod().getName(), aspect.getOrder()});
-                JoinPoint joinPoint = new JoinPoint(target, method, args);
-                try {
-                    // ✅ REFACTORIZADO: Usar ASM para invocar método sin reflexión
-                    AsmCoreUtils.invokeMethod(aspect.getAspectInstance(), aspect.getAdviceMethod().getName(), joinPoint);
-                } catch (Exception e) {
-                    log.log(Level.SEVERE, "Error en @After: {0}", e.getMessage());
-                }
+            AdviceChain chain = getAdviceChain(method);
+            if (!chain.isEmpty()) {
+                advised++;
             }
         }
-
-        return result;
+        log.log(Level.FINE, "🔗 {0} cadenas de advices precompiladas para {1}", new Object[]{advised, targetClass.getSimpleName()});
+        preparedClasses.put(targetClass, advised);
+        return advised;
     }
 
-    private void executeAfterReturningAspects(List<AspectInfo> afterReturningAspects, Object target, java.lang.reflect.Method method, Object[] args, Object result) {
-        for (AspectInfo aspect : afterReturningAspects) {
-            if (matchesPointcut(method, aspect.getPointcutExpression())) {
-                log.log(Level.INFO, "Ejecutando @AfterReturning: {0} con resultado: {1}", new Object[]{aspect.getAdviceMethod().getName(), result});
-                JoinPoint joinPoint = new JoinPoint(target, method, args);
-                try {
-                    Class<?>[] paramTypes = AsmCoreUtils.getParameterTypes(aspect.getAdviceMethod());
-                    Object[] adviceArgs = new Object[paramTypes.length];
-                    boolean canInvoke = true;
-
-                    for (int i = 0; i < paramTypes.length; i++) {
-                        if (AsmCoreUtils.isAssignableFrom(JoinPoint.class, paramTypes[i])) {
-                            adviceArgs[i] = joinPoint;
-                        } else if (aspect.getReturningParameter() != null && !aspect.getReturningParameter().isEmpty()) {
-                            // Si tiene nombre "returning", asumimos que este parámetro debe recibir el resultado
-                            adviceArgs[i] = result;
-                        } else if (paramTypes[i] == Object.class || (result != null && paramTypes[i].isInstance(result))) {
-                            adviceArgs[i] = result;
-                        } else {
-                            log.log(Level.WARNING, "Tipo de par\u00e1metro incompatible en @AfterReturning: {0} para resultado: {1}",
-                                    new Object[]{paramTypes[i].getSimpleName(), result != null ? result.getClass().getSimpleName() : "null"});
-                            canInvoke = false;
-                            break;
-                        }
-                    }
-
-                    if (canInvoke) {
-                        // ✅ REFACTORIZADO: Usar ASM para invocar método sin reflexión
-                        AsmCoreUtils.invokeMethod(aspect.getAspectInstance(), aspect.getAdviceMethod().getName(), adviceArgs);
-                        log.info("@AfterReturning ejecutado exitosamente");
-                    } else {
-                        log.info("Saltando @AfterReturning por incompatibilidad de tipos");
-                    }
-                } catch (Exception ex) {
-                    log.log(Level.SEVERE, "Error en @AfterReturning: {0} - {1}", new Object[]{ex.getClass().getSimpleName(), ex.getMessage()});
-                }
-            }
-        }
-    }
-
-    private void executeAfterThrowingAspects(List<AspectInfo> afterThrowingAspects, Object target, java.lang.reflect.Method method, Object[] args, Throwable thrownException) {
-        for (AspectInfo aspect : afterThrowingAspects) {
-            if (matchesPointcut(method, aspect.getPointcutExpression())) {
-                log.log(Level.INFO, "Ejecutando @AfterThrowing: {0} para excepci\u00f3n: {1}", new Object[]{aspect.getAdviceMethod().getName(), thrownException.getClass().getSimpleName()});
-                JoinPoint joinPoint = new JoinPoint(target, method, args);
-                try {
-                    Class<?>[] paramTypes = AsmCoreUtils.getParameterTypes(aspect.getAdviceMethod());
-                    Object[] adviceArgs = new Object[paramTypes.length];
-                    boolean canInvoke = true;
-
-                    for (int i = 0; i < paramTypes.length; i++) {
-                        if (AsmCoreUtils.isAssignableFrom(JoinPoint.class, paramTypes[i])) {
-                            adviceArgs[i] = joinPoint;
-                        } else if (aspect.getThrowingParameter() != null && !aspect.getThrowingParameter().isEmpty()) {
-                            // Si tiene nombre "throwing", asignar la excepción
-                            adviceArgs[i] = thrownException;
-                        } else if (AsmCoreUtils.isAssignableFrom(paramTypes[i], thrownException.getClass())) {
-                            adviceArgs[i] = thrownException;
-                        } else if (paramTypes[i] == Throwable.class) {
-                            adviceArgs[i] = thrownException;
-                        } else if (paramTypes[i] == Exception.class && thrownException instanceof Exception) {
-                            adviceArgs[i] = thrownException;
-                        } else {
-                            log.log(Level.WARNING, "Tipo de par\u00e1metro incompatible en @AfterThrowing: {0} para excepci\u00f3n: {1}",
-                                    new Object[]{paramTypes[i].getSimpleName(), thrownException.getClass().getSimpleName()});
-                            canInvoke = false;
-                            break;
-                        }
-                    }
-
-                    if (canInvoke) {
-                        // ✅ REFACTORIZADO: Usar ASM para invocar método sin reflexión
-                        AsmCoreUtils.invokeMethod(aspect.getAspectInstance(), aspect.getAdviceMethod().getName(), adviceArgs);
-                        log.info("@AfterThrowing ejecutado exitosamente");
-                    } else {
-                        log.info("Saltando @AfterThrowing por incompatibilidad de tipos");
-                    }
-                } catch (Exception ex) {
-                    log.log(Level.SEVERE, "Error en @AfterThrowing: {0} - {1}", new Object[]{ex.getClass().getSimpleName(), ex.getMessage()});
-                }
-            }
-        }
+    private AdviceChain compileAdviceChain(java.lang.reflect.Method method) {
+        return new AdviceChain(method,
+                AsmCoreUtils.hasAnnotation(method, "io.warmup.framework.annotation.Async"),
+                getMatchingAspects(method, Before.class),
+                getMatchingAspects(method, Around.class),
+                getMatchingAspects(method, After.class),
+                getMatchingAspects(method, AfterReturning.class),
+                getMatchingAspects(method, AfterThrowing.class));
     }
 
     /**
-     * ✅ FASE 2 OPTIMIZACIÓN O(1): Obtener aspectos aplicables usando cache pre-computado
-     * Elimina la operación O(n) de filtrar todos los aspectos por cada invocación de método
+     * 🎯 Obtener aspectos aplicables: solo se evalúan los candidatos de la clase declarante
+     * con su matcher compilado. Se usa al compilar cadenas, nunca en la ruta de invocación.
      */
     private List<AspectInfo> getMatchingAspects(java.lang.reflect.Method method, Class<?> annotationType) {
-        // ✅ OPTIMIZACIÓN O(1): Generar clave única para el método
-        String methodSignature = generateMethodSignature(method);
-        
-        // ✅ OPTIMIZACIÓN O(1): Verificar cache rápido por tipo de anotación
-        ConcurrentHashMap<String, Set<AspectInfo>> typeCache = fastAspectIndex.get(annotationType);
-        if (typeCache != null) {
-            Set<AspectInfo> cachedAspects = typeCache.get(methodSignature);
-            if (cachedAspects != null) {
-                // Devolver lista ordenada por orden (sin recomputar sort cada vez)
-                return cachedAspects.stream()
-                    .sorted((a1, a2) -> {
-                        int orderCompare = Integer.compare(a1.getOrder(), a2.getOrder());
-                        if (orderCompare != 0) {
-                            return orderCompare;
-                        }
-                        return a1.getAdviceMethod().getName()
-                                .compareTo(a2.getAdviceMethod().getName());
-                    })
-                    .collect(Collectors.toList());
+        List<AspectInfo> matchingAspects = new ArrayList<>();
+        for (AspectInfo aspect : getCandidateAspects(method.getDeclaringClass())) {
+            if (aspect.getAnnotationType() == annotationType
+                    && compilePointcut(aspect.getPointcutExpression()).matches(method)) {
+                matchingAspects.add(aspect);
             }
         }
-        
-        // ✅ FALLBACK O(n): Solo la primera vez o si no está en cache
-        List<AspectInfo> matchingAspects = aspects.stream()
-                .filter(aspect -> aspect.getAnnotationType() == annotationType
-                && matchesPointcut(method, aspect.getPointcutExpression()))
-                .sorted((a1, a2) -> {
-                    int orderCompare = Integer.compare(a1.getOrder(), a2.getOrder());
-                    if (orderCompare != 0) {
-                        return orderCompare;
-                    }
-                    return a1.getAdviceMethod().getName()
-                            .compareTo(a2.getAdviceMethod().getName());
-                })
-                .collect(Collectors.toList());
-        
-        // ✅ CACHEAR para futuras llamadas O(1)
-        if (!matchingAspects.isEmpty()) {
-            ConcurrentHashMap<String, Set<AspectInfo>> cache = fastAspectIndex.computeIfAbsent(annotationType, 
-                k -> new ConcurrentHashMap<>());
-            cache.put(methodSignature, new HashSet<>(matchingAspects));
-        }
-        
+        matchingAspects.sort((a1, a2) -> {
+            int orderCompare = Integer.compare(a1.getOrder(), a2.getOrder());
+            if (orderCompare != 0) {
+                return orderCompare;
+            }
+            return a1.getAdviceMethod().getName()
+                    .compareTo(a2.getAdviceMethod().getName());
+        });
         return matchingAspects;
     }
-    
+
     /**
-     * ✅ FASE 2 OPTIMIZACIÓN O(1): Generar firma única para cache de métodos
+     * 🎯 Índice por clase: aspectos cuyo pointcut puede aplicar a algún método de la clase.
+     * Los aspectos ya tejidos en la clase (@Woven) se excluyen: el proxy solo aplica el resto.
      */
-    private String generateMethodSignature(java.lang.reflect.Method method) {
-        return method.getDeclaringClass().getName() + "." + method.getName() + 
-               Arrays.toString(method.getParameterTypes());
+    private List<AspectInfo> getCandidateAspects(Class<?> clazz) {
+        List<AspectInfo> candidates = classAspectIndex.get(clazz);
+        if (candidates == null) {
+            candidates = classAspectIndex.computeIfAbsent(clazz, type -> {
+                Set<String> woven = WovenAspects.wovenAspects(type);
+                List<AspectInfo> forClass = new ArrayList<>();
+                for (AspectInfo aspect : aspects) {
+                    if (woven.contains(aspect.getAspectInstance().getClass().getName())) {
+                        continue;
+                    }
+                    if (compilePointcut(aspect.getPointcutExpression()).couldMatch(type)) {
+                        forClass.add(aspect);
+                    }
+                }
+                return forClass.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(forClass);
+            });
+        }
+        return candidates;
     }
 
     /**
-     * ✅ FASE 2 OPTIMIZACIÓN O(1): Determinar si aplicar AOP a una clase
-     * Elimina el bucle anidado O(n*m) usando cache pre-computado
+     * 🎯 Determinar si aplicar AOP a una clase. Se decide una sola vez por clase
+     * (junto con sus cadenas de advices) y después es un lookup O(1).
      */
     public boolean shouldApplyAopToClass(Class<?> clazz) {
         if (!container.isAopEnabled()) {
@@ -774,46 +450,7 @@ public class AspectManager {
             log.log(Level.FINE, "No aplicar AOP a aspecto: {0}", clazz.getSimpleName());
             return false;
         }
-        
-        // ✅ OPTIMIZACIÓN O(1): Verificar cache de clase ya evaluada
-        String classKey = clazz.getName();
-        
-        // ✅ OPTIMIZACIÓN O(1): Usar el primer método como representative para verificar si la clase necesita AOP
-        // Si algún aspecto aplica a cualquier método de la clase, aplicar AOP
-        io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo[] asmMethods = AsmCoreUtils.getDeclaredMethods(clazz.getName());
-        
-        for (io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo asmMethod : asmMethods) {
-            try {
-                // ✅ OPTIMIZACIÓN O(1): Convertir ASM method a reflection method una sola vez por método
-                Class<?>[] paramTypes = new Class<?>[asmMethod.parameterTypes.length];
-                for (int i = 0; i < asmMethod.parameterTypes.length; i++) {
-                    paramTypes[i] = AsmCoreUtils.getClassFromDescriptor(asmMethod.parameterTypes[i]);
-                }
-                java.lang.reflect.Method reflectionMethod = clazz.getDeclaredMethod(asmMethod.name, paramTypes);
-                
-                // ✅ OPTIMIZACIÓN O(1): Verificar si CUALQUIER aspecto aplica a este método
-                // Usar getMatchingAspects optimizado para verificar eficientemente
-                boolean anyAspectMatches = false;
-                for (Class<?> annotationType : new Class<?>[]{Before.class, After.class, Around.class, AfterReturning.class, AfterThrowing.class}) {
-                    if (!getMatchingAspects(reflectionMethod, annotationType).isEmpty()) {
-                        anyAspectMatches = true;
-                        break;
-                    }
-                }
-                
-                if (anyAspectMatches) {
-                    log.log(Level.FINE, "Aplicar AOP a {0} porque el método {1} coincide con al menos un pointcut",
-                            new Object[]{clazz.getSimpleName(), asmMethod.name});
-                    return true;
-                }
-            } catch (Exception e) {
-                // Continuar si no se puede crear el método de reflexión
-                continue;
-            }
-        }
-        
-        log.log(Level.FINE, "No aplicar AOP a {0}: ningún método coincide con los pointcuts definidos", clazz.getSimpleName());
-        return false;
+        return prepareAdviceChains(clazz) > 0;
     }
 
     /**
@@ -828,18 +465,17 @@ public class AspectManager {
     private Object handleAsyncMethod(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
         Async asyncAnnotation = method.getAnnotation(Async.class);
         String executorName = getExecutorName(asyncAnnotation);
-        long timeout = asyncAnnotation.timeout();
-        Async.ExceptionHandling exceptionHandling = asyncAnnotation.exceptionHandling();
+        AsyncPolicy policy = asyncPolicies.computeIfAbsent(method, m -> AsyncPolicy.of(asyncAnnotation));
 
         log.log(Level.INFO, "Ejecutando método @Async: {0} con executor: {1}", 
                 new Object[]{method.getName(), executorName});
 
         // Check if method returns CompletableFuture
         if (method.getReturnType() == java.util.concurrent.CompletableFuture.class) {
-            return executeAsyncReturningFuture(target, method, args, executorName, timeout, exceptionHandling);
+            return executeAsyncReturningFuture(target, method, args, executorName, policy);
         } else {
             // Fire-and-forget execution
-            executeAsyncFireAndForget(target, method, args, executorName, timeout, exceptionHandling);
+            executeAsyncFireAndForget(target, method, args, executorName, policy);
             return null;
         }
     }
@@ -848,12 +484,11 @@ public class AspectManager {
      * Execute async method that returns CompletableFuture.
      */
     private Object executeAsyncReturningFuture(Object target, java.lang.reflect.Method method, Object[] args,
-                                             String executorName, long timeout,
-                                             Async.ExceptionHandling exceptionHandling) {
+                                             String executorName, AsyncPolicy policy) {
         CompletableFuture<Object> result = asyncExecutor.executeAsync(executorName, 
             () -> {
                 try {
-                    Object methodResult = AsmCoreUtils.invokeMethod(target, method.getName(), args);
+                    Object methodResult = MethodInvokers.of(method).invoke(target, args);
                     
                     // 🔥 Si el método devuelve un CompletableFuture, unwrap antes de retornarlo
                     if (methodResult instanceof CompletableFuture) {
@@ -866,8 +501,7 @@ public class AspectManager {
                     throw new java.util.concurrent.CompletionException(throwable);
                 }
             }, 
-            (int) timeout, 
-            exceptionHandling);
+            policy);
         
         return result;
     }
@@ -876,20 +510,18 @@ public class AspectManager {
      * Execute async method that doesn't return Future (fire-and-forget).
      */
     private void executeAsyncFireAndForget(Object target, java.lang.reflect.Method method, Object[] args,
-                                         String executorName, long timeout,
-                                         Async.ExceptionHandling exceptionHandling) {
+                                         String executorName, AsyncPolicy policy) {
         asyncExecutor.executeAsync(executorName, 
             () -> {
                 try {
-                    return AsmCoreUtils.invokeMethod(target, method.getName(), args);
+                    return MethodInvokers.of(method).invoke(target, args);
                 } catch (Throwable throwable) {
                     log.log(Level.WARNING, "Método @Async falló: {0} - {1}", 
                             new Object[]{method.getName(), throwable.getMessage()});
                     return null;
                 }
             }, 
-            (int) timeout, 
-            exceptionHandling);
+            policy);
     }
 
     /**
@@ -908,21 +540,21 @@ public class AspectManager {
         
         // Estadísticas de caches
         stats.put("pointcutDirectLookupSize", pointcutDirectLookup.size());
-        stats.put("fastAspectIndexSize", fastAspectIndex.size());
-        stats.put("methodAspectCacheSize", methodAspectCache.size());
-        stats.put("pointcutEvaluationCacheSize", pointcutEvaluationCache.size());
+        stats.put("fastAspectIndexSize", classAspectIndex.size());
+        stats.put("adviceChainCount", adviceChains.size());
+        stats.put("pointcutEvaluationCacheSize", compiledPointcuts.size());
+        stats.put("preparedClassCount", preparedClasses.size());
         stats.put("totalAspectsRegistered", aspects.size());
         stats.put("totalPointcutsRegistered", globalPointcutMap.size());
         
         // Métricas de eficiencia
         stats.put("classCacheSize", classCache.size());
-        stats.put("legacyPointcutCacheSize", pointcutCache.size());
         
         // Indicadores de rendimiento
         double cacheHitRate = 0.0;
-        if (!pointcutEvaluationCache.isEmpty()) {
+        if (!compiledPointcuts.isEmpty()) {
             // Calcular hit rate basado en el tamaño del cache vs aspectos totales
-            cacheHitRate = Math.min(1.0, (double) pointcutEvaluationCache.size() / (aspects.size() * 10.0));
+            cacheHitRate = Math.min(1.0, (double) compiledPointcuts.size() / (aspects.size() * 10.0));
         }
         stats.put("estimatedCacheHitRate", cacheHitRate);
         
@@ -932,9 +564,9 @@ public class AspectManager {
         // Categorización de optimizaciones aplicadas
         List<String> optimizations = new ArrayList<>();
         optimizations.add("O(1) Pointcut Direct Lookup");
-        optimizations.add("O(1) Fast Aspect Index by Type");
-        optimizations.add("O(1) Method Signature Caching");
-        optimizations.add("O(1) Pointcut Evaluation Cache");
+        optimizations.add("Compiled pointcut matcher tree");
+        optimizations.add("Per-class aspect index");
+        optimizations.add("Precompiled per-method advice chains");
         optimizations.add("Eliminated O(n) aspect filtering per method call");
         optimizations.add("Eliminated O(n) pointcut resolution loops");
         stats.put("optimizationsApplied", optimizations);
@@ -2,10 +2,10 @@ package io.warmup.framework.aop;
 
 import io.warmup.framework.core.AopHandler;
 import io.warmup.framework.core.WarmupContainer;
-import io.warmup.framework.proxy.InvocationHandler;
+import io.warmup.framework.proxy.IndexedInvocationHandler;
 import io.warmup.framework.proxy.Proxies;
 import io.warmup.framework.proxy.ProxyBuilder;
-import io.warmup.framework.asm.AsmCoreUtils; // MIGRATED from SimpleASMUtils
+import io.warmup.framework.proxy.ProxyMethod;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -55,7 +55,7 @@ public final class AspectProxy {
     /* ------------------------------------------------------------------ */
     /*  Handler universal (interface & clase)                              */
     /* ------------------------------------------------------------------ */
-    private static final class ProxycraftAspectHandler<T> implements InvocationHandler {
+    private static final class ProxycraftAspectHandler<T> implements IndexedInvocationHandler {
 
         private final T target;
         private final AopHandler aopHandler; // Cambiado de WarmupContainer a AopHandler
@@ -66,16 +66,18 @@ public final class AspectProxy {
         }
 
         @Override
-        public Object invoke(Object proxy, String methodName, Object[] args) throws Throwable {
-            log.log(Level.FINE, "Interceptando método con Proxycraft: {0}.{1}",
-                    new Object[]{target.getClass().getSimpleName(), methodName});
+        public Object invoke(Object proxy, int methodIndex, ProxyMethod method, Object[] args) throws Throwable {
+            if (log.isLoggable(Level.FINE)) {
+                log.log(Level.FINE, "Interceptando método con Proxycraft: {0}.{1}",
+                        new Object[]{target.getClass().getSimpleName(), method.getName()});
+            }
 
             try {
-                // Usar ASM directamente para invocar el método
-                return AsmCoreUtils.invokeMethod(target, methodName, args);
+                // Invoker generado para el método del índice, sin búsqueda por nombre
+                return MethodInvokers.of(method.getMethod()).invoke(target, args);
             } catch (Exception e) {
                 log.log(Level.SEVERE, "Error invocando método {0}.{1}: {2}",
-                        new Object[]{target.getClass().getSimpleName(), methodName, e.getMessage()});
+                        new Object[]{target.getClass().getSimpleName(), method.getName(), e.getMessage()});
                 throw e;
             }
         }
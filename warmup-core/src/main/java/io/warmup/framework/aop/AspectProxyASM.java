@@ -4,7 +4,12 @@ import io.warmup.framework.core.AopHandler;
 import io.warmup.framework.core.WarmupContainer;
 // import io.warmup.framework.jit.asm.SimpleASMUtils; // MIGRATED to AsmCoreUtils
 import io.warmup.framework.asm.AsmCoreUtils;
-import java.lang.reflect.Constructor;
+import io.warmup.framework.metadata.ClassMetadataStore;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.security.ProtectionDomain;
@@ -17,6 +22,12 @@ import static org.objectweb.asm.Opcodes.*;
 /**
  * Creación de “subclases” con aspectos inyectados vía ASM puro. No usa Proxy,
  * ByteBuddy, cglib, etc.
+ *
+ * La clase proxy se genera una sola vez por clase original: el bytecode solo
+ * delega en el {@link AopHandler} de la instancia, que resuelve los aspectos
+ * vigentes en cada llamada. Todas las clases proxy de un mismo ClassLoader se
+ * definen en un único loader compartido y se instancian con un MethodHandle
+ * de constructor cacheado.
  */
 public final class AspectProxyASM {
 
@@ -24,6 +35,18 @@ public final class AspectProxyASM {
 
     private static final String HANDLER_FIELD = "__$aopHandler";
     private static final String TARGET_FIELD = "__$target";
+    private static final String METHOD_FIELD = "__$method$";
+
+    // 🧊 Clase proxy por clase original (ClassValue: se recolecta con la clase)
+    private static final ClassMetadataStore.Key<ProxyClass> PROXY_CLASS =
+            ClassMetadataStore.key("aop.proxyClass", base -> ProxyClass.of(generateSubclass(base)));
+    private static final ClassMetadataStore.Key<ProxyClass> OBJECT_PROXY_CLASS =
+            ClassMetadataStore.key("aop.objectProxyClass", base -> ProxyClass.of(generateSubclassForObject(base)));
+    private static final ClassMetadataStore.Key<Field[]> COPYABLE_FIELDS =
+            ClassMetadataStore.key("aop.copyableFields", AspectProxyASM::collectCopyableFields);
+
+    // Un loader de definición por ClassLoader original; vive mientras viva alguna de sus clases proxy
+    private static final Map<ClassLoader, WeakReference<ByteArrayClassLoader>> DEFINING_LOADERS = new WeakHashMap<>();
 
     /* ---------- API pública ---------- */
     @SuppressWarnings("unchecked")
@@ -34,8 +57,10 @@ public final class AspectProxyASM {
             return target;
         }
         try {
-            Class<? extends T> enhanced = generateSubclass(targetClass);
-            T instance = newInstance(enhanced, target, handler);
+            ProxyClass proxyClass = ClassMetadataStore.get(targetClass, PROXY_CLASS);
+            // 🔗 Cadenas de advices compiladas junto con la clase proxy
+            handler.getAspectManager().prepareAdviceChains(targetClass);
+            T instance = (T) proxyClass.newInstance(target, handler);
             copyFields(target, instance);
             return instance;
         } catch (Exception e) {
@@ -55,8 +80,10 @@ public final class AspectProxyASM {
             return target;
         }
         try {
-            Class<?> enhanced = generateSubclassForObject(targetClass);
-            Object instance = newInstanceForObject(enhanced, target, handler);
+            ProxyClass proxyClass = ClassMetadataStore.get(targetClass, OBJECT_PROXY_CLASS);
+            // 🔗 Cadenas de advices compiladas junto con la clase proxy
+            handler.getAspectManager().prepareAdviceChains(targetClass);
+            Object instance = proxyClass.newInstance(target, handler);
             copyFields(target, instance);
             return instance;
         } catch (Exception e) {
@@ -94,8 +121,8 @@ public final class AspectProxyASM {
         cw.visit(V17, ACC_PUBLIC | ACC_SUPER, subName, null,
                 AsmCoreUtils.isInterface(base) ? "java/lang/Object" : internalName, interfaces);
 
-        // campo estático: AopHandler
-        cw.visitField(ACC_PRIVATE | ACC_STATIC, HANDLER_FIELD,
+        // campo de instancia: AopHandler (la clase se comparte entre contenedores)
+        cw.visitField(ACC_PRIVATE, HANDLER_FIELD,
                 AsmCoreUtils.getDescriptor(AopHandler.class), null, null).visitEnd();
 
         // campo de instancia: target original (por si se necesita)
@@ -106,15 +133,13 @@ public final class AspectProxyASM {
         generateConstructor(cw, base, subName);
 
         // métodos
-        for (Method m : collectOverridable(base)) {
-            generateMethod(cw, m, subName, internalName);
-        }
+        generateMethods(cw, collectOverridable(base), subName);
 
         cw.visitEnd();
         byte[] bytecode = cw.toByteArray();
 
         // cargar
-        return (Class<? extends T>) new ByteArrayClassLoader(base.getClassLoader())
+        return (Class<? extends T>) definingLoader(base.getClassLoader())
                 .defineClass(subName.replace('/', '.'), bytecode);
     }
 
@@ -140,16 +165,52 @@ public final class AspectProxyASM {
         mv.visitVarInsn(ALOAD, 1);                       // target
         mv.visitFieldInsn(PUTFIELD, subName, TARGET_FIELD, AsmCoreUtils.getDescriptor(Object.class));
         
-        // 3. Configurar el campo estático __$aopHandler
+        // 3. Configurar el campo __$aopHandler
+        mv.visitVarInsn(ALOAD, 0);                       // this
         mv.visitVarInsn(ALOAD, 2);                       // handler
-        mv.visitFieldInsn(PUTSTATIC, subName, HANDLER_FIELD, AsmCoreUtils.getDescriptor(AopHandler.class));
+        mv.visitFieldInsn(PUTFIELD, subName, HANDLER_FIELD, AsmCoreUtils.getDescriptor(AopHandler.class));
         
         mv.visitInsn(RETURN);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
     }
 
-    private static void generateMethod(ClassWriter cw, Method m, String subName, String superName) {
+    /**
+     * Genera los métodos interceptados y sus campos {@code static final Method},
+     * resueltos una sola vez en {@code <clinit>} en lugar de en cada llamada.
+     */
+    private static void generateMethods(ClassWriter cw, List<Method> methods, String subName) {
+        for (int i = 0; i < methods.size(); i++) {
+            cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, METHOD_FIELD + i,
+                    AsmCoreUtils.getDescriptor(Method.class), null, null).visitEnd();
+            generateMethod(cw, methods.get(i), i, subName);
+        }
+
+        MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+        for (int i = 0; i < methods.size(); i++) {
+            Method m = methods.get(i);
+            Class<?>[] params = AsmCoreUtils.getParameterTypes(m);
+            mv.visitLdcInsn(Type.getType(m.getDeclaringClass()));
+            mv.visitLdcInsn(m.getName());
+            pushInt(mv, params.length);
+            mv.visitTypeInsn(ANEWARRAY, "java/lang/Class");
+            for (int p = 0; p < params.length; p++) {
+                mv.visitInsn(DUP);
+                pushInt(mv, p);
+                pushClassLiteral(mv, params[p]);
+                mv.visitInsn(AASTORE);
+            }
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "getDeclaredMethod",
+                    "(Ljava/lang/String;[Ljava/lang/Class;)Ljava/lang/reflect/Method;", false);
+            mv.visitFieldInsn(PUTSTATIC, subName, METHOD_FIELD + i, AsmCoreUtils.getDescriptor(Method.class));
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateMethod(ClassWriter cw, Method m, int index, String subName) {
         // ✅ ASM DIRECTO: Usar datos del método directamente
         String methodName = m.getName();
         String desc = AsmCoreUtils.getMethodDescriptor(m);
@@ -158,86 +219,36 @@ public final class AspectProxyASM {
         mv.visitCode();
 
         Class<?>[] params = AsmCoreUtils.getParameterTypes(m);
-        
-        // 1º STEP 1: Primero cargar TODOS los parámetros desde sus slots originales (1, 2, 3, etc.)
-        // y copiarlos al array args. Los parámetros ocupan slots 1+ en la firma del método.
-        
-        // Crear el array args ANTES de cargar parámetros
-        pushInt(mv, params.length);
-        mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
-        int argsVar = 5; // Usar slot 5+ para evitar conflictos con parámetros
-        mv.visitVarInsn(ASTORE, argsVar);
-        
-        // Cargar todos los parámetros desde sus slots originales y almacenarlos en el array
-        for (int i = 0; i < params.length; i++) {
-            Class<?> paramType = params[i];
-            
-            mv.visitVarInsn(ALOAD, argsVar);
-            pushInt(mv, i);
-            
-            // Cargar parámetro desde su slot original (1 + i)
-            // Los parámetros del método empiezan en slot 1 (después de 'this' en slot 0)
-            if (paramType.isPrimitive()) {
-                if (paramType == int.class || paramType == byte.class || 
-                    paramType == char.class || paramType == short.class || paramType == boolean.class) {
-                    mv.visitVarInsn(ILOAD, 1 + i); // Parámetros primitivos enteros
-                } else if (paramType == long.class) {
-                    mv.visitVarInsn(LLOAD, 1 + i);
-                } else if (paramType == float.class) {
-                    mv.visitVarInsn(FLOAD, 1 + i);
-                } else if (paramType == double.class) {
-                    mv.visitVarInsn(DLOAD, 1 + i);
-                }
-            } else {
-                mv.visitVarInsn(ALOAD, 1 + i); // Tipos de referencia
-            }
-            
-            boxIfNeeded(mv, paramType);
-            mv.visitInsn(AASTORE);
-        }
 
-        // 2º STEP 2: AHORA sí, almacenar las variables locales en slots superiores
-        // Ya no hay conflicto porque los parámetros ya están copiados al array
-        
-        // AopHandler handler = this.__$aopHandler;
-        mv.visitFieldInsn(GETSTATIC, subName, HANDLER_FIELD, AsmCoreUtils.getDescriptor(AopHandler.class));
-        int handlerVar = 1; // Ahora podemos usar slots 1-4 para variables locales
-        mv.visitVarInsn(ASTORE, handlerVar);
-
-        // Object target = this.__$target;
+        // 1º handler.invokeWithAspects(target, method, args): receptor y argumentos en la pila
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, subName, HANDLER_FIELD, AsmCoreUtils.getDescriptor(AopHandler.class));
         mv.visitVarInsn(ALOAD, 0);
         mv.visitFieldInsn(GETFIELD, subName, TARGET_FIELD, AsmCoreUtils.getDescriptor(Object.class));
-        int targetVar = 2;
-        mv.visitVarInsn(ASTORE, targetVar);
 
-        // 3º Method realMethod = target.getClass().getDeclaredMethod(...)
-        mv.visitVarInsn(ALOAD, targetVar);
-        mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "getClass", "()Ljava/lang/Class;", false);
-        mv.visitLdcInsn(methodName);
+        // 2º Method resuelto en <clinit>: sin getDeclaredMethod (ni copia del Method) por llamada
+        mv.visitFieldInsn(GETSTATIC, subName, METHOD_FIELD + index, AsmCoreUtils.getDescriptor(Method.class));
+
+        // 3º args[]: cada parámetro desde su slot (long/double ocupan dos)
         pushInt(mv, params.length);
-        mv.visitTypeInsn(ANEWARRAY, "java/lang/Class");
+        mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+        int slot = 1;
         for (int i = 0; i < params.length; i++) {
+            Type paramType = Type.getType(params[i]);
             mv.visitInsn(DUP);
             pushInt(mv, i);
-            pushClassLiteral(mv, params[i]);
+            mv.visitVarInsn(paramType.getOpcode(ILOAD), slot);
+            boxIfNeeded(mv, params[i]);
             mv.visitInsn(AASTORE);
+            slot += paramType.getSize();
         }
-        mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "getDeclaredMethod",
-                "(Ljava/lang/String;[Ljava/lang/Class;)Ljava/lang/reflect/Method;", false);
-        int methodVar = 3;
-        mv.visitVarInsn(ASTORE, methodVar);
-
-        // 4º handler.invokeWithAspects(target, method, args)
-        mv.visitVarInsn(ALOAD, handlerVar);
-        mv.visitVarInsn(ALOAD, targetVar);
-        mv.visitVarInsn(ALOAD, methodVar);
-        mv.visitVarInsn(ALOAD, argsVar);
+
         mv.visitMethodInsn(INVOKEVIRTUAL,
                 Type.getInternalName(AopHandler.class),
                 "invokeWithAspects",
                 "(Ljava/lang/Object;Ljava/lang/reflect/Method;[Ljava/lang/Object;)Ljava/lang/Object;", false);
 
-        // 5º unbox / return
+        // 4º unbox / return
         Class<?> ret = AsmCoreUtils.getReturnType(m);
         if (ret == void.class) {
             mv.visitInsn(POP);
@@ -356,11 +367,11 @@ public final class AspectProxyASM {
         Set<String> seen = new HashSet<>();
         
         // ✅ ASM DIRECTO: Obtener métodos usando ASM sin conversión
-        List<io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo> asmMethods = AsmCoreUtils.findMethods(c.getName(), "*");
+        io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo[] asmMethods = AsmCoreUtils.getDeclaredMethods(c.getName());
         
         for (io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo asmMethod : asmMethods) {
             // Verificar modifiers usando flags de ASM
-            if (asmMethod.isFinal || asmMethod.isStatic) {
+            if (asmMethod.isFinal || asmMethod.isStatic || (asmMethod.access & (ACC_PRIVATE | ACC_ABSTRACT)) != 0) {
                 continue;
             }
             
@@ -384,44 +395,31 @@ public final class AspectProxyASM {
         return list;
     }
 
-    private static <T> T newInstance(Class<? extends T> clazz, T target, AopHandler handler)
-            throws Exception {
-        T inst = AsmCoreUtils.newInstance(clazz);
-        setStaticField(clazz, HANDLER_FIELD, handler);
-        setField(inst, TARGET_FIELD, target);
-        return inst;
-    }
-
-    private static void setField(Object instance, String fieldName, Object value) {
-        try {
-            AsmCoreUtils.setFieldValue(instance, fieldName, value);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to set field: " + fieldName, e);
-        }
-    }
-
-    private static void setStaticField(Class<?> clazz, String fieldName, Object value) {
-        try {
-            // For static fields, we need to set it on the class instance
-            AsmCoreUtils.setFieldValue(clazz, fieldName, value);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to set static field: " + fieldName, e);
+    private static void copyFields(Object src, Object dst) throws Exception {
+        for (Field f : ClassMetadataStore.get(src.getClass(), COPYABLE_FIELDS)) {
+            Object value = f.get(src);
+            if (f.getDeclaringClass().isInstance(dst)) {
+                f.set(dst, value);
+            } else {
+                AsmCoreUtils.setFieldValue(dst, f.getName(), value);
+            }
         }
     }
 
-    private static void copyFields(Object src, Object dst) throws Exception {
-        Class<?> c = src.getClass();
-        while (c != Object.class) {
-            for (java.lang.reflect.Field f : AsmCoreUtils.getDeclaredFieldsReflect(c)) {
-                if (java.lang.reflect.Modifier.isStatic(f.getModifiers())) {
+    private static Field[] collectCopyableFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        Class<?> c = type;
+        while (c != null && c != Object.class) {
+            for (Field f : AsmCoreUtils.getDeclaredFieldsReflect(c)) {
+                if (Modifier.isStatic(f.getModifiers())) {
                     continue;
                 }
                 f.setAccessible(true);
-                Object value = f.get(src);
-                AsmCoreUtils.setFieldValue(dst, f.getName(), value);
+                fields.add(f);
             }
             c = AsmCoreUtils.getSuperclass(c);
         }
+        return fields.toArray(new Field[0]);
     }
 
     /**
@@ -440,12 +438,12 @@ public final class AspectProxyASM {
             // Extraer el nombre simple y generar un nombre seguro
             String simpleInnerName = base.getSimpleName();
             String packagePath = internalName.substring(0, internalName.lastIndexOf('/') + 1);
-            subName = packagePath + simpleInnerName + "_InnerClass_Proxy" + classHash;
+            subName = packagePath + simpleInnerName + "_InnerClass_ObjectProxy" + classHash;
         } else {
             // Es clase normal, usar el paquete y el nombre simple
             String packagePath = internalName.substring(0, internalName.lastIndexOf('/') + 1);
             String simpleName = base.getSimpleName();
-            subName = packagePath + simpleName + "_Proxy" + classHash;
+            subName = packagePath + simpleName + "_ObjectProxy" + classHash;
         }
         
         String[] interfaces = AsmCoreUtils.isInterface(base)
@@ -456,8 +454,8 @@ public final class AspectProxyASM {
         cw.visit(V17, ACC_PUBLIC | ACC_SUPER, subName, null,
                 AsmCoreUtils.isInterface(base) ? "java/lang/Object" : internalName, interfaces);
 
-        // campo estático: AopHandler
-        cw.visitField(ACC_PRIVATE | ACC_STATIC, HANDLER_FIELD,
+        // campo de instancia: AopHandler (la clase se comparte entre contenedores)
+        cw.visitField(ACC_PRIVATE, HANDLER_FIELD,
                 AsmCoreUtils.getDescriptor(AopHandler.class), null, null).visitEnd();
 
         // campo de instancia: target original (por si se necesita)
@@ -472,32 +470,68 @@ public final class AspectProxyASM {
         io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo[] asmMethods = 
             AsmCoreUtils.getDeclaredMethods(base.getName());
         
+        List<Method> methods = new ArrayList<>();
         for (io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo asmMethod : asmMethods) {
             if ((asmMethod.access & Modifier.ABSTRACT) != 0) {
                 continue; // Skip abstract methods
             }
             // Convertir AsmMethodInfo a Method temporal para generateMethod
-            Method method = AsmCoreUtils.asmMethodToReflectMethod(asmMethod, base);
-            generateMethod(cw, method, subName, internalName);
+            methods.add(AsmCoreUtils.asmMethodToReflectMethod(asmMethod, base));
         }
+        generateMethods(cw, methods, subName);
 
         byte[] classBytes = cw.toByteArray();
         // Convert internal name (with /) to fully qualified name (with .) for defineClass
         String fullyQualifiedName = subName.replace('/', '.');
-        return (Class<?>) new ByteArrayClassLoader(base.getClassLoader()).defineClass(fullyQualifiedName, classBytes);
+        return definingLoader(base.getClassLoader()).defineClass(fullyQualifiedName, classBytes);
+    }
+
+    /* ---------- Caché de clases proxy ---------- */
+    private static ByteArrayClassLoader definingLoader(ClassLoader parent) {
+        synchronized (DEFINING_LOADERS) {
+            WeakReference<ByteArrayClassLoader> ref = DEFINING_LOADERS.get(parent);
+            ByteArrayClassLoader loader = ref != null ? ref.get() : null;
+            if (loader == null) {
+                loader = new ByteArrayClassLoader(parent);
+                DEFINING_LOADERS.put(parent, new WeakReference<>(loader));
+            }
+            return loader;
+        }
     }
 
     /**
-     * Método auxiliar para crear instancias sin restricciones de tipos genéricos.
+     * Clase proxy generada y su constructor {@code (Object target, AopHandler handler)}.
      */
-    @SuppressWarnings("unchecked")
-    private static Object newInstanceForObject(Class<?> clazz, Object target, AopHandler handler) {
-        try {
-            Constructor<?> ctor = clazz.getDeclaredConstructor(Object.class, AopHandler.class);
-            return ctor.newInstance(target, handler);
-        } catch (Exception e) {
-            log.log(Level.SEVERE, "Cannot create instance for " + clazz, e);
-            return target;
+    private static final class ProxyClass {
+
+        private static final MethodType CONSTRUCTOR_TYPE =
+                MethodType.methodType(Object.class, Object.class, AopHandler.class);
+
+        private final MethodHandle constructor;
+
+        private ProxyClass(MethodHandle constructor) {
+            this.constructor = constructor;
+        }
+
+        static ProxyClass of(Class<?> type) {
+            try {
+                MethodHandle ctor = MethodHandles.publicLookup()
+                        .findConstructor(type, MethodType.methodType(void.class, Object.class, AopHandler.class))
+                        .asType(CONSTRUCTOR_TYPE);
+                return new ProxyClass(ctor);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Proxy sin constructor (Object, AopHandler): " + type.getName(), e);
+            }
+        }
+
+        Object newInstance(Object target, AopHandler handler) {
+            try {
+                return constructor.invokeExact(target, handler);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot instantiate proxy", t);
+            }
         }
     }
 
@@ -508,8 +542,10 @@ public final class AspectProxyASM {
             super(parent);
         }
 
-        Class<?> defineClass(String name, byte[] b) {
-            return defineClass(name, b, 0, b.length, (ProtectionDomain) null);
+        synchronized Class<?> defineClass(String name, byte[] b) {
+            // Una generación concurrente duplicada reutiliza la clase ya definida
+            Class<?> existing = findLoadedClass(name);
+            return existing != null ? existing : defineClass(name, b, 0, b.length, (ProtectionDomain) null);
         }
     }
 }
@@ -6,12 +6,17 @@ import java.lang.reflect.Method;
 
 /**
  * Representa un punto de ejecución *
+ *
+ * Los join points que entrega {@link AdviceChain} se reutilizan: cada hilo
+ * tiene uno por nivel de anidamiento que se reinicia en cada llamada, así que
+ * solo son válidos mientras se ejecuta el advice. Un advice que necesite
+ * guardarlo (p.ej. para usarlo desde otro hilo) debe retener {@link #snapshot()}.
  */
 public class JoinPoint {
 
-    private final Object target;
-    private final Method method;
-    private final Object[] args;
+    private Object target;
+    private Method method;
+    private Object[] args;
 
     public JoinPoint(final Object target, final Method method, final Object[] args) {
         this.target = target;
@@ -19,6 +24,18 @@ public class JoinPoint {
         this.args = args;
     }
 
+    /**
+     * Join point reutilizable; se inicializa con {@link #reset}.
+     */
+    JoinPoint() {
+    }
+
+    void reset(Object target, Method method, Object[] args) {
+        this.target = target;
+        this.method = method;
+        this.args = args;
+    }
+
     public Object getTarget() {
         return target;
     }
@@ -35,8 +52,22 @@ public class JoinPoint {
         return args;
     }
 
+    /**
+     * @return copia independiente (con copia de los argumentos) que se puede
+     * retener después de que el advice termine
+     */
+    public JoinPoint snapshot() {
+        return new JoinPoint(target, method, args != null ? args.clone() : null);
+    }
+
     public Object proceed() throws Exception {
-        // ✅ REFACTORIZADO: Usar ASM optimizado en lugar de reflexión
-        return AsmCoreUtils.invokeMethod(target, AsmCoreUtils.getName(method), args);
+        // ⚡ Invoker tipado del método: sin búsqueda por nombre ni ambigüedad con argumentos null
+        try {
+            return MethodInvokers.of(method).invoke(target, args);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new java.lang.reflect.UndeclaredThrowableException(t);
+        }
     }
 }
@@ -0,0 +1,30 @@
+package io.warmup.framework.aop;
+
+/**
+ * Invocador tipado de un {@link java.lang.reflect.Method} concreto.
+ *
+ * Se obtiene una sola vez por método con {@link MethodInvokers#of}; cada
+ * implementación llama a un único método con su descriptor exacto, así que el
+ * call site es monomórfico y el JIT puede inlinearlo. Las excepciones del
+ * método se propagan tal cual, sin envolver.
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+    /**
+     * @param target instancia (ignorada si el método es estático)
+     * @param args argumentos en el orden de la firma; los primitivos van en su wrapper
+     */
+    Object invoke(Object target, Object[] args) throws Throwable;
+
+    /**
+     * Variante para métodos de un solo parámetro sin crear el array de
+     * argumentos; los invokers de {@link MethodInvokers} la implementan directa.
+     *
+     * @param target instancia (ignorada si el método es estático)
+     * @param arg único argumento; un primitivo va en su wrapper
+     */
+    default Object invokeSingle(Object target, Object arg) throws Throwable {
+        return invoke(target, new Object[]{arg});
+    }
+}
@@ -0,0 +1,212 @@
+package io.warmup.framework.aop;
+
+import io.warmup.framework.metadata.ClassMetadataStore;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * ⚡ METHOD INVOKERS - Un {@link MethodInvoker} generado por {@link Method}
+ *
+ * Sustituye a {@code AsmCoreUtils.invokeMethod(target, nombre, args)}, que en
+ * cada llamada construye una clave con las clases de los argumentos y busca el
+ * método por nombre (y con argumentos null no distingue sobrecargas).
+ *
+ * Para cada método se genera con ASM una clase mínima en el mismo paquete (y
+ * ClassLoader) que la clase declarante:
+ *
+ * <pre>
+ * Object invoke(Object t, Object[] a) { return box(((C) t).m((P0) a[0], ...)); }
+ * </pre>
+ *
+ * Los métodos de un parámetro generan además
+ * {@code invokeSingle(Object t, Object a0)}, que no necesita array.
+ *
+ * Los métodos privados, o las clases cuyo loader no ve este paquete, usan un
+ * MethodHandle con spread como alternativa. Los invokers se guardan por clase
+ * en {@link ClassMetadataStore} y se recolectan junto con ella.
+ */
+public final class MethodInvokers {
+
+    private static final Logger log = Logger.getLogger(MethodInvokers.class.getName());
+
+    private static final ClassMetadataStore.Key<Map<Method, MethodInvoker>> INVOKERS =
+            ClassMetadataStore.key("aop.methodInvokers", type -> new ConcurrentHashMap<>());
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodType SINGLE_INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final String INVOKER_INTERNAL_NAME = Type.getInternalName(MethodInvoker.class);
+    private static final String INVOKE_DESCRIPTOR = "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String INVOKE_SINGLE_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private MethodInvokers() {
+    }
+
+    /**
+     * @return el invoker de {@code method}, generado la primera vez
+     */
+    public static MethodInvoker of(Method method) {
+        Map<Method, MethodInvoker> invokers = ClassMetadataStore.get(method.getDeclaringClass(), INVOKERS);
+        MethodInvoker invoker = invokers.get(method);
+        if (invoker == null) {
+            invoker = invokers.computeIfAbsent(method, MethodInvokers::create);
+        }
+        return invoker;
+    }
+
+    private static MethodInvoker create(Method method) {
+        if (!Modifier.isPrivate(method.getModifiers())) {
+            try {
+                return generate(method);
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                log.log(Level.FINE, "Sin invoker generado para {0}: {1}", new Object[]{method, e.toString()});
+            }
+        }
+        return handleInvoker(method);
+    }
+
+    /* ---------- invoker generado ---------- */
+
+    private static MethodInvoker generate(Method method) throws ReflectiveOperationException {
+        Class<?> owner = method.getDeclaringClass();
+        String ownerName = Type.getInternalName(owner);
+        String packagePrefix = ownerName.substring(0, ownerName.lastIndexOf('/') + 1);
+        String className = packagePrefix + owner.getSimpleName() + "$$WarmupInvoker$" + COUNTER.incrementAndGet();
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(V11, ACC_PUBLIC | ACC_FINAL | ACC_SYNTHETIC, className, null, "java/lang/Object",
+                new String[]{INVOKER_INTERNAL_NAME});
+
+        MethodVisitor init = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        Class<?>[] params = method.getParameterTypes();
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "invoke", INVOKE_DESCRIPTOR, null, new String[]{"java/lang/Throwable"});
+        mv.visitCode();
+        loadTarget(mv, method, ownerName);
+        for (int i = 0; i < params.length; i++) {
+            mv.visitVarInsn(ALOAD, 2);
+            pushInt(mv, i);
+            mv.visitInsn(AALOAD);
+            unbox(mv, params[i]);
+        }
+        invokeAndReturn(mv, method, owner, ownerName);
+
+        if (params.length == 1) {
+            // Sin array: el argumento llega directamente en el slot 2
+            mv = cw.visitMethod(ACC_PUBLIC, "invokeSingle", INVOKE_SINGLE_DESCRIPTOR, null, new String[]{"java/lang/Throwable"});
+            mv.visitCode();
+            loadTarget(mv, method, ownerName);
+            mv.visitVarInsn(ALOAD, 2);
+            unbox(mv, params[0]);
+            invokeAndReturn(mv, method, owner, ownerName);
+        }
+        cw.visitEnd();
+
+        // Mismo paquete y loader que la clase declarante: acceso a métodos protected/package-private
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        Class<?> invokerClass = lookup.defineClass(cw.toByteArray());
+        return (MethodInvoker) invokerClass.getDeclaredConstructor().newInstance();
+    }
+
+    private static void loadTarget(MethodVisitor mv, Method method, String ownerName) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, ownerName);
+        }
+    }
+
+    private static void invokeAndReturn(MethodVisitor mv, Method method, Class<?> owner, String ownerName) {
+        int opcode = Modifier.isStatic(method.getModifiers()) ? INVOKESTATIC
+                : owner.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL;
+        mv.visitMethodInsn(opcode, ownerName, method.getName(), Type.getMethodDescriptor(method), owner.isInterface());
+        box(mv, method.getReturnType());
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else {
+            mv.visitIntInsn(SIPUSH, value);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive()) {
+            if (type != Object.class) {
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+            }
+            return;
+        }
+        String wrapper = Type.getInternalName(wrapper(type));
+        mv.visitTypeInsn(CHECKCAST, wrapper);
+        mv.visitMethodInsn(INVOKEVIRTUAL, wrapper, type.getName() + "Value", "()" + Type.getDescriptor(type), false);
+    }
+
+    private static void box(MethodVisitor mv, Class<?> type) {
+        if (type == void.class) {
+            mv.visitInsn(ACONST_NULL);
+        } else if (type.isPrimitive()) {
+            String wrapper = Type.getInternalName(wrapper(type));
+            mv.visitMethodInsn(INVOKESTATIC, wrapper, "valueOf",
+                    "(" + Type.getDescriptor(type) + ")L" + wrapper + ";", false);
+        }
+    }
+
+    private static Class<?> wrapper(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType();
+    }
+
+    /* ---------- alternativa con MethodHandle ---------- */
+
+    private static MethodInvoker handleInvoker(Method method) {
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("No se puede invocar " + method, e);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        MethodHandle invoker = handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+        if (method.getParameterCount() != 1) {
+            return (target, args) -> invoker.invokeExact(target, args);
+        }
+        MethodHandle single = handle.asType(SINGLE_INVOKER_TYPE);
+        return new MethodInvoker() {
+            @Override
+            public Object invoke(Object target, Object[] args) throws Throwable {
+                return invoker.invokeExact(target, args);
+            }
+
+            @Override
+            public Object invokeSingle(Object target, Object arg) throws Throwable {
+                return single.invokeExact(target, arg);
+            }
+        };
+    }
+}
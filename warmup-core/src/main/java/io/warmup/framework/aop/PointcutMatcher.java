@@ -0,0 +1,502 @@
+package io.warmup.framework.aop;
+
+import io.warmup.framework.asm.AsmCoreUtils;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * 🎯 POINTCUT MATCHER - Expresión de pointcut compilada a un árbol de nodos
+ *
+ * Se compila una sola vez al registrar el aspecto ({@code &&}, {@code ||},
+ * {@code !}, paréntesis, {@code execution(...)}, {@code within(...)},
+ * {@code @annotation(...)} y referencias a pointcuts con nombre). Evaluar el
+ * árbol no parsea ni construye strings.
+ *
+ * Además de {@link #matches(Method)}, cada nodo responde de forma conservadora
+ * {@link #couldMatch(Class)}: si devuelve false ningún método de la clase puede
+ * coincidir, lo que permite indexar aspectos por clase.
+ *
+ * El matching es estructural (nombres de tipo, método y anotaciones), así que
+ * también puede evaluarse sobre bytecode sin cargar la clase, como hace el
+ * weaver de build-time de warmup-aop.
+ */
+public abstract class PointcutMatcher {
+
+    private static final Logger log = Logger.getLogger(PointcutMatcher.class.getName());
+
+    // Profundidad máxima de referencias a pointcuts con nombre (evita ciclos a -> b -> a)
+    private static final int MAX_REFERENCE_DEPTH = 16;
+
+    /** Pointcut que no coincide con nada (expresión vacía, inválida o sin resolver). */
+    public static final PointcutMatcher NEVER = new PointcutMatcher() {
+        @Override
+        public boolean matches(String declaringType, String methodName, String returnType, Predicate<String> annotations) {
+            return false;
+        }
+
+        @Override
+        public boolean couldMatch(String typeName) {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "never";
+        }
+    };
+
+    PointcutMatcher() {
+    }
+
+    /**
+     * @return true si el pointcut selecciona el método
+     */
+    public final boolean matches(Method method) {
+        return matches(method.getDeclaringClass().getName(), method.getName(), method.getReturnType().getName(),
+                annotation -> AsmCoreUtils.hasAnnotation(method, annotation));
+    }
+
+    /**
+     * Matching estructural de un método.
+     *
+     * @param declaringType nombre binario de la clase declarante ({@link Class#getName()})
+     * @param methodName nombre del método
+     * @param returnType nombre del tipo de retorno en formato {@link Class#getName()}
+     * @param annotations indica si el método tiene la anotación con ese nombre de clase
+     */
+    public abstract boolean matches(String declaringType, String methodName, String returnType,
+                                    Predicate<String> annotations);
+
+    /**
+     * @return false si ningún método declarado en {@code type} puede coincidir
+     */
+    public final boolean couldMatch(Class<?> type) {
+        return couldMatch(type.getName());
+    }
+
+    /**
+     * @return false si ningún método declarado en la clase {@code typeName} puede coincidir
+     */
+    public abstract boolean couldMatch(String typeName);
+
+    /**
+     * Compila una expresión de pointcut.
+     *
+     * @param expression expresión (p.ej. {@code execution(* com.acme.*Service.find*(..)) && !within(*Test)})
+     * @param namedPointcuts resuelve {@code nombre()} a su expresión, o null si no existe
+     * @return matcher inmutable; {@link #NEVER} si la expresión está vacía o no es válida
+     */
+    public static PointcutMatcher compile(String expression, Function<String, String> namedPointcuts) {
+        return compile(expression, namedPointcuts, 0);
+    }
+
+    private static PointcutMatcher compile(String expression, Function<String, String> namedPointcuts, int depth) {
+        if (expression == null || expression.trim().isEmpty()) {
+            return NEVER;
+        }
+        try {
+            Parser parser = new Parser(expression, namedPointcuts, depth);
+            PointcutMatcher matcher = parser.parseOr();
+            parser.expectEnd();
+            return matcher;
+        } catch (IllegalArgumentException e) {
+            log.log(Level.SEVERE, "Error parseando pointcut: {0} - {1}", new Object[]{expression, e.getMessage()});
+            return NEVER;
+        }
+    }
+
+    /* ---------- parser ---------- */
+
+    /**
+     * Descenso recursivo: or := and ('||' and)* ; and := unary ('&&' unary)* ;
+     * unary := '!' unary | '(' or ')' | designador.
+     */
+    private static final class Parser {
+
+        private final String input;
+        private final Function<String, String> namedPointcuts;
+        private final int depth;
+        private int pos;
+
+        Parser(String input, Function<String, String> namedPointcuts, int depth) {
+            this.input = input;
+            this.namedPointcuts = namedPointcuts;
+            this.depth = depth;
+        }
+
+        PointcutMatcher parseOr() {
+            PointcutMatcher left = parseAnd();
+            while (consume("||")) {
+                left = new Or(left, parseAnd());
+            }
+            return left;
+        }
+
+        private PointcutMatcher parseAnd() {
+            PointcutMatcher left = parseUnary();
+            while (consume("&&")) {
+                left = new And(left, parseUnary());
+            }
+            return left;
+        }
+
+        private PointcutMatcher parseUnary() {
+            if (consume("!")) {
+                return new Not(parseUnary());
+            }
+            if (consume("(")) {
+                PointcutMatcher inner = parseOr();
+                if (!consume(")")) {
+                    throw new IllegalArgumentException("falta ')' en la posición " + pos);
+                }
+                return inner;
+            }
+            return parseDesignator();
+        }
+
+        private PointcutMatcher parseDesignator() {
+            skipWhitespace();
+            int start = pos;
+            while (pos < input.length() && isNameChar(input.charAt(pos))) {
+                pos++;
+            }
+            String name = input.substring(start, pos);
+            if (name.isEmpty() || !consume("(")) {
+                throw new IllegalArgumentException("designador no válido en la posición " + start);
+            }
+            String body = readUntilClosingParen().trim();
+
+            switch (name) {
+                case "execution":
+                    return Execution.parse(body);
+                case "within":
+                    return new Within(NamePattern.of(body));
+                case "@annotation":
+                    return AnnotationMatch.of(body);
+                default:
+                    return reference(name);
+            }
+        }
+
+        private PointcutMatcher reference(String name) {
+            if (depth >= MAX_REFERENCE_DEPTH) {
+                throw new IllegalArgumentException("referencia circular a pointcut: " + name + "()");
+            }
+            String referenced = namedPointcuts != null ? namedPointcuts.apply(name) : null;
+            if (referenced == null) {
+                log.log(Level.WARNING, "Pointcut con nombre no encontrado: {0}()", name);
+                return NEVER;
+            }
+            return compile(referenced, namedPointcuts, depth + 1);
+        }
+
+        private String readUntilClosingParen() {
+            int start = pos;
+            int open = 1;
+            while (pos < input.length()) {
+                char c = input.charAt(pos++);
+                if (c == '(') {
+                    open++;
+                } else if (c == ')' && --open == 0) {
+                    return input.substring(start, pos - 1);
+                }
+            }
+            throw new IllegalArgumentException("paréntesis sin cerrar desde la posición " + start);
+        }
+
+        private boolean consume(String token) {
+            skipWhitespace();
+            if (input.startsWith(token, pos)) {
+                pos += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        void expectEnd() {
+            skipWhitespace();
+            if (pos != input.length()) {
+                throw new IllegalArgumentException("texto inesperado en la posición " + pos);
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private static boolean isNameChar(char c) {
+            return Character.isJavaIdentifierPart(c) || c == '@';
+        }
+    }
+
+    /* ---------- nodos ---------- */
+
+    private static final class And extends PointcutMatcher {
+        private final PointcutMatcher left;
+        private final PointcutMatcher right;
+
+        And(PointcutMatcher left, PointcutMatcher right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean matches(String declaringType, String methodName, String returnType, Predicate<String> annotations) {
+            return left.matches(declaringType, methodName, returnType, annotations)
+                    && right.matches(declaringType, methodName, returnType, annotations);
+        }
+
+        @Override
+        public boolean couldMatch(String typeName) {
+            return left.couldMatch(typeName) && right.couldMatch(typeName);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " && " + right + ")";
+        }
+    }
+
+    private static final class Or extends PointcutMatcher {
+        private final PointcutMatcher left;
+        private final PointcutMatcher right;
+
+        Or(PointcutMatcher left, PointcutMatcher right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean matches(String declaringType, String methodName, String returnType, Predicate<String> annotations) {
+            return left.matches(declaringType, methodName, returnType, annotations)
+                    || right.matches(declaringType, methodName, returnType, annotations);
+        }
+
+        @Override
+        public boolean couldMatch(String typeName) {
+            return left.couldMatch(typeName) || right.couldMatch(typeName);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " || " + right + ")";
+        }
+    }
+
+    private static final class Not extends PointcutMatcher {
+        private final PointcutMatcher inner;
+
+        Not(PointcutMatcher inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public boolean matches(String declaringType, String methodName, String returnType, Predicate<String> annotations) {
+            return !inner.matches(declaringType, methodName, returnType, annotations);
+        }
+
+        @Override
+        public boolean couldMatch(String typeName) {
+            // Conservador: solo se descarta la clase si el interior coincide con todos sus métodos,
+            // algo que no se puede saber a nivel de clase
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "!" + inner;
+        }
+    }
+
+    /**
+     * {@code execution([modificador] tipoRetorno paquete.Clase.metodo(params))}.
+     * Igual que antes, el modificador y el patrón de parámetros se ignoran.
+     */
+    private static final class Execution extends PointcutMatcher {
+        private final NamePattern returnType;
+        private final NamePattern declaringType;
+        private final NamePattern methodName;
+
+        private Execution(NamePattern returnType, NamePattern declaringType, NamePattern methodName) {
+            this.returnType = returnType;
+            this.declaringType = declaringType;
+            this.methodName = methodName;
+        }
+
+        static Execution parse(String body) {
+            String[] parts = body.split("\\s+", 2);
+            String returnPattern = parts[0];
+            String rest = parts.length > 1 ? parts[1].trim() : "";
+            if (("public".equals(returnPattern) || "private".equals(returnPattern) || "protected".equals(returnPattern))
+                    && !rest.isEmpty()) {
+                String[] afterModifier = rest.split("\\s+", 2);
+                returnPattern = afterModifier[0];
+                rest = afterModifier.length > 1 ? afterModifier[1].trim() : "";
+            }
+
+            // El último punto antes de la lista de parámetros: "(..)" también contiene puntos
+            int paramsStart = rest.indexOf('(');
+            if (paramsStart == -1) {
+                throw new IllegalArgumentException("execution sin lista de parámetros: " + body);
+            }
+            int lastDot = rest.lastIndexOf('.', paramsStart);
+            if (lastDot == -1) {
+                throw new IllegalArgumentException("execution sin tipo declarante: " + body);
+            }
+            return new Execution(NamePattern.of(returnPattern),
+                    NamePattern.of(rest.substring(0, lastDot)),
+                    NamePattern.of(rest.substring(lastDot + 1, paramsStart)));
+        }
+
+        @Override
+        public boolean matches(String declaringType, String methodName, String returnType, Predicate<String> annotations) {
+            return this.methodName.matches(methodName)
+                    && this.declaringType.matches(declaringType)
+                    && this.returnType.matches(returnType);
+        }
+
+        @Override
+        public boolean couldMatch(String typeName) {
+            return declaringType.matches(typeName);
+        }
+
+        @Override
+        public String toString() {
+            return "execution(" + returnType + " " + declaringType + "." + methodName + "(..))";
+        }
+    }
+
+    private static final class Within extends PointcutMatcher {
+        private final NamePattern type;
+
+        Within(NamePattern type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean matches(String declaringType, String methodName, String returnType, Predicate<String> annotations) {
+            return type.matches(declaringType);
+        }
+
+        @Override
+        public boolean couldMatch(String typeName) {
+            return type.matches(typeName);
+        }
+
+        @Override
+        public String toString() {
+            return "within(" + type + ")";
+        }
+    }
+
+    private static final class AnnotationMatch extends PointcutMatcher {
+        private final String annotationName;
+
+        private AnnotationMatch(String annotationName) {
+            this.annotationName = annotationName;
+        }
+
+        static PointcutMatcher of(String annotationName) {
+            try {
+                // El loader de contexto ve las anotaciones de la aplicación (p.ej. durante el weaving en build)
+                ClassLoader loader = Thread.currentThread().getContextClassLoader();
+                Class<?> type = Class.forName(annotationName, false,
+                        loader != null ? loader : PointcutMatcher.class.getClassLoader());
+                if (!type.isAnnotation()) {
+                    log.log(Level.WARNING, "{0} no es una anotación", annotationName);
+                    return NEVER;
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.log(Level.WARNING, "Clase de anotación no encontrada: {0}", annotationName);
+                return NEVER;
+            }
+            return new AnnotationMatch(annotationName);
+        }
+
+        @Override
+        public boolean matches(String declaringType, String methodName, String returnType, Predicate<String> annotations) {
+            return annotations.test(annotationName);
+        }
+
+        @Override
+        public boolean couldMatch(String typeName) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "@annotation(" + annotationName + ")";
+        }
+    }
+
+    /**
+     * Patrón de nombre con comodines: {@code *} (cualquier secuencia) y {@code ..}
+     * (cualquier subpaquete). Los casos comunes (todo, exacto, prefijo, sufijo) no usan regex.
+     */
+    static final class NamePattern {
+        private static final NamePattern ANY = new NamePattern("*", null, null, null);
+
+        private final String text;
+        private final String exact;
+        private final String prefix;
+        private final Pattern regex;
+
+        private NamePattern(String text, String exact, String prefix, Pattern regex) {
+            this.text = text;
+            this.exact = exact;
+            this.prefix = prefix;
+            this.regex = regex;
+        }
+
+        static NamePattern of(String pattern) {
+            String p = pattern.trim();
+            if (p.isEmpty()) {
+                throw new IllegalArgumentException("patrón vacío");
+            }
+            if ("*".equals(p)) {
+                return ANY;
+            }
+            int firstStar = p.indexOf('*');
+            if (firstStar == -1 && !p.contains("..")) {
+                return new NamePattern(p, p, null, null);
+            }
+            if (firstStar == p.length() - 1 && !p.contains("..")) {
+                return new NamePattern(p, null, p.substring(0, firstStar), null);
+            }
+            StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < p.length(); i++) {
+                char c = p.charAt(i);
+                if (c == '*') {
+                    regex.append(".*");
+                } else if (c == '.' && i + 1 < p.length() && p.charAt(i + 1) == '.') {
+                    regex.append("\\..*");
+                    i++;
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            return new NamePattern(p, null, null, Pattern.compile(regex.toString()));
+        }
+
+        boolean matches(String name) {
+            if (exact != null) {
+                return exact.equals(name);
+            }
+            if (prefix != null) {
+                return name.startsWith(prefix);
+            }
+            return regex == null || regex.matcher(name).matches();
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
@@ -13,6 +13,13 @@ public class ProceedingJoinPoint extends JoinPoint {
         this.invocation = invocation;
     }
 
+    /**
+     * Join point reutilizable de {@link AdviceChain}, que sobrescribe {@link #proceed()}.
+     */
+    ProceedingJoinPoint() {
+        this.invocation = null;
+    }
+
     @Override
     public Object proceed() {
         if (invocation == null) {
@@ -0,0 +1,98 @@
+package io.warmup.framework.aop;
+
+import io.warmup.framework.annotation.Woven;
+import io.warmup.framework.asm.AsmCoreUtils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 🧵 WOVEN ASPECTS - Instancias de aspectos para clases tejidas en build
+ *
+ * El bytecode generado por el weaver de warmup-aop llama a los advices
+ * directamente; solo necesita la instancia del aspecto, que resuelve una vez
+ * por clase tejida con {@link #aspectOf(Class)}. Si el contenedor registró el
+ * aspecto ({@link AspectManager#registerAspect}) se usa esa instancia; si no,
+ * una instancia propia creada con su constructor sin argumentos, que el código
+ * tejido no guarda: en cuanto el contenedor registra el aspecto, las clases
+ * tejidas pasan a usar la instancia del contenedor.
+ */
+public final class WovenAspects {
+
+    private static final Logger log = Logger.getLogger(WovenAspects.class.getName());
+
+    // Instancias publicadas por el contenedor
+    private static final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+    // Instancias propias para código tejido que corre sin contenedor (o antes de registrar el aspecto)
+    private static final Map<Class<?>, Object> standalone = new ConcurrentHashMap<>();
+
+    private WovenAspects() {
+    }
+
+    /**
+     * Publica la instancia de un aspecto para las clases tejidas.
+     */
+    public static void register(Object aspect) {
+        instances.put(aspect.getClass(), aspect);
+        standalone.remove(aspect.getClass());
+    }
+
+    /**
+     * Llamado desde el código tejido hasta que {@link #isRegistered} es true;
+     * a partir de ahí la clase tejida guarda la instancia.
+     */
+    public static Object aspectOf(Class<?> aspectClass) {
+        Object registered = instances.get(aspectClass);
+        if (registered != null) {
+            return registered;
+        }
+        return standalone.computeIfAbsent(aspectClass, type -> {
+            log.log(Level.FINE, "Aspecto tejido {0} sin registrar en el contenedor, se usa una instancia propia",
+                    type.getName());
+            try {
+                return AsmCoreUtils.newInstanceFromClass(type, new Class<?>[0]);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("No se pudo instanciar el aspecto tejido " + type.getName(), e);
+            }
+        });
+    }
+
+    /**
+     * @return true si el contenedor publicó la instancia del aspecto
+     */
+    public static boolean isRegistered(Class<?> aspectClass) {
+        return instances.containsKey(aspectClass);
+    }
+
+    /**
+     * Llamado desde el código tejido cuando un @Before/@After/@AfterReturning/@AfterThrowing
+     * falla: como en {@link AdviceChain}, el error se registra y no interrumpe el método.
+     */
+    public static void adviceFailed(String advice, Throwable error) {
+        log.log(Level.SEVERE, "Error en {0}: {1}", new Object[]{advice, error.getMessage()});
+    }
+
+    /**
+     * @return true si la clase fue tejida en build o por el agente
+     */
+    public static boolean isWoven(Class<?> type) {
+        // Reflexión y no AsmCoreUtils: con -javaagent el .class en disco es el original sin tejer
+        return type.isAnnotationPresent(Woven.class);
+    }
+
+    /**
+     * @return nombres de los aspectos tejidos en la clase; vacío si no está tejida
+     */
+    public static Set<String> wovenAspects(Class<?> type) {
+        Woven woven = type.getAnnotation(Woven.class);
+        if (woven == null) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(Arrays.asList(woven.value()));
+    }
+}
@@ -2,6 +2,7 @@ package io.warmup.framework.asm;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
@@ -27,6 +28,7 @@ import java.lang.invoke.WrongMethodTypeException;
 
 // ⚡ Import for type-safe MethodHandle wrapper (v2.0 optimization)
 import io.warmup.framework.asm.MethodHandleTypeSafeWrapper;
+import io.warmup.framework.metadata.ClassMetadataStore;
 
 /**
  * ✅ UTILIDAD ASM PURA - ELIMINA COMPLETAMENTE LA REFLEXIÓN
@@ -68,6 +70,63 @@ public final class AsmCoreUtils {
     // Cache para campos encontrados
     private static final ConcurrentHashMap<String, List<AsmFieldInfo>> asmFieldCache = new ConcurrentHashMap<>();
 
+    // ✅ METADATOS POR Class<?> (ClassValue): se liberan junto con la clase y su ClassLoader.
+    // Las sobrecargas con Class<?> usan estas claves; las de String mantienen los caches por nombre.
+    private static final ClassMetadataStore.Key<AsmClassInfo> CLASS_INFO =
+            ClassMetadataStore.key("asm.classInfo", AsmCoreUtils::analyzeClassWithASM);
+
+    private static final ClassMetadataStore.Key<List<AsmFieldInfo>> INJECT_FIELDS =
+            ClassMetadataStore.key("asm.injectFields", c -> Collections.unmodifiableList(collectInjectFields(getClassInfo(c))));
+
+    private static final ClassMetadataStore.Key<List<AsmMethodInfo>> INJECT_METHODS =
+            ClassMetadataStore.key("asm.injectMethods", c -> Collections.unmodifiableList(collectInjectMethods(getClassInfo(c))));
+
+    private static final ClassMetadataStore.Key<List<AsmMethodInfo>> POST_CONSTRUCT_METHODS =
+            ClassMetadataStore.key("asm.postConstructMethods",
+                    c -> Collections.unmodifiableList(collectAnnotatedMethods(getClassInfo(c), "io/warmup/framework/annotation/PostConstruct")));
+
+    private static final ClassMetadataStore.Key<List<AsmMethodInfo>> PRE_DESTROY_METHODS =
+            ClassMetadataStore.key("asm.preDestroyMethods",
+                    c -> Collections.unmodifiableList(collectAnnotatedMethods(getClassInfo(c), "io/warmup/framework/annotation/PreDestroy")));
+
+    // MethodHandles por clase: la clave ya no incluye el nombre de la clase
+    private static final ClassMetadataStore.Key<ConcurrentHashMap<MemberKey, MethodHandleTypeSafeWrapper.TypeSafeMethodHandle>> METHOD_HANDLES =
+            ClassMetadataStore.key("asm.methodHandles", c -> new ConcurrentHashMap<>());
+
+    private static final ClassMetadataStore.Key<ConcurrentHashMap<String, MethodHandle>> FIELD_GETTERS =
+            ClassMetadataStore.key("asm.fieldGetters", c -> new ConcurrentHashMap<>());
+
+    private static final ClassMetadataStore.Key<ConcurrentHashMap<String, MethodHandle>> FIELD_SETTERS =
+            ClassMetadataStore.key("asm.fieldSetters", c -> new ConcurrentHashMap<>());
+
+    /**
+     * Clave de método dentro de una clase: nombre + tipos de parámetros.
+     */
+    private static final class MemberKey {
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hash;
+
+        MemberKey(String name, Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hash = 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MemberKey)) return false;
+            MemberKey other = (MemberKey) o;
+            return name.equals(other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     /**
      * ✅ INFORMACIÓN DE CLASE OBTENIDA VIA ASM
      */
@@ -350,39 +409,36 @@ public final class AsmCoreUtils {
      * ✅ OBTIENE MÉTODOS ANOTADOS CON @PostConstruct
      */
     public static List<AsmMethodInfo> getPostConstructMethods(String className) {
-        AsmClassInfo classInfo = getClassInfo(className);
-        if (classInfo == null) return new ArrayList<>();
-        
-        List<AsmMethodInfo> postConstructMethods = new ArrayList<>();
-        for (AsmMethodInfo method : classInfo.methods) {
-            if (hasAnnotation(method.annotations, "io/warmup/framework/annotation/PostConstruct")) {
-                postConstructMethods.add(method);
-            }
-        }
-        return postConstructMethods;
+        return collectAnnotatedMethods(getClassInfo(className), "io/warmup/framework/annotation/PostConstruct");
     }
     
     /**
      * ✅ OBTIENE MÉTODOS ANOTADOS CON @PreDestroy
      */
     public static List<AsmMethodInfo> getPreDestroyMethods(String className) {
-        AsmClassInfo classInfo = getClassInfo(className);
-        if (classInfo == null) return new ArrayList<>();
-        
-        List<AsmMethodInfo> preDestroyMethods = new ArrayList<>();
-        for (AsmMethodInfo method : classInfo.methods) {
-            if (hasAnnotation(method.annotations, "io/warmup/framework/annotation/PreDestroy")) {
-                preDestroyMethods.add(method);
-            }
-        }
-        return preDestroyMethods;
+        return collectAnnotatedMethods(getClassInfo(className), "io/warmup/framework/annotation/PreDestroy");
     }
     
     /**
      * ✅ OBTIENE CAMPOS ANOTADOS CON @Inject
      */
     public static List<AsmFieldInfo> getInjectFields(String className) {
-        AsmClassInfo classInfo = getClassInfo(className);
+        return collectInjectFields(getClassInfo(className));
+    }
+
+    private static List<AsmMethodInfo> collectAnnotatedMethods(AsmClassInfo classInfo, String annotation) {
+        if (classInfo == null) return new ArrayList<>();
+        
+        List<AsmMethodInfo> annotatedMethods = new ArrayList<>();
+        for (AsmMethodInfo method : classInfo.methods) {
+            if (hasAnnotation(method.annotations, annotation)) {
+                annotatedMethods.add(method);
+            }
+        }
+        return annotatedMethods;
+    }
+
+    private static List<AsmFieldInfo> collectInjectFields(AsmClassInfo classInfo) {
         if (classInfo == null) {
             return new ArrayList<>();
         }
@@ -403,7 +459,10 @@ public final class AsmCoreUtils {
      * ✅ OBTIENE MÉTODOS ANOTADOS CON @Inject
      */
     public static List<AsmMethodInfo> getInjectMethods(String className) {
-        AsmClassInfo classInfo = getClassInfo(className);
+        return collectInjectMethods(getClassInfo(className));
+    }
+
+    private static List<AsmMethodInfo> collectInjectMethods(AsmClassInfo classInfo) {
         if (classInfo == null) return new ArrayList<>();
         
         List<AsmMethodInfo> injectMethods = new ArrayList<>();
@@ -421,8 +480,10 @@ public final class AsmCoreUtils {
      * ✅ ENCUENTRA CONSTRUCTOR INYECTABLE
      */
     public static AsmConstructorInfo getInjectConstructor(String className) {
-        List<AsmConstructorInfo> constructors = findConstructors(className);
-        
+        return selectInjectConstructor(findConstructors(className));
+    }
+
+    private static AsmConstructorInfo selectInjectConstructor(List<AsmConstructorInfo> constructors) {
         // Prioridad 1: Constructor con @Inject
         for (AsmConstructorInfo constructor : constructors) {
             if (hasAnnotation(constructor.annotations, "io/warmup/framework/annotation/Inject") ||
@@ -504,12 +565,27 @@ public final class AsmCoreUtils {
      * ✅ ANALIZA UNA CLASE COMPLETAMENTE USANDO ASM
      */
     private static AsmClassInfo analyzeClassWithASM(String className) {
+        // Convertir nombre de clase a path de recurso
+        String resourcePath = className.replace('.', '/') + ".class";
+        return analyzeBytecode(className, loadClassBytecode(AsmCoreUtils.class.getClassLoader(), resourcePath));
+    }
+
+    /**
+     * ✅ ANALIZA UNA CLASE LEYENDO EL BYTECODE DE SU PROPIO CLASSLOADER
+     * (clases recargadas, plugins y loaders de test resuelven su versión real)
+     */
+    private static AsmClassInfo analyzeClassWithASM(Class<?> clazz) {
+        String className = clazz.getName();
+        String resourcePath = className.replace('.', '/') + ".class";
+        ClassLoader loader = clazz.getClassLoader();
+        if (loader == null) {
+            loader = AsmCoreUtils.class.getClassLoader();
+        }
+        return analyzeBytecode(className, loadClassBytecode(loader, resourcePath));
+    }
+
+    private static AsmClassInfo analyzeBytecode(String className, byte[] bytecode) {
         try {
-            // Convertir nombre de clase a path de recurso
-            String resourcePath = className.replace('.', '/') + ".class";
-            
-            // Cargar el bytecode de la clase
-            byte[] bytecode = loadClassBytecode(resourcePath);
             if (bytecode == null) {
                 log.log(Level.WARNING, "Could not load bytecode for class: {0}", className);
                 return null;
@@ -544,10 +620,8 @@ public final class AsmCoreUtils {
     /**
      * ✅ CARGA EL BYTECODE DE UNA CLASE DESDE EL CLASSPATH
      */
-    private static byte[] loadClassBytecode(String resourcePath) {
-        try {
-            // Usar el classloader de la clase actual
-            java.io.InputStream is = AsmCoreUtils.class.getClassLoader().getResourceAsStream(resourcePath);
+    private static byte[] loadClassBytecode(ClassLoader loader, String resourcePath) {
+        try (java.io.InputStream is = loader.getResourceAsStream(resourcePath)) {
             return is != null ? readAllBytesFromInputStream(is) : null;
         } catch (Exception e) {
             log.log(Level.WARNING, "Could not load bytecode for resource: " + resourcePath, e);
@@ -736,6 +810,14 @@ public final class AsmCoreUtils {
         asmMethodCache.clear();
         asmConstructorCache.clear();
         asmFieldCache.clear();
+        CLASS_INFO.clear();
+        INJECT_FIELDS.clear();
+        INJECT_METHODS.clear();
+        POST_CONSTRUCT_METHODS.clear();
+        PRE_DESTROY_METHODS.clear();
+        METHOD_HANDLES.clear();
+        FIELD_GETTERS.clear();
+        FIELD_SETTERS.clear();
     }
     
     /**
@@ -747,6 +829,7 @@ public final class AsmCoreUtils {
         stats.put("asmMethodCache", asmMethodCache.size());
         stats.put("asmConstructorCache", asmConstructorCache.size());
         stats.put("asmFieldCache", asmFieldCache.size());
+        stats.put("classInfoComputations", (int) CLASS_INFO.getComputationCount());
         return stats;
     }
 
@@ -801,12 +884,6 @@ public final class AsmCoreUtils {
     
     // ✅ MÉTODOS DE COMPATIBILIDAD PARA FACILITAR LA MIGRACIÓN GRADUAL
     
-    // Cache para MethodHandle (compatibilidad)
-    private static final ConcurrentHashMap<String, java.lang.invoke.MethodHandle> methodHandleCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, java.lang.invoke.MethodHandle> fieldGetterCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, java.lang.invoke.MethodHandle> fieldSetterCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, java.lang.invoke.MethodHandle> constructorHandleCache = new ConcurrentHashMap<>();
-    
     /**
      * Crea una instancia usando constructor ASM con Class<?> (compatibilidad)
      */
@@ -844,23 +921,24 @@ public final class AsmCoreUtils {
         try {
             Class<?> targetClass = target.getClass();
             Class<?>[] paramTypes = getParameterTypes(args);
-            String cacheKey = targetClass.getName() + "." + methodName + "(" + 
-                             String.join(",", java.util.Arrays.stream(paramTypes).map(Class::getName).toArray(String[]::new)) + ")";
             
-            java.lang.invoke.MethodHandle methodHandle = methodHandleCache.computeIfAbsent(cacheKey, key -> {
+            MethodHandleTypeSafeWrapper.TypeSafeMethodHandle methodHandle = ClassMetadataStore.get(targetClass, METHOD_HANDLES)
+                    .computeIfAbsent(new MemberKey(methodName, paramTypes), key -> {
                 try {
                     // Buscar método público primero
                     try {
                         Method method = targetClass.getMethod(methodName, paramTypes);
                         method.setAccessible(true);
-                        return java.lang.invoke.MethodHandles.lookup().unreflect(method);
+                        return MethodHandleTypeSafeWrapper.wrap(
+                                java.lang.invoke.MethodHandles.lookup().unreflect(method), methodName);
                     } catch (RuntimeException e) {
                         // Buscar métodos declarados
                         for (Method method : targetClass.getDeclaredMethods()) {
                             if (method.getName().equals(methodName) && 
                                 java.util.Arrays.equals(method.getParameterTypes(), paramTypes)) {
                                 method.setAccessible(true);
-                                return java.lang.invoke.MethodHandles.lookup().unreflect(method);
+                                return MethodHandleTypeSafeWrapper.wrap(
+                                        java.lang.invoke.MethodHandles.lookup().unreflect(method), methodName);
                             }
                         }
                         throw new RuntimeException("Method not found: " + methodName);
@@ -873,17 +951,17 @@ public final class AsmCoreUtils {
             // 🔧 CORRECCIÓN BUG CRÍTICO: Desempaquetar argumentos individuales para evitar casting errors
             // ⚡ Use type-safe MethodHandle wrapper to prevent WrongMethodTypeException
             if (args == null || args.length == 0) {
-                return MethodHandleTypeSafeWrapper.invokeMethodHandleTypeSafe(
-                    methodHandle, cacheKey, target);
+                return MethodHandleTypeSafeWrapper.invokeTypeSafe(
+                    methodHandle, target);
             } else if (args.length == 1) {
                 // Para un solo argumento, pasarlo directamente SIN convertir a array
                 // Esto evita el error "Cannot cast [Ljava.lang.Object; to TestEvent"
-                return MethodHandleTypeSafeWrapper.invokeMethodHandleTypeSafe(
-                    methodHandle, cacheKey, target, args[0]);
+                return MethodHandleTypeSafeWrapper.invokeTypeSafe(
+                    methodHandle, target, args[0]);
             } else {
                 // Para múltiples argumentos, pasar cada uno individualmente
-                return MethodHandleTypeSafeWrapper.invokeMethodHandleTypeSafe(
-                    methodHandle, cacheKey, target, args);
+                return MethodHandleTypeSafeWrapper.invokeTypeSafe(
+                    methodHandle, target, args);
             }
             
         } catch (Throwable e) {
@@ -901,21 +979,23 @@ public final class AsmCoreUtils {
         
         try {
             Class<?> targetClass = target.getClass();
-            String cacheKey = targetClass.getName() + "." + methodName + "()";
             
-            java.lang.invoke.MethodHandle methodHandle = methodHandleCache.computeIfAbsent(cacheKey, key -> {
+            MethodHandleTypeSafeWrapper.TypeSafeMethodHandle methodHandle = ClassMetadataStore.get(targetClass, METHOD_HANDLES)
+                    .computeIfAbsent(new MemberKey(methodName, new Class<?>[0]), key -> {
                 try {
                     // Buscar método público primero
                     try {
                         Method method = targetClass.getMethod(methodName);
                         method.setAccessible(true);
-                        return java.lang.invoke.MethodHandles.lookup().unreflect(method);
+                        return MethodHandleTypeSafeWrapper.wrap(
+                                java.lang.invoke.MethodHandles.lookup().unreflect(method), methodName);
                     } catch (RuntimeException e) {
                         // Buscar métodos declarados
                         for (Method method : targetClass.getDeclaredMethods()) {
                             if (method.getName().equals(methodName) && method.getParameterCount() == 0) {
                                 method.setAccessible(true);
-                                return java.lang.invoke.MethodHandles.lookup().unreflect(method);
+                                return MethodHandleTypeSafeWrapper.wrap(
+                                        java.lang.invoke.MethodHandles.lookup().unreflect(method), methodName);
                             }
                         }
                         throw new RuntimeException("Method not found: " + methodName);
@@ -926,7 +1006,7 @@ public final class AsmCoreUtils {
             });
             
             // Para métodos sin parámetros, usar invokeExact
-            return methodHandle.invokeExact(target);
+            return methodHandle.getMethodHandle().invokeExact(target);
             
         } catch (Throwable e) {
             throw new RuntimeException("Method invocation failed: " + methodName, e);
@@ -943,9 +1023,9 @@ public final class AsmCoreUtils {
         
         try {
             Class<?> targetClass = target.getClass();
-            String cacheKey = targetClass.getName() + "." + fieldName;
             
-            java.lang.invoke.MethodHandle getterHandle = fieldGetterCache.computeIfAbsent(cacheKey, key -> {
+            java.lang.invoke.MethodHandle getterHandle = ClassMetadataStore.get(targetClass, FIELD_GETTERS)
+                    .computeIfAbsent(fieldName, key -> {
                 try {
                     Field field = findField(targetClass, fieldName);
                     field.setAccessible(true);
@@ -972,9 +1052,9 @@ public final class AsmCoreUtils {
         
         try {
             Class<?> targetClass = target.getClass();
-            String cacheKey = targetClass.getName() + "." + fieldName;
             
-            java.lang.invoke.MethodHandle setterHandle = fieldSetterCache.computeIfAbsent(cacheKey, key -> {
+            java.lang.invoke.MethodHandle setterHandle = ClassMetadataStore.get(targetClass, FIELD_SETTERS)
+                    .computeIfAbsent(fieldName, key -> {
                 try {
                     Field field = findField(targetClass, fieldName);
                     field.setAccessible(true);
@@ -1030,98 +1110,132 @@ public final class AsmCoreUtils {
      * Obtiene constructor de inyección (compatibilidad para Class<?>)
      */
     public static AsmConstructorInfo getInjectConstructor(Class<?> clazz) {
-        return getInjectConstructor(getClassName(clazz));
+        return selectInjectConstructor(findConstructors(clazz));
     }
     
     /**
      * Obtiene info de clase (compatibilidad para Class<?>)
      */
     public static AsmClassInfo getClassInfo(Class<?> clazz) {
-        return getClassInfo(getClassName(clazz));
+        return ClassMetadataStore.get(clazz, CLASS_INFO);
     }
     
     /**
      * Encuentra métodos (compatibilidad para Class<?>)
      */
     public static List<AsmMethodInfo> findMethods(Class<?> clazz, String methodName) {
-        return findMethods(getClassName(clazz), methodName);
+        AsmClassInfo classInfo = getClassInfo(clazz);
+        if (classInfo == null) return new ArrayList<>();
+        
+        List<AsmMethodInfo> matchingMethods = new ArrayList<>();
+        for (AsmMethodInfo method : classInfo.methods) {
+            if (method.name.equals(methodName)) {
+                matchingMethods.add(method);
+            }
+        }
+        return matchingMethods;
     }
     
     /**
      * Encuentra método exacto (compatibilidad para Class<?>)
      */
     public static AsmMethodInfo findMethodExact(Class<?> clazz, String methodName, String... parameterTypes) {
-        return findMethodExact(getClassName(clazz), methodName, parameterTypes);
+        String expectedDescriptor = getMethodDescriptor(methodName, parameterTypes);
+        for (AsmMethodInfo method : findMethods(clazz, methodName)) {
+            if (method.descriptor.equals(expectedDescriptor)) {
+                return method;
+            }
+        }
+        return null;
     }
     
     /**
      * Encuentra constructores (compatibilidad para Class<?>)
      */
     public static List<AsmConstructorInfo> findConstructors(Class<?> clazz) {
-        return findConstructors(getClassName(clazz));
+        AsmClassInfo classInfo = getClassInfo(clazz);
+        return classInfo != null ? classInfo.constructors : new ArrayList<>();
     }
     
     /**
      * Encuentra constructor exacto (compatibilidad para Class<?>)
      */
     public static AsmConstructorInfo findConstructorExact(Class<?> clazz, String... parameterTypes) {
-        return findConstructorExact(getClassName(clazz), parameterTypes);
+        String expectedDescriptor = getConstructorDescriptor(parameterTypes);
+        for (AsmConstructorInfo constructor : findConstructors(clazz)) {
+            if (constructor.descriptor.equals(expectedDescriptor)) {
+                return constructor;
+            }
+        }
+        return null;
     }
     
     /**
      * Encuentra campos (compatibilidad para Class<?>)
      */
     public static List<AsmFieldInfo> findFields(Class<?> clazz) {
-        return findFields(getClassName(clazz));
+        AsmClassInfo classInfo = getClassInfo(clazz);
+        return classInfo != null ? classInfo.fields : new ArrayList<>();
     }
     
     /**
      * Encuentra campo exacto (compatibilidad para Class<?>)
      */
     public static AsmFieldInfo findFieldExact(Class<?> clazz, String fieldName) {
-        return findFieldExact(getClassName(clazz), fieldName);
+        for (AsmFieldInfo field : findFields(clazz)) {
+            if (field.name.equals(fieldName)) {
+                return field;
+            }
+        }
+        return null;
     }
     
     /**
      * Obtiene métodos @PostConstruct (compatibilidad para Class<?>)
      */
     public static List<AsmMethodInfo> getPostConstructMethods(Class<?> clazz) {
-        return getPostConstructMethods(getClassName(clazz));
+        return ClassMetadataStore.get(clazz, POST_CONSTRUCT_METHODS);
     }
     
     /**
      * Obtiene métodos @PreDestroy (compatibilidad para Class<?>)
      */
     public static List<AsmMethodInfo> getPreDestroyMethods(Class<?> clazz) {
-        return getPreDestroyMethods(getClassName(clazz));
+        return ClassMetadataStore.get(clazz, PRE_DESTROY_METHODS);
     }
     
     /**
      * Obtiene campos @Inject (compatibilidad para Class<?>)
      */
     public static List<AsmFieldInfo> getInjectFields(Class<?> clazz) {
-        return getInjectFields(getClassName(clazz));
+        return ClassMetadataStore.get(clazz, INJECT_FIELDS);
     }
     
     /**
      * Obtiene métodos @Inject (compatibilidad para Class<?>)
      */
     public static List<AsmMethodInfo> getInjectMethods(Class<?> clazz) {
-        return getInjectMethods(getClassName(clazz));
+        return ClassMetadataStore.get(clazz, INJECT_METHODS);
     }
     
     /**
      * Verifica anotaciones de clase (compatibilidad para Class<?>)
      */
     public static boolean hasClassAnnotation(Class<?> clazz, String annotationDescriptor) {
-        return hasClassAnnotation(getClassName(clazz), annotationDescriptor);
+        for (String annotation : getClassAnnotations(clazz)) {
+            if (annotation.equals(annotationDescriptor)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
      * Obtiene anotaciones de clase (compatibilidad para Class<?>)
      */
     public static String[] getClassAnnotations(Class<?> clazz) {
-        return getClassAnnotations(getClassName(clazz));
+        AsmClassInfo classInfo = getClassInfo(clazz);
+        return classInfo != null ? classInfo.annotations : new String[0];
     }
     
     // ✅ ELIMINADO: getDeclaredMethodsReflect - Reemplazado por ASM directo
@@ -1384,7 +1498,7 @@ public final class AsmCoreUtils {
      */
     public static boolean hasAnnotation(Class<?> clazz, String annotationClassName) {
         if (clazz == null) return false;
-        AsmClassInfo classInfo = getClassInfo(clazz.getName());
+        AsmClassInfo classInfo = getClassInfo(clazz);
         if (classInfo == null) return false;
         
         String descriptor = getAnnotationDescriptor(annotationClassName);
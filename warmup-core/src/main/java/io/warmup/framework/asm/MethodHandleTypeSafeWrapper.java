@@ -30,7 +30,7 @@ public class MethodHandleTypeSafeWrapper {
     /**
      * ⚡ Type-safe MethodHandle wrapper
      */
-    private static class TypeSafeMethodHandle {
+    static final class TypeSafeMethodHandle {
         private final MethodHandle methodHandle;
         private final MethodType expectedType;
         private final String cacheKey;
@@ -41,6 +41,10 @@ public class MethodHandleTypeSafeWrapper {
             this.cacheKey = cacheKey;
         }
         
+        MethodHandle getMethodHandle() {
+            return methodHandle;
+        }
+        
         /**
          * ⚡ Invoke con type safety guarantee
          */
@@ -292,6 +296,30 @@ public class MethodHandleTypeSafeWrapper {
         }
     }
     
+    /**
+     * 🎯 Wrapper sin cache global: el llamador lo guarda por clase
+     * (ClassMetadataStore) para que no se retenga en un mapa estático
+     */
+    static TypeSafeMethodHandle wrap(MethodHandle methodHandle, String description) {
+        return createTypeSafeMethodHandle(methodHandle, description);
+    }
+    
+    /**
+     * 🎯 Type-safe invocation con un wrapper ya cacheado por el llamador
+     */
+    static Object invokeTypeSafe(
+            TypeSafeMethodHandle typeSafeHandle, 
+            Object target, 
+            Object... args) throws Throwable {
+        
+        try {
+            return typeSafeHandle.invoke(target, args);
+        } catch (Throwable t) {
+            log.log(Level.FINEST, "⚠️ Type-safe MethodHandle invocation failed para {0}", typeSafeHandle.cacheKey);
+            throw t;
+        }
+    }
+    
     /**
      * 🎯 Type-safe MethodHandle invocation para constructor
      */
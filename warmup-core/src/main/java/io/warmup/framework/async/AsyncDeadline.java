@@ -0,0 +1,76 @@
+package io.warmup.framework.async;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏳ Deadline absoluto ({@link System#nanoTime()}) de la ejecución @Async en curso.
+ *
+ * {@link AsyncExecutor} lo captura en el hilo que envía la tarea y lo restaura
+ * en el hilo del pool, así las llamadas @Async anidadas heredan el deadline
+ * más temprano. El código de negocio puede consultarlo para cortar trabajo.
+ */
+public final class AsyncDeadline {
+
+    /** Sin deadline */
+    public static final long NONE = Long.MAX_VALUE;
+
+    private static final ThreadLocal<long[]> CURRENT = ThreadLocal.withInitial(() -> new long[]{NONE});
+
+    private AsyncDeadline() {
+    }
+
+    /**
+     * @return deadline del hilo actual en nanos de {@link System#nanoTime()}, o {@link #NONE}
+     */
+    public static long current() {
+        return CURRENT.get()[0];
+    }
+
+    /**
+     * @return milisegundos restantes (negativo si ya venció), o {@link Long#MAX_VALUE} sin deadline
+     */
+    public static long remainingMillis() {
+        long deadline = current();
+        return deadline == NONE ? Long.MAX_VALUE
+                : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    public static boolean isExpired() {
+        return isExpired(current());
+    }
+
+    static boolean isExpired(long deadline) {
+        return deadline != NONE && System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * Deadline para una nueva tarea: el heredado del hilo actual o
+     * {@code ahora + deadlineMs}, el que venza antes.
+     */
+    static long resolve(long deadlineMs) {
+        long inherited = current();
+        if (deadlineMs <= 0) {
+            return inherited;
+        }
+        long own = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        return inherited == NONE || own - inherited < 0 ? own : inherited;
+    }
+
+    /**
+     * Ejecuta la tarea con el deadline instalado, o la omite si ya venció.
+     */
+    static <T> T call(long deadline, Callable<T> task) throws Exception {
+        if (isExpired(deadline)) {
+            throw new DeadlineExceededException("Deadline exceeded before execution started");
+        }
+        long[] holder = CURRENT.get();
+        long previous = holder[0];
+        holder[0] = deadline;
+        try {
+            return task.call();
+        } finally {
+            holder[0] = previous;
+        }
+    }
+}
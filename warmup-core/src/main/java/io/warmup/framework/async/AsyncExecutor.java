@@ -6,11 +6,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Gestor de ejecución asíncrona mejorado
+ *
+ * Soporta hedging (ejecuciones duplicadas tras un retraso fijo o percentil,
+ * gana la primera en completar) y deadlines absolutos que se propagan a las
+ * llamadas @Async anidadas mediante {@link AsyncDeadline}.
  */
 public class AsyncExecutor implements Executor {
 
     private static final AsyncExecutor INSTANCE = new AsyncExecutor();
     private final ConcurrentHashMap<String, ExecutorService> executors = new ConcurrentHashMap<>();
+    private final TimerWheel timerWheel = TimerWheel.shared();
 
     private AsyncExecutor() {
         // Executor por defecto
@@ -21,38 +26,52 @@ public class AsyncExecutor implements Executor {
         return INSTANCE;
     }
 
+    /**
+     * Registra el executor usado por {@code @Async("name")}; sustituye al
+     * anterior sin detenerlo.
+     */
+    public void registerExecutor(String name, ExecutorService executor) {
+        executors.put(name, executor);
+    }
+
     public CompletableFuture<Object> executeAsync(String executorName, Callable<Object> task,
             int timeout, Async.ExceptionHandling exceptionHandling) {
+        return executeAsync(executorName, task, AsyncPolicy.of(timeout, exceptionHandling));
+    }
+
+    /**
+     * Ejecuta la tarea según la política del método: hedging, deadline
+     * (propio o heredado del hilo que llama), timeout y manejo de errores.
+     */
+    public CompletableFuture<Object> executeAsync(String executorName, Callable<Object> task, AsyncPolicy policy) {
         ExecutorService executor = executors.computeIfAbsent(executorName,
                 name -> createExecutor(name + "-async"));
+        long deadline = AsyncDeadline.resolve(policy.getDeadlineMs());
+        Async.ExceptionHandling exceptionHandling = policy.getExceptionHandling();
+        long timeout = policy.getTimeoutMs();
 
-        CompletableFuture<Object> future = CompletableFuture.supplyAsync(() -> {
-            try {
-                return task.call();
-            } catch (Exception e) {
-                System.out.println("Caught Exception in AsyncExecutor: " + e.getMessage() + " - handling with: " + exceptionHandling);
-                // Para excepciones específicas según el manejo de errores
-                return handleException(e, exceptionHandling);
-            } catch (Throwable e) {
-                System.out.println("Caught Throwable in AsyncExecutor: " + e.getMessage() + " - handling with: " + exceptionHandling);
-                // Para otros tipos de errores
-                return handleException(e, exceptionHandling);
-            }
-        }, executor);
+        CompletableFuture<Object> future;
+        if (policy.isHedged()) {
+            future = new HedgedExecution(executor, task, policy, deadline).start();
+        } else {
+            future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return AsyncDeadline.call(deadline, task);
+                } catch (Exception e) {
+                    System.out.println("Caught Exception in AsyncExecutor: " + e.getMessage() + " - handling with: " + exceptionHandling);
+                    // Para excepciones específicas según el manejo de errores
+                    return handleException(e, exceptionHandling);
+                } catch (Throwable e) {
+                    System.out.println("Caught Throwable in AsyncExecutor: " + e.getMessage() + " - handling with: " + exceptionHandling);
+                    // Para otros tipos de errores
+                    return handleException(e, exceptionHandling);
+                }
+            }, executor);
+        }
 
-        // Aplicar timeout si es necesario (compatible con Java 8)
+        // ⏱️ Timeout en la rueda compartida: se cancela solo al completarse la tarea
         if (timeout > 0) {
-            CompletableFuture<Object> timeoutFuture = new CompletableFuture<>();
-            ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-            
-            // Programar timeout
-            ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> {
-                timeoutFuture.completeExceptionally(new TimeoutException("Task timeout after " + timeout + " milliseconds"));
-                scheduler.shutdown();
-            }, timeout, TimeUnit.MILLISECONDS);
-            
-            // Combinar con el future original
-            return future.applyToEither(timeoutFuture, result -> result);
+            return timerWheel.orTimeout(future, timeout, TimeUnit.MILLISECONDS);
         }
 
         return future;
@@ -77,6 +96,117 @@ public class AsyncExecutor implements Executor {
         }
     }
 
+    /**
+     * 🏁 Ejecución con hedging: lanza un duplicado cada vez que vence el retraso
+     * de hedge sin resultado y completa con el primer intento que termine bien.
+     * Los perdedores no se interrumpen; su resultado se descarta. Solo el
+     * temporizador lanza duplicados: un fallo no se reintenta, y si no queda
+     * ningún intento en vuelo la ejecución falla con ese error. Un intento que
+     * el executor rechaza no cuenta como lanzado.
+     */
+    private final class HedgedExecution {
+        private final ExecutorService executor;
+        private final Callable<Object> task;
+        private final AsyncPolicy policy;
+        private final long deadline;
+        private final int maxAttempts;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicInteger launched = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile TimerWheel.Timeout nextHedge;
+
+        HedgedExecution(ExecutorService executor, Callable<Object> task, AsyncPolicy policy, long deadline) {
+            this.executor = executor;
+            this.task = task;
+            this.policy = policy;
+            this.deadline = deadline;
+            this.maxAttempts = 1 + policy.getMaxHedges();
+        }
+
+        CompletableFuture<Object> start() {
+            if (!launch()) {
+                // launch() ya falló la ejecución si el executor rechazó el intento
+                if (!result.isDone()) {
+                    fail(new DeadlineExceededException("Deadline exceeded before execution started"));
+                }
+                return result;
+            }
+            scheduleHedge();
+            result.whenComplete((value, error) -> {
+                TimerWheel.Timeout pending = nextHedge;
+                if (pending != null) {
+                    pending.cancel();
+                }
+            });
+            return result;
+        }
+
+        private boolean launch() {
+            int attempts;
+            do {
+                attempts = launched.get();
+                if (attempts >= maxAttempts || result.isDone() || AsyncDeadline.isExpired(deadline)) {
+                    return false;
+                }
+            } while (!launched.compareAndSet(attempts, attempts + 1));
+            try {
+                executor.execute(this::attempt);
+            } catch (RejectedExecutionException e) {
+                // El intento no llegó a ejecutarse: descontarlo y, si no queda ninguno en vuelo, fallar ya
+                if (launched.decrementAndGet() == failed.get()) {
+                    fail(e);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        private void scheduleHedge() {
+            long delay = policy.hedgeDelayNanos();
+            if (delay < 0 || launched.get() >= maxAttempts || result.isDone()) {
+                return;
+            }
+            nextHedge = timerWheel.schedule(this::hedge, delay, TimeUnit.NANOSECONDS);
+        }
+
+        private void hedge() {
+            // Con la cola llena un duplicado solo añadiría carga
+            if (!isSaturated(executor) && launch()) {
+                scheduleHedge();
+            }
+        }
+
+        private void attempt() {
+            if (result.isDone()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                Object value = AsyncDeadline.call(deadline, task);
+                policy.recordLatency(System.nanoTime() - start);
+                result.complete(value);
+            } catch (Throwable e) {
+                // Otros intentos en vuelo aún pueden ganar; si no queda ninguno, fallar ya
+                if (failed.incrementAndGet() == launched.get()) {
+                    fail(e);
+                }
+            }
+        }
+
+        private void fail(Throwable error) {
+            try {
+                result.complete(handleException(error, policy.getExceptionHandling()));
+            } catch (Throwable handled) {
+                result.completeExceptionally(handled);
+            }
+        }
+    }
+
+    private static boolean isSaturated(ExecutorService executor) {
+        return executor instanceof ThreadPoolExecutor
+                && ((ThreadPoolExecutor) executor).getQueue().remainingCapacity() == 0;
+    }
+
     private Object handleTimeout(Async.ExceptionHandling exceptionHandling) {
         switch (exceptionHandling) {
             case RETURN_NULL:
@@ -104,6 +234,7 @@ public class AsyncExecutor implements Executor {
     }
 
     public void shutdown() {
+        // La TimerWheel es compartida con health checks y cachés: no se detiene aquí
         executors.values().forEach(ExecutorService::shutdown);
     }
 
@@ -0,0 +1,85 @@
+package io.warmup.framework.async;
+
+import io.warmup.framework.annotation.Async;
+import io.warmup.framework.metrics.LatencyHistogram;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuración de ejecución de un método @Async, resuelta una vez por método.
+ *
+ * Con {@link Async#hedgePercentile()} guarda además el histograma de latencias
+ * del método, del que sale el retraso de los hedges.
+ */
+public final class AsyncPolicy {
+
+    /** Latencias necesarias antes de fiarse del percentil */
+    static final int MIN_PERCENTILE_SAMPLES = 20;
+
+    private final long timeoutMs;
+    private final Async.ExceptionHandling exceptionHandling;
+    private final long hedgeAfterMs;
+    private final double hedgePercentile;
+    private final int maxHedges;
+    private final long deadlineMs;
+    private final LatencyHistogram latencies;
+
+    private AsyncPolicy(long timeoutMs, Async.ExceptionHandling exceptionHandling, long hedgeAfterMs,
+            double hedgePercentile, int maxHedges, long deadlineMs) {
+        if (hedgePercentile < 0 || hedgePercentile > 100) {
+            throw new IllegalArgumentException("hedgePercentile debe estar en [0, 100]: " + hedgePercentile);
+        }
+        this.timeoutMs = timeoutMs;
+        this.exceptionHandling = exceptionHandling;
+        this.hedgeAfterMs = hedgeAfterMs;
+        this.hedgePercentile = hedgePercentile;
+        this.maxHedges = Math.max(0, maxHedges);
+        this.deadlineMs = deadlineMs;
+        this.latencies = hedgePercentile > 0 ? new LatencyHistogram() : null;
+    }
+
+    public static AsyncPolicy of(Async async) {
+        return new AsyncPolicy(async.timeout(), async.exceptionHandling(), async.hedgeAfterMs(),
+                async.hedgePercentile(), async.maxHedges(), async.deadlineMs());
+    }
+
+    public static AsyncPolicy of(long timeoutMs, Async.ExceptionHandling exceptionHandling) {
+        return new AsyncPolicy(timeoutMs, exceptionHandling, 0, 0, 0, 0);
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public Async.ExceptionHandling getExceptionHandling() {
+        return exceptionHandling;
+    }
+
+    public int getMaxHedges() {
+        return maxHedges;
+    }
+
+    public long getDeadlineMs() {
+        return deadlineMs;
+    }
+
+    public boolean isHedged() {
+        return maxHedges > 0 && (hedgeAfterMs > 0 || hedgePercentile > 0);
+    }
+
+    /**
+     * @return retraso del próximo hedge en nanos: el percentil observado si ya
+     *         hay muestras suficientes, si no {@code hedgeAfterMs}; -1 sin hedge
+     */
+    public long hedgeDelayNanos() {
+        if (latencies != null && latencies.getCount() >= MIN_PERCENTILE_SAMPLES) {
+            return Math.max(1, latencies.percentile(hedgePercentile / 100.0));
+        }
+        return hedgeAfterMs > 0 ? TimeUnit.MILLISECONDS.toNanos(hedgeAfterMs) : -1;
+    }
+
+    void recordLatency(long nanos) {
+        if (latencies != null) {
+            latencies.record(nanos);
+        }
+    }
+}
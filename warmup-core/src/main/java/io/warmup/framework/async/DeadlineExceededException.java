@@ -0,0 +1,14 @@
+package io.warmup.framework.async;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Ejecución @Async omitida porque empezó después de su deadline (propio o
+ * heredado de la llamada @Async que la originó).
+ */
+public class DeadlineExceededException extends TimeoutException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,296 @@
+package io.warmup.framework.async;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * ⏱️ Rueda de temporizadores hasheada compartida (timeouts @Async, hedges,
+ * timeouts de health checks y TTLs de caché).
+ *
+ * <p>Programar y cancelar son O(1): cada {@link Timeout} va a una cola sin
+ * locks y el único hilo de la rueda lo enlaza en el bucket de su tick (con un
+ * contador de vueltas para retrasos mayores que una vuelta completa). Las
+ * cancelaciones se desenlazan en el siguiente tick. Las tareas expiradas se
+ * ejecutan en el hilo de la rueda, así que deben ser cortas: completar un
+ * future, cancelar una tarea o borrar una entrada.
+ *
+ * <p>Sin timeouts pendientes el hilo se aparca hasta el siguiente
+ * {@link #schedule(Runnable, long, TimeUnit)}.
+ */
+public final class TimerWheel {
+
+    private static final Logger log = Logger.getLogger(TimerWheel.class.getName());
+
+    private static final long DEFAULT_TICK_MILLIS = 5;
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final TimerWheel SHARED = new TimerWheel(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS,
+            DEFAULT_TICKS_PER_WHEEL, "warmup-timer-wheel");
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+    private volatile boolean running = true;
+    private volatile boolean idle;
+    private long tick;
+
+    public TimerWheel(long tickDuration, TimeUnit unit, int ticksPerWheel, String threadName) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("tickDuration y ticksPerWheel deben ser positivos");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[Math.max(size, 1)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * @return la rueda compartida por todo el framework (tick de 5ms, 512 buckets)
+     */
+    public static TimerWheel shared() {
+        return SHARED;
+    }
+
+    /**
+     * Programa {@code task} para dentro de {@code delay}. La precisión es de un tick.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("TimerWheel detenida");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        added.add(timeout);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    /**
+     * Completa {@code future} con {@link TimeoutException} si no termina antes de
+     * {@code timeout}; el temporizador se cancela solo al completarse el future.
+     *
+     * @return el mismo future
+     */
+    public <T> CompletableFuture<T> orTimeout(CompletableFuture<T> future, long timeout, TimeUnit unit) {
+        if (future.isDone()) {
+            return future;
+        }
+        Timeout expiry = schedule(() -> future.completeExceptionally(
+                new TimeoutException("Task timeout after " + unit.toMillis(timeout) + " milliseconds")),
+                timeout, unit);
+        future.whenComplete((value, error) -> expiry.cancel());
+        return future;
+    }
+
+    /**
+     * @return timeouts programados que aún no expiraron ni se desenlazaron tras cancelarse
+     */
+    public int pendingTimeouts() {
+        return pending.get();
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    // ========== HILO DE LA RUEDA ==========
+
+    private void run() {
+        while (running) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                break;
+            }
+            removeCancelled();
+            transferAdded();
+            wheel[(int) (tick & mask)].expire(now);
+            tick++;
+        }
+    }
+
+    /**
+     * Espera al final del tick actual; sin timeouts pendientes se aparca y al
+     * despertar salta directamente al tick actual (todos los buckets están vacíos).
+     *
+     * @return nanos transcurridos desde el arranque, o -1 si la rueda se detuvo
+     */
+    private long waitForNextTick() {
+        while (true) {
+            long deadline = tickNanos * (tick + 1);
+            long now = System.nanoTime() - startTime;
+            if (now >= deadline) {
+                return now;
+            }
+            if (pending.get() == 0) {
+                idle = true;
+                if (pending.get() == 0) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+            } else {
+                LockSupport.parkNanos(this, deadline - now);
+            }
+            if (!running) {
+                return -1;
+            }
+        }
+    }
+
+    private void transferAdded() {
+        Timeout timeout;
+        while ((timeout = added.poll()) != null) {
+            if (timeout.state != Timeout.INIT) {
+                // Cancelado antes de llegar a la rueda
+                pending.decrementAndGet();
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            wheel[(int) (Math.max(calculated, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(long now) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                    remove(timeout);
+                    pending.decrementAndGet();
+                    timeout.expire();
+                } else if (timeout.state == Timeout.CANCELLED) {
+                    // Se desenlaza al procesar la cola de cancelados
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * Temporizador programado en una {@link TimerWheel}.
+     */
+    public static final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimerWheel timerWheel;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state;
+
+        // Solo los toca el hilo de la rueda
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(TimerWheel timerWheel, Runnable task, long deadline) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return {@code true} si se canceló antes de expirar
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, INIT, CANCELLED)) {
+                return false;
+            }
+            timerWheel.cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, INIT, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                log.log(Level.WARNING, "Tarea de TimerWheel falló: {0}", e.getMessage());
+            }
+        }
+    }
+}
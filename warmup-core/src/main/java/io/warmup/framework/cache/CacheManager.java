@@ -1,5 +1,6 @@
 package io.warmup.framework.cache;
 
+import io.warmup.framework.async.TimerWheel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -28,6 +29,8 @@ public class CacheManager {
     private final Map<String, CacheEntry> cacheData = new ConcurrentHashMap<>();
     private final Map<String, Long> cacheDataExpiry = new ConcurrentHashMap<>();
     private static final long CACHE_DATA_TTL = TimeUnit.SECONDS.toMillis(10);
+    // ⏱️ Cada entrada expira en la rueda compartida: sin barridos O(n) del mapa
+    private final TimerWheel timerWheel = TimerWheel.shared();
     
     private final Map<String, Object> cacheStatsCache = new ConcurrentHashMap<>();
     private final Map<String, Long> cacheStatsExpiry = new ConcurrentHashMap<>();
@@ -46,7 +49,6 @@ public class CacheManager {
     
     // Configuration
     private static final int MAX_CACHE_SIZE = 10000; // Maximum cache entries
-    private static final int CLEANUP_THRESHOLD = 1000; // Trigger cleanup when threshold exceeded
     
     /**
      * Default constructor
@@ -66,18 +68,12 @@ public class CacheManager {
         backendStorage.put(key, value);
         
         // O(1) TTL cache storage
-        cacheData.put(key, new CacheEntry(value, System.currentTimeMillis() + CACHE_DATA_TTL));
-        cacheDataExpiry.put(key, System.currentTimeMillis() + CACHE_DATA_TTL);
+        storeEntry(key, value);
         
         // O(1) Cache invalidation
         cacheDataDirty = true;
         cacheStatsDirty = true;
         
-        // Trigger cleanup if needed
-        if (cacheData.size() > CLEANUP_THRESHOLD) {
-            cleanupExpiredEntries();
-        }
-        
         long duration = System.nanoTime() - startTime;
         totalCacheOperationTime.addAndGet(duration);
         
@@ -99,6 +95,7 @@ public class CacheManager {
             if (entry != null && entry.value != null) {
                 result = entry.value;
                 cacheHits.incrementAndGet();
+                refreshEntry(key, entry);
                 
                 long duration = System.nanoTime() - startTime;
                 totalCacheOperationTime.addAndGet(duration);
@@ -113,8 +110,7 @@ public class CacheManager {
         if (result != null) {
             cacheHits.incrementAndGet();
             // Refresh TTL cache
-            cacheData.put(key, new CacheEntry(result, System.currentTimeMillis() + CACHE_DATA_TTL));
-            cacheDataExpiry.put(key, System.currentTimeMillis() + CACHE_DATA_TTL);
+            storeEntry(key, result);
         } else {
             cacheMisses.incrementAndGet();
         }
@@ -141,6 +137,7 @@ public class CacheManager {
         cacheDataExpiry.remove(key);
         
         if (removed != null) {
+            removed.cancelExpiry();
             cacheDataDirty = true;
             cacheStatsDirty = true;
         }
@@ -185,7 +182,10 @@ public class CacheManager {
             // Cache expired - count as expiration and clean up
             if (cache == cacheData) {
                 cacheExpirations.incrementAndGet();
-                cacheData.remove(key);
+                CacheEntry expired = cacheData.remove(key);
+                if (expired != null) {
+                    expired.cancelExpiry();
+                }
                 cacheDataExpiry.remove(key);
             }
             return false;
@@ -193,26 +193,43 @@ public class CacheManager {
         return true;
     }
     
-    // O(1) Cleanup expired entries
-    private void cleanupExpiredEntries() {
-        long currentTime = System.currentTimeMillis();
-        int expiredCount = 0;
-        
-        Iterator<Map.Entry<String, Long>> iterator = cacheDataExpiry.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Long> entry = iterator.next();
-            if (currentTime >= entry.getValue()) {
-                cacheData.remove(entry.getKey());
-                iterator.remove();
-                expiredCount++;
-            }
+    // O(1) TTL entry storage: a live entry with the same value is only refreshed,
+    // otherwise the previous entry's timer is cancelled
+    private void storeEntry(String key, Object value) {
+        CacheEntry current = cacheData.get(key);
+        if (current != null && current.value == value && !current.isExpired()) {
+            refreshEntry(key, current);
+            return;
         }
-        
-        if (expiredCount > 0) {
-            cacheExpirations.addAndGet(expiredCount);
+        CacheEntry entry = new CacheEntry(value, System.currentTimeMillis() + CACHE_DATA_TTL);
+        entry.expiry = timerWheel.schedule(() -> expireEntry(key, entry), CACHE_DATA_TTL, TimeUnit.MILLISECONDS);
+        CacheEntry previous = cacheData.put(key, entry);
+        if (previous != null) {
+            previous.cancelExpiry();
+        }
+        cacheDataExpiry.put(key, entry.expiryTime);
+    }
+    
+    // O(1) Hit: the expiry moves in place; the timer is re-armed lazily when it fires
+    private void refreshEntry(String key, CacheEntry entry) {
+        long expiryTime = System.currentTimeMillis() + CACHE_DATA_TTL;
+        entry.expiryTime = expiryTime;
+        cacheDataExpiry.put(key, expiryTime);
+    }
+    
+    // O(1) Expiration fired by the timer wheel (only if the entry was not replaced)
+    private void expireEntry(String key, CacheEntry entry) {
+        long remaining = entry.expiryTime - System.currentTimeMillis();
+        if (remaining > 0 && cacheData.get(key) == entry) {
+            // Refrescada por un hit después de programar el timer: re-armar por lo que queda
+            entry.expiry = timerWheel.schedule(() -> expireEntry(key, entry), remaining, TimeUnit.MILLISECONDS);
+            return;
+        }
+        if (cacheData.remove(key, entry)) {
+            cacheDataExpiry.remove(key, entry.expiryTime);
+            cacheExpirations.incrementAndGet();
             cacheDataDirty = true;
             cacheStatsDirty = true;
-            log.info("Cache cleanup: " + expiredCount + " expired entries removed");
         }
     }
     
@@ -295,6 +312,7 @@ public class CacheManager {
     
     // O(1) Force cache invalidation
     public void clearAllCaches() {
+        cacheData.values().forEach(CacheEntry::cancelExpiry);
         cacheData.clear();
         cacheDataExpiry.clear();
         cacheStatsCache.clear();
@@ -316,7 +334,8 @@ public class CacheManager {
     // Internal CacheEntry class
     private static class CacheEntry {
         final Object value;
-        final long expiryTime;
+        volatile long expiryTime;
+        volatile TimerWheel.Timeout expiry;
         
         CacheEntry(Object value, long expiryTime) {
             this.value = value;
@@ -326,5 +345,12 @@ public class CacheManager {
         boolean isExpired() {
             return System.currentTimeMillis() >= expiryTime;
         }
+        
+        void cancelExpiry() {
+            TimerWheel.Timeout pending = expiry;
+            if (pending != null) {
+                pending.cancel();
+            }
+        }
     }
 }
\ No newline at end of file
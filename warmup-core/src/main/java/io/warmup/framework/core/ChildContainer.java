@@ -0,0 +1,197 @@
+package io.warmup.framework.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🌿 CHILD CONTAINER - Contenedor hijo ligero para overrides por tenant/request
+ *
+ * Comparte el registry congelado, los metadatos y los singletons del padre y
+ * solo guarda un overlay con los bindings sobrescritos. Crear un hijo no
+ * construye ningún manager ni copia estado del padre: son dos referencias, y
+ * el overlay se reserva con el primer override.
+ *
+ * Resolución: overlay del hijo → padre (que puede ser otro hijo). Los
+ * componentes registrados en el hijo se crean contra el hijo, así que ven los
+ * overrides; los componentes del padre ya están cableados en el padre y no
+ * los ven.
+ *
+ * <pre>
+ * ChildContainer tenant = container.createChild();
+ * tenant.register(DataSource.class, tenantDataSource);
+ * tenant.register(ReportService.class, true);   // recibe tenantDataSource
+ * </pre>
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+public final class ChildContainer implements IContainer {
+
+    private final IContainer parent;
+    private final WarmupContainer root;
+
+    /** 🌿 Bindings sobrescritos: Class para los anónimos, "tipo:nombre" para los named */
+    private volatile Map<Object, Dependency> overlay;
+
+    ChildContainer(IContainer parent, WarmupContainer root) {
+        this.parent = parent;
+        this.root = root;
+    }
+
+    /**
+     * Crea un hijo de este hijo (p.ej. request dentro de un tenant)
+     */
+    public ChildContainer createChild() {
+        return new ChildContainer(this, root);
+    }
+
+    public IContainer getParent() {
+        return parent;
+    }
+
+    public WarmupContainer getRoot() {
+        return root;
+    }
+
+    // ========================================
+    // 🔧 OVERRIDES
+    // ========================================
+
+    /**
+     * Sobrescribe {@code type} con una instancia ya creada (p.ej. el DataSource del tenant)
+     */
+    public <T> void register(Class<T> type, T instance) {
+        bind(type, instanceBinding(type, instance));
+    }
+
+    /**
+     * Sobrescribe {@code type} con un componente creado por este hijo
+     */
+    @Override
+    public <T> void register(Class<T> type, boolean singleton) {
+        bind(type, new Dependency(type, singleton));
+    }
+
+    /**
+     * Sobrescribe {@code interfaceType} con la implementación indicada
+     */
+    public <T> void registerImplementation(Class<T> interfaceType, Class<? extends T> implType, boolean singleton) {
+        bind(interfaceType, new Dependency(implType, singleton));
+    }
+
+    public <T> void registerNamed(Class<T> type, String name, T instance) {
+        bind(namedKey(type, name), instanceBinding(type, instance));
+    }
+
+    @Override
+    public <T> void registerNamed(Class<T> type, String name, boolean singleton) {
+        bind(namedKey(type, name), new Dependency(type, singleton));
+    }
+
+    /**
+     * @return true si {@code type} está sobrescrito en este hijo (no en sus ancestros)
+     */
+    public boolean isOverridden(Class<?> type) {
+        Map<Object, Dependency> bindings = overlay;
+        return bindings != null && bindings.containsKey(type);
+    }
+
+    // ========================================
+    // 🎯 RESOLUCIÓN
+    // ========================================
+
+    @Override
+    public <T> T get(Class<T> type) {
+        Dependency dependency = lookup(type);
+        if (dependency == null) {
+            return parent.get(type);
+        }
+        return type.cast(dependency.getInstance(this, Collections.emptySet()));
+    }
+
+    @Override
+    public <T> T getNamed(Class<T> type, String name) {
+        Dependency dependency = lookup(namedKey(type, name));
+        if (dependency == null) {
+            return parent.getNamed(type, name);
+        }
+        return type.cast(dependency.getInstance(this, Collections.emptySet()));
+    }
+
+    @Override
+    public <T> T getDependency(Class<T> type, Set<Class<?>> dependencyChain) throws Exception {
+        Dependency dependency = lookup(type);
+        if (dependency == null) {
+            return parent.getDependency(type, dependencyChain);
+        }
+        return type.cast(dependency.getInstance(this, dependencyChain));
+    }
+
+    @Override
+    public <T> T getNamedDependency(Class<T> type, String name, Set<Class<?>> dependencyChain) throws Exception {
+        Dependency dependency = lookup(namedKey(type, name));
+        if (dependency == null) {
+            return parent.getNamedDependency(type, name, dependencyChain);
+        }
+        return type.cast(dependency.getInstance(this, dependencyChain));
+    }
+
+    @Override
+    public <T> T getBestImplementation(Class<T> interfaceType) throws Exception {
+        Dependency dependency = lookup(interfaceType);
+        if (dependency == null) {
+            return parent.getBestImplementation(interfaceType);
+        }
+        return interfaceType.cast(dependency.getInstance(this, Collections.emptySet()));
+    }
+
+    @Override
+    public String resolvePropertyValue(String expression) {
+        return parent.resolvePropertyValue(expression);
+    }
+
+    @Override
+    public void registerEventListeners(Class<?> clazz, Object instance) {
+        parent.registerEventListeners(clazz, instance);
+    }
+
+    // ========================================
+    // 🔧 OVERLAY
+    // ========================================
+
+    private Dependency lookup(Object key) {
+        // 🚀 Sin overrides no hay ni búsqueda: delegación directa al padre
+        Map<Object, Dependency> bindings = overlay;
+        return bindings != null ? bindings.get(key) : null;
+    }
+
+    private void bind(Object key, Dependency dependency) {
+        Map<Object, Dependency> bindings = overlay;
+        if (bindings == null) {
+            synchronized (this) {
+                bindings = overlay;
+                if (bindings == null) {
+                    bindings = new ConcurrentHashMap<>(4);
+                    overlay = bindings;
+                }
+            }
+        }
+        bindings.put(key, dependency);
+    }
+
+    private static Dependency instanceBinding(Class<?> type, Object instance) {
+        if (instance == null) {
+            throw new IllegalArgumentException("Instance cannot be null for: " + type.getName());
+        }
+        // Binding ligero: sin análisis ASM, la instancia ya está creada
+        Dependency dependency = new Dependency(type, ScopeManager.ScopeType.SINGLETON, false);
+        dependency.setInstance(instance);
+        return dependency;
+    }
+
+    private static String namedKey(Class<?> type, String name) {
+        return type.getName() + ":" + name;
+    }
+}
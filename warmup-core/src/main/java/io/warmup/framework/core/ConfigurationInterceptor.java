@@ -59,7 +59,7 @@ public class ConfigurationInterceptor {
             
             // Create new instance
             logger.fine("Creating new bean instance for: " + beanName);
-            Object newInstance = dependency.getInstance(container, new java.util.HashSet<>());
+            Object newInstance = dependency.getInstance(container, java.util.Collections.emptySet());
             
             // Cache the instance
             beanTypeToInstance.put(beanType, newInstance);
@@ -0,0 +1,400 @@
+package io.warmup.framework.core;
+
+import io.warmup.framework.common.ClassMetadata;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 🧊 CONTAINER SNAPSHOT - Grafo resuelto del contenedor persistido en binario
+ *
+ * Tras un arranque correcto {@link WarmupContainer} escribe un fichero compacto
+ * con los componentes encontrados en cada paquete escaneado y el orden de
+ * creación por capas de los singletons eager. En los siguientes arranques, si
+ * el hash del classpath coincide, el fichero se mapea en memoria y
+ * {@code scanPackage} registra los componentes directamente, sin recorrer
+ * directorios ni analizar bytecode con {@code AsmComponentScanner}; la
+ * instanciación eager reutiliza las capas guardadas en lugar de reconstruir
+ * el grafo. El registro de cada componente (y el análisis de su clase que
+ * hace {@link Dependency}) sigue ejecutándose en cada arranque.
+ *
+ * Se activa con la propiedad {@value #PATH_PROPERTY}. Un fichero ausente,
+ * corrupto o de otro classpath se ignora y se reescribe al terminar el
+ * arranque.
+ *
+ * Formato (big endian): cabecera {@code magic, version, classpathHash}, tabla
+ * de strings y secciones de paquetes y capas que referencian la tabla por
+ * índice.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+public final class ContainerSnapshot {
+
+    private static final Logger log = Logger.getLogger(ContainerSnapshot.class.getName());
+
+    /**
+     * Ruta del fichero de snapshot; sin ella la funcionalidad está desactivada.
+     */
+    public static final String PATH_PROPERTY = "warmup.snapshot.path";
+
+    private static final int MAGIC = 0x57534E50; // "WSNP"
+    private static final short VERSION = 2;
+    private static final int NO_STRING = -1;
+
+    private static final byte FLAG_SINGLETON = 1;
+    private static final byte FLAG_LAZY = 1 << 1;
+
+    private final long classpathHash;
+    private final Map<String, List<ClassMetadata>> components;
+    private final List<List<String>> creationLayers;
+    private final List<String> cyclicSingletons;
+
+    private ContainerSnapshot(long classpathHash,
+                              Map<String, List<ClassMetadata>> components,
+                              List<List<String>> creationLayers,
+                              List<String> cyclicSingletons) {
+        this.classpathHash = classpathHash;
+        this.components = components;
+        this.creationLayers = creationLayers;
+        this.cyclicSingletons = cyclicSingletons;
+    }
+
+    // ========================================
+    // 🎯 CAPTURA
+    // ========================================
+
+    /**
+     * Captura el estado actual del contenedor.
+     *
+     * @param scannedComponents componentes registrados por paquete escaneado
+     * @param creationLayers capas de creación de singletons eager (puede estar vacía)
+     * @param cyclicSingletons singletons eager creados en serie por formar ciclos
+     */
+    static ContainerSnapshot capture(Map<String, List<ClassMetadata>> scannedComponents,
+                                     List<List<Class<?>>> creationLayers,
+                                     List<Class<?>> cyclicSingletons) {
+        Map<String, List<ClassMetadata>> components = new LinkedHashMap<>();
+        for (Map.Entry<String, List<ClassMetadata>> entry : scannedComponents.entrySet()) {
+            components.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+
+        List<List<String>> layers = new ArrayList<>();
+        for (List<Class<?>> layer : creationLayers) {
+            layers.add(classNames(layer));
+        }
+        return new ContainerSnapshot(classpathHash(components.keySet()), components, layers, classNames(cyclicSingletons));
+    }
+
+    private static List<String> classNames(List<Class<?>> classes) {
+        List<String> names = new ArrayList<>(classes.size());
+        for (Class<?> clazz : classes) {
+            names.add(clazz.getName());
+        }
+        return names;
+    }
+
+    // ========================================
+    // 💾 ESCRITURA
+    // ========================================
+
+    /**
+     * Escribe el snapshot de forma atómica (fichero temporal + rename).
+     */
+    public void write(Path path) throws IOException {
+        StringTable strings = new StringTable();
+        for (Map.Entry<String, List<ClassMetadata>> entry : components.entrySet()) {
+            strings.add(entry.getKey());
+            for (ClassMetadata metadata : entry.getValue()) {
+                strings.add(metadata.className);
+                strings.add(metadata.namedValue);
+            }
+        }
+        for (List<String> layer : creationLayers) {
+            layer.forEach(strings::add);
+        }
+        cyclicSingletons.forEach(strings::add);
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(classpathHash);
+
+            out.writeInt(strings.values.size());
+            for (String value : strings.values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(components.size());
+            for (Map.Entry<String, List<ClassMetadata>> entry : components.entrySet()) {
+                out.writeInt(strings.indexOf(entry.getKey()));
+                out.writeInt(entry.getValue().size());
+                for (ClassMetadata metadata : entry.getValue()) {
+                    out.writeInt(strings.indexOf(metadata.className));
+                    out.writeInt(strings.indexOf(metadata.namedValue));
+                    out.writeByte((metadata.isSingleton ? FLAG_SINGLETON : 0) | (metadata.isLazy ? FLAG_LAZY : 0));
+                }
+            }
+
+            out.writeInt(creationLayers.size());
+            for (List<String> layer : creationLayers) {
+                writeNames(out, layer, strings);
+            }
+            writeNames(out, cyclicSingletons, strings);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeNames(DataOutputStream out, List<String> names, StringTable strings) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeInt(strings.indexOf(name));
+        }
+    }
+
+    // ========================================
+    // 📖 LECTURA
+    // ========================================
+
+    /**
+     * Carga un snapshot mapeando el fichero en memoria y lo valida contra el
+     * classpath actual ({@link #classpathHash(Collection)} de sus paquetes).
+     *
+     * @return el snapshot, o null si no existe, está corrupto o es de otro classpath
+     */
+    public static ContainerSnapshot load(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                log.log(Level.WARNING, "⚠️ Ignoring container snapshot with unknown format: {0}", path);
+                return null;
+            }
+            long classpathHash = buffer.getLong();
+            ContainerSnapshot snapshot = read(buffer, classpathHash);
+            if (classpathHash != classpathHash(snapshot.components.keySet())) {
+                log.log(Level.INFO, "🔄 Container snapshot is stale (classpath changed): {0}", path);
+                return null;
+            }
+            return snapshot;
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            log.log(Level.WARNING, "⚠️ Could not read container snapshot {0}: {1}", new Object[]{path, e.toString()});
+            return null;
+        }
+    }
+
+    private static ContainerSnapshot read(ByteBuffer buffer, long classpathHash) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int packageCount = buffer.getInt();
+        Map<String, List<ClassMetadata>> components = new LinkedHashMap<>();
+        for (int i = 0; i < packageCount; i++) {
+            String packageName = string(strings, buffer.getInt());
+            int count = buffer.getInt();
+            List<ClassMetadata> packageComponents = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                ClassMetadata metadata = new ClassMetadata(string(strings, buffer.getInt()));
+                metadata.namedValue = string(strings, buffer.getInt());
+                byte flags = buffer.get();
+                metadata.isComponent = true;
+                metadata.isSingleton = (flags & FLAG_SINGLETON) != 0;
+                metadata.isLazy = (flags & FLAG_LAZY) != 0;
+                packageComponents.add(metadata);
+            }
+            components.put(packageName, Collections.unmodifiableList(packageComponents));
+        }
+
+        int layerCount = buffer.getInt();
+        List<List<String>> layers = new ArrayList<>(layerCount);
+        for (int i = 0; i < layerCount; i++) {
+            layers.add(readNames(buffer, strings));
+        }
+        List<String> cyclic = readNames(buffer, strings);
+
+        return new ContainerSnapshot(classpathHash, Collections.unmodifiableMap(components),
+                Collections.unmodifiableList(layers), cyclic);
+    }
+
+    private static List<String> readNames(ByteBuffer buffer, String[] strings) {
+        int count = buffer.getInt();
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(string(strings, buffer.getInt()));
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    private static String string(String[] strings, int index) {
+        return index == NO_STRING ? null : strings[index];
+    }
+
+    // ========================================
+    // 🔑 HASH DEL CLASSPATH
+    // ========================================
+
+    /**
+     * Hash FNV-1a de los metadatos del classpath, sin leer el contenido de
+     * los ficheros {@code .class}: ruta, tamaño y fecha de modificación de
+     * cada jar de {@code java.class.path} y, para cada paquete escaneado en
+     * un directorio (desarrollo), el mismo árbol que recorre el escaneo:
+     * fecha de modificación de cada subdirectorio y ruta relativa, tamaño y
+     * fecha de modificación de cada {@code .class}. Añadir, borrar o
+     * recompilar una clase en cualquier subpaquete cambia el hash.
+     *
+     * @param packages paquetes escaneados que cubre el snapshot
+     */
+    public static long classpathHash(Collection<String> packages) {
+        long hash = 0xcbf29ce484222325L;
+        String classpath = System.getProperty("java.class.path", "");
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            hash = mix(hash, entry.hashCode());
+            Path path = new File(entry).toPath();
+            try {
+                if (Files.isRegularFile(path)) {
+                    hash = mix(hash, Files.size(path));
+                    hash = mix(hash, Files.getLastModifiedTime(path).toMillis());
+                }
+            } catch (IOException e) {
+                hash = mix(hash, -1);
+            }
+        }
+
+        // Los mismos directorios que recorre el escaneo de paquetes
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        for (String packageName : packages) {
+            hash = mix(hash, packageName.hashCode());
+            try {
+                Enumeration<URL> resources = loader.getResources(packageName.replace('.', '/'));
+                while (resources.hasMoreElements()) {
+                    URL resource = resources.nextElement();
+                    if ("file".equals(resource.getProtocol())) {
+                        Path packageDir = Paths.get(resource.toURI());
+                        hash = mix(hash, packageDir.toString().hashCode());
+                        hash = hashPackageDirectory(hash, packageDir);
+                    }
+                }
+            } catch (IOException | URISyntaxException | RuntimeException e) {
+                hash = mix(hash, -1);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Recorre el directorio del paquete y sus subpaquetes en orden estable
+     * (como {@code PerformanceOptimizer.findClassesInDirectory}).
+     */
+    private static long hashPackageDirectory(long hash, Path packageDir) throws IOException {
+        List<Path> entries;
+        try (Stream<Path> walk = Files.walk(packageDir)) {
+            entries = walk.filter(path -> Files.isDirectory(path)
+                            || path.getFileName().toString().endsWith(".class"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path path : entries) {
+            hash = mix(hash, packageDir.relativize(path).toString().hashCode());
+            if (!Files.isDirectory(path)) {
+                hash = mix(hash, Files.size(path));
+            }
+            hash = mix(hash, Files.getLastModifiedTime(path).toMillis());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // ========================================
+    // 📊 ACCESO
+    // ========================================
+
+    public long getClasspathHash() {
+        return classpathHash;
+    }
+
+    /**
+     * @return componentes registrados por cada paquete escaneado
+     */
+    public Map<String, List<ClassMetadata>> getComponents() {
+        return components;
+    }
+
+    /**
+     * @return capas de creación de singletons eager (nombres de clase)
+     */
+    public List<List<String>> getCreationLayers() {
+        return creationLayers;
+    }
+
+    public List<String> getCyclicSingletons() {
+        return cyclicSingletons;
+    }
+
+    /**
+     * Tabla de strings deduplicada; cada string se escribe una sola vez.
+     */
+    private static final class StringTable {
+        final List<String> values = new ArrayList<>();
+        final Map<String, Integer> indexes = new HashMap<>();
+
+        void add(String value) {
+            if (value != null && !indexes.containsKey(value)) {
+                indexes.put(value, values.size());
+                values.add(value);
+            }
+        }
+
+        int indexOf(String value) {
+            return value == null ? NO_STRING : indexes.get(value);
+        }
+    }
+}
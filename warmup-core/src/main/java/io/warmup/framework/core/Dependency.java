@@ -16,7 +16,6 @@ import java.lang.reflect.Type;
 import io.warmup.framework.asm.*;
 import io.warmup.framework.core.ScopeManager.ScopeType;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -26,9 +25,6 @@ public class Dependency {
     private static final Logger log = Logger.getLogger(Dependency.class.getName());
     private static final ASMCacheManager CACHE_MANAGER = ASMCacheManager.getInstance();
 
-    // Cache ASM optimizado para métodos @Inject
-    private static final Map<Class<?>, List<io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo>> injectMethodsCache = new ConcurrentHashMap<>();
-
     private Class<?> type;
     private Object instance;
     private ScopeManager.ScopeType scopeType;
@@ -45,6 +41,25 @@ public class Dependency {
     private Supplier<?> jitSupplier;
     private boolean jitOptimized = false;
 
+    // 🚀 Plan de resolución compilado al congelar el registry (null = camino clásico)
+    private volatile ResolutionPlan resolutionPlan;
+
+    // 🚀 FAST PATH: Handle publicado tras la primera resolución de un singleton
+    private volatile ResolvedHandle resolvedHandle;
+
+    /**
+     * Handle inmutable con la instancia ya inicializada y ya pasada por AOP.
+     * El campo final garantiza publicación segura a través de la referencia
+     * volatile: una lectura basta para devolver el singleton sin locks.
+     */
+    private static final class ResolvedHandle {
+        final Object instance;
+
+        ResolvedHandle(Object instance) {
+            this.instance = instance;
+        }
+    }
+
     // Constructor pre-cacheado
     private Constructor<?> injectConstructor;
     private Class<?>[] constructorParamTypes;
@@ -229,6 +244,22 @@ public class Dependency {
                 new Object[]{type.getSimpleName(), scopeType, supplier.getClass().getSimpleName()});
     }
 
+    /**
+     * 🧊 Constructor para bindings del modo estático: la creación, la
+     * inyección y los callbacks los hace código generado, así que no se
+     * analiza la clase (ni ASM, ni constructores por reflexión, ni JIT).
+     */
+    Dependency(Class<?> type, ScopeManager.ScopeType scopeType, boolean lazy) {
+        this.type = type;
+        this.scopeType = scopeType;
+        this.asmEngine = null;
+        this.classAnalysis = new ClassAnalysis(lazy);
+        this.constructorParamTypes = new Class<?>[0];
+        this.constructorParamAnnotations = new Annotation[0][];
+        this.constructorGenericTypes = new Type[0];
+        this.precompiled = true;
+    }
+
     // ✅ JIT ASM: Inicializar supplier optimizado
     private void initializeJitSupplier() {
         try {
@@ -280,6 +311,15 @@ public class Dependency {
             this.preDestroyMethods = AsmCoreUtils.getPreDestroyMethods(clazz);
             this.injectMethods = getInjectMethodsCached(clazz);
         }
+
+        // 🧊 Modo estático: sin metadatos, todo lo resuelve el código generado
+        ClassAnalysis(boolean isLazy) {
+            this.isLazy = isLazy;
+            this.hasInjectFields = false;
+            this.postConstructMethods = java.util.Collections.emptyList();
+            this.preDestroyMethods = java.util.Collections.emptyList();
+            this.injectMethods = java.util.Collections.emptyList();
+        }
     }
 
     private static boolean hasInjectFieldsCached(Class<?> clazz) {
@@ -290,11 +330,7 @@ public class Dependency {
     }
 
     private static List<io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo> getInjectMethodsCached(Class<?> clazz) {
-        return injectMethodsCache.computeIfAbsent(clazz, Dependency::findInjectMethodsImpl);
-    }
-
-    private static List<io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo> findInjectMethodsImpl(Class<?> clazz) {
-        // ✅ ASM DIRECTO: Usar AsmCoreUtils para obtener métodos con @Inject sin conversión
+        // ✅ ASM DIRECTO: cacheado por clase en ClassMetadataStore (no retiene la clase)
         return AsmCoreUtils.getInjectMethods(clazz);
     }
     private Object createInstanceOptimized(IContainer container, Set<Class<?>> dependencyChain) throws Exception {
@@ -323,10 +359,27 @@ public class Dependency {
         return instance; // Retorna directamente la instancia
     }
 
+    /**
+     * 🚀 FAST PATH: Instancia singleton ya resuelta (con AOP aplicado), o null
+     * si todavía no se ha publicado.
+     */
+    public Object getResolvedInstance() {
+        ResolvedHandle handle = resolvedHandle;
+        return handle != null ? handle.instance : null;
+    }
+
+    private Object publishResolved(Object resolved) {
+        if (resolved != null) {
+            resolvedHandle = new ResolvedHandle(resolved);
+        }
+        return resolved;
+    }
+
     /**
      * Limpia la instancia cacheada (para hot reload)
      */
     public void clearCache() {
+        this.resolvedHandle = null;
         this.instance = null;
         this.instanceCreated = false;
         log.log(Level.FINE, "Cleared cache for dependency: {0}", type.getSimpleName());
@@ -377,6 +430,12 @@ public class Dependency {
     }
 
     public Object getInstance(IContainer container, Set<Class<?>> dependencyChain) {
+        // 🚀 FAST PATH: singleton ya resuelto - una única lectura volatile
+        ResolvedHandle handle = resolvedHandle;
+        if (handle != null) {
+            return handle.instance;
+        }
+
         log.log(Level.FINER, "Obteniendo instancia de: {0}, scope: {1}, creada: {2}",
                 new Object[]{type.getSimpleName(), scopeType, instanceCreated});
 
@@ -385,11 +444,16 @@ public class Dependency {
             return getLazyInstance(container, dependencyChain);
         }
 
-        // Verificar ciclo de dependencias
-        if (dependencyChain.contains(type)) {
-            throw new IllegalStateException("Ciclo de dependencias detectado: " + buildCycleMessage(dependencyChain, type));
+        // 🚀 Plan compilado: resolución en línea recta sin cadena ni búsquedas
+        ResolutionPlan plan = resolutionPlan;
+        if (plan != null) {
+            return plan.create();
         }
 
+        // 🔁 Verificar ciclo de dependencias (pila por hilo, sin asignaciones)
+        ResolutionStack stack = ResolutionStack.current();
+        stack.checkCycle(type);
+
         // ✅ SCOPE MANAGEMENT: Request/Session scope son manejados por WarmupContainer, no por Dependency
         if (scopeType == ScopeManager.ScopeType.REQUEST_SCOPE) {
             throw new IllegalStateException("Request-scoped beans should not reach Dependency.getInstance(). Use container.getRequestScopedBean() instead.");
@@ -407,11 +471,11 @@ public class Dependency {
         if (instanceCreated && instance != null && shouldCacheInstance()) {
             log.log(Level.FINER, "Retornando instancia existente de: {0}", type.getSimpleName());
             // ✅ AOP: Aplicar AOP a la instancia antes de devolverla
-            return applyAopSafely(instance, container);
+            return publishResolved(applyAopSafely(instance, container));
         }
 
         // Agregar a la cadena de dependencias
-        dependencyChain.add(type);
+        stack.push(this);
 
         try {
             Object newInstance;
@@ -455,14 +519,15 @@ public class Dependency {
                     new Object[]{scopeType.getValue(), type.getSimpleName()});
             
             // ✅ AOP: Aplicar AOP a la instancia antes de devolverla
-            return applyAopSafely(newInstance, container);
+            Object result = applyAopSafely(newInstance, container);
+            return shouldCacheInstance() ? publishResolved(result) : result;
 
         } catch (Exception ex) {
             log.log(Level.SEVERE, "Error creando instancia de {0}: {1}",
                     new Object[]{type.getName(), ex.getMessage()});
             throw new RuntimeException("Failed to create instance of " + type.getName(), ex);
         } finally {
-            dependencyChain.remove(type);
+            stack.pop();
         }
     }
 
@@ -714,7 +779,7 @@ public class Dependency {
                             if (jitOptimized && jitSupplier != null) {
                                 return (T) jitSupplier.get();
                             } else {
-                                return (T) createInstanceInternal(container, new HashSet<>());
+                                return (T) createInstanceInternal(container, Collections.emptySet());
                             }
                         } catch (Exception e) {
                             throw new RuntimeException("Error en supplier principal: " + type.getName(), e);
@@ -767,11 +832,8 @@ public class Dependency {
             return applyAopSafely(instance, container);
         }
 
-        if (dependencyChain.contains(type)) {
-            throw new IllegalStateException("Ciclo de dependencias detectado: " + buildCycleMessage(dependencyChain, type));
-        }
-
-        dependencyChain.add(type);
+        ResolutionStack stack = ResolutionStack.current();
+        stack.enter(this);
 
         try {
             synchronized (this) {
@@ -827,7 +889,7 @@ public class Dependency {
                     new Object[]{type.getName(), ex.getMessage()});
             throw new RuntimeException("Failed to create instance internally", ex);
         } finally {
-            dependencyChain.remove(type);
+            stack.pop();
         }
     }
 
@@ -1004,22 +1066,6 @@ public class Dependency {
         return null;
     }
 
-    private String buildCycleMessage(Set<Class<?>> chain, Class<?> cycleClass) {
-        StringBuilder sb = new StringBuilder();
-        boolean found = false;
-
-        for (Class<?> clazz : chain) {
-            if (clazz == cycleClass) {
-                found = true;
-            }
-            if (found) {
-                sb.append(clazz.getSimpleName()).append(" -> ");
-            }
-        }
-        sb.append(cycleClass.getSimpleName());
-        return sb.toString();
-    }
-
     private void registerInstanceForEvents(Object instance, IContainer container) {
         if (instance != null) {
             Class<?> clazz = instance.getClass();
@@ -1105,6 +1151,8 @@ public class Dependency {
     public void setInstance(Object instance) {
         this.instance = instance;
         this.instanceCreated = (instance != null);
+        // 🚀 La instancia asignada es la que ven los llamadores: publicarla
+        this.resolvedHandle = (instance != null && shouldCacheInstance()) ? new ResolvedHandle(instance) : null;
         log.log(Level.FINE, "✅ Instancia asignada manualmente: {0}", type.getSimpleName());
     }
 
@@ -1114,6 +1162,7 @@ public class Dependency {
      */
     public void clearInstanceForPrototype() {
         if (this.scopeType == ScopeManager.ScopeType.PROTOTYPE) {
+            this.resolvedHandle = null;
             this.instance = null;
             this.instanceCreated = false;
             log.log(Level.FINE, "🔧 PROTOTYPE instance cleared for: {0}", type.getSimpleName());
@@ -1126,12 +1175,14 @@ public class Dependency {
 
     public void setSingleton(boolean singleton) {
         // Legacy compatibility - convert boolean to scope type
+        this.resolvedHandle = null;
         this.scopeType = singleton ? ScopeManager.ScopeType.SINGLETON : ScopeManager.ScopeType.PROTOTYPE;
     }
 
     public void reset() {
         // Only reset prototype scope instances
         if (scopeType == ScopeManager.ScopeType.PROTOTYPE) {
+            resolvedHandle = null;
             instance = null;
             instanceCreated = false;
             lazyInstance = null;
@@ -1141,6 +1192,7 @@ public class Dependency {
     }
 
     public void forceCleanup() {
+        resolvedHandle = null;
         instance = null;
         instanceCreated = false;
         lazyInstance = null;
@@ -1172,6 +1224,36 @@ public class Dependency {
         this.jitSupplier = null;
     }
 
+    // 🚀 RESOLUTION PLANS: Acceso para ResolutionPlanCompiler
+    public ResolutionPlan getResolutionPlan() {
+        return resolutionPlan;
+    }
+
+    void setResolutionPlan(ResolutionPlan resolutionPlan) {
+        this.resolutionPlan = resolutionPlan;
+    }
+
+    boolean isLazy() {
+        return classAnalysis.isLazy;
+    }
+
+    Supplier<?> getJitSupplier() {
+        return jitOptimized ? jitSupplier : null;
+    }
+
+    List<io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo> getInjectMethodInfos() {
+        return classAnalysis.injectMethods;
+    }
+
+    List<io.warmup.framework.asm.AsmCoreUtils.AsmMethodInfo> getPostConstructMethodInfos() {
+        return classAnalysis.postConstructMethods;
+    }
+
+    // 🚀 EAGER SINGLETONS: Aristas del grafo de arranque
+    Class<?>[] getConstructorParamTypes() {
+        return constructorParamTypes != null ? constructorParamTypes : new Class<?>[0];
+    }
+
     private String getFieldDescriptor(Class<?> fieldType) {
         if (fieldType.isPrimitive()) {
             if (fieldType == int.class) {
@@ -107,7 +107,7 @@ public class DependencyManager {
 
     // ✅ MÉTODOS EXISTENTES MANTENIDOS (pero optimizados internamente)
     public <T> T get(Class<T> type) throws Exception {
-        return get(type, new HashSet<>());
+        return get(type, Collections.emptySet());
     }
 
     public <T> T get(Class<T> type, Set<Class<?>> dependencyChain) throws Exception {
@@ -129,7 +129,7 @@ public class DependencyManager {
     }
 
     public <T> T getNamed(Class<T> type, String name) throws Exception {
-        return getNamed(type, name, new HashSet<>());
+        return getNamed(type, name, Collections.emptySet());
     }
 
     public <T> T getNamed(Class<T> type, String name, Set<Class<?>> dependencyChain) throws Exception {
@@ -333,10 +333,10 @@ public class DependencyManager {
 
         String name = extractNameFromAnnotations(annotations);
         if (name != null) {
-            return getNamed(type, name, new HashSet<>(dependencyChain));
+            return getNamed(type, name, dependencyChain);
         }
 
-        return get(type, new HashSet<>(dependencyChain));
+        return get(type, dependencyChain);
     }
 
 // ✅ NUEVO: Verificar si es componente interno del framework
@@ -453,7 +453,7 @@ public class DependencyManager {
         for (Dependency dependency : dependencies.values()) {
             Class<?> type = dependency.getType();
             if (shouldInitialize(type) && !isLazyComponent(type)) {
-                dependency.getInstance(container, new HashSet<>());
+                dependency.getInstance(container, Collections.emptySet());
             }
         }
     }
@@ -71,6 +71,49 @@ public class DependencyRegistry {
      */
     private final Map<Class<?>, Set<Dependency>> interfaceImplementations = new HashMap<>();
 
+    /**
+     * 🚀 true mientras los ResolutionPlans compilados en {@link #freeze} son válidos
+     */
+    private volatile boolean frozen = false;
+
+    /**
+     * 🚀 Contenedor de los planes compilados y, por clave del registry (Class o
+     * "clase:nombre"), los bindings cuyo plan la consultó; protegidos por el monitor
+     */
+    private IContainer planResolver;
+    private final Map<Object, Set<Dependency>> planDependents = new HashMap<>();
+
+    /**
+     * 🧊 Snapshot inmutable de los mapas de bindings (null = leer de los mapas)
+     */
+    private volatile RegistrySnapshot snapshot;
+
+    /**
+     * 🧊 true tras el primer {@link #freeze}: los registros tardíos reconstruyen el snapshot
+     */
+    private volatile boolean snapshotEnabled = false;
+
+    /**
+     * Versión de los mapas, incrementada en cada mutación (copy-on-write del snapshot)
+     */
+    private final java.util.concurrent.atomic.AtomicLong registryVersion = new java.util.concurrent.atomic.AtomicLong();
+
+    /**
+     * 🔒 Protege los HashMaps de bindings: los registros y la reconstrucción del
+     * snapshot toman el write lock; las lecturas antes de freeze, el read lock
+     */
+    private final java.util.concurrent.locks.ReadWriteLock mapsLock = new java.util.concurrent.locks.ReentrantReadWriteLock();
+
+    /**
+     * 🚀 Ganador @Primary/@Alternative memoizado por interfaz (válido para una versión del registry y de los perfiles)
+     */
+    private final Map<Class<?>, BestImplementation> bestImplementations = new ConcurrentHashMap<>();
+
+    /**
+     * Versión de los perfiles activos, incrementada en {@link #onActiveProfilesChanged()}
+     */
+    private final java.util.concurrent.atomic.AtomicLong profilesVersion = new java.util.concurrent.atomic.AtomicLong();
+
     /**
      * 🚀 NATIVE: Map tracking which MethodMetadata created each bean class (for @Primary/@Alternative on @Bean methods)
      * Uses MethodMetadata instead of java.lang.reflect.Method to avoid reflection
@@ -139,7 +182,7 @@ public class DependencyRegistry {
 
     private WarmupContainer container;
     private PropertySource propertySource;
-    private Set<String> activeProfiles;
+    private volatile Set<String> activeProfiles;
 
     /**
      * Constructs a new NativeDependencyRegistry with the specified container and
@@ -206,7 +249,7 @@ public class DependencyRegistry {
         }
         
         Dependency dependency = new Dependency(type, singleton);
-        dependencies.put(type, dependency);
+        putDependency(type, dependency);
         registerInterfaceImplementations(type, dependency);
         
         // 🚀 OPTIMIZACIÓN O(1): Actualizar índice typeToDependencies
@@ -303,7 +346,7 @@ public class DependencyRegistry {
         System.out.println("🔍 [DEBUG] Dependency creado exitosamente");
         
         System.out.println("🔍 [DEBUG] Agregando a dependencies map...");
-        dependencies.put(type, dependency);
+        putDependency(type, dependency);
         System.out.println("🔍 [DEBUG] Agregado a dependencies map");
         
         System.out.println("🔍 [DEBUG] Registrando implementaciones de interfaces...");
@@ -324,7 +367,7 @@ public class DependencyRegistry {
     public <T> void registerNamed(Class<T> type, String name, boolean singleton) {
         String key = MetadataRegistry.getClassName(type) + ":" + name;
         Dependency dependency = new Dependency(type, singleton);
-        namedDependencies.put(key, dependency);
+        putNamedDependency(key, dependency);
         registerInterfaceImplementations(type, dependency);
         
         // ✅ ALSO REGISTER in namedBeans and namedBeanTypes
@@ -361,7 +404,7 @@ public class DependencyRegistry {
 
         String key = MetadataRegistry.getClassName(interfaceType) + ":" + name;
         Dependency dependency = new Dependency(implType, singleton);
-        namedDependencies.put(key, dependency);
+        putNamedDependency(key, dependency);
         registerInterfaceImplementations(implType, dependency);
 
         // ✅ ALSO REGISTER for name-based lookup
@@ -399,7 +442,7 @@ public class DependencyRegistry {
             return;
         }
         Dependency dependency = new Dependency(implType, singleton);
-        dependencies.put(interfaceType, dependency);
+        putDependency(interfaceType, dependency);
         registerInterfaceImplementations(implType, dependency);
     }
 
@@ -449,12 +492,12 @@ public class DependencyRegistry {
             dependency = new Dependency(implType, scopeType);
         }
         
-        dependencies.put(interfaceType, dependency);
+        putDependency(interfaceType, dependency);
         registerInterfaceImplementations(implType, dependency);
         
         // Store the MethodMetadata info for @Primary/@Alternative resolution
         if (creatingMethodMetadata != null) {
-            classToMethodMap.put(implType, creatingMethodMetadata);
+            putMethodMetadata(implType, creatingMethodMetadata);
         }
     }
 
@@ -503,12 +546,12 @@ public class DependencyRegistry {
             dependency = new Dependency(implType, singleton);
         }
         
-        dependencies.put(interfaceType, dependency);
+        putDependency(interfaceType, dependency);
         registerInterfaceImplementations(implType, dependency);
         
         // Store the MethodMetadata info for @Primary/@Alternative resolution
         if (creatingMethodMetadata != null) {
-            classToMethodMap.put(implType, creatingMethodMetadata);
+            putMethodMetadata(implType, creatingMethodMetadata);
         }
     }
 
@@ -558,7 +601,7 @@ public class DependencyRegistry {
         } else {
             // Solo crear un nuevo Dependency si no existe
             Dependency dependency = new Dependency(type, shouldBeSingleton, instance);
-            dependencies.put(type, dependency);
+            putDependency(type, dependency);
         }
 
         log.log(Level.INFO, "Named bean registered: {0} -> {1}", new Object[]{name, MetadataRegistry.getSimpleName(type)});
@@ -604,7 +647,7 @@ public class DependencyRegistry {
         // - Should be singleton: " + shouldBeSingleton
 
         Dependency dependency = new Dependency(type, shouldBeSingleton, instance);
-        dependencies.put(type, dependency);
+        putDependency(type, dependency);
         registerInterfaceImplementations(type, dependency);
 
         // ✅ ALSO REGISTER in namedBeans and namedBeanTypes
@@ -613,12 +656,12 @@ public class DependencyRegistry {
 
         // ✅ CRITICAL FIX: Also register in namedDependencies for getNamed() lookup using concrete type
         String key = MetadataRegistry.getClassName(type) + ":" + name;
-        namedDependencies.put(key, dependency);
+        putNamedDependency(key, dependency);
 
         // ✅ ALSO REGISTER using interface type if provided (for interface-based lookups)
         if (interfaceType != null && interfaceType != type) {
             String interfaceKey = MetadataRegistry.getClassName(interfaceType) + ":" + name;
-            namedDependencies.put(interfaceKey, dependency);
+            putNamedDependency(interfaceKey, dependency);
             log.log(Level.FINE, "Named bean also registered for interface lookup: {0} -> {1}", 
                     new Object[]{interfaceKey, MetadataRegistry.getSimpleName(type)});
         }
@@ -667,7 +710,7 @@ public class DependencyRegistry {
         }
 
         String key = MetadataRegistry.getClassName(type) + ":" + name;
-        namedDependencies.put(key, dependency);
+        putNamedDependency(key, dependency);
         namedBeanTypes.put(name, type);
         
         // Also register in type-based dependencies for interface lookups
@@ -693,7 +736,7 @@ public class DependencyRegistry {
             }
         }
         
-        dependencies.put(type, dependency);
+        putDependency(type, dependency);
         
         // Register interface implementations if applicable
         registerInterfaceImplementations(type, dependency);
@@ -717,8 +760,7 @@ public class DependencyRegistry {
             return null;
         }
 
-        String key = MetadataRegistry.getClassName(type) + ":" + name;
-        return namedDependencies.get(key);
+        return lookupNamedDependency(type, name);
     }
 
     /**
@@ -735,7 +777,7 @@ public class DependencyRegistry {
         System.out.println("findDependency() consultado para tipo: " + MetadataRegistry.getClassName(type));
         System.out.println("Tipo es interfaz: " + type.isInterface());
         
-        Dependency result = dependencies.get(type);
+        Dependency result = lookupDependency(type);
         
         if (result != null) {
             System.out.println("✅ [DEBUG] findDependency() encontró dependencia directa: " + MetadataRegistry.getClassName(result.getType()));
@@ -769,9 +811,15 @@ public class DependencyRegistry {
      */
     private void registerInterfaceImplementations(Class<?> clazz, Dependency dependency) {
         Class<?>[] interfaces = AsmCoreUtils.getInterfaces(clazz);
-        for (Class<?> interfaceClass : interfaces) {
-            interfaceImplementations.computeIfAbsent(interfaceClass, k -> new HashSet<>())
-                    .add(dependency);
+        mapsLock.writeLock().lock();
+        try {
+            for (Class<?> interfaceClass : interfaces) {
+                interfaceImplementations.computeIfAbsent(interfaceClass, k -> new HashSet<>())
+                        .add(dependency);
+            }
+            onRegistryMutation();
+        } finally {
+            mapsLock.writeLock().unlock();
         }
     }
 
@@ -784,7 +832,7 @@ public class DependencyRegistry {
      * @return the resolved dependency instance
      */
     public <T> T getNamed(Class<T> type, String name) {
-        return getNamed(type, name, new HashSet<>());
+        return getNamed(type, name, Collections.emptySet());
     }
 
     /**
@@ -820,11 +868,10 @@ public class DependencyRegistry {
         }
 
         // ✅ STEP 2: Search in namedDependencies (by type:name key)
-        String key = MetadataRegistry.getClassName(type) + ":" + name;
-        Dependency dependency = namedDependencies.get(key);
+        Dependency dependency = lookupNamedDependency(type, name);
 
         if (dependency != null) {
-            log.log(Level.FINE, "Found in namedDependencies: {0}", key);
+            log.log(Level.FINE, "Found in namedDependencies: {0}", name);
             T instance = (T) dependency.getInstance(container, dependencyChain);
 
             // CACHE in namedBeans for future lookups
@@ -898,10 +945,9 @@ public class DependencyRegistry {
      */
     public boolean hasBinding(Class<?> type, String name) {
         if (name == null) {
-            return dependencies.containsKey(type);
+            return lookupDependency(type) != null;
         } else {
-            String key = MetadataRegistry.getClassName(type) + ":" + name;
-            return namedDependencies.containsKey(key) || namedBeanTypes.containsKey(name);
+            return lookupNamedDependency(type, name) != null || namedBeanTypes.containsKey(name);
         }
     }
 
@@ -924,7 +970,7 @@ public class DependencyRegistry {
 
         // ✅ Register with concrete type
         String key = MetadataRegistry.getClassName(clazz) + ":" + name;
-        namedDependencies.put(key, dependency);
+        putNamedDependency(key, dependency);
 
         // ✅ Register with all interfaces
         Class<?>[] interfaces = AsmCoreUtils.getInterfaces(clazz);
@@ -934,7 +980,7 @@ public class DependencyRegistry {
             }
 
             String interfaceKey = MetadataRegistry.getClassName(interfaceClass) + ":" + name;
-            namedDependencies.put(interfaceKey, dependency);
+            putNamedDependency(interfaceKey, dependency);
 
             log.log(Level.INFO, "  → Interface registered: {0}:{1}", new Object[]{MetadataRegistry.getSimpleName(interfaceClass), name});
         }
@@ -979,19 +1025,50 @@ public class DependencyRegistry {
     /**
      * Returns all type-based dependencies.
      *
-     * @return map of class to dependency mappings
+     * @return read-only copy of the class to dependency mappings, safe to
+     *         iterate while other threads register bindings
      */
     public Map<Class<?>, Dependency> getDependencies() {
-        return dependencies;
+        // Copia bajo el read lock: los registros pasan por register*/registerDependency
+        // para invalidar snapshot y planes, y un HashMap vivo no se puede recorrer mientras muta
+        mapsLock.readLock().lock();
+        try {
+            return Collections.unmodifiableMap(new HashMap<>(dependencies));
+        } finally {
+            mapsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registers a prebuilt dependency definition (e.g. a generated resolver) for a type.
+     *
+     * @param type the class object representing the dependency type
+     * @param dependency the dependency definition
+     * @throws IllegalArgumentException if type or dependency is null
+     */
+    public void registerDependency(Class<?> type, Dependency dependency) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type cannot be null");
+        }
+        if (dependency == null) {
+            throw new IllegalArgumentException("Dependency cannot be null");
+        }
+        putDependency(type, dependency);
+        invalidateCaches();
     }
 
     /**
      * Returns all named dependencies.
      *
-     * @return map of name keys to dependency mappings
+     * @return read-only copy of the name key to dependency mappings
      */
     public Map<String, Dependency> getNamedDependencies() {
-        return namedDependencies;
+        mapsLock.readLock().lock();
+        try {
+            return Collections.unmodifiableMap(new HashMap<>(namedDependencies));
+        } finally {
+            mapsLock.readLock().unlock();
+        }
     }
 
     /**
@@ -1019,7 +1096,7 @@ public class DependencyRegistry {
      * @return the dependency, or null if not found
      */
     public Dependency getDependency(Class<?> type) {
-        return dependencies.get(type);
+        return lookupDependency(type);
     }
 
     /**
@@ -1027,7 +1104,7 @@ public class DependencyRegistry {
      * This method signature matches the requirements from other components.
      */
     public <T> Dependency getDependency(Class<T> type, Set<Class<?>> dependencyChain) {
-        return dependencies.get(type);
+        return lookupDependency(type);
     }
 
     /**
@@ -1114,14 +1191,14 @@ public class DependencyRegistry {
      * @return list of all implementation instances
      */
     public <T> List<T> getAllImplementations(Class<T> interfaceType) {
-        Set<Dependency> implementations = interfaceImplementations.get(interfaceType);
+        Set<Dependency> implementations = lookupImplementations(interfaceType);
         if (implementations == null) {
             return new ArrayList<>();
         }
 
         List<T> instances = new ArrayList<>();
         for (Dependency dependency : implementations) {
-            Object instance = dependency.getInstance(container, new HashSet<>());
+            Object instance = dependency.getInstance(container, Collections.emptySet());
             instances.add((T) instance);
         }
         return instances;
@@ -1143,7 +1220,7 @@ public class DependencyRegistry {
             for (Map.Entry<String, Dependency> entry : interfaceMap.entrySet()) {
                 String name = entry.getKey();
                 Dependency dep = entry.getValue();
-                T instance = (T) dep.getInstance(container, new HashSet<>());
+                T instance = (T) dep.getInstance(container, Collections.emptySet());
                 implementations.put(name, instance);
             }
         }
@@ -1155,13 +1232,20 @@ public class DependencyRegistry {
      * Clears all dependency registrations and cached instances.
      */
     public void clear() {
-        dependencies.clear();
-        namedDependencies.clear();
-        interfaceImplementations.clear();
+        invalidateResolutionPlans();
+        mapsLock.writeLock().lock();
+        try {
+            dependencies.clear();
+            namedDependencies.clear();
+            interfaceImplementations.clear();
+            classToMethodMap.clear(); // ✅ NATIVE: Clear MethodMetadata map
+            onRegistryMutation();
+        } finally {
+            mapsLock.writeLock().unlock();
+        }
         namedBeans.clear();
         namedBeanTypes.clear();
         namedCacheHitCount.clear();
-        classToMethodMap.clear(); // ✅ NATIVE: Clear MethodMetadata map
         
         // 🚀 OPTIMIZACIÓN O(1): Limpiar índices pre-computados
         nameToDependencies.clear();
@@ -1261,10 +1345,10 @@ public class DependencyRegistry {
                 args[i] = Convert.convertStringToType(resolvedValue, paramType);
             } else if (namedAnnotation != null) {
                 String paramName = namedAnnotation.value();
-                args[i] = container.getNamed(paramType, paramName, new HashSet<>(dependencyChain));
+                args[i] = container.getNamed(paramType, paramName, dependencyChain);
             } else if (qualifierAnnotation != null) {
                 String paramName = qualifierAnnotation.value();
-                args[i] = container.getNamed(paramType, paramName, new HashSet<>(dependencyChain));
+                args[i] = container.getNamed(paramType, paramName, dependencyChain);
             } else {
                 args[i] = container.get(paramType, dependencyChain);
             }
@@ -1284,22 +1368,40 @@ public class DependencyRegistry {
      * @throws Exception if resolution fails
      */
     public <T> T getBestImplementation(Class<T> interfaceType) throws Exception {
-        System.out.println("NativeDependencyRegistry.getBestImplementation() called with interface: " + MetadataRegistry.getClassName(interfaceType));
-        System.out.println("Active profiles: " + activeProfiles);
-        
-        Set<Dependency> implementations = interfaceImplementations.get(interfaceType);
+        // 🚀 Ganador memoizado: sin reconstruir candidatos ni buckets de prioridad
+        Dependency bestDependency = cachedBestImplementation(interfaceType);
+        if (bestDependency == null) {
+            System.out.println("NativeDependencyRegistry.getBestImplementation() called with interface: " + MetadataRegistry.getClassName(interfaceType));
+            System.out.println("Active profiles: " + activeProfiles);
+            bestDependency = resolveBestImplementation(interfaceType);
+        }
+        return bestImplementationInstance(interfaceType, bestDependency);
+    }
+
+    /**
+     * Elige la implementación de {@code interfaceType} (filtro por @Profile y
+     * reglas @Primary/@Alternative) y la memoiza para la versión actual del
+     * registry y de los perfiles activos.
+     */
+    private Dependency resolveBestImplementation(Class<?> interfaceType) {
+        long version = registryVersion.get();
+        long profiles = profilesVersion.get();
+        Dependency bestDependency = selectBestImplementation(interfaceType);
+        bestImplementations.put(interfaceType, new BestImplementation(bestDependency, version, profiles));
+        return bestDependency;
+    }
+
+    private Dependency selectBestImplementation(Class<?> interfaceType) {
+        Set<Dependency> implementations = lookupImplementations(interfaceType);
         
         if (implementations == null || implementations.isEmpty()) {
             log.log(Level.INFO, "❌ No implementations found for interface: {0}, checking direct dependency", MetadataRegistry.getSimpleName(interfaceType));
             // Fallback to direct registration for backwards compatibility
-            Dependency directDependency = dependencies.get(interfaceType);
+            Dependency directDependency = lookupDependency(interfaceType);
             if (directDependency != null) {
                 log.log(Level.INFO, "✅ Found direct dependency for {0}: {1}", 
                         new Object[]{MetadataRegistry.getSimpleName(interfaceType), MetadataRegistry.getSimpleName(directDependency.getType())});
-                T result = (T) directDependency.getInstance(container, new HashSet<>());
-                log.log(Level.INFO, "✅ Direct dependency getInstance returned: {0} for {1}", 
-                        new Object[]{result != null ? MetadataRegistry.getSimpleName(result.getClass()) : "null", MetadataRegistry.getSimpleName(interfaceType)});
-                return result;
+                return directDependency;
             }
             throw new IllegalArgumentException("No implementation found for interface: " + MetadataRegistry.getClassName(interfaceType));
         }
@@ -1310,7 +1412,8 @@ public class DependencyRegistry {
         Set<Dependency> profileCompatibleImplementations = new HashSet<>();
         for (Dependency implementation : implementations) {
             Class<?> implClass = implementation.getType();
-            io.warmup.framework.annotation.Profile profileAnnotation = AsmCoreUtils.getAnnotationProgressive(implClass, io.warmup.framework.annotation.Profile.class);
+            // La variante ASM de getAnnotationProgressive no reconstruye anotaciones (siempre null)
+            io.warmup.framework.annotation.Profile profileAnnotation = implClass.getAnnotation(io.warmup.framework.annotation.Profile.class);
             
             if (profileAnnotation == null) {
                 // No @Profile annotation means always compatible
@@ -1348,7 +1451,7 @@ public class DependencyRegistry {
                 interfaceType, 
                 profileCompatibleImplementations, 
                 container,
-                classToMethodMap
+                methodMetadataView()
             );
         } else {
             // ✅ FIX: Use activeProfiles directly when container is null (early initialization)
@@ -1356,7 +1459,7 @@ public class DependencyRegistry {
                 interfaceType, 
                 profileCompatibleImplementations, 
                 activeProfiles,
-                classToMethodMap
+                methodMetadataView()
             );
         }
         
@@ -1366,34 +1469,79 @@ public class DependencyRegistry {
         
         log.log(Level.INFO, "✅ Resolved best dependency for {0}: {1} (scope: {2})", 
                 new Object[]{MetadataRegistry.getSimpleName(interfaceType), MetadataRegistry.getSimpleName(bestDependency.getType()), bestDependency.getScopeType()});
-        
-        // Check dependency state before using instance
-        log.log(Level.INFO, "BestDependency for {0}: hasInstance={1}, instanceCreated={2}, scope={3}", 
-                new Object[]{
-                    MetadataRegistry.getSimpleName(interfaceType), 
-                    bestDependency.getInstance() != null, 
-                    bestDependency.isInstanceCreated(),
-                    bestDependency.getScopeType()
-                });
-        
+        return bestDependency;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T bestImplementationInstance(Class<T> interfaceType, Dependency bestDependency) {
         // ✅ VERIFICACIÓN ESPECIAL: Para beans @Bean con dependencias de constructor, usar instancia existente
         T result;
         if (bestDependency.getInstance() != null && bestDependency.getScopeType() == ScopeManager.ScopeType.SINGLETON) {
             // 🔧 FIX: Solo usar instancia existente para singleton beans, NO para prototype
-            log.log(Level.INFO, "🔄 Using existing instance for {0} (created during @Bean processing, SINGLETON scope)", 
-                    new Object[]{MetadataRegistry.getSimpleName(interfaceType)});
             result = (T) bestDependency.getInstance();
         } else {
             // Para prototype beans, SIEMPRE crear nueva instancia, incluso si hay una instancia existente
-            log.log(Level.INFO, "No existing instance for {0} or PROTOTYPE scope, calling getInstance() method", 
-                    new Object[]{MetadataRegistry.getSimpleName(interfaceType)});
-            result = (T) bestDependency.getInstance(container, new HashSet<>());
+            result = (T) bestDependency.getInstance(container, Collections.emptySet());
+        }
+        // Ruta caliente (cada inyección por interfaz): trazas solo en FINE
+        if (log.isLoggable(Level.FINE)) {
+            log.log(Level.FINE, "✅ Best dependency getInstance returned: {0} for {1} (scope: {2})",
+                    new Object[]{result != null ? MetadataRegistry.getSimpleName(result.getClass()) : "null",
+                            MetadataRegistry.getSimpleName(interfaceType), bestDependency.getScopeType()});
         }
-        log.log(Level.INFO, "✅ Best dependency getInstance returned: {0} for {1}", 
-                new Object[]{result != null ? MetadataRegistry.getSimpleName(result.getClass()) : "null", MetadataRegistry.getSimpleName(interfaceType)});
         return result;
     }
 
+    /**
+     * 🚀 Ganador memoizado de {@code interfaceType}, o null si no hay o si el
+     * registry o los perfiles activos han cambiado desde que se resolvió.
+     */
+    private Dependency cachedBestImplementation(Class<?> interfaceType) {
+        BestImplementation cached = bestImplementations.get(interfaceType);
+        if (cached == null || cached.registryVersion != registryVersion.get()
+                || cached.profilesVersion != profilesVersion.get()) {
+            return null;
+        }
+        return cached.dependency;
+    }
+
+    /**
+     * Descarta los ganadores memoizados tras cambiar los perfiles activos;
+     * los cambios de bindings ya los invalida la versión del registry.
+     */
+    public void onActiveProfilesChanged() {
+        profilesVersion.incrementAndGet();
+        bestImplementations.clear();
+    }
+
+    /**
+     * Adopta los nuevos perfiles activos (lo llama {@link ProfileManager}) y
+     * descarta los ganadores memoizados.
+     */
+    public void onActiveProfilesChanged(Set<String> activeProfiles) {
+        this.activeProfiles = activeProfiles;
+        onActiveProfilesChanged();
+    }
+
+    /**
+     * Pre-resuelve el ganador de cada interfaz registrada. Las interfaces
+     * ambiguas se dejan sin memoizar para que el error salga al resolverlas.
+     */
+    private int precomputeBestImplementations() {
+        Set<Class<?>> interfaces = new HashSet<>(interfaceImplementations.keySet());
+        int resolved = 0;
+        for (Class<?> interfaceType : interfaces) {
+            try {
+                resolveBestImplementation(interfaceType);
+                resolved++;
+            } catch (RuntimeException e) {
+                log.log(Level.FINE, "Best implementation for {0} not precomputed: {1}",
+                        new Object[]{MetadataRegistry.getSimpleName(interfaceType), e.getMessage()});
+            }
+        }
+        return resolved;
+    }
+
     /**
      * Registers an implementation for an interface with automatic @Named
      * annotation handling.
@@ -1421,7 +1569,7 @@ public class DependencyRegistry {
                         new Object[]{key});
                 // NOT OVERWRITING existing instance!
             } else {
-                namedDependencies.put(key, dependency);
+                putNamedDependency(key, dependency);
                 namedBeanTypes.put(namedAnnotation.value(), interfaceType);
                 updateIndices(key, namedAnnotation.value(), interfaceType, dependency);
                 log.log(Level.INFO, "🆕 [DEBUG] Registered named dependency for key {0}", new Object[]{key});
@@ -1433,7 +1581,7 @@ public class DependencyRegistry {
                         new Object[]{MetadataRegistry.getSimpleName(interfaceType)});
                 // NOT OVERWRITING existing instance!
             } else {
-                dependencies.put(interfaceType, dependency);
+                putDependency(interfaceType, dependency);
                 log.log(Level.INFO, "🆕 [DEBUG] Registered dependency for interface {0}", 
                         new Object[]{MetadataRegistry.getSimpleName(interfaceType)});
             }
@@ -1836,6 +1984,228 @@ public class DependencyRegistry {
         }
     }
     
+    // ========================================
+    // 🚀 RESOLUTION PLANS - Registry congelado
+    // ========================================
+
+    /**
+     * Congela el registry y compila un {@link ResolutionPlan} por cada binding
+     * prototype. Llamado por {@link WarmupContainer#start()} una vez terminado
+     * el arranque por fases; un registro posterior solo recompila los planes
+     * que consultaron la clave registrada (y el del nuevo binding).
+     *
+     * @param resolver contenedor usado por los nodos singleton y dinámicos
+     * @return número de planes compilados
+     */
+    public synchronized int freeze(IContainer resolver) {
+        invalidateResolutionPlans();
+
+        // 🧊 Snapshot inmutable antes de compilar: el compilador ya lee de él
+        snapshotEnabled = true;
+        rebuildSnapshot();
+
+        List<Dependency> bindings = new ArrayList<>(dependencies.values());
+        bindings.addAll(namedDependencies.values());
+        planResolver = resolver;
+        int compiled = compilePlans(bindings);
+        int precomputed = precomputeBestImplementations();
+        frozen = true;
+        log.log(Level.INFO, "🧊 Registry frozen: {0} resolution plans compiled for {1} bindings, {2} best implementations precomputed",
+                new Object[]{compiled, bindings.size(), precomputed});
+        return compiled;
+    }
+
+    /**
+     * @return true si el registry está congelado y los planes son válidos
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private synchronized void invalidateResolutionPlans() {
+        if (!frozen) {
+            return;
+        }
+        frozen = false;
+        for (Dependency dependency : dependencies.values()) {
+            dependency.setResolutionPlan(null);
+        }
+        for (Dependency dependency : namedDependencies.values()) {
+            dependency.setResolutionPlan(null);
+        }
+        planDependents.clear();
+        log.log(Level.FINE, "🔥 Registry cleared after freeze - resolution plans discarded");
+    }
+
+    /**
+     * Compila los planes de los bindings dados e indexa las claves que consultan.
+     * Llamado con el monitor del registry.
+     */
+    private int compilePlans(List<Dependency> bindings) {
+        ResolutionPlanCompiler compiler = new ResolutionPlanCompiler(this, planResolver);
+        int compiled = compiler.compileAll(bindings);
+        for (Dependency dependency : bindings) {
+            for (Object key : compiler.getConsultedKeys(dependency)) {
+                planDependents.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(dependency);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * 🚀 Registro tras freeze: descarta solo los planes que enlazaron la clave
+     * (su binding anterior o un nodo dinámico para ella) y los recompila junto
+     * con el del nuevo binding. El resto de planes sigue siendo válido.
+     */
+    private void recompileAffectedPlans(Object key, Dependency registered) {
+        if (!frozen) {
+            return;
+        }
+        synchronized (this) {
+            if (!frozen) {
+                return;
+            }
+            List<Dependency> affected = new ArrayList<>();
+            Set<Dependency> dependents = planDependents.remove(key);
+            if (dependents != null) {
+                for (Dependency dependency : dependents) {
+                    dependency.setResolutionPlan(null);
+                    affected.add(dependency);
+                }
+            }
+            affected.add(registered);
+            int compiled = compilePlans(affected);
+            log.log(Level.FINE, "🔁 Registry modified after freeze ({0}) - {1} resolution plans recompiled",
+                    new Object[]{key, compiled});
+        }
+    }
+
+    private void putDependency(Class<?> type, Dependency dependency) {
+        mapsLock.writeLock().lock();
+        try {
+            dependencies.put(type, dependency);
+            onRegistryMutation();
+        } finally {
+            mapsLock.writeLock().unlock();
+        }
+        recompileAffectedPlans(type, dependency);
+    }
+
+    private void putNamedDependency(String key, Dependency dependency) {
+        mapsLock.writeLock().lock();
+        try {
+            namedDependencies.put(key, dependency);
+            onRegistryMutation();
+        } finally {
+            mapsLock.writeLock().unlock();
+        }
+        recompileAffectedPlans(key, dependency);
+    }
+
+    private void addInterfaceImplementation(Class<?> interfaceClass, Dependency dependency) {
+        mapsLock.writeLock().lock();
+        try {
+            interfaceImplementations.computeIfAbsent(interfaceClass, k -> new HashSet<>()).add(dependency);
+            onRegistryMutation();
+        } finally {
+            mapsLock.writeLock().unlock();
+        }
+    }
+
+    private void putMethodMetadata(Class<?> implType, io.warmup.framework.metadata.MethodMetadata methodMetadata) {
+        mapsLock.writeLock().lock();
+        try {
+            classToMethodMap.put(implType, methodMetadata);
+            onRegistryMutation();
+        } finally {
+            mapsLock.writeLock().unlock();
+        }
+    }
+
+    // ========================================
+    // 🧊 SNAPSHOT - Lecturas sin locks tras freeze
+    // ========================================
+
+    /**
+     * Descarta el snapshot tras una mutación; se reconstruye (copy-on-write)
+     * en la siguiente lectura. Llamado con el write lock de los mapas.
+     */
+    private void onRegistryMutation() {
+        registryVersion.incrementAndGet();
+        snapshot = null;
+    }
+
+    private RegistrySnapshot currentSnapshot() {
+        RegistrySnapshot current = snapshot;
+        if (current != null || !snapshotEnabled) {
+            return current;
+        }
+        return rebuildSnapshot();
+    }
+
+    private RegistrySnapshot rebuildSnapshot() {
+        // Write lock: ningún registro puede mutar los HashMaps mientras se copian
+        mapsLock.writeLock().lock();
+        try {
+            RegistrySnapshot current = snapshot;
+            if (current != null) {
+                // Otro lector lo reconstruyó mientras esperábamos el lock
+                return current;
+            }
+            RegistrySnapshot rebuilt = RegistrySnapshot.build(dependencies, interfaceImplementations, namedDependencies, classToMethodMap);
+            snapshot = rebuilt;
+            return rebuilt;
+        } finally {
+            mapsLock.writeLock().unlock();
+        }
+    }
+
+    private Dependency lookupDependency(Class<?> type) {
+        RegistrySnapshot current = currentSnapshot();
+        if (current != null) {
+            return current.getDependency(type);
+        }
+        mapsLock.readLock().lock();
+        try {
+            return dependencies.get(type);
+        } finally {
+            mapsLock.readLock().unlock();
+        }
+    }
+
+    private Dependency lookupNamedDependency(Class<?> type, String name) {
+        RegistrySnapshot current = currentSnapshot();
+        if (current != null) {
+            return current.getNamedDependency(type, name);
+        }
+        String key = MetadataRegistry.getClassName(type) + ":" + name;
+        mapsLock.readLock().lock();
+        try {
+            return namedDependencies.get(key);
+        } finally {
+            mapsLock.readLock().unlock();
+        }
+    }
+
+    Set<Dependency> lookupImplementations(Class<?> interfaceType) {
+        RegistrySnapshot current = currentSnapshot();
+        if (current != null) {
+            return current.getImplementations(interfaceType);
+        }
+        mapsLock.readLock().lock();
+        try {
+            return interfaceImplementations.get(interfaceType);
+        } finally {
+            mapsLock.readLock().unlock();
+        }
+    }
+
+    private Map<Class<?>, io.warmup.framework.metadata.MethodMetadata> methodMetadataView() {
+        RegistrySnapshot current = currentSnapshot();
+        return current != null ? current.getClassToMethodMap() : classToMethodMap;
+    }
+
     /**
      * 🚀 OPTIMIZACIÓN O(1): Invalida todos los caches TTL
      * Llamado automáticamente en cada registro de dependencia
@@ -1890,12 +2260,38 @@ public class DependencyRegistry {
         }
         
         Dependency dependency = new Dependency(type, supplier, singleton);
-        dependencies.put(type, dependency);
+        putDependency(type, dependency);
         registerInterfaceImplementations(type, dependency);
         
         log.log(Level.INFO, "Supplier-based dependency registered: {0}", MetadataRegistry.getSimpleName(type));
     }
 
+    /**
+     * 🧊 Registra un binding del modo estático. Las interfaces vienen del
+     * código generado, así que no se analiza la clase; el procesador rechaza
+     * en compilación los componentes con @Profile.
+     */
+    void registerStatic(StaticDependency dependency, String name, Class<?>[] interfaces) {
+        Class<?> type = dependency.getType();
+        putDependency(type, dependency);
+        if (name != null) {
+            String key = MetadataRegistry.getClassName(type) + ":" + name;
+            putNamedDependency(key, dependency);
+            namedBeanTypes.put(name, type);
+            nameToDependencies.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).put(type, dependency);
+        }
+        for (Class<?> interfaceClass : interfaces) {
+            addInterfaceImplementation(interfaceClass, dependency);
+            if (name != null) {
+                putNamedDependency(MetadataRegistry.getClassName(interfaceClass) + ":" + name, dependency);
+                interfaceToNamedDependencies.computeIfAbsent(interfaceClass, k -> new ConcurrentHashMap<>())
+                        .put(name, dependency);
+            }
+        }
+        updateTypeIndex(type, dependency);
+        invalidateCaches();
+    }
+
     /**
      * 🚀 NATIVE JIT Optimization: Checks if a class is optimized for JIT compilation
      * Uses ClassMetadata instead of reflection for method/field counting
@@ -2017,4 +2413,19 @@ public class DependencyRegistry {
         }
         return getBean(type);
     }
-}
\ No newline at end of file
+
+    /**
+     * 🚀 Ganador memoizado y las versiones con las que se resolvió
+     */
+    private static final class BestImplementation {
+        final Dependency dependency;
+        final long registryVersion;
+        final long profilesVersion;
+
+        BestImplementation(Dependency dependency, long registryVersion, long profilesVersion) {
+            this.dependency = dependency;
+            this.registryVersion = registryVersion;
+            this.profilesVersion = profilesVersion;
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package io.warmup.framework.core;
+
+import io.warmup.framework.annotation.Named;
+import io.warmup.framework.asm.AsmCoreUtils;
+import io.warmup.framework.exception.WarmupException;
+import io.warmup.framework.jit.asm.DependencyGraph;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 🚀 EAGER SINGLETON INITIALIZER - Instanciación por capas topológicas
+ *
+ * Construye el grafo de singletons eager (no lazy, aún sin instancia) con
+ * {@link DependencyGraph} a partir de los puntos de inyección de cada binding
+ * (constructor, campos y métodos @Inject), siguiendo también los bindings no
+ * eager y las clases sin registrar por las que se alcanza otro singleton,
+ * y lo divide en capas: los singletons
+ * de una misma capa no dependen entre sí, así que sus constructores y
+ * métodos @PostConstruct se ejecutan en paralelo en un {@link ForkJoinPool}.
+ * Cada capa espera a la anterior.
+ *
+ * Los errores se reportan de forma determinista: al terminar una capa se lanza
+ * el fallo del primer singleton de la capa (orden por nombre de clase) y el
+ * resto se adjuntan como suprimidos; las capas siguientes no se ejecutan.
+ *
+ * Los singletons que forman ciclos se crean al final en serie por el camino
+ * clásico, que es el que detecta y reporta el ciclo.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+final class EagerSingletonInitializer {
+
+    private static final Logger log = Logger.getLogger(EagerSingletonInitializer.class.getName());
+
+    /**
+     * Propiedad para desactivar la instanciación paralela ("false" = serie).
+     */
+    static final String PARALLEL_PROPERTY = "warmup.startup.parallelSingletons";
+
+    private final DependencyRegistry registry;
+    private final IContainer container;
+    private final ForkJoinPool pool;
+    private final boolean parallel;
+
+    private final List<Long> layerTimesMs = new ArrayList<>();
+    private final List<Integer> layerSizes = new ArrayList<>();
+    private int criticalPathLength;
+
+    // Capas precalculadas (container snapshot) y capas efectivamente usadas
+    private List<List<String>> plannedLayers;
+    private List<String> plannedCyclic;
+    private List<List<Class<?>>> layers = Collections.emptyList();
+    private List<Class<?>> cyclic = Collections.emptyList();
+
+    EagerSingletonInitializer(DependencyRegistry registry, IContainer container, ForkJoinPool pool, boolean parallel) {
+        this.registry = registry;
+        this.container = container;
+        this.pool = pool;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Usa capas ya calculadas (p.ej. de un {@link ContainerSnapshot}) en lugar
+     * de reconstruir el grafo. Solo se aplican si cubren exactamente los
+     * singletons eager pendientes.
+     */
+    void usePlannedLayers(List<List<String>> layers, List<String> cyclic) {
+        this.plannedLayers = layers;
+        this.plannedCyclic = cyclic;
+    }
+
+    /**
+     * Crea todos los singletons eager pendientes.
+     *
+     * @return número de singletons instanciados
+     * @throws WarmupException si algún singleton falla al crearse
+     */
+    int initialize() {
+        Map<Class<?>, List<Dependency>> eager = collectEagerSingletons();
+        if (eager.isEmpty()) {
+            return 0;
+        }
+
+        if (!resolvePlannedLayers(eager)) {
+            DependencyGraph graph = buildGraph(eager);
+            layers = graph.getLayers();
+            cyclic = graph.getCyclicNodes();
+        }
+        criticalPathLength = layers.size();
+
+        log.log(Level.FINE, "🚀 Eager singletons: {0} in {1} layers ({2}), {3} in cycles",
+                new Object[]{eager.size(), layers.size(), parallel ? "parallel" : "serial", cyclic.size()});
+
+        for (List<Class<?>> layer : layers) {
+            long start = System.nanoTime();
+            if (parallel && layer.size() > 1) {
+                instantiateParallel(layer, eager);
+            } else {
+                instantiateSerial(layer, eager);
+            }
+            layerTimesMs.add((System.nanoTime() - start) / 1_000_000);
+            layerSizes.add(layer.size());
+        }
+
+        if (!cyclic.isEmpty()) {
+            long start = System.nanoTime();
+            instantiateSerial(cyclic, eager);
+            layerTimesMs.add((System.nanoTime() - start) / 1_000_000);
+            layerSizes.add(cyclic.size());
+        }
+        return eager.size();
+    }
+
+    List<Long> getLayerTimesMs() {
+        return layerTimesMs;
+    }
+
+    List<Integer> getLayerSizes() {
+        return layerSizes;
+    }
+
+    List<List<Class<?>>> getLayers() {
+        return layers;
+    }
+
+    List<Class<?>> getCyclic() {
+        return cyclic;
+    }
+
+    int getCriticalPathLength() {
+        return criticalPathLength;
+    }
+
+    boolean isParallel() {
+        return parallel;
+    }
+
+    // ========================================
+    // 🎯 GRAFO DE SINGLETONS
+    // ========================================
+
+    private Map<Class<?>, List<Dependency>> collectEagerSingletons() {
+        Set<Dependency> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Class<?>, List<Dependency>> eager = new LinkedHashMap<>();
+        List<Dependency> bindings = new ArrayList<>(registry.getDependencies().values());
+        bindings.addAll(registry.getNamedDependencies().values());
+        for (Dependency dependency : bindings) {
+            if (dependency != null && seen.add(dependency) && isEagerSingleton(dependency)) {
+                eager.computeIfAbsent(dependency.getType(), k -> new ArrayList<>()).add(dependency);
+            }
+        }
+        return eager;
+    }
+
+    private static boolean isEagerSingleton(Dependency dependency) {
+        Class<?> type = dependency.getType();
+        return dependency.isSingleton()
+                && !dependency.isLazy()
+                && !dependency.isInstanceCreated()
+                && !type.isInterface()
+                && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    private boolean resolvePlannedLayers(Map<Class<?>, List<Dependency>> eager) {
+        if (plannedLayers == null) {
+            return false;
+        }
+        Map<String, Class<?>> byName = new HashMap<>();
+        for (Class<?> type : eager.keySet()) {
+            byName.put(type.getName(), type);
+        }
+
+        List<List<Class<?>>> resolvedLayers = new ArrayList<>(plannedLayers.size());
+        int planned = 0;
+        for (List<String> layer : plannedLayers) {
+            List<Class<?>> resolved = resolveNames(layer, byName);
+            if (resolved == null) {
+                return false;
+            }
+            resolvedLayers.add(resolved);
+            planned += resolved.size();
+        }
+        List<Class<?>> resolvedCyclic = resolveNames(plannedCyclic, byName);
+        if (resolvedCyclic == null || planned + resolvedCyclic.size() != eager.size()) {
+            log.log(Level.FINE, "🔄 Planned singleton layers do not match the registry, rebuilding graph");
+            return false;
+        }
+        layers = resolvedLayers;
+        cyclic = resolvedCyclic;
+        return true;
+    }
+
+    private static List<Class<?>> resolveNames(List<String> names, Map<String, Class<?>> byName) {
+        List<Class<?>> classes = new ArrayList<>(names.size());
+        for (String name : names) {
+            Class<?> type = byName.get(name);
+            if (type == null) {
+                return null;
+            }
+            classes.add(type);
+        }
+        return classes;
+    }
+
+    private DependencyGraph buildGraph(Map<Class<?>, List<Dependency>> eager) {
+        DependencyGraph graph = new DependencyGraph();
+        for (Map.Entry<Class<?>, List<Dependency>> entry : eager.entrySet()) {
+            DependencyGraph.DependencyNode node = graph.getOrCreateNode(entry.getKey());
+            for (Class<?> target : reachableEagerSingletons(entry.getValue(), eager)) {
+                node.addDependency(graph.getOrCreateNode(target));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Singletons eager que se crean al construir {@code bindings}: los
+     * requeridos directamente y los alcanzados a través de bindings que no son
+     * eager (prototypes, lazy, singletons ya creados no) o de clases sin
+     * registrar, que el contenedor crea al vuelo. Sin este cierre transitivo
+     * dos tareas de una misma capa podrían crear el mismo singleton.
+     */
+    private Set<Class<?>> reachableEagerSingletons(List<Dependency> bindings, Map<Class<?>, List<Dependency>> eager) {
+        Set<Class<?>> reached = new LinkedHashSet<>();
+        Set<Dependency> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Class<?>> visitedUnregistered = new HashSet<>();
+        Deque<Dependency> pending = new ArrayDeque<>();
+        Deque<Class<?>> pendingUnregistered = new ArrayDeque<>();
+        for (Dependency dependency : bindings) {
+            visited.add(dependency);
+            collectRequired(dependency, pending, pendingUnregistered);
+        }
+
+        while (!pending.isEmpty() || !pendingUnregistered.isEmpty()) {
+            if (!pending.isEmpty()) {
+                Dependency target = pending.pop();
+                if (eager.containsKey(target.getType())) {
+                    // Sus propias dependencias ya son aristas de su nodo
+                    reached.add(target.getType());
+                } else if (visited.add(target) && !target.isInstanceCreated()) {
+                    collectRequired(target, pending, pendingUnregistered);
+                }
+            } else {
+                Class<?> type = pendingUnregistered.pop();
+                if (visitedUnregistered.add(type)) {
+                    collectRequired(type, pending, pendingUnregistered);
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Bindings de los que depende {@code dependency}. Es una aproximación
+     * conservadora: para interfaces se toman todas las implementaciones.
+     */
+    private void collectRequired(Dependency dependency, Deque<Dependency> required, Deque<Class<?>> unregistered) {
+        if (dependency instanceof StaticDependency) {
+            // 🧊 Modo estático: aristas exactas elegidas en compilación
+            for (Class<?> target : ((StaticDependency) dependency).getStaticDependencies()) {
+                addBindingsFor(target, null, required, unregistered);
+            }
+            return;
+        }
+        for (Class<?> paramType : dependency.getConstructorParamTypes()) {
+            addBindingsFor(paramType, null, required, unregistered);
+        }
+        collectInjectionPoints(dependency.getType(), dependency.getInjectMethodInfos(), required, unregistered);
+    }
+
+    /**
+     * Igual que {@link #collectRequired(Dependency, Deque, Deque)} para una
+     * clase sin binding, analizada directamente.
+     */
+    private void collectRequired(Class<?> type, Deque<Dependency> required, Deque<Class<?>> unregistered) {
+        AsmCoreUtils.AsmConstructorInfo constructor = AsmCoreUtils.getInjectConstructor(type);
+        if (constructor != null) {
+            addDescriptorBindings(constructor.parameterTypes, required, unregistered);
+        }
+        collectInjectionPoints(type, AsmCoreUtils.getInjectMethods(type), required, unregistered);
+    }
+
+    private void collectInjectionPoints(Class<?> type, List<AsmCoreUtils.AsmMethodInfo> injectMethods,
+                                        Deque<Dependency> required, Deque<Class<?>> unregistered) {
+        for (AsmCoreUtils.AsmFieldInfo fieldInfo : AsmCoreUtils.getInjectFields(type)) {
+            try {
+                Field field = type.getDeclaredField(fieldInfo.name);
+                Named named = field.getAnnotation(Named.class);
+                addBindingsFor(field.getType(), named != null ? named.value() : null, required, unregistered);
+            } catch (NoSuchFieldException e) {
+                log.log(Level.FINEST, "Inject field not found: {0}", fieldInfo.name);
+            }
+        }
+
+        for (AsmCoreUtils.AsmMethodInfo methodInfo : injectMethods) {
+            addDescriptorBindings(methodInfo.parameterTypes, required, unregistered);
+        }
+    }
+
+    private void addDescriptorBindings(String[] descriptors, Deque<Dependency> required, Deque<Class<?>> unregistered) {
+        for (String descriptor : descriptors) {
+            Class<?> paramType = AsmCoreUtils.getClassFromDescriptor(descriptor);
+            if (paramType != null) {
+                addBindingsFor(paramType, null, required, unregistered);
+            }
+        }
+    }
+
+    private void addBindingsFor(Class<?> type, String name, Deque<Dependency> required, Deque<Class<?>> unregistered) {
+        if (type.isPrimitive()) {
+            return;
+        }
+        boolean bound = false;
+        if (name != null) {
+            Dependency named = registry.findDependency(type, name);
+            if (named != null) {
+                required.add(named);
+                bound = true;
+            }
+        }
+        Dependency direct = registry.getDependency(type);
+        if (direct != null) {
+            required.add(direct);
+            bound = true;
+        }
+        Set<Dependency> implementations = registry.lookupImplementations(type);
+        if (implementations != null && !implementations.isEmpty()) {
+            required.addAll(implementations);
+            bound = true;
+        }
+        if (!bound && isCreatableUnregistered(type)) {
+            unregistered.add(type);
+        }
+    }
+
+    private static boolean isCreatableUnregistered(Class<?> type) {
+        return !type.isInterface()
+                && !type.isArray()
+                && !Modifier.isAbstract(type.getModifiers())
+                && type.getClassLoader() != null;
+    }
+
+    // ========================================
+    // 🚀 INSTANCIACIÓN
+    // ========================================
+
+    private void instantiateSerial(List<Class<?>> layer, Map<Class<?>, List<Dependency>> eager) {
+        for (Class<?> type : layer) {
+            try {
+                instantiate(eager.get(type));
+            } catch (RuntimeException e) {
+                throw failure(type, e);
+            }
+        }
+    }
+
+    private void instantiateParallel(List<Class<?>> layer, Map<Class<?>, List<Dependency>> eager) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(layer.size());
+        for (Class<?> type : layer) {
+            List<Dependency> bindings = eager.get(type);
+            tasks.add(pool.submit(() -> instantiate(bindings)));
+        }
+
+        // Esperar a toda la capa antes de reportar, en el orden de la capa
+        WarmupException error = null;
+        for (int i = 0; i < tasks.size(); i++) {
+            Throwable cause = awaitTask(tasks.get(i));
+            if (cause == null) {
+                continue;
+            }
+            if (error == null) {
+                error = failure(layer.get(i), cause);
+            } else {
+                error.addSuppressed(failure(layer.get(i), cause));
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private static Throwable awaitTask(ForkJoinTask<?> task) {
+        try {
+            task.join();
+            return null;
+        } catch (RuntimeException | Error e) {
+            // join() relanza la excepción original (o una copia con la original como causa)
+            return task.getException() != null ? task.getException() : e;
+        }
+    }
+
+    private void instantiate(List<Dependency> bindings) {
+        for (Dependency dependency : bindings) {
+            dependency.getInstance(container, Collections.emptySet());
+        }
+    }
+
+    private static WarmupException failure(Class<?> type, Throwable cause) {
+        return new WarmupException("Eager singleton initialization failed for " + type.getName()
+                + ": " + cause.getMessage(), cause);
+    }
+}
@@ -1,8 +1,6 @@
 package io.warmup.framework.core;
 
 import io.warmup.framework.event.EventListenerMethod;
-import io.warmup.framework.asm.AsmCoreUtils; // MIGRATED from SimpleASMUtils
-import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -14,6 +12,11 @@ import java.util.concurrent.atomic.AtomicInteger;
  * usando índices pre-computados para listeners por tipo de evento.
  * 
  * DIFERENCIAL COMPETITIVO: EventManager más eficiente que Spring/Micronaut/Quarkus
+ * 
+ * ⚡ DISPATCH COMPILADO: cada listener se registra con un {@link EventListenerInvoker}
+ * generado; por tipo de evento se guarda un array inmutable con los invokers
+ * compatibles (orden de registro), así que {@link #dispatchEvent(Object)} es un
+ * bucle de llamadas directas. Registrar o limpiar sustituye la tabla completa.
  */
 public class EventIndexEngine {
     
@@ -35,6 +38,14 @@ public class EventIndexEngine {
     // 🚀 NUEVO: Cache de superclases para cada tipo O(1)
     private final Map<Class<?>, Set<Class<?>>> superclassCache = new ConcurrentHashMap<>();
     
+    // ⚡ Invokers generados: listenerID -> invoker compilado al registrar
+    private final Map<String, EventListenerInvoker> invokerIndex = new ConcurrentHashMap<>();
+    
+    // ⚡ Tabla de dispatch: eventType -> invokers compatibles (inmutable, se reemplaza al registrar)
+    private volatile Map<Class<?>, EventListenerInvoker[]> dispatchTable = new ConcurrentHashMap<>();
+    
+    private static final EventListenerInvoker[] NO_INVOKERS = new EventListenerInvoker[0];
+    
     // Contador para IDs únicos de listeners
     private final AtomicInteger listenerIdCounter = new AtomicInteger(0);
     
@@ -42,7 +53,11 @@ public class EventIndexEngine {
      * 🚀 REGISTRO O(1) - Indexación automática de listeners con cache completo
      */
     public void registerListener(Class<?> eventType, EventListenerMethod listener) {
-        String listenerId = generateListenerId(listener);
+        int order = listenerIdCounter.incrementAndGet();
+        String listenerId = generateListenerId(order, listener);
+        
+        // ⚡ Compilar el invoker una sola vez, fuera del camino de dispatch
+        invokerIndex.put(listenerId, new EventListenerInvoker(order, listener));
         
         // O(1): Agregar a índice principal
         eventTypeToListeners.computeIfAbsent(eventType, k -> ConcurrentHashMap.newKeySet())
@@ -63,32 +78,65 @@ public class EventIndexEngine {
         
         // Invalidar cache de jerarquía para este tipo de evento
         eventHierarchyCache.remove(eventType);
+        
+        // ⚡ Un listener de un supertipo afecta a todos sus subtipos: nueva tabla completa
+        invalidateDispatchTable();
     }
     
     /**
      * 🎯 DISPATCH O(1) - Búsqueda directa completa por tipo de evento
      */
     public void dispatchEvent(Object event) {
-        Class<?> eventType = event.getClass();
-        
-        // 🚀 NUEVO: Cache O(1) completo de listeners compatibles
-        Set<String> allCompatibleListenerIds = getAllCompatibleListenersO1(eventType);
+        // ⚡ Una lectura de mapa y un bucle de llamadas directas
+        for (EventListenerInvoker invoker : getInvokers(event.getClass())) {
+            try {
+                invoker.invoke(event);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // Log error pero continúa con otros listeners
+                System.err.println("Error dispatching event to listener: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * ⚡ OBTENER INVOKERS COMPILADOS - Construye el array la primera vez que se publica el tipo
+     */
+    private EventListenerInvoker[] getInvokers(Class<?> eventType) {
+        Map<Class<?>, EventListenerInvoker[]> table = dispatchTable;
+        EventListenerInvoker[] invokers = table.get(eventType);
+        if (invokers == null) {
+            // Si un registro reemplaza la tabla mientras tanto, este array queda en la tabla descartada
+            invokers = buildInvokers(eventType);
+            table.putIfAbsent(eventType, invokers);
+        }
+        return invokers;
+    }
+    
+    /**
+     * 🏗️ CONSTRUIR ARRAY DE INVOKERS - Solo listeners que aceptan el evento, en orden de registro
+     */
+    private EventListenerInvoker[] buildInvokers(Class<?> eventType) {
+        Set<String> listenerIds = getAllCompatibleListenersO1(eventType);
+        if (listenerIds == null || listenerIds.isEmpty()) {
+            return NO_INVOKERS;
+        }
         
-        if (allCompatibleListenerIds != null && !allCompatibleListenerIds.isEmpty()) {
-            // O(1): Dispatch directo a todos los listeners indexados
-            for (String listenerId : allCompatibleListenerIds) {
-                EventListenerMethod listener = listenerIndex.get(listenerId);
-                if (listener != null) {
-                    try {
-                        Method method = listener.getMethod();
-                        AsmCoreUtils.invokeMethod(listener.getInstance(), method.getName(), event);
-                    } catch (Exception e) {
-                        // Log error pero continúa con otros listeners
-                        System.err.println("Error dispatching event to listener: " + e.getMessage());
-                    }
-                }
+        List<EventListenerInvoker> invokers = new ArrayList<>(listenerIds.size());
+        for (String listenerId : listenerIds) {
+            EventListenerInvoker invoker = invokerIndex.get(listenerId);
+            EventListenerInvoker compatible = invoker != null ? invoker.forEventType(eventType) : null;
+            if (compatible != null) {
+                invokers.add(compatible);
             }
         }
+        invokers.sort(Comparator.comparingInt(EventListenerInvoker::getOrder));
+        return invokers.toArray(NO_INVOKERS);
+    }
+    
+    private void invalidateDispatchTable() {
+        dispatchTable = new ConcurrentHashMap<>();
     }
     
     /**
@@ -214,17 +262,9 @@ public class EventIndexEngine {
      * 🚀 ACTUALIZAR CACHE COMPLETO DE COMPATIBILIDAD O(1) - Mantener consistencia
      */
     private void updateFullCompatibleListenersCache(Class<?> eventType, String listenerId) {
-        // Invalidar cache completo para re-construcción
-        fullCompatibleListenersCache.remove(eventType);
-        
-        // Actualizar caches de tipos relacionados (optimizado)
-        Set<Class<?>> relatedTypes = new HashSet<>();
-        relatedTypes.add(eventType);
-        relatedTypes.addAll(getSuperclassesO1(eventType));
-        
-        for (Class<?> relatedType : relatedTypes) {
-            fullCompatibleListenersCache.remove(relatedType);
-        }
+        // Invalidar cache completo para re-construcción: un listener de eventType
+        // también es compatible con todos sus subtipos ya cacheados
+        fullCompatibleListenersCache.clear();
     }
     
     /**
@@ -238,9 +278,8 @@ public class EventIndexEngine {
     /**
      * 🆔 GENERAR ID ÚNICO - Para indexación de listeners
      */
-    private String generateListenerId(EventListenerMethod listener) {
-        return "listener_" + listenerIdCounter.incrementAndGet() + "_" + 
-               System.identityHashCode(listener);
+    private String generateListenerId(int order, EventListenerMethod listener) {
+        return "listener_" + order + "_" + System.identityHashCode(listener);
     }
     
     /**
@@ -254,6 +293,7 @@ public class EventIndexEngine {
         metrics.put("directListenerCacheSize", directListenerCache.size());
         metrics.put("fullCompatibleListenersCacheSize", fullCompatibleListenersCache.size());
         metrics.put("superclassCacheSize", superclassCache.size());
+        metrics.put("compiledDispatchTypes", dispatchTable.size());
         
         // Calcular eficiencia de cache
         int totalLookups = eventTypeToListeners.values().stream()
@@ -280,6 +320,7 @@ public class EventIndexEngine {
         directListenerCache.clear();
         fullCompatibleListenersCache.clear();
         superclassCache.clear();
+        invalidateDispatchTable();
     }
     
     /**
@@ -289,10 +330,12 @@ public class EventIndexEngine {
         // Limpiar índices existentes
         eventTypeToListeners.clear();
         listenerIndex.clear();
+        invokerIndex.clear();
         eventHierarchyCache.clear();
         directListenerCache.clear();
         fullCompatibleListenersCache.clear();
         superclassCache.clear();
+        invalidateDispatchTable();
         listenerIdCounter.set(0);
         
         // Los índices se reconstruyen automáticamente en el próximo registro
@@ -0,0 +1,73 @@
+package io.warmup.framework.core;
+
+import io.warmup.framework.aop.MethodInvoker;
+import io.warmup.framework.aop.MethodInvokers;
+import io.warmup.framework.event.EventListenerMethod;
+import java.lang.reflect.Method;
+
+/**
+ * ⚡ Invocador compilado de un método {@code @EventListener}: la instancia y el
+ * {@link MethodInvoker} generado se resuelven una sola vez al registrar, así
+ * que el dispatch es una llamada directa sin búsquedas por nombre.
+ */
+final class EventListenerInvoker {
+
+    private final int order;
+    private final EventListenerMethod listener;
+    private final Object instance;
+    private final MethodInvoker invoker;
+
+    EventListenerInvoker(int order, EventListenerMethod listener) {
+        this(order, listener, listener.getMethod());
+    }
+
+    private EventListenerInvoker(int order, EventListenerMethod listener, Method target) {
+        this.order = order;
+        this.listener = listener;
+        this.instance = listener.getInstance();
+        this.invoker = MethodInvokers.of(target);
+    }
+
+    /**
+     * Invoker para eventos de {@code eventType}. Si el método registrado no
+     * acepta ese tipo se usa la sobrecarga más específica con el mismo nombre
+     * (como hacía la invocación por nombre), resuelta una sola vez por tipo.
+     *
+     * @return {@code null} si ningún método del listener acepta el evento
+     */
+    EventListenerInvoker forEventType(Class<?> eventType) {
+        Method method = listener.getMethod();
+        if (accepts(method, eventType)) {
+            return this;
+        }
+        Method best = null;
+        for (Method candidate : instance.getClass().getMethods()) {
+            if (candidate.getName().equals(method.getName()) && accepts(candidate, eventType)
+                    && (best == null || best.getParameterTypes()[0].isAssignableFrom(candidate.getParameterTypes()[0]))) {
+                best = candidate;
+            }
+        }
+        return best != null ? new EventListenerInvoker(order, listener, best) : null;
+    }
+
+    private static boolean accepts(Method method, Class<?> eventType) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length == 1 && parameterTypes[0].isAssignableFrom(eventType);
+    }
+
+    void invoke(Object event) throws Throwable {
+        // Método de un parámetro: sin array de argumentos por evento
+        invoker.invokeSingle(instance, event);
+    }
+
+    /**
+     * @return posición de registro; el dispatch respeta este orden
+     */
+    int getOrder() {
+        return order;
+    }
+
+    EventListenerMethod getListener() {
+        return listener;
+    }
+}
@@ -1,14 +1,20 @@
 package io.warmup.framework.core;
 
+import io.warmup.framework.aop.MethodInvoker;
+import io.warmup.framework.aop.MethodInvokers;
 import io.warmup.framework.event.Event;
+import io.warmup.framework.event.EventBatcher;
 import io.warmup.framework.event.EventListenerMethod;
 // import io.warmup.framework.jit.asm.SimpleASMUtils; // NOT USED - MIGRATED to AsmCoreUtils
 import io.warmup.framework.asm.AsmCoreUtils;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,6 +25,19 @@ public class EventManager {
     // 🚀 SISTEMA ÚNICO: EventIndexEngine para búsqueda O(1) de listeners
     // CONSOLIDADO: Un solo sistema sin duplicación, eliminando overhead O(n)
     private final EventIndexEngine eventIndexEngine = new EventIndexEngine();
+    
+    // 📦 Listeners de lotes: el motor invoca EventBatcher.add(Object) y el batcher al método List<T>
+    private static final Method BATCHER_ADD;
+    
+    static {
+        try {
+            BATCHER_ADD = EventBatcher.class.getMethod("add", Object.class);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    private final List<EventBatcher<Event>> batchers = new CopyOnWriteArrayList<>();
 
     public void registerEventListeners(Class<?> clazz, Object instance) {
         // ✅ ASM: Usar AsmCoreUtils para obtener métodos con @EventListener usando bytecode
@@ -26,7 +45,10 @@ public class EventManager {
         
         for (Method method : eventListenerMethods) {
             Class<?>[] parameterTypes = method.getParameterTypes();
-            if (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0])) {
+            if (parameterTypes.length == 1 && parameterTypes[0] == List.class) {
+                // 📦 @EventListener(batchSize=…, maxDelayMs=…) sobre un método List<T>
+                registerBatchListener(clazz, instance, method);
+            } else if (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0])) {
                 @SuppressWarnings("unchecked")
                 Class<? extends Event> eventType = (Class<? extends Event>) parameterTypes[0];
                 EventListenerMethod listener = new EventListenerMethod(instance, method);
@@ -41,6 +63,52 @@ public class EventManager {
         }
     }
 
+    /**
+     * 📦 Registra un listener de lotes: el EventIndexEngine entrega cada evento a un
+     * {@link EventBatcher}, que invoca el método con la lista al llenarse o vencer.
+     */
+    private void registerBatchListener(Class<?> clazz, Object instance, Method method) {
+        Class<? extends Event> eventType = batchElementType(method);
+        if (eventType == null) {
+            log.log(Level.SEVERE, "Método @EventListener de lotes debe recibir List<T> con T subtipo de Event: {0}", method.getName());
+            return;
+        }
+        io.warmup.framework.annotation.EventListener annotation =
+                method.getAnnotation(io.warmup.framework.annotation.EventListener.class);
+        MethodInvoker invoker = MethodInvokers.of(method);
+        EventBatcher<Event> batcher = new EventBatcher<>(clazz.getSimpleName() + "." + method.getName(),
+                Math.max(1, annotation.batchSize()), Math.max(0, annotation.maxDelayMs()), batch -> {
+                    try {
+                        invoker.invoke(instance, new Object[]{batch});
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+        batchers.add(batcher);
+        eventIndexEngine.registerListener(eventType, new EventListenerMethod(batcher, BATCHER_ADD));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Event> batchElementType(Method method) {
+        Type parameterType = method.getGenericParameterTypes()[0];
+        if (parameterType instanceof ParameterizedType) {
+            Type elementType = ((ParameterizedType) parameterType).getActualTypeArguments()[0];
+            if (elementType instanceof Class && Event.class.isAssignableFrom((Class<?>) elementType)) {
+                return (Class<? extends Event>) elementType;
+            }
+        }
+        return null;
+    }
+    
+    // 📦 Entregar ya los lotes incompletos (p. ej. antes de un shutdown)
+    public void flushBatches() {
+        for (EventBatcher<Event> batcher : batchers) {
+            batcher.flush();
+        }
+    }
+    
     // 🚀 NUEVO: Publicar eventos con búsqueda O(1) de listeners
     public void dispatchEvent(Event event) {
         // ✅ OPTIMIZADO: Usar EventIndexEngine para búsqueda O(1)
@@ -69,6 +137,8 @@ public class EventManager {
     // Método para limpiar listeners (para reset o shutdown)
     // EFICIENTE: Limpia ambos índices en una sola operación
     public void clearListeners() {
+        flushBatches();
+        batchers.clear();
         eventIndexEngine.clearCaches();
         eventIndexEngine.rebuildAllIndices(); // Limpieza completa
     }
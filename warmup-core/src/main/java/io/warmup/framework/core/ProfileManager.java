@@ -14,6 +14,8 @@ public class ProfileManager {
 
     private final Set<String> activeProfiles = new HashSet<>();
     private final PropertySource propertySource; // Necesario para cargar perfiles iniciales desde propiedades
+    // Registry que filtra implementaciones por perfil; se le notifica cada cambio
+    private volatile DependencyRegistry dependencyRegistry;
 
     public ProfileManager(PropertySource propertySource, String... initialProfiles) {
         this.propertySource = propertySource;
@@ -63,11 +65,28 @@ public class ProfileManager {
             Collections.addAll(this.activeProfiles, profiles);
         }
         log.log(Level.INFO, "Perfiles activos: {0}", this.activeProfiles);
+        notifyProfilesChanged();
     }
 
     public void addActiveProfile(String profile) {
         this.activeProfiles.add(profile);
         System.out.println("Perfil agregado: " + profile);
+        notifyProfilesChanged();
+    }
+
+    /**
+     * Registry al que se propagan los cambios de perfiles (ganadores
+     * @Primary/@Alternative memoizados y filtro por @Profile).
+     */
+    public void setDependencyRegistry(DependencyRegistry dependencyRegistry) {
+        this.dependencyRegistry = dependencyRegistry;
+    }
+
+    private void notifyProfilesChanged() {
+        DependencyRegistry registry = this.dependencyRegistry;
+        if (registry != null) {
+            registry.onActiveProfilesChanged(getActiveProfiles());
+        }
     }
 
     public boolean isProfileActive(String profile) {
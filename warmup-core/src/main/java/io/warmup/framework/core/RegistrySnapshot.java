@@ -0,0 +1,261 @@
+package io.warmup.framework.core;
+
+import io.warmup.framework.metadata.MethodMetadata;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🧊 REGISTRY SNAPSHOT - Vista inmutable y compacta del {@link DependencyRegistry}
+ *
+ * Se construye al congelar el registry al final de {@code WarmupContainer.start()}
+ * y se publica con una única escritura volatile. Los lookups por tipo usan
+ * tablas de direccionamiento abierto indexadas por identidad de {@link Class};
+ * los lookups por nombre usan {@link BindingKey} precalculados, de modo que
+ * {@code findDependency(Class, String)} ya no concatena {@code "type:name"}
+ * en cada llamada.
+ *
+ * Al ser inmutable puede leerse desde cualquier hilo sin sincronización.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+final class RegistrySnapshot {
+
+    private final ClassTable<Dependency> dependencies;
+    private final ClassTable<Set<Dependency>> interfaceImplementations;
+    private final BindingTable namedDependencies;
+    private final Map<Class<?>, MethodMetadata> classToMethodMap;
+
+    private RegistrySnapshot(ClassTable<Dependency> dependencies,
+                             ClassTable<Set<Dependency>> interfaceImplementations,
+                             BindingTable namedDependencies,
+                             Map<Class<?>, MethodMetadata> classToMethodMap) {
+        this.dependencies = dependencies;
+        this.interfaceImplementations = interfaceImplementations;
+        this.namedDependencies = namedDependencies;
+        this.classToMethodMap = classToMethodMap;
+    }
+
+    /**
+     * Copia el estado actual de los mapas del registry.
+     */
+    static RegistrySnapshot build(Map<Class<?>, Dependency> dependencies,
+                                  Map<Class<?>, Set<Dependency>> interfaceImplementations,
+                                  Map<String, Dependency> namedDependencies,
+                                  Map<Class<?>, MethodMetadata> classToMethodMap) {
+        Map<Class<?>, Set<Dependency>> implementations = new HashMap<>();
+        for (Map.Entry<Class<?>, Set<Dependency>> entry : interfaceImplementations.entrySet()) {
+            implementations.put(entry.getKey(),
+                    Collections.unmodifiableSet(new LinkedHashSet<>(entry.getValue())));
+        }
+        return new RegistrySnapshot(
+                new ClassTable<>(dependencies),
+                new ClassTable<>(implementations),
+                new BindingTable(namedDependencies),
+                Collections.unmodifiableMap(new HashMap<>(classToMethodMap)));
+    }
+
+    Dependency getDependency(Class<?> type) {
+        return dependencies.get(type);
+    }
+
+    boolean containsDependency(Class<?> type) {
+        return dependencies.get(type) != null;
+    }
+
+    Set<Dependency> getImplementations(Class<?> interfaceType) {
+        return interfaceImplementations.get(interfaceType);
+    }
+
+    Dependency getNamedDependency(Class<?> type, String name) {
+        return namedDependencies.get(type.getName(), name);
+    }
+
+    Map<Class<?>, MethodMetadata> getClassToMethodMap() {
+        return classToMethodMap;
+    }
+
+    int size() {
+        return dependencies.size + namedDependencies.size;
+    }
+
+    // ========================================
+    // 🔑 BINDING KEY
+    // ========================================
+
+    /**
+     * Clave precalculada de un binding con nombre: tipo (o interfaz) + nombre.
+     * Equivale a la clave {@code "className:name"} de {@code namedDependencies}.
+     */
+    static final class BindingKey {
+        final String typeName;
+        final String name;
+        final int hash;
+
+        BindingKey(String typeName, String name) {
+            this.typeName = typeName;
+            this.name = name;
+            this.hash = hash(typeName, name);
+        }
+
+        /**
+         * Parsea una clave {@code "className:name"}; los nombres de clase no
+         * contienen ':' así que el primer separador delimita el tipo.
+         */
+        static BindingKey parse(String key) {
+            int separator = key.indexOf(':');
+            if (separator < 0) {
+                return new BindingKey(key, "");
+            }
+            return new BindingKey(key.substring(0, separator), key.substring(separator + 1));
+        }
+
+        static int hash(String typeName, String name) {
+            return spread(31 * typeName.hashCode() + name.hashCode());
+        }
+
+        boolean matches(String typeName, String name) {
+            return this.typeName.equals(typeName) && this.name.equals(name);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BindingKey)) {
+                return false;
+            }
+            BindingKey other = (BindingKey) o;
+            return matches(other.typeName, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return typeName + ":" + name;
+        }
+    }
+
+    // ========================================
+    // 🚀 TABLAS DE DIRECCIONAMIENTO ABIERTO
+    // ========================================
+
+    private static int spread(int h) {
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return h;
+    }
+
+    private static int capacityFor(int size) {
+        // Factor de carga <= 0.5 para sondas cortas
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Tabla inmutable indexada por identidad de {@link Class} con sondeo lineal.
+     */
+    static final class ClassTable<V> {
+        private final Class<?>[] keys;
+        private final Object[] values;
+        private final int mask;
+        final int size;
+
+        ClassTable(Map<Class<?>, ? extends V> source) {
+            int capacity = capacityFor(source.size());
+            this.keys = new Class<?>[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            int count = 0;
+            for (Map.Entry<Class<?>, ? extends V> entry : source.entrySet()) {
+                Class<?> key = entry.getKey();
+                if (key == null || entry.getValue() == null) {
+                    continue;
+                }
+                int index = spread(System.identityHashCode(key)) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = entry.getValue();
+                count++;
+            }
+            this.size = count;
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(Class<?> key) {
+            if (key == null) {
+                return null;
+            }
+            int index = spread(System.identityHashCode(key)) & mask;
+            Class<?> candidate;
+            while ((candidate = keys[index]) != null) {
+                if (candidate == key) {
+                    return (V) values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Tabla inmutable de bindings con nombre indexada por {@link BindingKey}.
+     * El lookup no reserva memoria: compara tipo y nombre contra la clave.
+     */
+    static final class BindingTable {
+        private final BindingKey[] keys;
+        private final Dependency[] values;
+        private final int mask;
+        final int size;
+
+        BindingTable(Map<String, Dependency> source) {
+            int capacity = capacityFor(source.size());
+            this.keys = new BindingKey[capacity];
+            this.values = new Dependency[capacity];
+            this.mask = capacity - 1;
+            int count = 0;
+            for (Map.Entry<String, Dependency> entry : source.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    continue;
+                }
+                BindingKey key = BindingKey.parse(entry.getKey());
+                int index = key.hash & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = entry.getValue();
+                count++;
+            }
+            this.size = count;
+        }
+
+        Dependency get(String typeName, String name) {
+            int hash = BindingKey.hash(typeName, name);
+            int index = hash & mask;
+            BindingKey candidate;
+            while ((candidate = keys[index]) != null) {
+                if (candidate.hash == hash && candidate.matches(typeName, name)) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+    }
+}
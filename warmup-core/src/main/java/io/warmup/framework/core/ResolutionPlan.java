@@ -0,0 +1,201 @@
+package io.warmup.framework.core;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Collections;
+
+/**
+ * 🚀 RESOLUTION PLAN - Factory pre-enlazada para un binding
+ *
+ * Un plan es el resultado de compilar el grafo transitivo de un binding una vez
+ * que el {@link DependencyRegistry} ha sido congelado tras {@code start()}.
+ * Cada nodo ya conoce sus hijos, sus MethodHandles de construcción/inyección y
+ * sus callbacks @PostConstruct, por lo que resolver un prototype es una única
+ * llamada a {@link #create()}: sin cadena de dependencias por llamada, sin
+ * búsquedas en mapas y sin re-evaluar scope o lazy.
+ *
+ * Los planes son inmutables; si una clave del registry cambia después de
+ * congelarse, los planes que la enlazaron se recompilan y mientras tanto la
+ * resolución vuelve a {@link Dependency#getInstance}.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+public abstract class ResolutionPlan {
+
+    /**
+     * Crea (o devuelve, según el nodo) la instancia descrita por este plan.
+     *
+     * @return la instancia resuelta
+     */
+    public abstract Object create();
+
+    /**
+     * @return el tipo producido por este plan
+     */
+    public abstract Class<?> getType();
+
+    // ========================================
+    // 🎯 NODOS DEL PLAN
+    // ========================================
+
+    /**
+     * Nodo prototype: construcción + inyección + @PostConstruct en línea recta.
+     */
+    static final class PrototypePlan extends ResolutionPlan {
+
+        private final Class<?> type;
+        private final IContainer container;
+
+        // () -> Object
+        private final MethodHandle constructor;
+
+        // (Object, Object) -> void, uno por campo @Inject
+        private final MethodHandle[] fieldSetters;
+        private final ResolutionPlan[] fieldValues;
+
+        // (Object, Object[]) -> void, uno por método @Inject
+        private final MethodHandle[] injectMethods;
+        private final ResolutionPlan[][] injectMethodArgs;
+
+        // (Object) -> void
+        private final MethodHandle[] postConstructMethods;
+
+        PrototypePlan(Class<?> type, IContainer container, MethodHandle constructor,
+                      MethodHandle[] fieldSetters, ResolutionPlan[] fieldValues,
+                      MethodHandle[] injectMethods, ResolutionPlan[][] injectMethodArgs,
+                      MethodHandle[] postConstructMethods) {
+            this.type = type;
+            this.container = container;
+            this.constructor = constructor;
+            this.fieldSetters = fieldSetters;
+            this.fieldValues = fieldValues;
+            this.injectMethods = injectMethods;
+            this.injectMethodArgs = injectMethodArgs;
+            this.postConstructMethods = postConstructMethods;
+        }
+
+        @Override
+        public Object create() {
+            try {
+                Object instance = (Object) constructor.invokeExact();
+
+                for (int i = 0; i < fieldSetters.length; i++) {
+                    fieldSetters[i].invokeExact(instance, fieldValues[i].create());
+                }
+
+                for (int i = 0; i < injectMethods.length; i++) {
+                    ResolutionPlan[] argPlans = injectMethodArgs[i];
+                    Object[] args = new Object[argPlans.length];
+                    for (int j = 0; j < argPlans.length; j++) {
+                        args[j] = argPlans[j].create();
+                    }
+                    injectMethods[i].invokeExact(instance, args);
+                }
+
+                for (MethodHandle postConstruct : postConstructMethods) {
+                    postConstruct.invokeExact(instance);
+                }
+
+                container.registerEventListeners(instance.getClass(), instance);
+                return instance;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException("Failed to create instance of " + type.getName(), t);
+            }
+        }
+
+        @Override
+        public Class<?> getType() {
+            return type;
+        }
+    }
+
+    /**
+     * Nodo singleton: delega la primera creación en {@link Dependency} y luego
+     * devuelve la instancia publicada en su handle resuelto.
+     */
+    static final class SingletonPlan extends ResolutionPlan {
+
+        private final Dependency dependency;
+        private final IContainer container;
+
+        SingletonPlan(Dependency dependency, IContainer container) {
+            this.dependency = dependency;
+            this.container = container;
+        }
+
+        @Override
+        public Object create() {
+            Object instance = dependency.getResolvedInstance();
+            if (instance != null) {
+                return instance;
+            }
+            return dependency.getInstance(container, Collections.emptySet());
+        }
+
+        @Override
+        public Class<?> getType() {
+            return dependency.getType();
+        }
+    }
+
+    /**
+     * Nodo dinámico: puntos de inyección que no se pueden enlazar en tiempo de
+     * compilación del plan (@Named sin binding, @Value, interfaces...).
+     */
+    static final class DynamicPlan extends ResolutionPlan {
+
+        interface Resolver {
+            Object resolve() throws Exception;
+        }
+
+        private final Class<?> type;
+        private final Resolver resolver;
+
+        DynamicPlan(Class<?> type, Resolver resolver) {
+            this.type = type;
+            this.resolver = resolver;
+        }
+
+        @Override
+        public Object create() {
+            try {
+                return resolver.resolve();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to resolve dependency of type " + type.getName(), e);
+            }
+        }
+
+        @Override
+        public Class<?> getType() {
+            return type;
+        }
+    }
+
+    /**
+     * Nodo constante: valores por defecto de primitivos.
+     */
+    static final class ConstantPlan extends ResolutionPlan {
+
+        private final Class<?> type;
+        private final Object value;
+
+        ConstantPlan(Class<?> type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+
+        @Override
+        public Object create() {
+            return value;
+        }
+
+        @Override
+        public Class<?> getType() {
+            return type;
+        }
+    }
+}
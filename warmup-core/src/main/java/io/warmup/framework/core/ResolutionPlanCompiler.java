@@ -0,0 +1,350 @@
+package io.warmup.framework.core;
+
+import io.warmup.framework.annotation.Named;
+import io.warmup.framework.annotation.Qualifier;
+import io.warmup.framework.annotation.Value;
+import io.warmup.framework.asm.AsmCoreUtils;
+import io.warmup.framework.metadata.MetadataRegistry;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 🚀 RESOLUTION PLAN COMPILER
+ *
+ * Recorre el grafo de bindings de un {@link DependencyRegistry} congelado y
+ * genera un {@link ResolutionPlan} por cada binding prototype. La semántica de
+ * inyección es la misma que la de {@link Dependency#getInstance}:
+ * constructor sin argumentos (o Supplier registrado), campos @Inject
+ * (@Named/@Qualifier/@Value), métodos @Inject y métodos @PostConstruct.
+ *
+ * Los puntos de inyección que no se pueden enlazar estáticamente se compilan
+ * como nodos dinámicos que delegan en el {@link IContainer}; los bindings con
+ * ciclos entre prototypes no se compilan y siguen el camino clásico, que es el
+ * que reporta el ciclo.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+final class ResolutionPlanCompiler {
+
+    private static final Logger log = Logger.getLogger(ResolutionPlanCompiler.class.getName());
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType INJECT_METHOD_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final MethodHandle SUPPLIER_GET;
+
+    static {
+        try {
+            SUPPLIER_GET = MethodHandles.publicLookup()
+                    .findVirtual(Supplier.class, "get", MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final DependencyRegistry registry;
+    private final IContainer container;
+
+    // Planes ya compilados en esta pasada (identidad de Dependency)
+    private final Map<Dependency, ResolutionPlan> compiled = new IdentityHashMap<>();
+    private final Set<Dependency> inProgress = java.util.Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // Claves del registry (Class o "clase:nombre") consultadas por cada plan, incluidos sus planes anidados
+    private final Map<Dependency, Set<Object>> consultedKeys = new IdentityHashMap<>();
+    private Set<Object> currentKeys;
+
+    ResolutionPlanCompiler(DependencyRegistry registry, IContainer container) {
+        this.registry = registry;
+        this.container = container;
+    }
+
+    /**
+     * Compila e instala un plan en cada dependencia prototype de la colección.
+     *
+     * @return número de planes instalados
+     */
+    int compileAll(Iterable<Dependency> dependencies) {
+        int installed = 0;
+        for (Dependency dependency : dependencies) {
+            if (dependency == null || !isCompilablePrototype(dependency)) {
+                continue;
+            }
+            try {
+                ResolutionPlan plan = compilePrototype(dependency);
+                dependency.setResolutionPlan(plan);
+                installed++;
+            } catch (PlanCompilationException e) {
+                dependency.setResolutionPlan(null);
+                log.log(Level.FINE, "⚠️ Resolution plan not compiled for {0}: {1}",
+                        new Object[]{dependency.getType().getSimpleName(), e.getMessage()});
+            }
+        }
+        return installed;
+    }
+
+    /**
+     * Claves del registry de las que depende el plan de una dependencia; si
+     * alguna cambia de binding el plan debe recompilarse.
+     *
+     * @return claves consultadas (vacío si no se compiló)
+     */
+    Set<Object> getConsultedKeys(Dependency dependency) {
+        Set<Object> keys = consultedKeys.get(dependency);
+        return keys != null ? keys : Collections.emptySet();
+    }
+
+    private static boolean isCompilablePrototype(Dependency dependency) {
+        return dependency.getScopeType() == ScopeManager.ScopeType.PROTOTYPE
+                && !(dependency instanceof StaticDependency)
+                && !dependency.isLazy()
+                && !dependency.getType().isInterface();
+    }
+
+    // ========================================
+    // 🎯 COMPILACIÓN DE NODOS
+    // ========================================
+
+    private ResolutionPlan compilePrototype(Dependency dependency) throws PlanCompilationException {
+        ResolutionPlan existing = compiled.get(dependency);
+        if (existing != null) {
+            if (currentKeys != null) {
+                currentKeys.addAll(getConsultedKeys(dependency));
+            }
+            return existing;
+        }
+        if (!inProgress.add(dependency)) {
+            throw new PlanCompilationException("prototype cycle through " + dependency.getType().getName());
+        }
+
+        Set<Object> parentKeys = currentKeys;
+        currentKeys = new HashSet<>();
+        try {
+            Class<?> type = dependency.getType();
+            MethodHandle constructor = constructorHandle(dependency);
+
+            List<MethodHandle> setters = new ArrayList<>();
+            List<ResolutionPlan> values = new ArrayList<>();
+            List<MethodHandle> injectMethods = new ArrayList<>();
+            List<ResolutionPlan[]> injectArgs = new ArrayList<>();
+
+            if (!dependency.isPrecompiled()) {
+                for (AsmCoreUtils.AsmFieldInfo fieldInfo : AsmCoreUtils.getInjectFields(type)) {
+                    Field field = type.getDeclaredField(fieldInfo.name);
+                    field.setAccessible(true);
+                    setters.add(MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE));
+                    values.add(planForField(field));
+                }
+
+                for (AsmCoreUtils.AsmMethodInfo methodInfo : dependency.getInjectMethodInfos()) {
+                    Method method = findMethod(type, methodInfo);
+                    Class<?>[] parameterTypes = method.getParameterTypes();
+                    ResolutionPlan[] args = new ResolutionPlan[parameterTypes.length];
+                    for (int i = 0; i < parameterTypes.length; i++) {
+                        args[i] = planForType(parameterTypes[i]);
+                    }
+                    method.setAccessible(true);
+                    injectMethods.add(MethodHandles.lookup().unreflect(method)
+                            .asSpreader(Object[].class, parameterTypes.length)
+                            .asType(INJECT_METHOD_TYPE));
+                    injectArgs.add(args);
+                }
+            }
+
+            List<MethodHandle> postConstruct = new ArrayList<>();
+            for (AsmCoreUtils.AsmMethodInfo methodInfo : dependency.getPostConstructMethodInfos()) {
+                Method method = findMethod(type, methodInfo);
+                method.setAccessible(true);
+                postConstruct.add(MethodHandles.lookup().unreflect(method).asType(CALLBACK_TYPE));
+            }
+
+            ResolutionPlan plan = new ResolutionPlan.PrototypePlan(
+                    type,
+                    container,
+                    constructor,
+                    setters.toArray(new MethodHandle[0]),
+                    values.toArray(new ResolutionPlan[0]),
+                    injectMethods.toArray(new MethodHandle[0]),
+                    injectArgs.toArray(new ResolutionPlan[0][]),
+                    postConstruct.toArray(new MethodHandle[0]));
+            compiled.put(dependency, plan);
+            consultedKeys.put(dependency, currentKeys);
+            return plan;
+        } catch (PlanCompilationException e) {
+            throw e;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new PlanCompilationException(e.toString());
+        } finally {
+            // El plan padre enlaza este plan: hereda sus claves
+            if (parentKeys != null) {
+                parentKeys.addAll(currentKeys);
+            }
+            currentKeys = parentKeys;
+            inProgress.remove(dependency);
+        }
+    }
+
+    private MethodHandle constructorHandle(Dependency dependency) throws ReflectiveOperationException {
+        Supplier<?> supplier = dependency.getJitSupplier();
+        if (supplier != null) {
+            return SUPPLIER_GET.bindTo(supplier).asType(FACTORY_TYPE);
+        }
+        Constructor<?> constructor = dependency.getType().getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return MethodHandles.lookup().unreflectConstructor(constructor).asType(FACTORY_TYPE);
+    }
+
+    /**
+     * Nodo para un campo @Inject, con la misma precedencia que
+     * {@code Dependency.resolveDependency(Class, AsmFieldInfo, ...)}.
+     */
+    private ResolutionPlan planForField(Field field) throws PlanCompilationException {
+        Class<?> fieldType = field.getType();
+        if (fieldType.isPrimitive()) {
+            return new ResolutionPlan.ConstantPlan(fieldType, defaultPrimitiveValue(fieldType));
+        }
+
+        Named named = field.getAnnotation(Named.class);
+        if (named != null) {
+            return planForNamed(fieldType, named.value());
+        }
+        Qualifier qualifier = field.getAnnotation(Qualifier.class);
+        if (qualifier != null) {
+            return planForNamed(fieldType, qualifier.value());
+        }
+        Value value = field.getAnnotation(Value.class);
+        if (value != null) {
+            String expression = value.value();
+            return new ResolutionPlan.DynamicPlan(fieldType,
+                    () -> Convert.convertStringToType(container.resolvePropertyValue(expression), fieldType));
+        }
+        return planForType(fieldType);
+    }
+
+    private ResolutionPlan planForNamed(Class<?> type, String name) throws PlanCompilationException {
+        consult(MetadataRegistry.getClassName(type) + ":" + name);
+        Dependency named = registry.findDependency(type, name);
+        if (named != null) {
+            return planForDependency(type, named);
+        }
+        return new ResolutionPlan.DynamicPlan(type,
+                () -> container.getNamedDependency(type, name, Collections.emptySet()));
+    }
+
+    private ResolutionPlan planForType(Class<?> type) throws PlanCompilationException {
+        if (type.isPrimitive()) {
+            return new ResolutionPlan.ConstantPlan(type, defaultPrimitiveValue(type));
+        }
+        if (type.isInterface()) {
+            return new ResolutionPlan.DynamicPlan(type, () -> {
+                try {
+                    return container.getBestImplementation(type);
+                } catch (Exception e) {
+                    return container.getDependency(type, Collections.emptySet());
+                }
+            });
+        }
+        consult(type);
+        Dependency dependency = registry.getDependency(type);
+        if (dependency == null) {
+            return new ResolutionPlan.DynamicPlan(type,
+                    () -> container.getDependency(type, Collections.emptySet()));
+        }
+        return planForDependency(type, dependency);
+    }
+
+    private ResolutionPlan planForDependency(Class<?> requestedType, Dependency dependency) throws PlanCompilationException {
+        if (dependency.shouldCacheInstance() && !dependency.isLazy()) {
+            return new ResolutionPlan.SingletonPlan(dependency, container);
+        }
+        if (isCompilablePrototype(dependency)) {
+            try {
+                return compilePrototype(dependency);
+            } catch (PlanCompilationException e) {
+                if (inProgress.contains(dependency) || e.getMessage().startsWith("prototype cycle")) {
+                    throw e;
+                }
+                log.log(Level.FINE, "⚠️ Falling back to dynamic resolution for {0}: {1}",
+                        new Object[]{requestedType.getSimpleName(), e.getMessage()});
+            }
+        }
+        return new ResolutionPlan.DynamicPlan(requestedType,
+                () -> container.getDependency(requestedType, Collections.emptySet()));
+    }
+
+    // ========================================
+    // 🔧 UTILIDADES
+    // ========================================
+
+    private void consult(Object key) {
+        if (currentKeys != null) {
+            currentKeys.add(key);
+        }
+    }
+
+    private static Method findMethod(Class<?> type, AsmCoreUtils.AsmMethodInfo methodInfo) throws NoSuchMethodException {
+        Class<?>[] parameterTypes = new Class<?>[methodInfo.parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = AsmCoreUtils.getClassFromDescriptor(methodInfo.parameterTypes[i]);
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().equals(methodInfo.name)
+                    && Arrays.equals(method.getParameterTypes(), parameterTypes)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(type.getName() + "." + methodInfo.name);
+    }
+
+    private static Object defaultPrimitiveValue(Class<?> primitiveType) {
+        if (primitiveType == int.class) {
+            return 0;
+        }
+        if (primitiveType == long.class) {
+            return 0L;
+        }
+        if (primitiveType == boolean.class) {
+            return false;
+        }
+        if (primitiveType == double.class) {
+            return 0.0;
+        }
+        if (primitiveType == float.class) {
+            return 0.0f;
+        }
+        if (primitiveType == byte.class) {
+            return (byte) 0;
+        }
+        if (primitiveType == short.class) {
+            return (short) 0;
+        }
+        if (primitiveType == char.class) {
+            return '\0';
+        }
+        return null;
+    }
+
+    private static final class PlanCompilationException extends Exception {
+        PlanCompilationException(String message) {
+            super(message);
+        }
+    }
+}
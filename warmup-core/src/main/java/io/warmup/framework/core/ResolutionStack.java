@@ -0,0 +1,88 @@
+package io.warmup.framework.core;
+
+import java.util.Arrays;
+
+/**
+ * 🔁 RESOLUTION STACK - Detección de ciclos sin asignaciones
+ *
+ * Pila por hilo de las {@link Dependency} que se están creando. Sustituye al
+ * {@code Set<Class<?>>} que se creaba, copiaba y mutaba en cada resolución: el
+ * array se reutiliza entre llamadas, push/pop solo mueven un contador y la
+ * búsqueda es lineal sobre unas pocas entradas contiguas. El texto del ciclo
+ * solo se construye cuando realmente se detecta uno.
+ *
+ * Al ser por hilo, las resoluciones concurrentes (p.ej. la instanciación
+ * paralela de singletons) no comparten estado. Los parámetros
+ * {@code dependencyChain} de la API se mantienen por compatibilidad, pero ya
+ * no se usan para detectar ciclos.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+final class ResolutionStack {
+
+    static final int INITIAL_CAPACITY = 32;
+
+    private static final ThreadLocal<ResolutionStack> CURRENT = ThreadLocal.withInitial(ResolutionStack::new);
+
+    private Dependency[] frames = new Dependency[INITIAL_CAPACITY];
+    private int depth;
+
+    private ResolutionStack() {
+    }
+
+    static ResolutionStack current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Comprueba que el tipo no se esté creando ya en este hilo.
+     *
+     * @throws IllegalStateException con el camino del ciclo si lo está
+     */
+    void checkCycle(Class<?> type) {
+        for (int i = 0; i < depth; i++) {
+            if (frames[i].getType() == type) {
+                throw new IllegalStateException("Ciclo de dependencias detectado: " + cyclePath(i, type));
+            }
+        }
+    }
+
+    /**
+     * Apila una dependencia ya comprobada con {@link #checkCycle}.
+     */
+    void push(Dependency dependency) {
+        if (depth == frames.length) {
+            // Solo en grafos más profundos que la capacidad actual; el array crecido se reutiliza
+            frames = Arrays.copyOf(frames, depth * 2);
+        }
+        frames[depth++] = dependency;
+    }
+
+    /**
+     * {@link #checkCycle} + {@link #push}.
+     */
+    void enter(Dependency dependency) {
+        checkCycle(dependency.getType());
+        push(dependency);
+    }
+
+    /**
+     * Desapila la dependencia de la cima; llamar siempre en un {@code finally}.
+     */
+    void pop() {
+        frames[--depth] = null;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    private String cyclePath(int start, Class<?> type) {
+        StringBuilder path = new StringBuilder();
+        for (int i = start; i < depth; i++) {
+            path.append(frames[i].getType().getSimpleName()).append(" -> ");
+        }
+        return path.append(type.getSimpleName()).toString();
+    }
+}
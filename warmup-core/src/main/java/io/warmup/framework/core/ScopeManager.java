@@ -2,9 +2,11 @@ package io.warmup.framework.core;
 
 import io.warmup.framework.annotation.*;
 import io.warmup.framework.asm.AsmCoreUtils;
+import io.warmup.framework.metadata.ClassMetadataStore;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Central scope resolution system for handling different bean lifecycles.
@@ -49,8 +51,12 @@ public class ScopeManager {
         }
     }
     
-    // Cache for scope analysis per class
-    private static final Map<Class<?>, ScopeInfo> scopeCache = new ConcurrentHashMap<>();
+    // Cache for scope analysis per class (ClassValue: se libera junto con la clase)
+    private static final ClassMetadataStore.Key<ScopeInfo> SCOPE_INFO =
+            ClassMetadataStore.key("scope", ScopeManager::analyzeAndCount);
+
+    // Distribución de scopes analizados (ClassValue no permite iterar sus valores)
+    private static final Map<ScopeType, LongAdder> scopeDistribution = new ConcurrentHashMap<>();
     
     /**
      * Gets the scope type for a given bean class.
@@ -112,9 +118,15 @@ public class ScopeManager {
      * @return the ScopeInfo containing scope details
      */
     private static ScopeInfo getScopeInfo(Class<?> beanClass) {
-        return scopeCache.computeIfAbsent(beanClass, ScopeManager::analyzeScope);
+        return ClassMetadataStore.get(beanClass, SCOPE_INFO);
     }
     
+    private static ScopeInfo analyzeAndCount(Class<?> beanClass) {
+        ScopeInfo info = analyzeScope(beanClass);
+        scopeDistribution.computeIfAbsent(info.scopeType, k -> new LongAdder()).increment();
+        return info;
+    }
+
     /**
      * Analyzes a class to determine its scope type and properties.
      * 
@@ -238,16 +250,19 @@ public class ScopeManager {
     public static Map<String, Object> getCacheStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
-        Map<ScopeType, Long> scopeDistribution = new HashMap<>();
+        Map<ScopeType, Long> distribution = new HashMap<>();
         long totalCached = 0;
         
-        for (ScopeInfo info : scopeCache.values()) {
-            scopeDistribution.merge(info.scopeType, 1L, Long::sum);
-            totalCached++;
+        for (Map.Entry<ScopeType, LongAdder> entry : scopeDistribution.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count > 0) {
+                distribution.put(entry.getKey(), count);
+                totalCached += count;
+            }
         }
         
         stats.put("total_cached_classes", totalCached);
-        stats.put("scope_distribution", scopeDistribution);
+        stats.put("scope_distribution", distribution);
         
         return stats;
     }
@@ -256,7 +271,8 @@ public class ScopeManager {
      * Clears the scope cache (useful for testing or memory management).
      */
     public static void clearCache() {
-        scopeCache.clear();
+        SCOPE_INFO.clear();
+        scopeDistribution.clear();
     }
     
     /**
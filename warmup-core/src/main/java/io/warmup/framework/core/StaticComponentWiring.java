@@ -0,0 +1,129 @@
+package io.warmup.framework.core;
+
+/**
+ * 🧊 STATIC COMPONENT WIRING - Cableado de componentes generado en compilación
+ *
+ * Contrato de las clases {@code WarmupStaticWiring} que emite
+ * {@code WarmupAnnotationProcessor} con la opción {@code -Awarmup.static=true}:
+ * una por paquete con componentes, registradas en
+ * {@code META-INF/services/io.warmup.framework.core.StaticComponentWiring}.
+ *
+ * Cada binding lleva una {@link Factory} con la llamada al constructor, las
+ * asignaciones de campos, las llamadas a métodos @Inject y a @PostConstruct,
+ * y un {@link Destroyer} con los @PreDestroy. Los calificadores (@Named,
+ * @Primary) ya se han resuelto en compilación: la factory obtiene cada
+ * dependencia con el {@link Handle} del binding elegido, que llama
+ * directamente a su factory (o devuelve su singleton) sin consultar el
+ * registro del contenedor.
+ *
+ * Con {@value #MODE_PROPERTY}=true el contenedor solo usa este código: no
+ * escanea paquetes ni analiza clases, y no arranca si no encuentra ningún
+ * cableado generado.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+public interface StaticComponentWiring {
+
+    /**
+     * Propiedad que activa el modo estático del contenedor.
+     */
+    String MODE_PROPERTY = "warmup.container.static";
+
+    int SINGLETON = 1;
+    int LAZY = 1 << 1;
+    int PRIMARY = 1 << 2;
+
+    /**
+     * Registra los bindings de este cableado.
+     */
+    void wire(Binder binder);
+
+    /**
+     * Destino de los bindings generados.
+     */
+    interface Binder {
+
+        /**
+         * Handle del binding de {@code component}; se puede pedir antes de que
+         * el cableado que lo registra haya llamado a {@link #bind}.
+         */
+        <T> Handle<T> handle(Class<T> component);
+
+        /**
+         * Handle de un componente no accesible desde el cableado que lo pide.
+         *
+         * @param type tipo declarado en el punto de inyección
+         * @param component nombre binario de la implementación elegida
+         */
+        <T> Handle<T> handle(Class<T> type, String component);
+
+        /**
+         * @param type clase del componente
+         * @param name valor de @Named del componente, o null
+         * @param flags combinación de {@link #SINGLETON}, {@link #LAZY} y {@link #PRIMARY}
+         * @param primaryPriority valor de @Primary (0 si no es primary)
+         * @param interfaces interfaces del componente por las que se puede pedir
+         * @param dependencies componentes que la factory obtiene por su handle
+         * @param factory crea e inicializa la instancia
+         * @param destroyer ejecuta los @PreDestroy, o null si no hay
+         */
+        <T> void bind(Class<T> type, String name, int flags, int primaryPriority,
+                      Class<?>[] interfaces, Class<?>[] dependencies,
+                      Factory<T> factory, Destroyer<? super T> destroyer);
+    }
+
+    /**
+     * Acceso directo a un binding generado, propio de cada contenedor.
+     */
+    final class Handle<T> {
+
+        private final String component;
+        private volatile StaticDependency binding;
+
+        Handle(String component) {
+            this.component = component;
+        }
+
+        /**
+         * Instancia del componente: el singleton ya creado o una nueva
+         * creada por su factory generada.
+         */
+        @SuppressWarnings("unchecked")
+        public T get(IContainer container) {
+            StaticDependency current = binding;
+            if (current == null) {
+                throw new IllegalStateException("Static binding not wired: " + component);
+            }
+            return (T) current.getInstance(container, null);
+        }
+
+        void bind(StaticDependency dependency) {
+            this.binding = dependency;
+        }
+
+        boolean isBound() {
+            return binding != null;
+        }
+
+        String getComponent() {
+            return component;
+        }
+    }
+
+    /**
+     * Construye, inyecta e inicializa una instancia.
+     */
+    @FunctionalInterface
+    interface Factory<T> {
+        T create(IContainer container) throws Exception;
+    }
+
+    /**
+     * Ejecuta los métodos @PreDestroy de una instancia.
+     */
+    @FunctionalInterface
+    interface Destroyer<T> {
+        void destroy(T instance) throws Exception;
+    }
+}
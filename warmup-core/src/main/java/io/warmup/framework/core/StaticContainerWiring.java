@@ -0,0 +1,126 @@
+package io.warmup.framework.core;
+
+import io.warmup.framework.exception.WarmupException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 🧊 STATIC CONTAINER WIRING - Runtime del modo estático
+ *
+ * Carga con {@link ServiceLoader} todos los {@link StaticComponentWiring}
+ * generados y registra sus bindings como {@link StaticDependency} en el
+ * {@link DependencyRegistry}. Los {@link StaticComponentWiring.Handle} son
+ * de esta instancia: el código generado no guarda estado estático. Guarda los singletons con @PreDestroy en orden
+ * de creación para destruirlos en orden inverso al cerrar el contenedor.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+final class StaticContainerWiring implements StaticComponentWiring.Binder {
+
+    private static final Logger log = Logger.getLogger(StaticContainerWiring.class.getName());
+
+    private final DependencyRegistry registry;
+    private final List<Class<?>> boundTypes = new ArrayList<>();
+    // Handles por nombre binario del componente: las factories generadas se llaman entre sí
+    private final Map<String, StaticComponentWiring.Handle<?>> handles = new LinkedHashMap<>();
+
+    // Singletons creados con @PreDestroy, en orden de creación
+    private final List<StaticDependency> destroyOrder = new ArrayList<>();
+    private final List<Object> destroyInstances = new ArrayList<>();
+
+    StaticContainerWiring(DependencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    static boolean isEnabled(String property) {
+        return "true".equalsIgnoreCase(property);
+    }
+
+    /**
+     * Registra todos los cableados generados visibles desde {@code classLoader}.
+     *
+     * @return número de bindings registrados
+     * @throws WarmupException si no hay ningún cableado generado o alguno pide
+     *         un componente que ningún cableado registra
+     */
+    int load(ClassLoader classLoader) {
+        int wirings = 0;
+        for (StaticComponentWiring wiring : ServiceLoader.load(StaticComponentWiring.class, classLoader)) {
+            wiring.wire(this);
+            wirings++;
+        }
+        if (wirings == 0) {
+            throw new WarmupException("Static container mode (" + StaticComponentWiring.MODE_PROPERTY
+                    + "=true) requires the wiring generated by WarmupAnnotationProcessor with -Awarmup.static=true,"
+                    + " but no " + StaticComponentWiring.class.getName() + " was found on the classpath");
+        }
+        for (StaticComponentWiring.Handle<?> handle : handles.values()) {
+            if (!handle.isBound()) {
+                throw new WarmupException("Static wiring references " + handle.getComponent()
+                        + " but no generated wiring binds it (was its package compiled with -Awarmup.static=true?)");
+            }
+        }
+        log.log(Level.INFO, "🧊 Static wiring loaded: {0} components from {1} wiring classes",
+                new Object[]{boundTypes.size(), wirings});
+        return boundTypes.size();
+    }
+
+    @Override
+    public <T> StaticComponentWiring.Handle<T> handle(Class<T> component) {
+        return handle(component, component.getName());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> StaticComponentWiring.Handle<T> handle(Class<T> type, String component) {
+        return (StaticComponentWiring.Handle<T>) handles.computeIfAbsent(component, StaticComponentWiring.Handle::new);
+    }
+
+    @Override
+    public <T> void bind(Class<T> type, String name, int flags, int primaryPriority,
+                         Class<?>[] interfaces, Class<?>[] dependencies,
+                         StaticComponentWiring.Factory<T> factory,
+                         StaticComponentWiring.Destroyer<? super T> destroyer) {
+        StaticDependency dependency = new StaticDependency(type, flags, dependencies, factory, destroyer, this);
+        if ((flags & StaticComponentWiring.PRIMARY) != 0) {
+            dependency.setPrimary(true);
+            dependency.setPrimaryPriority(primaryPriority);
+        }
+        registry.registerStatic(dependency, name, interfaces);
+        handle(type).bind(dependency);
+        boundTypes.add(type);
+    }
+
+    synchronized void onSingletonCreated(StaticDependency dependency, Object instance) {
+        destroyOrder.add(dependency);
+        destroyInstances.add(instance);
+    }
+
+    /**
+     * Ejecuta los @PreDestroy generados en orden inverso de creación. Un fallo
+     * no impide destruir el resto.
+     */
+    synchronized void destroyAll() {
+        for (int i = destroyOrder.size() - 1; i >= 0; i--) {
+            StaticDependency dependency = destroyOrder.get(i);
+            try {
+                dependency.destroy(destroyInstances.get(i));
+            } catch (Exception e) {
+                log.log(Level.WARNING, "⚠️ @PreDestroy failed for " + dependency.getType().getName(), e);
+            }
+        }
+        destroyOrder.clear();
+        destroyInstances.clear();
+    }
+
+    List<Class<?>> getBoundTypes() {
+        return boundTypes;
+    }
+}
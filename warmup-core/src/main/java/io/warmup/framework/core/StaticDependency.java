@@ -0,0 +1,97 @@
+package io.warmup.framework.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 🧊 STATIC DEPENDENCY - Binding del modo estático
+ *
+ * Crea las instancias solo con la {@link StaticComponentWiring.Factory}
+ * generada: sin análisis ASM, sin MethodHandles y sin reflexión. Los
+ * singletons se publican con el mismo handle inmutable que {@link Dependency}
+ * y sus @PreDestroy se encolan en {@link StaticContainerWiring} en orden de
+ * creación.
+ *
+ * @author Warmup Framework
+ * @version 3.1
+ */
+final class StaticDependency extends Dependency {
+
+    private static final Logger log = Logger.getLogger(StaticDependency.class.getName());
+
+    private final StaticComponentWiring.Factory<?> factory;
+    private final StaticComponentWiring.Destroyer<Object> destroyer;
+    private final List<Class<?>> dependencies;
+    private final StaticContainerWiring owner;
+
+    @SuppressWarnings("unchecked")
+    StaticDependency(Class<?> type, int flags, Class<?>[] dependencies,
+                     StaticComponentWiring.Factory<?> factory,
+                     StaticComponentWiring.Destroyer<?> destroyer,
+                     StaticContainerWiring owner) {
+        super(type,
+                (flags & StaticComponentWiring.SINGLETON) != 0
+                        ? ScopeManager.ScopeType.SINGLETON : ScopeManager.ScopeType.PROTOTYPE,
+                (flags & StaticComponentWiring.LAZY) != 0);
+        this.factory = factory;
+        this.destroyer = (StaticComponentWiring.Destroyer<Object>) destroyer;
+        this.dependencies = dependencies != null
+                ? Collections.unmodifiableList(Arrays.asList(dependencies)) : Collections.emptyList();
+        this.owner = owner;
+    }
+
+    @Override
+    public Object getInstance(IContainer container, Set<Class<?>> dependencyChain) {
+        Object resolved = getResolvedInstance();
+        if (resolved != null) {
+            return resolved;
+        }
+        if (!shouldCacheInstance()) {
+            return create(container);
+        }
+        synchronized (this) {
+            resolved = getResolvedInstance();
+            if (resolved != null) {
+                return resolved;
+            }
+            Object instance = create(container);
+            setInstance(instance);
+            if (destroyer != null) {
+                owner.onSingletonCreated(this, instance);
+            }
+            return instance;
+        }
+    }
+
+    private Object create(IContainer container) {
+        // 🔁 Misma detección de ciclos que Dependency: pila por hilo
+        ResolutionStack stack = ResolutionStack.current();
+        stack.enter(this);
+        try {
+            Object instance = factory.create(container);
+            log.log(Level.FINEST, "🧊 Static instance created: {0}", getType().getSimpleName());
+            return instance;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create instance of " + getType().getName(), e);
+        } finally {
+            stack.pop();
+        }
+    }
+
+    void destroy(Object instance) throws Exception {
+        destroyer.destroy(instance);
+    }
+
+    /**
+     * @return componentes que pide la factory (implementaciones ya elegidas en compilación)
+     */
+    List<Class<?>> getStaticDependencies() {
+        return dependencies;
+    }
+}
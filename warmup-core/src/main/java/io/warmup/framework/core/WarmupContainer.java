@@ -21,6 +21,7 @@ import io.warmup.framework.core.metadata.ConstructorMetadata;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.lang.ref.WeakReference;
@@ -67,6 +68,16 @@ public class WarmupContainer implements IContainer {
     private final Set<Class<?>> registeredConfigurationClasses = new HashSet<>();
     private ConfigurationProcessor configurationProcessor;
     
+    // 🧊 CONTAINER SNAPSHOT - Grafo resuelto de un arranque anterior (warmup.snapshot.path)
+    private ContainerSnapshot containerSnapshot;
+    private boolean containerSnapshotLoaded;
+    private boolean containerSnapshotStale;
+    private List<List<Class<?>>> eagerSingletonLayers = Collections.emptyList();
+    private List<Class<?>> cyclicEagerSingletons = Collections.emptyList();
+    
+    // 🧊 MODO ESTÁTICO - Cableado generado por warmup-processor (warmup.container.static)
+    private StaticContainerWiring staticWiring;
+    
     // ========================================
     // 🚀 CONSTRUCTORS (Legacy Support)
     // ========================================
@@ -229,9 +240,97 @@ public class WarmupContainer implements IContainer {
      * ✅ DELEGADO: Escanear paquete
      */
     public void scanPackage(String packageName) {
+        if (ensureStaticWiring()) {
+            // 🧊 Modo estático: el cableado generado ya contiene todos los componentes
+            log.log(Level.FINE, "🧊 Static mode: skipping scan of {0}", packageName);
+            return;
+        }
+        ContainerSnapshot snapshot = getContainerSnapshot();
+        List<io.warmup.framework.common.ClassMetadata> components =
+                snapshot != null ? snapshot.getComponents().get(packageName) : null;
+        if (components != null) {
+            // 🧊 Restaurar desde el snapshot: sin recorrer el classpath ni analizar bytecode
+            containerCoordinator.getPerformanceOptimizer().restorePackage(packageName, components);
+            return;
+        }
+        containerSnapshotStale = true;
         containerCoordinator.scanPackage(packageName);
     }
     
+    /**
+     * 🧊 Modo estático: registra una sola vez los bindings generados en
+     * compilación si {@code warmup.container.static=true}
+     *
+     * @return true si el contenedor está en modo estático
+     */
+    private synchronized boolean ensureStaticWiring() {
+        if (staticWiring != null) {
+            return true;
+        }
+        if (!StaticContainerWiring.isEnabled(containerCoordinator.getProperty(StaticComponentWiring.MODE_PROPERTY))) {
+            return false;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        StaticContainerWiring wiring = new StaticContainerWiring(containerCoordinator.getCoreContainer().getDependencyRegistry());
+        wiring.load(classLoader != null ? classLoader : WarmupContainer.class.getClassLoader());
+        staticWiring = wiring;
+        return true;
+    }
+    
+    /**
+     * 🧊 true si los componentes se crean solo con el cableado generado
+     */
+    public synchronized boolean isStaticMode() {
+        return staticWiring != null;
+    }
+    
+    /**
+     * 🌿 Contenedor hijo ligero que comparte el registry y los singletons de
+     * este contenedor y solo guarda sus propios overrides. Pensado para
+     * crearse por tenant o por request tras {@link #start()}.
+     */
+    public ChildContainer createChild() {
+        return new ChildContainer(this, this);
+    }
+
+    /**
+     * 🧊 Snapshot del arranque anterior, o null si no está configurado, no
+     * existe o el classpath ha cambiado
+     */
+    public synchronized ContainerSnapshot getContainerSnapshot() {
+        if (!containerSnapshotLoaded) {
+            containerSnapshotLoaded = true;
+            String path = containerCoordinator.getProperty(ContainerSnapshot.PATH_PROPERTY);
+            if (path != null && !path.isEmpty()) {
+                containerSnapshot = ContainerSnapshot.load(java.nio.file.Paths.get(path));
+                if (containerSnapshot != null) {
+                    log.log(Level.INFO, "🧊 Container snapshot loaded: {0}", path);
+                }
+            }
+        }
+        return containerSnapshot;
+    }
+    
+    /**
+     * 🧊 Escribe el snapshot tras un arranque correcto si no había uno válido
+     * o si algún paquete tuvo que escanearse
+     */
+    private void writeContainerSnapshotIfNeeded() {
+        String path = containerCoordinator.getProperty(ContainerSnapshot.PATH_PROPERTY);
+        if (path == null || path.isEmpty() || (getContainerSnapshot() != null && !containerSnapshotStale)) {
+            return;
+        }
+        try {
+            ContainerSnapshot.capture(
+                    containerCoordinator.getPerformanceOptimizer().getScannedComponents(),
+                    eagerSingletonLayers,
+                    cyclicEagerSingletons).write(java.nio.file.Paths.get(path));
+            log.log(Level.INFO, "🧊 Container snapshot written: {0}", path);
+        } catch (java.io.IOException | RuntimeException e) {
+            log.log(Level.WARNING, "⚠️ Could not write container snapshot " + path, e);
+        }
+    }
+    
     /**
      * ✅ DELEGADO: Obtener estadísticas de dependencias
      */
@@ -391,6 +490,7 @@ public class WarmupContainer implements IContainer {
      * ✅ DELEGADO: Shutdown graceful
      */
     public void shutdown() throws Exception {
+        destroyStaticSingletons();
         containerCoordinator.shutdown();
     }
     
@@ -934,6 +1034,7 @@ public class WarmupContainer implements IContainer {
      * 🎯 Initialize all components (Legacy compatibility)
      */
     public void initializeAllComponents() throws Exception {
+        ensureStaticWiring();
         containerCoordinator.executePhasedStartup();
         
         // ✅ CRITICAL FIX: Ensure DependencyRegistry has correct container reference
@@ -942,6 +1043,55 @@ public class WarmupContainer implements IContainer {
         
         // ✅ AUTOMATICALLY PROCESS @CONFIGURATION CLASSES during initialization
         processConfigurations();
+        
+        // 🚀 Crear los singletons eager por capas de dependencias
+        instantiateEagerSingletons();
+        
+        writeContainerSnapshotIfNeeded();
+    }
+    
+    /**
+     * 🚀 Instancia los singletons eager por capas topológicas, en paralelo salvo
+     * que {@code warmup.startup.parallelSingletons=false}. Registra el tiempo de
+     * cada capa y la longitud del camino crítico en {@link StartupMetrics}.
+     */
+    private void instantiateEagerSingletons() {
+        boolean parallel = !"false".equalsIgnoreCase(
+                containerCoordinator.getProperty(EagerSingletonInitializer.PARALLEL_PROPERTY));
+        CoreContainer coreContainer = containerCoordinator.getCoreContainer();
+        ForkJoinPool pool = parallel ? new ForkJoinPool(Runtime.getRuntime().availableProcessors()) : null;
+        try {
+            EagerSingletonInitializer initializer = new EagerSingletonInitializer(
+                    coreContainer.getDependencyRegistry(), coreContainer, pool, parallel);
+            ContainerSnapshot snapshot = getContainerSnapshot();
+            if (snapshot != null) {
+                initializer.usePlannedLayers(snapshot.getCreationLayers(), snapshot.getCyclicSingletons());
+            }
+            int created = initializer.initialize();
+            eagerSingletonLayers = initializer.getLayers();
+            cyclicEagerSingletons = initializer.getCyclic();
+            getStartupMetrics().recordSingletonLayers(initializer.getLayerTimesMs(), initializer.getLayerSizes(),
+                    initializer.getCriticalPathLength(), parallel);
+            log.log(Level.INFO, "✅ {0} eager singletons created in {1} layers",
+                    new Object[]{created, initializer.getLayerSizes().size()});
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+    
+    /**
+     * 🧊 Ejecuta los @PreDestroy generados de los singletons estáticos
+     */
+    private void destroyStaticSingletons() {
+        StaticContainerWiring wiring;
+        synchronized (this) {
+            wiring = staticWiring;
+        }
+        if (wiring != null) {
+            wiring.destroyAll();
+        }
     }
     
     /**
@@ -1008,6 +1158,7 @@ public class WarmupContainer implements IContainer {
      * 🎯 Set active profiles (Legacy compatibility)
      */
     public void setActiveProfiles(String... profiles) {
+        // 🚀 ProfileManager invalida los ganadores @Primary/@Alternative memoizados
         containerCoordinator.setActiveProfiles(profiles);
     }
     
@@ -1016,7 +1167,17 @@ public class WarmupContainer implements IContainer {
      */
     public void start() throws Exception {
         containerCoordinator.getCoreContainer().getDependencyRegistry().setContainer(this);
+        ensureStaticWiring();
         executePhasedStartup();
+
+        // 🚀 Congelar el registry y compilar los planes de resolución
+        containerCoordinator.getCoreContainer().getDependencyRegistry()
+                .freeze(containerCoordinator.getCoreContainer());
+        
+        // 🚀 Crear los singletons eager por capas antes de capturar el snapshot
+        instantiateEagerSingletons();
+        
+        writeContainerSnapshotIfNeeded();
     }
     
     /**
@@ -1057,6 +1218,7 @@ public class WarmupContainer implements IContainer {
      * 🎯 Shutdown with parameters (Legacy compatibility)
      */
     public void shutdown(boolean force, long timeoutMs) throws Exception {
+        destroyStaticSingletons();
         if (force) {
             containerCoordinator.forceShutdown();
         } else {
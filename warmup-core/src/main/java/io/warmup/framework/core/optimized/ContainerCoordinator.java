@@ -134,6 +134,7 @@ public class ContainerCoordinator {
         
         // Create DependencyRegistry with active profiles to fix EventBus @Profile validation
         DependencyRegistry dependencyRegistry = ManagerFactory.getManager(DependencyRegistry.class, activeProfiles);
+        profileManager.setDependencyRegistry(dependencyRegistry);
         
         // Create other managers
         AopHandler aopHandler = ManagerFactory.getManager(AopHandler.class);
@@ -273,8 +274,9 @@ public class ContainerCoordinator {
                     );
                 }
             }
-            if (instance != null) {
-                java.util.logging.Logger.getLogger(ContainerCoordinator.class.getName()).info(
+            // ⚡ HOT PATH: sin concatenación de strings salvo que FINE esté activo
+            if (instance != null && log.isLoggable(Level.FINE)) {
+                log.fine(
                     "ContainerCoordinator.get(" + type.getName() + ") returning instance: " + 
                     instance.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(instance))
                 );
@@ -555,6 +557,25 @@ public class ContainerCoordinator {
         log.info("🧹 All performance caches cleared");
     }
     
+    /**
+     * EventBus registrado en el DependencyRegistry de este container, sin
+     * crearlo si aún no existe.
+     */
+    private EventBus registeredEventBus() {
+        if (coreContainer == null) {
+            return null;
+        }
+        Dependency dependency = coreContainer.getDependencyRegistry().getDependency(EventBus.class);
+        if (dependency == null) {
+            return null;
+        }
+        Object instance = dependency.getCachedInstance();
+        if (instance == null) {
+            instance = dependency.getResolvedInstance();
+        }
+        return instance instanceof EventBus ? (EventBus) instance : null;
+    }
+    
     /**
      * 🚀 Shutdown container gracefully
      */
@@ -572,6 +593,9 @@ public class ContainerCoordinator {
         // Execute shutdown phases
         startupManager.executeShutdown();
         
+        // Detener los hilos del EventBus de este container tras los eventos de las fases de shutdown
+        EventBusResolver.shutdown(registeredEventBus());
+        
         // Transition to SHUTDOWN state to prevent further dependency resolution
         // Try both transitions to ensure shutdown state is reached
         boolean transitionedToShuttingDown = stateManager.transitionToShuttingDown();
@@ -654,7 +678,8 @@ public class ContainerCoordinator {
      * 🚀 Set active profiles
      */
     public void setActiveProfiles(String[] profiles) {
-        // Basic profile setting - would need proper ProfileManager
+        // ProfileManager notifica al DependencyRegistry
+        coreContainer.getProfileManager().setActiveProfiles(profiles);
         log.info("Active profiles set to: " + Arrays.toString(profiles));
     }
     
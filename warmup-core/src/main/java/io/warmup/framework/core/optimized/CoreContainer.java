@@ -131,7 +131,7 @@ public class CoreContainer implements IContainer {
         
         try {
             // ✅ O(1) Singleton cache check
-            Dependency dependency = dependencyRegistry.getDependencies().get(type);
+            Dependency dependency = dependencyRegistry.getDependency(type);
             
             // 🔍 [DEBUG] Log dependency check result
             if (type == EventBus.class) {
@@ -153,6 +153,14 @@ public class CoreContainer implements IContainer {
                     }
                 }
             }
+            // 🚀 FAST PATH: singleton publicado por Dependency (una lectura volatile)
+            if (dependency != null) {
+                Object resolved = dependency.getResolvedInstance();
+                if (resolved != null) {
+                    success = true;
+                    return (T) resolved;
+                }
+            }
             if (dependency != null && dependency.isInstanceCreated() && dependency.shouldCacheInstance()) {
                 Object cachedInstance = dependency.getCachedInstance();
                 if (cachedInstance != null) {
@@ -216,6 +224,12 @@ public class CoreContainer implements IContainer {
                     ". Make sure the class is registered with container.register() or has @Component annotation.");
             }
             
+            // 🚀 RESOLUTION PLAN: Binding compilado al congelar el registry
+            ResolutionPlan plan = dependency.getResolutionPlan();
+            if (plan != null) {
+                return type.cast(plan.create());
+            }
+
             // 🚨 CIRCULAR DEPENDENCY PROTECTION: Skip JIT optimization for container types
             if (PROTECTED_CONTAINER_TYPES.contains(type)) {
                 log.log(Level.FINEST, "🛡️ Skipping JIT optimization for container type: {0}", type.getSimpleName());
@@ -225,7 +239,7 @@ public class CoreContainer implements IContainer {
             }
             
             // ✅ Fallback to reflection with proper error handling
-            Object instance = dependency.getInstance(this, new HashSet<>());
+            Object instance = dependency.getInstance(this, Collections.emptySet());
             
             if (type.isInstance(instance)) {
                 return (T) instance;
@@ -389,7 +403,7 @@ public class CoreContainer implements IContainer {
         if (type.isInterface()) {
             return dependencyRegistry.getBestImplementation(type);
         }
-        return (T) createInstance(type, dependencyRegistry.getDependencies().get(type));
+        return (T) createInstance(type, dependencyRegistry.getDependency(type));
     }
     
     @Override
@@ -423,7 +437,7 @@ public class CoreContainer implements IContainer {
     @SuppressWarnings("unchecked")
     public <T> T get(Class<T> type) {
         try {
-            return getDependency(type, new HashSet<>());
+            return getDependency(type, Collections.emptySet());
         } catch (Exception e) {
             throw new RuntimeException("Error getting dependency: " + type.getName(), e);
         }
@@ -433,7 +447,7 @@ public class CoreContainer implements IContainer {
     @SuppressWarnings("unchecked")
     public <T> T getNamed(Class<T> type, String name) {
         try {
-            return getNamedDependency(type, name, new HashSet<>());
+            return getNamedDependency(type, name, Collections.emptySet());
         } catch (Exception e) {
             throw new RuntimeException("Error getting named dependency: " + type.getName() + " with name: " + name, e);
         }
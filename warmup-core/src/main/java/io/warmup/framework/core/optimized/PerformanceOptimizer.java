@@ -77,6 +77,10 @@ public class PerformanceOptimizer {
     private final Set<String> scannedPackages = new HashSet<>();
     private final Map<String, ClassMetadata> componentMetadataCache = new ConcurrentHashMap<>();
     
+    // Componentes registrados por paquete (contenido del container snapshot)
+    private final Map<String, List<ClassMetadata>> scannedComponents = new ConcurrentHashMap<>();
+    private final AtomicLong snapshotRestoredPackages = new AtomicLong(0);
+    
     // Performance counters
     private final AtomicLong cacheHits = new AtomicLong(0);
     private final AtomicLong cacheMisses = new AtomicLong(0);
@@ -317,6 +321,34 @@ public class PerformanceOptimizer {
         }
     }
     
+    /**
+     * 🧊 Registra los componentes de un paquete desde un container snapshot,
+     * sin recorrer el classpath ni analizar bytecode
+     */
+    public void restorePackage(String packageName, List<ClassMetadata> components) {
+        if (scannedPackages.contains(packageName)) {
+            log.log(java.util.logging.Level.FINE, "Package already scanned: {0}", packageName);
+            return;
+        }
+        
+        for (ClassMetadata metadata : components) {
+            registerComponentFromMetadata(metadata.className, metadata);
+        }
+        scannedComponents.put(packageName, new ArrayList<>(components));
+        scannedPackages.add(packageName);
+        snapshotRestoredPackages.incrementAndGet();
+        
+        log.log(java.util.logging.Level.FINE, "🧊 Package restored from snapshot: {0} ({1} components)",
+               new Object[]{packageName, components.size()});
+    }
+    
+    /**
+     * @return componentes registrados por cada paquete escaneado o restaurado
+     */
+    public Map<String, List<ClassMetadata>> getScannedComponents() {
+        return java.util.Collections.unmodifiableMap(scannedComponents);
+    }
+    
     /**
      * 🚀 ASM-based package scanning with caching
      */
@@ -324,6 +356,7 @@ public class PerformanceOptimizer {
         try {
             // Find classes in package
             Set<String> classNames = findClassesInPackage(packageName);
+            List<ClassMetadata> components = new ArrayList<>();
             
             for (String className : classNames) {
                 // Check cache first
@@ -342,9 +375,12 @@ public class PerformanceOptimizer {
                 // Register component if found
                 if (metadata != null && metadata.isComponent) {
                     registerComponentFromMetadata(className, metadata);
+                    components.add(metadata);
                 }
             }
             
+            scannedComponents.put(packageName, components);
+            
         } catch (Exception e) {
             log.warning("ASM scanning failed for package " + packageName + ": " + e.getMessage());
         }
@@ -466,6 +502,7 @@ public class PerformanceOptimizer {
         metrics.put("optimizationOperations", optimizationOperations.get());
         metrics.put("scannedPackages", scannedPackages.size());
         metrics.put("cachedComponents", componentMetadataCache.size());
+        metrics.put("snapshotRestoredPackages", snapshotRestoredPackages.get());
         metrics.put("interfaceImplementations", interfaceImplementations.size());
         metrics.put("profileValidationCacheSize", profileValidationCache.size());
         
@@ -493,6 +530,7 @@ public class PerformanceOptimizer {
         interfaceImplementations.clear();
         scannedPackages.clear();
         componentMetadataCache.clear();
+        scannedComponents.clear();
         
         // Reset counters
         cacheHits.set(0);
@@ -0,0 +1,129 @@
+package io.warmup.framework.event;
+
+/**
+ * Configuration of the asynchronous dispatch mode of {@link EventBus}.
+ *
+ * <pre>
+ * EventBus bus = new EventBus(AsyncEventConfig.defaultConfig()
+ *         .withBufferSize(4096)
+ *         .withDispatcherThreads(4)
+ *         .withOverflowPolicy(AsyncEventConfig.OverflowPolicy.DROP_OLDEST));
+ * </pre>
+ */
+public class AsyncEventConfig {
+
+    int bufferSize = 1024;
+    int dispatcherThreads = 2;
+    OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    String threadNamePrefix = "warmup-event-dispatcher";
+    int partitionLanes = Runtime.getRuntime().availableProcessors();
+
+    public static AsyncEventConfig defaultConfig() {
+        return new AsyncEventConfig();
+    }
+
+    /**
+     * Capacity of the ring buffer, rounded up to the next power of two.
+     */
+    public AsyncEventConfig withBufferSize(int events) {
+        if (events <= 0 || events > (1 << 30)) {
+            throw new IllegalArgumentException("Buffer size must be between 1 and 2^30");
+        }
+        this.bufferSize = events;
+        return this;
+    }
+
+    public AsyncEventConfig withDispatcherThreads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Dispatcher threads must be positive");
+        }
+        this.dispatcherThreads = threads;
+        return this;
+    }
+
+    public AsyncEventConfig withOverflowPolicy(OverflowPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Overflow policy cannot be null");
+        }
+        this.overflowPolicy = policy;
+        return this;
+    }
+
+    /**
+     * Number of single-threaded lanes used for {@link PartitionKeyed} events.
+     * Each lane has its own ring buffer of {@link #withBufferSize(int)} events.
+     */
+    public AsyncEventConfig withPartitionLanes(int lanes) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("Partition lanes must be positive");
+        }
+        this.partitionLanes = lanes;
+        return this;
+    }
+
+    public AsyncEventConfig withThreadNamePrefix(String prefix) {
+        this.threadNamePrefix = prefix;
+        return this;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getDispatcherThreads() {
+        return dispatcherThreads;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public int getPartitionLanes() {
+        return partitionLanes;
+    }
+
+    /**
+     * Configuration of one partition lane: a single dispatcher thread, and
+     * CALLER_RUNS replaced by BLOCK because running on the publisher would
+     * overtake events of the same key still queued in the lane.
+     */
+    AsyncEventConfig forLane(int lane) {
+        AsyncEventConfig laneConfig = new AsyncEventConfig();
+        laneConfig.bufferSize = bufferSize;
+        laneConfig.dispatcherThreads = 1;
+        laneConfig.overflowPolicy = overflowPolicy == OverflowPolicy.CALLER_RUNS ? OverflowPolicy.BLOCK : overflowPolicy;
+        laneConfig.threadNamePrefix = threadNamePrefix + "-lane-" + lane;
+        return laneConfig;
+    }
+
+    /**
+     * What {@link EventBus#publishEventAsync(Object)} does when the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until a dispatcher frees a slot (default).
+         */
+        BLOCK,
+        /**
+         * Discard the oldest queued event to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Discard the event being published.
+         */
+        DROP_NEWEST,
+        /**
+         * Dispatch the event synchronously on the publishing thread
+         * (BLOCK for {@link PartitionKeyed} events, to keep per-key order).
+         */
+        CALLER_RUNS,
+        /**
+         * Divert the event to {@link EventBus#getDeadLetterEvents()}.
+         */
+        DEAD_LETTER
+    }
+}
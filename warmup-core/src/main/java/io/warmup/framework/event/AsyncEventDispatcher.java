@@ -0,0 +1,215 @@
+package io.warmup.framework.event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 🚀 Despacho asíncrono de {@link EventBus}: los productores encolan en un
+ * {@link EventRingBuffer} acotado y un conjunto fijo de hilos dispatcher
+ * entrega los eventos a los listeners.
+ *
+ * Los dispatchers ociosos giran brevemente y después se aparcan; el productor
+ * despierta a uno solo cuando hay alguno aparcado.
+ */
+final class AsyncEventDispatcher {
+
+    private static final Logger log = Logger.getLogger(AsyncEventDispatcher.class.getName());
+
+    private static final int SPIN_TRIES = 64;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    // enqueuedAt de los eventos encolados con el timing del EventBus desactivado
+    private static final long UNTIMED = Long.MIN_VALUE;
+
+    private final EventBus eventBus;
+    private final AsyncEventConfig config;
+    private final EventRingBuffer<Envelope> buffer;
+    private final Queue<Thread> sleeping = new ConcurrentLinkedQueue<>();
+    private final Thread[] dispatchers;
+    private final LongAdder delivered = new LongAdder();
+    private volatile boolean running = true;
+
+    AsyncEventDispatcher(EventBus eventBus, AsyncEventConfig config) {
+        this.eventBus = eventBus;
+        this.config = config;
+        this.buffer = new EventRingBuffer<>(config.getBufferSize());
+        this.dispatchers = new Thread[config.getDispatcherThreads()];
+        for (int i = 0; i < dispatchers.length; i++) {
+            String name = dispatchers.length == 1 ? config.getThreadNamePrefix() : config.getThreadNamePrefix() + "-" + (i + 1);
+            Thread thread = new Thread(this::runLoop, name);
+            thread.setDaemon(true);
+            dispatchers[i] = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Encola el evento o aplica la política de desbordamiento.
+     */
+    void submit(Object event, EventStatistics stats) {
+        // Sin timing no se llama a nanoTime() ni al encolar ni al entregar
+        Envelope envelope = new Envelope(event, stats, eventBus.isTimingEnabled() ? System.nanoTime() : UNTIMED);
+        stats.recordEnqueued();
+        if (!running) {
+            // Tras shutdown() se entrega en el hilo que publica
+            runInCaller(envelope);
+            return;
+        }
+        if (buffer.offer(envelope)) {
+            signal();
+            if (!running) {
+                drainInCaller();
+            }
+            return;
+        }
+        overflow(envelope);
+    }
+
+    private void drainInCaller() {
+        Envelope pending;
+        while ((pending = buffer.poll()) != null) {
+            runInCaller(pending);
+        }
+    }
+
+    private void overflow(Envelope envelope) {
+        switch (config.getOverflowPolicy()) {
+            case DROP_OLDEST:
+                while (!buffer.offer(envelope)) {
+                    Envelope oldest = buffer.poll();
+                    if (oldest != null) {
+                        oldest.stats.recordDropped();
+                    }
+                }
+                signal();
+                break;
+            case DROP_NEWEST:
+                envelope.stats.recordDropped();
+                break;
+            case CALLER_RUNS:
+                runInCaller(envelope);
+                break;
+            case DEAD_LETTER:
+                envelope.stats.recordDeadLettered();
+                eventBus.addDeadLetter(new DeadLetterEvent(envelope.event,
+                        new RejectedExecutionException("Async event buffer full (" + buffer.capacity() + " events)")));
+                break;
+            case BLOCK:
+            default:
+                while (!buffer.offer(envelope)) {
+                    if (!running) {
+                        runInCaller(envelope);
+                        return;
+                    }
+                    LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                }
+                signal();
+                break;
+        }
+    }
+
+    private void runInCaller(Envelope envelope) {
+        envelope.stats.recordCallerRuns();
+        eventBus.dispatch(envelope.event, envelope.stats);
+    }
+
+    private void signal() {
+        Thread sleeper = sleeping.poll();
+        if (sleeper != null) {
+            LockSupport.unpark(sleeper);
+        }
+    }
+
+    private void runLoop() {
+        Thread current = Thread.currentThread();
+        int idle = 0;
+        while (true) {
+            Envelope envelope = buffer.poll();
+            if (envelope != null) {
+                idle = 0;
+                deliver(envelope);
+                continue;
+            }
+            if (!running) {
+                // Buffer drenado tras shutdown()
+                return;
+            }
+            if (++idle < SPIN_TRIES) {
+                Thread.onSpinWait();
+                continue;
+            }
+            sleeping.add(current);
+            if (buffer.isEmpty() && running) {
+                LockSupport.park(this);
+            }
+            sleeping.remove(current);
+            idle = 0;
+        }
+    }
+
+    private void deliver(Envelope envelope) {
+        envelope.stats.recordDequeued(envelope.enqueuedAt == UNTIMED ? -1 : System.nanoTime() - envelope.enqueuedAt);
+        try {
+            eventBus.dispatch(envelope.event, envelope.stats);
+        } catch (Throwable e) {
+            log.log(Level.SEVERE, "Error despachando evento asíncrono: {0}", e.getMessage());
+        }
+        delivered.increment();
+    }
+
+    int getQueueDepth() {
+        return buffer.size();
+    }
+
+    int getCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * @return eventos entregados por los hilos dispatcher (sin contar CALLER_RUNS)
+     */
+    long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * Deja de aceptar eventos en el buffer, entrega los ya encolados y espera
+     * a los dispatchers como máximo {@code timeoutMs}.
+     */
+    void shutdown(long timeoutMs) {
+        running = false;
+        for (Thread dispatcher : dispatchers) {
+            LockSupport.unpark(dispatcher);
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (Thread dispatcher : dispatchers) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0 || dispatcher == Thread.currentThread()) {
+                continue;
+            }
+            try {
+                dispatcher.join(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static final class Envelope {
+        final Object event;
+        final EventStatistics stats;
+        final long enqueuedAt;
+
+        Envelope(Object event, EventStatistics stats, long enqueuedAt) {
+            this.event = event;
+            this.stats = stats;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
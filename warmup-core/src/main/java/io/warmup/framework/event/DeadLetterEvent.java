@@ -15,6 +15,7 @@ import java.time.format.DateTimeFormatter;
 public class DeadLetterEvent {
     
     private final Event originalEvent;
+    private final Object payload;
     private final IEventListener listener;
     private final Throwable error;
     private final LocalDateTime timestamp;
@@ -22,12 +23,29 @@ public class DeadLetterEvent {
     
     public DeadLetterEvent(Event originalEvent, IEventListener listener, Throwable error) {
         this.originalEvent = originalEvent;
+        this.payload = originalEvent;
         this.listener = listener;
         this.error = error;
         this.timestamp = LocalDateTime.now();
         this.errorMessage = error != null ? error.getMessage() : "Unknown error";
     }
     
+    /**
+     * Create a dead letter for an event that was never delivered to any
+     * listener, such as one rejected by a full async buffer.
+     * 
+     * @param payload the published object (not necessarily an {@link Event})
+     * @param error the reason it was not delivered
+     */
+    public DeadLetterEvent(Object payload, Throwable error) {
+        this.originalEvent = payload instanceof Event ? (Event) payload : null;
+        this.payload = payload;
+        this.listener = null;
+        this.error = error;
+        this.timestamp = LocalDateTime.now();
+        this.errorMessage = error != null ? error.getMessage() : "Unknown error";
+    }
+    
     /**
      * Get the original event that failed to process.
      * 
@@ -37,6 +55,15 @@ public class DeadLetterEvent {
         return originalEvent;
     }
     
+    /**
+     * Get the published object, which may not extend {@link Event}.
+     * 
+     * @return the published object
+     */
+    public Object getPayload() {
+        return payload;
+    }
+    
     /**
      * Get the listener that failed to process the event.
      * 
@@ -88,7 +115,7 @@ public class DeadLetterEvent {
      * @return event class simple name
      */
     public String getEventType() {
-        return originalEvent != null ? originalEvent.getClass().getSimpleName() : "Unknown";
+        return payload != null ? payload.getClass().getSimpleName() : "Unknown";
     }
     
     /**
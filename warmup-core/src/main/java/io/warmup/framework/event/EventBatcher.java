@@ -0,0 +1,203 @@
+package io.warmup.framework.event;
+
+import io.warmup.framework.async.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 📦 Acumula eventos para un listener de lotes ({@code @EventListener(batchSize=…, maxDelayMs=…)}
+ * o {@link EventBus#registerBatchListener}) y lo invoca con una {@code List<T>}
+ * cuando el lote se llena o vence el retraso máximo desde el primer evento.
+ * Como {@link EventListener} se registra directamente en el {@link EventBus}.
+ *
+ * Un lote lleno se entrega en el hilo que añadió el último evento (el dispatcher
+ * asíncrono del EventBus, normalmente); uno vencido se pasa del hilo de la
+ * {@link TimerWheel} al pool común. Los lotes de un mismo listener nunca se
+ * solapan y se entregan en orden.
+ */
+public final class EventBatcher<T> implements EventListener<T> {
+
+    private static final Logger log = Logger.getLogger(EventBatcher.class.getName());
+
+    private final String name;
+    private final int batchSize;
+    private final long maxDelayMs;
+    private final EventListener<List<T>> handler;
+
+    // Lote en curso; protegido por 'this'
+    private List<T> current;
+    private TimerWheel.Timeout delayTimeout;
+    private long generation;
+    private boolean closed;
+
+    // Lotes cerrados pendientes de entrega, drenados por un solo hilo a la vez
+    private final Queue<List<T>> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean delivering = new AtomicBoolean();
+
+    private final LongAdder deliveredBatches = new LongAdder();
+    private final LongAdder deliveredEvents = new LongAdder();
+
+    /**
+     * @param batchSize eventos por lote (al menos 1)
+     * @param maxDelayMs espera máxima desde el primer evento de un lote; 0 = solo por tamaño
+     */
+    public EventBatcher(String name, int batchSize, long maxDelayMs, EventListener<List<T>> handler) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (maxDelayMs < 0) {
+            throw new IllegalArgumentException("maxDelayMs cannot be negative: " + maxDelayMs);
+        }
+        this.name = name;
+        this.batchSize = batchSize;
+        this.maxDelayMs = maxDelayMs;
+        this.handler = handler;
+        this.current = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void onEvent(T event) {
+        add(event);
+    }
+
+    /**
+     * Añade un evento al lote en curso; si lo completa, entrega el lote en este hilo.
+     * Firma sin genéricos para registrarlo como método listener en EventIndexEngine.
+     */
+    @SuppressWarnings("unchecked")
+    public void add(Object event) {
+        boolean full = false;
+        synchronized (this) {
+            current.add((T) event);
+            // Cerrado: un evento que llegue tarde se entrega sin esperar al lote
+            if (current.size() >= batchSize || closed) {
+                closeCurrent();
+                full = true;
+            } else if (current.size() == 1 && maxDelayMs > 0) {
+                long scheduledGeneration = generation;
+                delayTimeout = TimerWheel.shared().schedule(() -> onDelayExpired(scheduledGeneration),
+                        maxDelayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full) {
+            drain();
+        }
+    }
+
+    /**
+     * Entrega en este hilo el lote incompleto, si lo hay.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (!current.isEmpty()) {
+                closeCurrent();
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Cancela el retraso pendiente y entrega en este hilo el lote incompleto.
+     * Lo llama {@link EventBus} al desregistrar el batcher; no programa más
+     * retrasos en la {@link TimerWheel}.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            if (!current.isEmpty()) {
+                closeCurrent();
+            }
+        }
+        drain();
+    }
+
+    private void onDelayExpired(long scheduledGeneration) {
+        synchronized (this) {
+            if (scheduledGeneration != generation || current.isEmpty()) {
+                // El lote ya se cerró por tamaño o por flush()
+                return;
+            }
+            closeCurrent();
+        }
+        // El hilo de la rueda solo encola: la entrega va al pool común
+        ForkJoinPool.commonPool().execute(this::drain);
+    }
+
+    /**
+     * Pasa el lote en curso a la cola de entrega; bajo el lock para que los
+     * lotes se encolen en el orden en que se cerraron.
+     */
+    private void closeCurrent() {
+        ready.add(current);
+        current = new ArrayList<>(batchSize);
+        generation++;
+        if (delayTimeout != null) {
+            delayTimeout.cancel();
+            delayTimeout = null;
+        }
+    }
+
+    private void drain() {
+        while (!ready.isEmpty() && delivering.compareAndSet(false, true)) {
+            try {
+                List<T> batch;
+                while ((batch = ready.poll()) != null) {
+                    deliver(batch);
+                }
+            } finally {
+                delivering.set(false);
+            }
+        }
+    }
+
+    private void deliver(List<T> batch) {
+        try {
+            handler.onEvent(batch);
+        } catch (Exception e) {
+            log.log(Level.SEVERE, "Error en listener de lotes " + name + " (" + batch.size() + " eventos)", e);
+        }
+        deliveredBatches.increment();
+        deliveredEvents.add(batch.size());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getMaxDelayMs() {
+        return maxDelayMs;
+    }
+
+    /**
+     * @return eventos acumulados en el lote en curso
+     */
+    public synchronized int getPendingEvents() {
+        return current.size();
+    }
+
+    public long getDeliveredBatches() {
+        return deliveredBatches.sum();
+    }
+
+    public long getDeliveredEvents() {
+        return deliveredEvents.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "EventBatcher{" + name + ", batchSize=" + batchSize + ", maxDelayMs=" + maxDelayMs + "}";
+    }
+}
@@ -3,9 +3,20 @@ package io.warmup.framework.event;
 /**
  * Simple EventBus implementation for the Warmup Framework.
  * Provides basic event publishing and subscription functionality.
+ * 
+ * <p>{@link #publishEvent(Object)} dispatches on the caller thread.
+ * {@link #publishEventAsync(Object)} hands the event to a bounded ring buffer
+ * drained by dispatcher threads (see {@link AsyncEventConfig}); the threads
+ * are started on the first asynchronous publish. Events with a partition key
+ * ({@link PartitionKeyed} or {@link #registerPartitionKey(Class, java.util.function.Function)})
+ * go instead to one of several single-threaded lanes chosen by key hash, which
+ * preserves per-key order while different keys run in parallel.
  */
 public class EventBus {
     
+    private static final int MAX_DEAD_LETTERS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+    
     private final java.util.Map<Class<?>, java.util.List<EventListener<?>>> listeners = 
         new java.util.concurrent.ConcurrentHashMap<>();
     
@@ -19,6 +30,43 @@ public class EventBus {
     // Track IEventListener -> Consumer mapping for precise unsubscription by IEventListener
     private final java.util.IdentityHashMap<IEventListener, java.util.function.Consumer<?>> listenerToConsumerMap = 
         new java.util.IdentityHashMap<>();
+    
+    // 🚀 Async dispatch: ring buffer + dispatcher threads, created lazily
+    private final AsyncEventConfig asyncConfig;
+    private volatile AsyncEventDispatcher asyncDispatcher;
+    
+    // 🛤️ Partitioned dispatch: key extractors per type + single-threaded lanes, created lazily
+    private static final java.util.function.Function<Object, Object> NO_PARTITION_KEY = event -> null;
+    private final java.util.Map<Class<?>, java.util.function.Function<Object, ?>> partitionKeyExtractors = 
+        new java.util.concurrent.ConcurrentHashMap<>();
+    private final java.util.Map<Class<?>, java.util.function.Function<Object, ?>> resolvedPartitionKeys = 
+        new java.util.concurrent.ConcurrentHashMap<>();
+    private volatile PartitionedEventDispatcher partitionedDispatcher;
+    
+    // 📊 Per-listener timing (one System.nanoTime() per listener); can be switched off
+    private volatile boolean timingEnabled = true;
+    
+    // 📦 Batch listeners, flushed on shutdown
+    private final java.util.List<EventBatcher<?>> batchers = new java.util.concurrent.CopyOnWriteArrayList<>();
+    
+    // Dead letters (bounded, oldest discarded first)
+    private final java.util.Deque<DeadLetterEvent> deadLetterEvents = 
+        new java.util.concurrent.ConcurrentLinkedDeque<>();
+    private final java.util.concurrent.atomic.AtomicInteger deadLetterCount = 
+        new java.util.concurrent.atomic.AtomicInteger();
+    
+    public EventBus() {
+        this(AsyncEventConfig.defaultConfig());
+    }
+    
+    /**
+     * Creates an EventBus whose asynchronous mode uses the given configuration.
+     * 
+     * @param asyncConfig ring buffer size, dispatcher threads and overflow policy
+     */
+    public EventBus(AsyncEventConfig asyncConfig) {
+        this.asyncConfig = asyncConfig;
+    }
 
     
     /**
@@ -33,6 +81,28 @@ public class EventBus {
                  .add(listener);
     }
     
+    /**
+     * Registers a listener that receives events in batches. Events are
+     * accumulated per listener and the listener is invoked with a list when
+     * {@code batchSize} events arrived or {@code maxDelayMs} elapsed since the
+     * first event of the batch. Combined with {@link #publishEventAsync(Object)}
+     * batches fill on the dispatcher threads, off the publishing path.
+     * 
+     * @param <T> The event type
+     * @param eventType The class of the event type
+     * @param batchSize events per batch
+     * @param maxDelayMs maximum wait of an incomplete batch, 0 to deliver only full batches
+     * @param listener The listener receiving each batch
+     * @return the batcher, also usable with {@link #unregisterListener(Class, EventListener)}
+     */
+    public <T> EventBatcher<T> registerBatchListener(Class<T> eventType, int batchSize, long maxDelayMs,
+                                                     EventListener<java.util.List<T>> listener) {
+        EventBatcher<T> batcher = new EventBatcher<>(eventType.getSimpleName() + "-batch", batchSize, maxDelayMs, listener);
+        batchers.add(batcher);
+        registerListener(eventType, batcher);
+        return batcher;
+    }
+    
     /**
      * Unregisters an event listener.
      * 
@@ -48,6 +118,11 @@ public class EventBus {
                 listeners.remove(eventType);
             }
         }
+        forgetListenerStatistics(eventType, listener);
+        // Un batcher de registerBatchListener: fuera de shutdown() y sin retraso pendiente
+        if (listener instanceof EventBatcher && batchers.remove(listener)) {
+            ((EventBatcher<?>) listener).close();
+        }
     }
     
     /**
@@ -134,6 +209,8 @@ public class EventBus {
                     
                     // Clean up listenerToConsumerMap
                     listenerToConsumerMap.remove(iEventListener);
+                    
+                    forgetListenerStatistics(eventType, targetListener);
                 }
             }
             
@@ -185,34 +262,68 @@ public class EventBus {
      * @param <T> The event type
      * @param event The event to publish
      */
-    @SuppressWarnings("unchecked")
     public <T> void publishEvent(T event) {
         if (event == null) {
             return;
         }
         
-        Class<?> eventType = event.getClass();
-        java.util.List<EventListener<?>> eventListeners = listeners.get(eventType);
-        
         // Record event publication in statistics
-        EventStatistics stats = eventStatistics.computeIfAbsent(eventType, k -> new EventStatistics(eventType));
-        stats.recordAction("published");
+        EventStatistics stats = statisticsFor(event.getClass());
+        stats.increment(EventStatistics.Counter.PUBLISHED);
         
+        dispatch(event, stats);
+    }
+    
+    /**
+     * Drops the listener's processing time histogram so the statistics do not
+     * keep an unregistered listener reachable.
+     */
+    private void forgetListenerStatistics(Class<?> eventType, Object listener) {
+        EventStatistics stats = eventStatistics.get(eventType);
+        if (stats != null) {
+            stats.removeListener(listener);
+        }
+    }
+    
+    private EventStatistics statisticsFor(Class<?> eventType) {
+        EventStatistics stats = eventStatistics.get(eventType);
+        if (stats == null) {
+            stats = eventStatistics.computeIfAbsent(eventType, EventStatistics::new);
+        }
+        return stats;
+    }
+    
+    /**
+     * Delivers an event to its listeners on the current thread. Used by
+     * {@link #publishEvent(Object)} and by the async dispatcher threads.
+     */
+    @SuppressWarnings("unchecked")
+    <T> void dispatch(T event, EventStatistics stats) {
+        java.util.List<EventListener<?>> eventListeners = listeners.get(event.getClass());
         if (eventListeners != null && !eventListeners.isEmpty()) {
+            boolean timed = timingEnabled;
+            // The end of one listener is the start of the next: one nanoTime() per listener
+            long startTime = timed ? System.nanoTime() : 0;
             for (EventListener<?> listener : eventListeners) {
                 try {
-                    long startTime = System.nanoTime();
                     ((EventListener<T>) listener).onEvent(event);
-                    long endTime = System.nanoTime();
                     
                     // Record successful processing
-                    stats.recordAction("processed");
-                    stats.recordProcessingTime((endTime - startTime) / 1_000_000); // Convert to milliseconds
+                    if (timed) {
+                        long endTime = System.nanoTime();
+                        stats.recordProcessed(listener, endTime - startTime);
+                        startTime = endTime;
+                    } else {
+                        stats.recordProcessed(listener, -1);
+                    }
                 } catch (Exception e) {
                     // Record failed processing
-                    stats.recordAction("failed");
+                    stats.increment(EventStatistics.Counter.FAILED);
                     System.err.println("Error processing event: " + e.getMessage());
                     e.printStackTrace();
+                    if (timed) {
+                        startTime = System.nanoTime();
+                    }
                 }
             }
         }
@@ -223,9 +334,18 @@ public class EventBus {
      * This ensures complete cleanup of the EventBus state.
      */
     public void clearAllListeners() {
+        for (EventStatistics stats : eventStatistics.values()) {
+            for (Object listener : stats.getListenerProcessingTimes().keySet()) {
+                stats.removeListener(listener);
+            }
+        }
         listeners.clear();
         consumerToListenerMap.clear();
         listenerToConsumerMap.clear();
+        for (EventBatcher<?> batcher : batchers) {
+            batcher.close();
+        }
+        batchers.clear();
     }
     
     /**
@@ -438,7 +558,12 @@ public class EventBus {
 
     
     /**
-     * Publishes an event asynchronously.
+     * Publishes an event asynchronously. The caller only pays for enqueueing
+     * into the ring buffer; listeners run on dispatcher threads. When the
+     * buffer is full the configured {@link AsyncEventConfig.OverflowPolicy}
+     * applies. Events of the same type may be delivered out of order when
+     * more than one dispatcher thread is configured, unless they carry a
+     * partition key: those are delivered in order per key.
      * 
      * @param <T> The event type
      * @param event The event to publish
@@ -448,9 +573,138 @@ public class EventBus {
             return;
         }
         
-        // For now, just publish synchronously
-        // In a real implementation, this would use a thread pool
-        publishEvent(event);
+        EventStatistics stats = statisticsFor(event.getClass());
+        stats.increment(EventStatistics.Counter.PUBLISHED);
+        
+        Object partitionKey = partitionKeyOf(event);
+        if (partitionKey != null) {
+            getPartitionedDispatcher().submit(event, partitionKey, stats);
+        } else {
+            getAsyncDispatcher().submit(event, stats);
+        }
+    }
+    
+    /**
+     * Registers how to obtain the ordering key of an event type (and its
+     * subclasses) that does not implement {@link PartitionKeyed}. Async events
+     * with equal keys are delivered one at a time, in publication order.
+     * 
+     * @param <T> The event type
+     * @param eventType The class of the event type
+     * @param keyExtractor returns the key, or {@code null} for unpartitioned dispatch
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void registerPartitionKey(Class<T> eventType, java.util.function.Function<? super T, ?> keyExtractor) {
+        partitionKeyExtractors.put(eventType, (java.util.function.Function<Object, ?>) keyExtractor);
+        resolvedPartitionKeys.clear();
+    }
+    
+    private Object partitionKeyOf(Object event) {
+        if (event instanceof PartitionKeyed) {
+            return ((PartitionKeyed) event).getPartitionKey();
+        }
+        if (partitionKeyExtractors.isEmpty()) {
+            return null;
+        }
+        return resolvedPartitionKeys.computeIfAbsent(event.getClass(), this::findPartitionKeyExtractor).apply(event);
+    }
+    
+    private java.util.function.Function<Object, ?> findPartitionKeyExtractor(Class<?> eventType) {
+        for (Class<?> type = eventType; type != null; type = type.getSuperclass()) {
+            java.util.function.Function<Object, ?> extractor = partitionKeyExtractors.get(type);
+            if (extractor != null) {
+                return extractor;
+            }
+        }
+        return NO_PARTITION_KEY;
+    }
+    
+    private PartitionedEventDispatcher getPartitionedDispatcher() {
+        PartitionedEventDispatcher dispatcher = partitionedDispatcher;
+        if (dispatcher == null) {
+            synchronized (this) {
+                dispatcher = partitionedDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = new PartitionedEventDispatcher(this, asyncConfig);
+                    partitionedDispatcher = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+    
+    private AsyncEventDispatcher getAsyncDispatcher() {
+        AsyncEventDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher == null) {
+            synchronized (this) {
+                dispatcher = asyncDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = new AsyncEventDispatcher(this, asyncConfig);
+                    asyncDispatcher = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+    
+    /**
+     * Gets the number of events waiting in the async ring buffer.
+     * 
+     * @return queued async events, 0 if async mode was never used
+     */
+    public int getAsyncQueueDepth() {
+        AsyncEventDispatcher dispatcher = asyncDispatcher;
+        return dispatcher != null ? dispatcher.getQueueDepth() : 0;
+    }
+    
+    /**
+     * Gets the backlog of each partition lane. A lane much deeper than the
+     * others points to a hot key or a slow listener for that key.
+     * 
+     * @return queued events per lane, empty if no partitioned event was published
+     */
+    public int[] getPartitionLaneBacklogs() {
+        PartitionedEventDispatcher dispatcher = partitionedDispatcher;
+        return dispatcher != null ? dispatcher.getLaneBacklogs() : new int[0];
+    }
+    
+    /**
+     * Gets the number of events each partition lane has delivered.
+     * 
+     * @return delivered events per lane, empty if no partitioned event was published
+     */
+    public long[] getPartitionLaneDeliveredCounts() {
+        PartitionedEventDispatcher dispatcher = partitionedDispatcher;
+        return dispatcher != null ? dispatcher.getLaneDeliveredCounts() : new long[0];
+    }
+    
+    /**
+     * Gets the async mode configuration.
+     * 
+     * @return the async configuration
+     */
+    public AsyncEventConfig getAsyncConfig() {
+        return asyncConfig;
+    }
+    
+    /**
+     * Stops the dispatcher threads after delivering the events already queued,
+     * then flushes incomplete batches. Later async publishes are dispatched on
+     * the caller thread.
+     */
+    public void shutdown() {
+        AsyncEventDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher != null) {
+            dispatcher.shutdown(SHUTDOWN_TIMEOUT_MS);
+        }
+        PartitionedEventDispatcher lanes = partitionedDispatcher;
+        if (lanes != null) {
+            lanes.shutdown(SHUTDOWN_TIMEOUT_MS);
+        }
+        // Los lotes incompletos se entregan tras drenar las colas
+        for (EventBatcher<?> batcher : batchers) {
+            batcher.flush();
+        }
     }
     
     /**
@@ -460,6 +714,14 @@ public class EventBus {
         System.out.println("=== EVENTBUS STATUS REPORT ===");
         System.out.println("Total listeners: " + getListenerCount());
         System.out.println("Event types monitored: " + listeners.size());
+        AsyncEventDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher != null) {
+            System.out.println("Async queue: " + dispatcher.getQueueDepth() + "/" + dispatcher.getCapacity()
+                    + " (" + asyncConfig.getDispatcherThreads() + " dispatchers, " + asyncConfig.getOverflowPolicy() + ")");
+        }
+        if (partitionedDispatcher != null) {
+            System.out.println("Partition lane backlogs: " + java.util.Arrays.toString(getPartitionLaneBacklogs()));
+        }
         
         for (Class<?> eventType : listeners.keySet()) {
             int count = listeners.get(eventType).size();
@@ -475,8 +737,17 @@ public class EventBus {
      * @return List of dead letter events
      */
     public java.util.List<DeadLetterEvent> getDeadLetterEvents() {
-        // For now, return empty list - dead letter queue not fully implemented
-        return new java.util.ArrayList<>();
+        return new java.util.ArrayList<>(deadLetterEvents);
+    }
+    
+    /**
+     * Records a dead letter, discarding the oldest beyond {@value #MAX_DEAD_LETTERS}.
+     */
+    void addDeadLetter(DeadLetterEvent deadLetter) {
+        deadLetterEvents.addLast(deadLetter);
+        if (deadLetterCount.incrementAndGet() > MAX_DEAD_LETTERS && deadLetterEvents.pollFirst() != null) {
+            deadLetterCount.decrementAndGet();
+        }
     }
     
     /**
@@ -488,7 +759,21 @@ public class EventBus {
      */
     public <T> EventStatistics getEventStatistics(Class<T> eventType) {
         // Return the actual statistics object that tracks real-time metrics
-        return eventStatistics.computeIfAbsent(eventType, k -> new EventStatistics(eventType));
+        return statisticsFor(eventType);
+    }
+    
+    /**
+     * Enables or disables listener timing. When disabled, dispatch does not
+     * call {@link System#nanoTime()} and only the counters are updated.
+     * 
+     * @param enabled whether to record processing time histograms
+     */
+    public void setTimingEnabled(boolean enabled) {
+        this.timingEnabled = enabled;
+    }
+    
+    public boolean isTimingEnabled() {
+        return timingEnabled;
     }
     
     /**
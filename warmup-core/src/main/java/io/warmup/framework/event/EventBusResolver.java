@@ -268,12 +268,30 @@ public class EventBusResolver {
     }
     
     /**
-     * 🧹 Shutdown EventBus singleton
+     * 🧹 Shutdown del EventBus de un container: para sus hilos de despacho y
+     * entrega lo pendiente. El singleton solo se descarta si es ese mismo bus;
+     * los buses de otros containers siguen funcionando.
+     */
+    public static void shutdown(EventBus eventBus) {
+        if (eventBus == null) {
+            return;
+        }
+        synchronized (LOCK) {
+            eventBus.shutdown();
+            if (eventBus == INSTANCE) {
+                reset();
+            }
+        }
+    }
+    
+    /**
+     * 🧹 Shutdown EventBus singleton: para sus hilos de despacho, entrega los
+     * eventos y lotes pendientes y descarta el singleton
      */
     public static void shutdown() {
         synchronized (LOCK) {
             if (INSTANCE != null) {
-                // Add shutdown cleanup if needed
+                INSTANCE.shutdown();
                 log.log(Level.FINEST, "🧹 EventBus singleton shutdown");
             }
             
@@ -1,53 +1,188 @@
 package io.warmup.framework.event;
 
+import io.warmup.framework.metrics.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Statistics for event processing.
  * 
  * Tracks published, processed, and failed events for a specific event type.
+ * Counters are striped {@link LongAdder}s indexed by {@link Counter}, so
+ * concurrent publishers and dispatcher threads never contend on one field.
+ * Processing time is kept in nanoseconds in a {@link LatencyHistogram} for
+ * the event type and another one per listener.
  * 
  * @author MiniMax Agent
  * @version 1.0
  */
 public class EventStatistics {
     
+    /**
+     * Counters tracked per event type.
+     */
+    public enum Counter {
+        PUBLISHED,
+        PROCESSED,
+        FAILED,
+        /** Accepted by the async dispatcher (ring buffer or partition lane). */
+        ASYNC_QUEUED,
+        /** Taken from the async buffer by a dispatcher thread. */
+        DEQUEUED,
+        DROPPED,
+        DEAD_LETTERED,
+        CALLER_RUNS
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+
     private final Class<?> eventType;
-    private final AtomicLong publishedCount = new AtomicLong(0);
-    private final AtomicLong processedCount = new AtomicLong(0);
-    private final AtomicLong failedCount = new AtomicLong(0);
-    private final AtomicLong totalProcessingTime = new AtomicLong(0);
+    private final LongAdder[] counters = new LongAdder[COUNTERS.length];
+
+    // Processing time (nanoseconds) per event type and per listener
+    private final LongAdder totalProcessingNanos = new LongAdder();
+    private final LatencyHistogram processingTime = new LatencyHistogram();
+    private final Map<Object, LatencyHistogram> listenerProcessingTimes = new ConcurrentHashMap<>();
+
+    // Async dispatch lag (nanoseconds), averaged over timed dequeues only
+    private final LongAdder totalDispatchLagNanos = new LongAdder();
+    private final LongAdder timedDequeues = new LongAdder();
+    private final LatencyHistogram dispatchLag = new LatencyHistogram();
+    private final AtomicLong maxDispatchLagNanos = new AtomicLong(0);
     
     public EventStatistics(Class<?> eventType) {
         this.eventType = eventType;
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Increment a counter.
+     *
+     * @param counter the counter to increment
+     */
+    public void increment(Counter counter) {
+        counters[counter.ordinal()].increment();
+    }
+
+    /**
+     * Get the current value of a counter.
+     *
+     * @param counter the counter to read
+     * @return the counter value
+     */
+    public long get(Counter counter) {
+        return counters[counter.ordinal()].sum();
     }
     
     /**
      * Record an action for this event type.
      * 
      * @param action the action to record (published, processed, failed)
+     * @deprecated use {@link #increment(Counter)}
      */
+    @Deprecated
     public void recordAction(String action) {
         switch (action.toLowerCase()) {
             case "published":
-                publishedCount.incrementAndGet();
+                increment(Counter.PUBLISHED);
                 break;
             case "processed":
-                processedCount.incrementAndGet();
+                increment(Counter.PROCESSED);
                 break;
             case "failed":
-                failedCount.incrementAndGet();
+                increment(Counter.FAILED);
                 break;
         }
     }
+
+    /**
+     * Record a listener that processed an event successfully.
+     *
+     * @param listener the listener, key of its own latency histogram
+     * @param processingNanos time spent in the listener, or a negative value if timing is disabled
+     */
+    public void recordProcessed(Object listener, long processingNanos) {
+        increment(Counter.PROCESSED);
+        if (processingNanos >= 0) {
+            recordProcessingNanos(processingNanos);
+            LatencyHistogram histogram = listenerProcessingTimes.get(listener);
+            if (histogram == null) {
+                histogram = listenerProcessingTimes.computeIfAbsent(listener, k -> new LatencyHistogram());
+            }
+            histogram.record(processingNanos);
+        }
+    }
     
     /**
      * Record processing time for an event.
      * 
      * @param processingTime the time taken to process the event in milliseconds
+     * @deprecated millisecond resolution records sub-millisecond listeners as 0;
+     *             use {@link #recordProcessed(Object, long)}
      */
+    @Deprecated
     public void recordProcessingTime(long processingTime) {
-        totalProcessingTime.addAndGet(processingTime);
+        recordProcessingNanos(processingTime * 1_000_000);
+    }
+
+    private void recordProcessingNanos(long nanos) {
+        totalProcessingNanos.add(nanos);
+        processingTime.record(nanos);
+    }
+
+    /**
+     * Record an event accepted by the async dispatcher.
+     */
+    public void recordEnqueued() {
+        increment(Counter.ASYNC_QUEUED);
+    }
+
+    /**
+     * Record an event taken from the async buffer by a dispatcher thread.
+     *
+     * @param lagNanos time the event waited in the buffer, in nanoseconds, or a
+     *                 negative value if timing is disabled
+     */
+    public void recordDequeued(long lagNanos) {
+        increment(Counter.DEQUEUED);
+        if (lagNanos < 0) {
+            // Timing desactivado: solo el contador
+            return;
+        }
+        totalDispatchLagNanos.add(lagNanos);
+        timedDequeues.increment();
+        dispatchLag.record(lagNanos);
+        // Solo se escribe cuando hay un nuevo máximo
+        if (lagNanos > maxDispatchLagNanos.get()) {
+            maxDispatchLagNanos.accumulateAndGet(lagNanos, Math::max);
+        }
+    }
+
+    /**
+     * Record a queued event discarded by the overflow policy.
+     */
+    public void recordDropped() {
+        increment(Counter.DROPPED);
+    }
+
+    /**
+     * Record an event diverted to the dead letter list by the overflow policy.
+     */
+    public void recordDeadLettered() {
+        increment(Counter.DEAD_LETTERED);
+    }
+
+    /**
+     * Record an async event dispatched on the publishing thread instead.
+     */
+    public void recordCallerRuns() {
+        increment(Counter.CALLER_RUNS);
     }
     
     /**
@@ -65,7 +200,7 @@ public class EventStatistics {
      * @return published event count
      */
     public long getPublishedCount() {
-        return publishedCount.get();
+        return get(Counter.PUBLISHED);
     }
     
     /**
@@ -74,7 +209,7 @@ public class EventStatistics {
      * @return processed event count
      */
     public long getProcessedCount() {
-        return processedCount.get();
+        return get(Counter.PROCESSED);
     }
     
     /**
@@ -83,7 +218,7 @@ public class EventStatistics {
      * @return failed event count
      */
     public long getFailedCount() {
-        return failedCount.get();
+        return get(Counter.FAILED);
     }
     
     /**
@@ -92,17 +227,45 @@ public class EventStatistics {
      * @return total processing time in milliseconds
      */
     public long getTotalProcessingTime() {
-        return totalProcessingTime.get();
+        return totalProcessingNanos.sum() / 1_000_000;
     }
     
     /**
      * Get the average processing time for events of this type.
      * 
-     * @return average processing time in milliseconds
+     * @return average processing time in milliseconds (sub-millisecond precision)
      */
     public double getAverageProcessingTime() {
-        long processed = processedCount.get();
-        return processed > 0 ? (double) totalProcessingTime.get() / processed : 0.0;
+        long timed = processingTime.getCount();
+        return timed > 0 ? totalProcessingNanos.sum() / 1_000_000.0 / timed : 0.0;
+    }
+
+    /**
+     * Get a processing time percentile across all listeners of this type.
+     *
+     * @param percentile percentile in 0..1 (e.g. 0.99)
+     * @return processing time in nanoseconds (upper bound of the histogram bucket)
+     */
+    public long getProcessingTimePercentileNanos(double percentile) {
+        return processingTime.percentile(percentile);
+    }
+
+    /**
+     * Get the processing time histogram of each listener of this type.
+     *
+     * @return listener to its nanosecond histogram
+     */
+    public Map<Object, LatencyHistogram> getListenerProcessingTimes() {
+        return Collections.unmodifiableMap(listenerProcessingTimes);
+    }
+
+    /**
+     * Drop the histogram of an unregistered listener so it is not kept reachable.
+     *
+     * @param listener the listener passed to {@link #recordProcessed(Object, long)}
+     */
+    public void removeListener(Object listener) {
+        listenerProcessingTimes.remove(listener);
     }
     
     /**
@@ -111,8 +274,8 @@ public class EventStatistics {
      * @return success rate as a percentage (0.0 to 1.0)
      */
     public double getSuccessRate() {
-        long published = publishedCount.get();
-        return published > 0 ? (double) processedCount.get() / published : 0.0;
+        long published = getPublishedCount();
+        return published > 0 ? (double) getProcessedCount() / published : 0.0;
     }
     
     /**
@@ -121,18 +284,77 @@ public class EventStatistics {
      * @return failure rate as a percentage (0.0 to 1.0)
      */
     public double getFailureRate() {
-        long published = publishedCount.get();
-        return published > 0 ? (double) failedCount.get() / published : 0.0;
+        long published = getPublishedCount();
+        return published > 0 ? (double) getFailedCount() / published : 0.0;
+    }
+
+    /**
+     * Get the number of events of this type currently waiting in the async buffer.
+     *
+     * @return queued events not yet dispatched
+     */
+    public long getQueueDepth() {
+        // Derivado de los contadores: sin un contador compartido que suba y baje en cada evento
+        long depth = get(Counter.ASYNC_QUEUED) - get(Counter.DEQUEUED) - get(Counter.DROPPED)
+                - get(Counter.DEAD_LETTERED) - get(Counter.CALLER_RUNS);
+        return Math.max(0, depth);
+    }
+
+    public long getAsyncQueuedCount() {
+        return get(Counter.ASYNC_QUEUED);
+    }
+
+    public long getDroppedCount() {
+        return get(Counter.DROPPED);
+    }
+
+    public long getDeadLetteredCount() {
+        return get(Counter.DEAD_LETTERED);
+    }
+
+    public long getCallerRunsCount() {
+        return get(Counter.CALLER_RUNS);
+    }
+
+    /**
+     * Get the average time async events waited in the buffer before dispatch.
+     *
+     * @return average dispatch lag in milliseconds
+     */
+    public double getAverageDispatchLagMs() {
+        // DEQUEUED también cuenta los eventos sin timing, que no suman lag
+        long timed = timedDequeues.sum();
+        return timed > 0 ? totalDispatchLagNanos.sum() / 1_000_000.0 / timed : 0.0;
+    }
+
+    /**
+     * Get the longest time an async event waited in the buffer before dispatch.
+     *
+     * @return maximum dispatch lag in milliseconds
+     */
+    public double getMaxDispatchLagMs() {
+        return maxDispatchLagNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Get a dispatch lag percentile of async events.
+     *
+     * @param percentile percentile in 0..1 (e.g. 0.99)
+     * @return dispatch lag in nanoseconds (upper bound of the histogram bucket)
+     */
+    public long getDispatchLagPercentileNanos(double percentile) {
+        return dispatchLag.percentile(percentile);
     }
     
     @Override
     public String toString() {
-        return String.format("EventStatistics[%s]: published=%d, processed=%d, failed=%d, avgTime=%.2fms, successRate=%.2f%%",
+        return String.format("EventStatistics[%s]: published=%d, processed=%d, failed=%d, avgTime=%.3fms, p99=%dns, successRate=%.2f%%",
                 eventType.getSimpleName(),
-                publishedCount.get(),
-                processedCount.get(),
-                failedCount.get(),
+                getPublishedCount(),
+                getProcessedCount(),
+                getFailedCount(),
                 getAverageProcessingTime(),
+                getProcessingTimePercentileNanos(0.99),
                 getSuccessRate() * 100);
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package io.warmup.framework.event;
+
+/**
+ * Events that must be delivered in publication order relative to other
+ * events with the same key (e.g. all events of one aggregate).
+ *
+ * <p>{@link EventBus#publishEventAsync(Object)} routes them by key hash to a
+ * single-threaded lane, so events with equal keys are processed one at a time
+ * and in order, while different keys proceed in parallel on other lanes. For
+ * event classes that cannot implement this interface, register a key extractor
+ * with {@link EventBus#registerPartitionKey(Class, java.util.function.Function)}.
+ */
+public interface PartitionKeyed {
+
+    /**
+     * @return the ordering key; {@code null} dispatches the event unpartitioned
+     */
+    Object getPartitionKey();
+}
@@ -0,0 +1,56 @@
+package io.warmup.framework.event;
+
+/**
+ * 🛤️ Despacho asíncrono particionado por clave: N carriles de un solo hilo,
+ * cada uno con su propio {@link EventRingBuffer}.
+ *
+ * Todos los eventos con la misma clave van al mismo carril y se entregan en
+ * orden de publicación; claves distintas se reparten entre carriles y se
+ * procesan en paralelo. Cada carril es un {@link AsyncEventDispatcher} de un
+ * hilo, así que las políticas de desbordamiento y las métricas son las mismas.
+ */
+final class PartitionedEventDispatcher {
+
+    private final AsyncEventDispatcher[] lanes;
+
+    PartitionedEventDispatcher(EventBus eventBus, AsyncEventConfig config) {
+        this.lanes = new AsyncEventDispatcher[config.getPartitionLanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new AsyncEventDispatcher(eventBus, config.forLane(i));
+        }
+    }
+
+    void submit(Object event, Object key, EventStatistics stats) {
+        lanes[laneFor(key)].submit(event, stats);
+    }
+
+    int laneFor(Object key) {
+        int hash = key.hashCode();
+        // Mezclar los bits altos: muchas claves (ids secuenciales) solo varían en los bajos
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, lanes.length);
+    }
+
+    int[] getLaneBacklogs() {
+        int[] backlogs = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            backlogs[i] = lanes[i].getQueueDepth();
+        }
+        return backlogs;
+    }
+
+    long[] getLaneDeliveredCounts() {
+        long[] delivered = new long[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            delivered[i] = lanes[i].getDeliveredCount();
+        }
+        return delivered;
+    }
+
+    void shutdown(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        for (AsyncEventDispatcher lane : lanes) {
+            lane.shutdown(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+    }
+}
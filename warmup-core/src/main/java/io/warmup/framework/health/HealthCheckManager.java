@@ -1,12 +1,15 @@
 package io.warmup.framework.health;
 
+import io.warmup.framework.async.TimerWheel;
 import io.warmup.framework.core.WarmupContainer;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -42,6 +45,7 @@ public class HealthCheckManager {
     
     private final Map<String, HealthCheck> healthChecks = new ConcurrentHashMap<>();
     private final ExecutorService healthCheckExecutor = Executors.newCachedThreadPool();
+    private final TimerWheel timerWheel = TimerWheel.shared();
     private volatile Map<String, HealthResult> lastHealthResults;
     private volatile long lastHealthCheckTime = 0;
     private WarmupContainer container; // Ahora puede ser null inicialmente
@@ -102,17 +106,30 @@ public class HealthCheckManager {
             String name = entry.getKey();
             HealthCheck check = entry.getValue();
             
-            futures.add(healthCheckExecutor.submit(() -> {
+            TimedCheck task = new TimedCheck(() -> {
                 try {
                     HealthResult result = check.check();
-                    results.put(name, result);
+                    results.putIfAbsent(name, result);
                     logHealthResult(name, result);
                 } catch (Exception e) {
                     HealthResult errorResult = HealthResult.down("Health check execution failed", e);
-                    results.put(name, errorResult);
+                    results.putIfAbsent(name, errorResult);
                     log.log(Level.SEVERE, "Health check [{0}] failed: {1}", new Object[]{name, e.getMessage()});
                 }
-            }));
+            });
+
+            // ⏱️ Timeout propio del check en la rueda compartida; se cancela al terminar
+            long timeout = check.getTimeout() > 0 ? check.getTimeout() : DEFAULT_HEALTH_CHECK_TIMEOUT;
+            task.expiry = timerWheel.schedule(() -> {
+                if (!task.isDone()) {
+                    // Registrar antes de interrumpir: el check interrumpido no debe ganar
+                    results.putIfAbsent(name, HealthResult.down("Health check timeout after " + timeout + "ms"));
+                    task.cancel(true);
+                    log.log(Level.SEVERE, "Health check timeout: {0}", name);
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+            healthCheckExecutor.execute(task);
+            futures.add(task);
         }
 
         // Esperar a que todos terminen con timeout
@@ -123,7 +140,7 @@ public class HealthCheckManager {
         lastHealthCheckTime = System.currentTimeMillis();
         
         // O(1) Cache storage
-        healthResultsCache.put(cacheKey, null); // Store just for TTL tracking
+        // Solo el vencimiento: ConcurrentHashMap no admite valores null
         healthResultsExpiry.put(cacheKey, System.currentTimeMillis() + HEALTH_RESULTS_TTL);
         healthResultsDirty = false;
         
@@ -155,6 +172,8 @@ public class HealthCheckManager {
             } catch (TimeoutException e) {
                 log.log(Level.SEVERE, "Health check timeout: {0}", e.getMessage());
                 future.cancel(true);
+            } catch (CancellationException e) {
+                // Cancelado por su timeout: el resultado DOWN ya está registrado
             } catch (InterruptedException e) {
                 log.log(Level.SEVERE, "Health check interrumpido: {0}", e.getMessage());
                 Thread.currentThread().interrupt();
@@ -184,7 +203,8 @@ public class HealthCheckManager {
     }
 
     public Map<String, HealthResult> checkHealthForceRefresh() {
-        lastHealthResults = null;
+        // Invalidar el vencimiento, no solo los resultados: si no, checkHealth() los copia siendo null
+        invalidateHealthResultsCache();
         return checkHealth();
     }
 
@@ -441,4 +461,23 @@ public class HealthCheckManager {
                 healthyChecks, unhealthyChecks, message.toString()));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tarea de health check que cancela su timeout al terminar.
+     */
+    private static final class TimedCheck extends FutureTask<Void> {
+        volatile TimerWheel.Timeout expiry;
+
+        TimedCheck(Runnable check) {
+            super(check, null);
+        }
+
+        @Override
+        protected void done() {
+            TimerWheel.Timeout pending = expiry;
+            if (pending != null) {
+                pending.cancel();
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package io.warmup.framework.hotreload;
 import io.warmup.framework.event.EventBus;
 import io.warmup.framework.event.EventListener;
 import io.warmup.framework.cache.ASMCacheManager;
+import io.warmup.framework.asm.AsmCoreUtils;
+import io.warmup.framework.metadata.ClassMetadataStore;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -153,6 +155,9 @@ public class HotReloadManager {
                     status.setMessage("Hot reload completed, but class verification failed: " + e.getMessage());
                 }
                 
+                // Los metadatos por clase (ASM, scope, handles) de la versión anterior ya no son válidos
+                ClassMetadataStore.invalidate(targetClass);
+                
                 status.setSuccess(true);
                 log.log(Level.INFO, "Hot reload successful for class: {0}", className);
                 
@@ -339,8 +344,7 @@ public class HotReloadManager {
     public void clearAsmCaches() {
         try {
             System.out.println("Clearing ASM caches for hot reload optimization...");
-            // In a real implementation, this would clear ASM-related caches
-            // For now, we just publish an event indicating cache clearance
+            AsmCoreUtils.clearCaches();
             publishEvent(new HotReloadEvent(HotReloadEvent.EventType.CACHE_CLEARED, "HotReloadManager", 
                 "ASM caches cleared"));
         } catch (Exception e) {
@@ -18,6 +18,9 @@ public class DependencyGraph {
         }
 
         public void addDependency(DependencyNode node) {
+            if (node == this || dependencies.contains(node)) {
+                return;
+            }
             dependencies.add(node);
             node.dependents.add(this);
         }
@@ -29,14 +32,87 @@ public class DependencyGraph {
         public List<DependencyNode> getDependencies() {
             return dependencies;
         }
+
+        public List<DependencyNode> getDependents() {
+            return dependents;
+        }
     }
 
     public DependencyNode getOrCreateNode(Class<?> clazz) {
         return nodes.computeIfAbsent(clazz, DependencyNode::new);
     }
 
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Orden topológico: cada clase aparece después de todas sus dependencias.
+     * Las clases que forman ciclos van al final (ver {@link #getCyclicNodes()}).
+     */
     public List<Class<?>> getResolutionOrder() {
-        // Orden topológico simple para demo
-        return new ArrayList<>(nodes.keySet());
+        List<Class<?>> order = new ArrayList<>();
+        for (List<Class<?>> layer : getLayers()) {
+            order.addAll(layer);
+        }
+        order.addAll(getCyclicNodes());
+        return order;
+    }
+
+    /**
+     * Divide el grafo en capas topológicas (Kahn por niveles): la capa 0 no
+     * tiene dependencias y cada capa solo depende de capas anteriores, así que
+     * los nodos de una misma capa pueden crearse en paralelo. El número de
+     * capas es la longitud del camino crítico.
+     *
+     * Cada capa se ordena por nombre de clase para que el orden sea
+     * determinista. Los nodos en ciclos no pertenecen a ninguna capa.
+     */
+    public List<List<Class<?>>> getLayers() {
+        Map<DependencyNode, Integer> pending = new IdentityHashMap<>();
+        List<DependencyNode> current = new ArrayList<>();
+        for (DependencyNode node : nodes.values()) {
+            int inDegree = node.dependencies.size();
+            pending.put(node, inDegree);
+            if (inDegree == 0) {
+                current.add(node);
+            }
+        }
+
+        List<List<Class<?>>> layers = new ArrayList<>();
+        while (!current.isEmpty()) {
+            current.sort(Comparator.comparing(node -> node.clazz.getName()));
+            List<Class<?>> layer = new ArrayList<>(current.size());
+            List<DependencyNode> next = new ArrayList<>();
+            for (DependencyNode node : current) {
+                layer.add(node.clazz);
+                for (DependencyNode dependent : node.dependents) {
+                    if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            layers.add(layer);
+            current = next;
+        }
+        return layers;
+    }
+
+    /**
+     * @return clases que participan en (o dependen de) un ciclo, ordenadas por nombre
+     */
+    public List<Class<?>> getCyclicNodes() {
+        Set<Class<?>> layered = new HashSet<>();
+        for (List<Class<?>> layer : getLayers()) {
+            layered.addAll(layer);
+        }
+        List<Class<?>> cyclic = new ArrayList<>();
+        for (Class<?> clazz : nodes.keySet()) {
+            if (!layered.contains(clazz)) {
+                cyclic.add(clazz);
+            }
+        }
+        cyclic.sort(Comparator.comparing(Class::getName));
+        return cyclic;
     }
 }
@@ -1,8 +1,5 @@
 package io.warmup.framework.lazy;
 
-import io.warmup.framework.asm.AsmCoreUtils; // MIGRATED from SimpleASMUtils
-import io.warmup.framework.proxy.InvocationHandler;
-import io.warmup.framework.proxy.Proxies;
 import io.warmup.framework.proxy.ProxyBuilder;
 import java.util.function.Supplier;
 
@@ -20,66 +17,45 @@ public final class LazyFactory {
      * una vez)
      * @return proxy lazy listo para usar
      */
-    @SuppressWarnings("unchecked")
     public static <T> T createLazyProxy(Class<T> targetType, Supplier<T> instanceSupplier) {
+        Supplier<T> initializer = new LoggingInitializer<>(targetType, instanceSupplier);
         if (targetType.isInterface()) {
             System.out.println("🔧 Usando Proxycraft para interface: " + targetType.getSimpleName());
-            return Proxies.createProxy(targetType, new LazyHandler<>(targetType, instanceSupplier));
+            return ProxyBuilder.createProxy(targetType)
+                    .delegateLazily(initializer)
+                    .build();
         } else {
             System.out.println("🔧 Usando Proxycraft para clase concreta: " + targetType.getSimpleName());
             return ProxyBuilder.<T>createSubclass(targetType)
                     .callSuperConstructor(false) // sin <init> del padre
-                    .intercept(new LazyHandler<>(targetType, instanceSupplier))
+                    .delegateLazily(initializer)
                     .build();
         }
     }
 
     /* ---------------------------------------------------------------------- */
- /*  Handler universal (interface & clase)                                 */
+ /*  Inicialización (interface & clase)                                    */
  /* ---------------------------------------------------------------------- */
-    private static final class LazyHandler<T> implements InvocationHandler {
+    /**
+     * El proxy generado invoca este proveedor una sola vez, bajo su propio lock,
+     * y a partir de ahí llama directamente a la instancia real sin handler.
+     */
+    private static final class LoggingInitializer<T> implements Supplier<T> {
 
         private final Class<T> targetType;
         private final Supplier<T> supplier;
-        private volatile T real;
-        private volatile boolean initialized = false;
-        private final Object lock = new Object();
 
-        LazyHandler(Class<T> targetType, Supplier<T> supplier) {
+        LoggingInitializer(Class<T> targetType, Supplier<T> supplier) {
             this.targetType = targetType;
             this.supplier = supplier;
         }
 
         @Override
-        public Object invoke(Object proxy, String methodName, Object[] args) throws Throwable {
-            // Métodos de Object los resolvemos sin inicializar
-            if ("toString".equals(methodName)) {
-                return "LazyProxy{Proxycraft-" + targetType.getSimpleName() + ", initialized=" + initialized + "}";
-            }
-            if ("hashCode".equals(methodName)) {
-                return System.identityHashCode(proxy);
-            }
-            if ("equals".equals(methodName)) {
-                return proxy == args[0];
-            }
-
-            // Inicialización bajo demanda
-            if (!initialized) {
-                synchronized (lock) {
-                    if (!initialized) {
-                        System.out.println("🐢 Proxycraft - Inicializando perezosamente: " + targetType.getSimpleName());
-                        real = supplier.get();
-                        initialized = true;
-                        System.out.println("✅ Proxycraft - Inicialización lazy completada");
-                    }
-                }
-            }
-
-            // Delegar al objeto real
-            // ✅ REFACTORIZADO: Usar ASM en lugar de reflexión
-            return AsmCoreUtils.invokeMethod(real, methodName, args);
+        public T get() {
+            System.out.println("🐢 Proxycraft - Inicializando perezosamente: " + targetType.getSimpleName());
+            T real = supplier.get();
+            System.out.println("✅ Proxycraft - Inicialización lazy completada");
+            return real;
         }
-
-
     }
 }
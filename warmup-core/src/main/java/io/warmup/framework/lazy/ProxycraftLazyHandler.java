@@ -1,10 +1,11 @@
 package io.warmup.framework.lazy;
 
-import io.warmup.framework.asm.AsmCoreUtils; // MIGRATED from SimpleASMUtils
-import io.warmup.framework.proxy.InvocationHandler;
+import io.warmup.framework.aop.MethodInvokers;
+import io.warmup.framework.proxy.IndexedInvocationHandler;
+import io.warmup.framework.proxy.ProxyMethod;
 import java.util.function.Supplier;
 
-public final class ProxycraftLazyHandler<T> implements InvocationHandler {
+public final class ProxycraftLazyHandler<T> implements IndexedInvocationHandler {
 
     private final Class<T> type;
     private final Supplier<T> supplier;
@@ -18,15 +19,17 @@ public final class ProxycraftLazyHandler<T> implements InvocationHandler {
     }
 
     @Override
-    public Object invoke(Object proxy, String methodName, Object[] args) throws Throwable {
-        // Resolver métodos de Object sin inicializar
-        if ("toString".equals(methodName)) {
+    public Object invoke(Object proxy, int methodIndex, ProxyMethod method, Object[] args) throws Throwable {
+        // Resolver métodos de Object (redeclarados en la interfaz) sin inicializar
+        String methodName = method.getName();
+        int parameterCount = method.getParameterCount();
+        if (parameterCount == 0 && "toString".equals(methodName)) {
             return "LazyProxy{Proxycraft-" + type.getSimpleName() + ", initialized=" + initialized + "}";
         }
-        if ("hashCode".equals(methodName)) {
+        if (parameterCount == 0 && "hashCode".equals(methodName)) {
             return System.identityHashCode(proxy);
         }
-        if ("equals".equals(methodName)) {
+        if (parameterCount == 1 && "equals".equals(methodName)) {
             return proxy == args[0];
         }
 
@@ -42,9 +45,8 @@ public final class ProxycraftLazyHandler<T> implements InvocationHandler {
             }
         }
 
-        // Delegar al objeto real
-        // ✅ REFACTORIZADO: Usar ASM en lugar de reflexión
-        return AsmCoreUtils.invokeMethod(real, methodName, args);
+        // Delegar al objeto real con el invoker del método, sin búsqueda por nombre
+        return MethodInvokers.of(method.getMethod()).invoke(real, args);
     }
 
 
@@ -0,0 +1,136 @@
+package io.warmup.framework.metadata;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Almacén unificado de metadatos por clase respaldado por {@link ClassValue}.
+ *
+ * A diferencia de los {@code static ConcurrentHashMap} indexados por nombre de
+ * clase, los valores viven asociados a la propia {@link Class}: cuando la clase
+ * (o su ClassLoader, en hot reload, plugins o contenedores de test) deja de ser
+ * alcanzable, sus metadatos se recolectan con ella. Los lookups usan la
+ * identidad de la clase, sin construir ni hashear claves {@code "clase.metodo"}.
+ *
+ * Cada tipo de metadato (análisis ASM, campos @Inject, scope, handles...) se
+ * declara una sola vez como {@link Key} con su función de cálculo:
+ *
+ * <pre>
+ * private static final ClassMetadataStore.Key&lt;ScopeInfo&gt; SCOPE =
+ *         ClassMetadataStore.key("scope", ScopeManager::analyzeScope);
+ *
+ * ScopeInfo info = ClassMetadataStore.get(beanClass, SCOPE);
+ * </pre>
+ *
+ * Los valores calculados deben ser inmutables o thread-safe; un cálculo concurrente
+ * duplicado es inocuo y gana la última escritura.
+ */
+public final class ClassMetadataStore {
+
+    private static final Object NULL_VALUE = new Object();
+
+    private static final ClassValue<Map<Key<?>, Entry>> SLOTS = new ClassValue<Map<Key<?>, Entry>>() {
+        @Override
+        protected Map<Key<?>, Entry> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(8);
+        }
+    };
+
+    private ClassMetadataStore() {
+    }
+
+    /**
+     * Declara un tipo de metadato por clase.
+     *
+     * @param name nombre descriptivo (estadísticas y depuración)
+     * @param loader función que calcula el metadato para una clase
+     */
+    public static <V> Key<V> key(String name, Function<Class<?>, ? extends V> loader) {
+        return new Key<>(name, loader);
+    }
+
+    /**
+     * Obtiene (calculándolo la primera vez) el metadato {@code key} de {@code type}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> V get(Class<?> type, Key<V> key) {
+        Map<Key<?>, Entry> slots = SLOTS.get(type);
+        int generation = key.generation.get();
+        Entry entry = slots.get(key);
+        if (entry != null && entry.generation == generation) {
+            return entry.value == NULL_VALUE ? null : (V) entry.value;
+        }
+
+        // Sin computeIfAbsent: el loader puede consultar otras claves de la misma clase
+        V value = key.loader.apply(type);
+        key.computations.increment();
+        slots.put(key, new Entry(value == null ? NULL_VALUE : value, generation));
+        return value;
+    }
+
+    /**
+     * Descarta todos los metadatos de una clase (p.ej. tras redefinirla en hot reload).
+     */
+    public static void invalidate(Class<?> type) {
+        if (type != null) {
+            SLOTS.remove(type);
+        }
+    }
+
+    // ========================================
+    // 🔑 CLAVES
+    // ========================================
+
+    /**
+     * Tipo de metadato por clase. La identidad de la clave es la de la instancia.
+     */
+    public static final class Key<V> {
+        private final String name;
+        private final Function<Class<?>, ? extends V> loader;
+        private final AtomicInteger generation = new AtomicInteger();
+        private final LongAdder computations = new LongAdder();
+
+        private Key(String name, Function<Class<?>, ? extends V> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        /**
+         * Invalida los valores de esta clave en todas las clases; se recalculan
+         * perezosamente en el siguiente acceso.
+         */
+        public void clear() {
+            generation.incrementAndGet();
+            computations.reset();
+        }
+
+        /**
+         * @return número de cálculos realizados desde el último {@link #clear()}
+         */
+        public long getComputationCount() {
+            return computations.sum();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return "ClassMetadataStore.Key[" + name + "]";
+        }
+    }
+
+    private static final class Entry {
+        final Object value;
+        final int generation;
+
+        Entry(Object value, int generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
+}
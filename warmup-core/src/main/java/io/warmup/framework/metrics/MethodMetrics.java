@@ -3,7 +3,7 @@ package io.warmup.framework.metrics;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 public class MethodMetrics {
 
@@ -15,8 +15,7 @@ public class MethodMetrics {
     }
 
     public void recordMethodCall(String methodName, long duration, boolean success) {
-        MethodStats stats = methodStats.computeIfAbsent(methodName, k -> new MethodStats());
-        stats.recordCall(duration, success);
+        getOrCreateMethodStats(methodName).recordCall(duration, success);
     }
 
     public MethodStats getMethodStats(String methodName) {
@@ -31,6 +30,21 @@ public class MethodMetrics {
         methodStats.clear();
     }
 
+    /**
+     * Estadísticas del método, creándolas si no existen. Los llamadores en
+     * caliente (p.ej. {@link MetricsAspect}) las resuelven una vez y las guardan.
+     */
+    public MethodStats getOrCreateMethodStats(String methodName) {
+        return methodStats.computeIfAbsent(methodName, k -> new MethodStats());
+    }
+
+    /**
+     * Contadores de llamadas siempre activos (LongAdder, sin CAS en caliente)
+     * y tiempos de las llamadas muestreadas. Con muestreo, min/max/media se
+     * calculan sobre las llamadas medidas y {@link #getSampleRate()} indica
+     * qué fracción de las llamadas se midió. {@link MetricsAspect} registra
+     * los tiempos en nanosegundos.
+     */
     public static class MethodStats {
 
         // ✅ CONSTRUCTOR PÚBLICO EXPLÍCITO PARA JIT SUPPLIER
@@ -38,20 +52,20 @@ public class MethodMetrics {
             // Constructor público sin parámetros para optimización JIT
         }
 
-        private final AtomicLong callCount = new AtomicLong(0);
-        private final AtomicLong successfulCalls = new AtomicLong(0);
-        private final AtomicLong totalTime = new AtomicLong(0);
+        private final LongAdder callCount = new LongAdder();
+        private final LongAdder successfulCalls = new LongAdder();
+        private final LongAdder sampledCalls = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
         private final AtomicLong minTime = new AtomicLong(Long.MAX_VALUE);
         private final AtomicLong maxTime = new AtomicLong(0);
-        private final AtomicReference<Double> averageTime = new AtomicReference<>(0.0);
 
+        /**
+         * Registra una llamada medida.
+         */
         public void recordCall(long duration, boolean success) {
-            callCount.incrementAndGet();
-            if (success) {
-                successfulCalls.incrementAndGet();
-            }
-
-            totalTime.addAndGet(duration);
+            recordUnsampledCall(success);
+            sampledCalls.increment();
+            totalTime.add(duration);
 
             // Update min time
             long currentMin;
@@ -64,29 +78,52 @@ public class MethodMetrics {
             do {
                 currentMax = maxTime.get();
             } while (duration > currentMax && !maxTime.compareAndSet(currentMax, duration));
+        }
 
-            // Update average
-            averageTime.set((double) totalTime.get() / callCount.get());
+        /**
+         * Registra una llamada no muestreada: solo los contadores.
+         */
+        public void recordUnsampledCall(boolean success) {
+            callCount.increment();
+            if (success) {
+                successfulCalls.increment();
+            }
         }
 
         public long getCallCount() {
-            return callCount.get();
+            return callCount.sum();
         }
 
         public long getSuccessfulCalls() {
-            return successfulCalls.get();
+            return successfulCalls.sum();
         }
 
         public long getFailedCalls() {
-            return callCount.get() - successfulCalls.get();
+            return getCallCount() - getSuccessfulCalls();
         }
 
         public double getSuccessRate() {
-            return callCount.get() > 0 ? (successfulCalls.get() * 100.0) / callCount.get() : 0.0;
+            long calls = getCallCount();
+            return calls > 0 ? (getSuccessfulCalls() * 100.0) / calls : 0.0;
+        }
+
+        /**
+         * @return llamadas cuyo tiempo se midió
+         */
+        public long getSampledCalls() {
+            return sampledCalls.sum();
+        }
+
+        /**
+         * @return fracción efectiva de llamadas medidas (1.0 sin muestreo)
+         */
+        public double getSampleRate() {
+            long calls = getCallCount();
+            return calls > 0 ? (double) getSampledCalls() / calls : 0.0;
         }
 
         public long getTotalTime() {
-            return totalTime.get();
+            return totalTime.sum();
         }
 
         public long getMinTime() {
@@ -98,7 +135,8 @@ public class MethodMetrics {
         }
 
         public double getAverageTime() {
-            return averageTime.get();
+            long sampled = getSampledCalls();
+            return sampled > 0 ? (double) getTotalTime() / sampled : 0.0;
         }
     }
 }
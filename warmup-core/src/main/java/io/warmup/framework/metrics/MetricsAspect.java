@@ -5,12 +5,28 @@ import io.warmup.framework.annotation.Aspect;
 import io.warmup.framework.annotation.Timed;
 import io.warmup.framework.aop.ProceedingJoinPoint;
 import io.warmup.framework.core.WarmupContainer;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * ⏱️ Métricas de los métodos {@link Timed}.
+ *
+ * Los contadores de llamadas se actualizan siempre; el tiempo solo en las
+ * llamadas muestreadas ({@link Timed#sampleEvery()} /
+ * {@link Timed#maxSamplesPerSecond()}), de modo que un método muy caliente
+ * puede quedar medido en producción. Nombre, estadísticas y muestreador se
+ * resuelven una vez por clase destino y método. Los tiempos se registran en
+ * nanosegundos.
+ */
 @Aspect
 public class MetricsAspect {
 
     private final MethodMetrics methodMetrics;
     private final WarmupContainer container;
+    // Clase destino → método → estado; las subclases comparten Method pero no estadísticas
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, TimedMethod>> timedMethods = new ConcurrentHashMap<>();
+    private volatile ContainerMetrics containerMetrics;
 
     public MetricsAspect(WarmupContainer container, MethodMetrics methodMetrics) {
         this.container = container;
@@ -19,11 +35,20 @@ public class MetricsAspect {
 
     @Around("@annotation(io.warmup.framework.annotation.Timed)")
     public Object measureMethodExecution(ProceedingJoinPoint pjp, Timed timed) throws Throwable {
-        String methodName = timed.name().isEmpty()
-                ? pjp.getMethod().getName()
-                : timed.name();
+        TimedMethod timedMethod = timedMethod(pjp, timed);
 
-        String fullMethodName = pjp.getTarget().getClass().getSimpleName() + "." + methodName;
+        if (!timedMethod.sampler.shouldSample()) {
+            // Llamada no muestreada: solo contadores, sin nanoTime
+            boolean success = false;
+            try {
+                Object result = pjp.proceed();
+                success = true;
+                return result;
+            } finally {
+                timedMethod.stats.recordUnsampledCall(success);
+                recordRequest(success);
+            }
+        }
 
         long startTime = System.nanoTime();
         boolean success = false;
@@ -33,11 +58,69 @@ public class MetricsAspect {
             success = true;
             return result;
         } finally {
-            long duration = (System.nanoTime() - startTime) / 1_000_000; // Convert to milliseconds
-            methodMetrics.recordMethodCall(fullMethodName, duration, success);
+            long endTime = System.nanoTime();
+            // En nanosegundos: en ms las llamadas por debajo de 1ms registraban 0
+            timedMethod.stats.recordCall(endTime - startTime, success);
+            timedMethod.sampler.sampled(endTime);
 
             // Also record in container metrics
-            ((ContainerMetrics) container.getMetrics()).recordRequest(success);
+            recordRequest(success);
+        }
+    }
+
+    private TimedMethod timedMethod(ProceedingJoinPoint pjp, Timed timed) {
+        Class<?> targetClass = pjp.getTarget().getClass();
+        Method method = pjp.getMethod();
+        ConcurrentMap<Method, TimedMethod> methods = timedMethods.get(targetClass);
+        if (methods == null) {
+            methods = timedMethods.computeIfAbsent(targetClass, type -> new ConcurrentHashMap<>());
+        }
+        TimedMethod timedMethod = methods.get(method);
+        if (timedMethod != null) {
+            return timedMethod;
+        }
+
+        return methods.computeIfAbsent(method, m -> {
+            String methodName = timed.name().isEmpty() ? m.getName() : timed.name();
+            String fullMethodName = targetClass.getSimpleName() + "." + methodName;
+            return new TimedMethod(methodMetrics.getOrCreateMethodStats(fullMethodName), TimingSampler.of(timed));
+        });
+    }
+
+    private void recordRequest(boolean success) {
+        ContainerMetrics metrics = containerMetrics;
+        if (metrics == null) {
+            metrics = container.getMetricsManager().getContainerMetrics();
+            containerMetrics = metrics;
+        }
+        metrics.recordRequest(success);
+    }
+
+    /**
+     * @return intervalo de muestreo vigente del método sobre su clase
+     * declarante (1 = todas las llamadas)
+     */
+    public int getSamplingInterval(Method method) {
+        return getSamplingInterval(method.getDeclaringClass(), method);
+    }
+
+    /**
+     * @return intervalo de muestreo vigente del método sobre {@code targetClass}
+     */
+    public int getSamplingInterval(Class<?> targetClass, Method method) {
+        ConcurrentMap<Method, TimedMethod> methods = timedMethods.get(targetClass);
+        TimedMethod timedMethod = methods != null ? methods.get(method) : null;
+        return timedMethod != null ? timedMethod.sampler.getInterval() : 1;
+    }
+
+    private static final class TimedMethod {
+
+        final MethodMetrics.MethodStats stats;
+        final TimingSampler sampler;
+
+        TimedMethod(MethodMetrics.MethodStats stats, TimingSampler sampler) {
+            this.stats = stats;
+            this.sampler = sampler;
         }
     }
 }
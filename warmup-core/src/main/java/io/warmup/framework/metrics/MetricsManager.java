@@ -146,6 +146,8 @@ public class MetricsManager {
             methodData.put("minTime", stats.getMinTime());
             methodData.put("maxTime", stats.getMaxTime());
             methodData.put("averageTime", stats.getAverageTime());
+            methodData.put("sampledCalls", stats.getSampledCalls());
+            methodData.put("sampleRate", stats.getSampleRate());
             methodStats.put(methodName, methodData);
         });
         snapshot.put("methods", methodStats);
@@ -216,9 +218,11 @@ public class MetricsManager {
         if (!methodMetrics.getAllStats().isEmpty()) {
             report.append("\n\n--- Method Performance ---");
             methodMetrics.getAllStats().forEach((method, stats) -> {
-                report.append(String.format("\n  %s: calls=%d, avg=%.2fms, min=%dms, max=%dms, success=%.2f%%%",
-                        method, stats.getCallCount(), stats.getAverageTime(),
-                        stats.getMinTime(), stats.getMaxTime(), stats.getSuccessRate()));
+                // Tiempos registrados en nanosegundos
+                report.append(String.format("\n  %s: calls=%d, avg=%.3fms, min=%.3fms, max=%.3fms, success=%.2f%%, sampled=%.2f%%",
+                        method, stats.getCallCount(), stats.getAverageTime() / 1_000_000.0,
+                        stats.getMinTime() / 1_000_000.0, stats.getMaxTime() / 1_000_000.0, stats.getSuccessRate(),
+                        stats.getSampleRate() * 100.0));
             });
         }
 
@@ -0,0 +1,66 @@
+package io.warmup.framework.metrics;
+
+import io.warmup.framework.annotation.Timed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🎲 Decide qué llamadas de un método {@link Timed} se miden.
+ *
+ * Muestreo 1-de-N aleatorio ({@code ThreadLocalRandom}: sin estado compartido
+ * en la decisión). Con {@link Timed#maxSamplesPerSecond()} el intervalo se
+ * recalcula al cerrar cada ventana de un segundo, usando el instante final de
+ * la propia muestra (sin llamadas extra a {@code nanoTime}), y nunca baja de
+ * {@link Timed#sampleEvery()}.
+ */
+final class TimingSampler {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    private static final int MAX_INTERVAL = 1 << 20;
+
+    private final int minInterval;
+    private final int maxSamplesPerSecond;
+    private final AtomicLong windowStart;
+    private final LongAdder windowSamples = new LongAdder();
+    private volatile int interval;
+
+    TimingSampler(int sampleEvery, int maxSamplesPerSecond) {
+        this.minInterval = Math.max(1, sampleEvery);
+        this.maxSamplesPerSecond = maxSamplesPerSecond;
+        this.interval = minInterval;
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    static TimingSampler of(Timed timed) {
+        return new TimingSampler(timed.sampleEvery(), timed.maxSamplesPerSecond());
+    }
+
+    boolean shouldSample() {
+        int n = interval;
+        return n <= 1 || ThreadLocalRandom.current().nextInt(n) == 0;
+    }
+
+    /**
+     * Registra una muestra terminada en {@code now} y, si se cerró la ventana,
+     * ajusta el intervalo al presupuesto de muestras por segundo.
+     */
+    void sampled(long now) {
+        if (maxSamplesPerSecond <= 0) {
+            return;
+        }
+        windowSamples.increment();
+        long start = windowStart.get();
+        long elapsed = now - start;
+        if (elapsed >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            double samplesPerSecond = windowSamples.sumThenReset() * (double) WINDOW_NANOS / elapsed;
+            double callsPerSecond = samplesPerSecond * interval;
+            long next = (long) Math.ceil(callsPerSecond / maxSamplesPerSecond);
+            interval = (int) Math.min(MAX_INTERVAL, Math.max(minInterval, next));
+        }
+    }
+
+    int getInterval() {
+        return interval;
+    }
+}
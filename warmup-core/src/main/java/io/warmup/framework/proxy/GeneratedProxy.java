@@ -0,0 +1,27 @@
+package io.warmup.framework.proxy;
+
+import java.util.function.Supplier;
+
+/**
+ * Interfaz que implementan todas las clases generadas por {@link ProxyGenerator}.
+ *
+ * Los nombres con {@code $} evitan colisiones con los métodos del tipo proxiado.
+ */
+public interface GeneratedProxy {
+
+    /**
+     * Inyecta el handler de un proxy interceptado.
+     */
+    void $setHandler(IndexedInvocationHandler handler);
+
+    /**
+     * Inyecta el proveedor de la instancia real de un proxy lazy
+     * ({@link ProxyGenerator#delegateLazily(Supplier)}).
+     */
+    void $setDelegate(Supplier<?> supplier);
+
+    /**
+     * @return {@code true} si el proxy lazy ya obtuvo su instancia real
+     */
+    boolean $isResolved();
+}
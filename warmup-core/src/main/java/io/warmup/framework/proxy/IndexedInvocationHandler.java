@@ -0,0 +1,47 @@
+package io.warmup.framework.proxy;
+
+/**
+ * Handler de proxies generados que recibe el índice precalculado del método.
+ *
+ * El proxy pasa la posición constante del método en su tabla y el
+ * {@link ProxyMethod} correspondiente, sin buscar nada por nombre. Para los
+ * métodos que devuelven {@code int}, {@code long}, {@code double},
+ * {@code boolean} o {@code void} el proxy llama a la variante especializada;
+ * por defecto delegan en {@link #invoke} y desempaquetan, y un handler puede
+ * sobrescribirlas para devolver el primitivo sin boxing.
+ */
+@FunctionalInterface
+public interface IndexedInvocationHandler {
+
+    Object invoke(Object proxy, int methodIndex, ProxyMethod method, Object[] args) throws Throwable;
+
+    default int invokeInt(Object proxy, int methodIndex, ProxyMethod method, Object[] args) throws Throwable {
+        return ((Number) invoke(proxy, methodIndex, method, args)).intValue();
+    }
+
+    default long invokeLong(Object proxy, int methodIndex, ProxyMethod method, Object[] args) throws Throwable {
+        return ((Number) invoke(proxy, methodIndex, method, args)).longValue();
+    }
+
+    default double invokeDouble(Object proxy, int methodIndex, ProxyMethod method, Object[] args) throws Throwable {
+        return ((Number) invoke(proxy, methodIndex, method, args)).doubleValue();
+    }
+
+    default boolean invokeBoolean(Object proxy, int methodIndex, ProxyMethod method, Object[] args) throws Throwable {
+        return (Boolean) invoke(proxy, methodIndex, method, args);
+    }
+
+    default void invokeVoid(Object proxy, int methodIndex, ProxyMethod method, Object[] args) throws Throwable {
+        invoke(proxy, methodIndex, method, args);
+    }
+
+    /**
+     * Adapta un {@link InvocationHandler} por nombre al contrato indexado.
+     */
+    static IndexedInvocationHandler byName(InvocationHandler handler) {
+        if (handler == null) {
+            return null;
+        }
+        return (proxy, methodIndex, method, args) -> handler.invoke(proxy, method.getName(), args);
+    }
+}
@@ -19,6 +19,13 @@ public final class Proxies {
                 .build();
     }
 
+    @SuppressWarnings("unchecked")
+    public static <T> T createProxy(Class<T> targetClass, IndexedInvocationHandler handler) {
+        return (T) ProxyBuilder.createProxy(targetClass)
+                .intercept(handler)
+                .build();
+    }
+
     public static Object createInterfaceProxy(InvocationHandler handler, Class<?>... interfaces) {
         return ProxyBuilder.createInterfaceProxy(interfaces)
                 .intercept(handler)
@@ -1,5 +1,7 @@
 package io.warmup.framework.proxy;
 
+import java.util.function.Supplier;
+
 public final class ProxyBuilder<T> {
 
     private final ProxyGenerator generator;
@@ -27,6 +29,16 @@ public final class ProxyBuilder<T> {
         return this;
     }
 
+    public ProxyBuilder<T> intercept(IndexedInvocationHandler handler) {
+        generator.intercept(handler);
+        return this;
+    }
+
+    public ProxyBuilder<T> delegateLazily(Supplier<? extends T> supplier) {
+        generator.delegateLazily(supplier);
+        return this;
+    }
+
     public ProxyBuilder<T> implement(Class<?>... interfaces) {
         generator.implement(interfaces);
         return this;
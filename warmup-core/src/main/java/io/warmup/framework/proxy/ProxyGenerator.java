@@ -4,14 +4,31 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import org.objectweb.asm.*;
 
 import io.warmup.framework.asm.AsmCoreUtils;
-
+import io.warmup.framework.metadata.ClassMetadataStore;
+
+/**
+ * Genera con ASM clases proxy para interfaces o subclases.
+ *
+ * Cada método proxiado tiene un índice fijo en la tabla {@code $methods} de la
+ * clase generada y el bytecode llama a {@link IndexedInvocationHandler} con ese
+ * índice como constante, usando la variante primitiva para los retornos
+ * {@code int}, {@code long}, {@code double}, {@code boolean} y {@code void}.
+ *
+ * Con {@link #delegateLazily(Supplier)} no hay handler: cada método obtiene la
+ * instancia real (una sola vez) y la invoca directamente.
+ *
+ * Las clases se generan una vez por forma (modo, superclase e interfaces) y se
+ * guardan en {@link ClassMetadataStore} junto a la clase objetivo.
+ */
 public class ProxyGenerator {
 
     private static final Logger log = Logger.getLogger(ProxyGenerator.class.getName());
@@ -19,10 +36,24 @@ public class ProxyGenerator {
     private static final Map<String, Class<?>> CLASS_CACHE = new ConcurrentHashMap<>();
     private static final String PROXY_PACKAGE = "io.proxycraft.generated.";
 
+    private static final ClassMetadataStore.Key<Map<String, Class<?>>> PROXY_CLASSES =
+            ClassMetadataStore.key("proxy.generatedClasses", type -> new ConcurrentHashMap<>());
+
+    // Tablas de métodos pendientes de recoger por el <clinit> de su clase proxy
+    private static final Map<Class<?>, ProxyMethod[]> PENDING_TABLES = new ConcurrentHashMap<>();
+
+    private static final String HANDLER_DESC = Type.getDescriptor(IndexedInvocationHandler.class);
+    private static final String HANDLER_INTERNAL = Type.getInternalName(IndexedInvocationHandler.class);
+    private static final String METHODS_DESC = Type.getDescriptor(ProxyMethod[].class);
+    private static final String SUPPLIER_DESC = Type.getDescriptor(Supplier.class);
+    private static final String HANDLER_CALL_ARGS =
+            "(Ljava/lang/Object;I" + Type.getDescriptor(ProxyMethod.class) + "[Ljava/lang/Object;)";
+
     private final Class<?> targetClass;
     private final List<Class<?>> interfaces = new ArrayList<>();
     private Class<?> superClass = Object.class;
-    private InvocationHandler defaultHandler;
+    private IndexedInvocationHandler defaultHandler;
+    private Supplier<?> lazySupplier;
     private String className;
     private boolean callSuperConstructor = true;
 
@@ -39,8 +70,26 @@ public class ProxyGenerator {
         return this;
     }
 
+    /**
+     * Handler por nombre de método; se adapta al contrato indexado.
+     */
     public ProxyGenerator intercept(InvocationHandler handler) {
+        return intercept(IndexedInvocationHandler.byName(handler));
+    }
+
+    public ProxyGenerator intercept(IndexedInvocationHandler handler) {
         this.defaultHandler = handler;
+        this.lazySupplier = null;
+        return this;
+    }
+
+    /**
+     * Proxy lazy sin handler: la primera llamada obtiene la instancia real de
+     * {@code supplier} y todas las llamadas se delegan directamente en ella.
+     */
+    public ProxyGenerator delegateLazily(Supplier<?> supplier) {
+        this.lazySupplier = Objects.requireNonNull(supplier, "supplier");
+        this.defaultHandler = null;
         return this;
     }
 
@@ -79,8 +128,12 @@ public class ProxyGenerator {
                 instance = allocateInstanceWithoutSuper(proxyClass);
             }
 
-            // Inyectar handler
-            AsmCoreUtils.invokeMethod(instance, "setHandler", defaultHandler);
+            // Inyectar handler o proveedor lazy
+            if (lazySupplier != null) {
+                ((GeneratedProxy) instance).$setDelegate(lazySupplier);
+            } else {
+                ((GeneratedProxy) instance).$setHandler(defaultHandler);
+            }
 
             return instance;
         } catch (Throwable e) {
@@ -139,32 +192,82 @@ public class ProxyGenerator {
 
     @SuppressWarnings("unchecked")
     public <T> Class<T> buildClass() {
-        String fullClassName = generateClassName();
+        if (className != null) {
+            String fullClassName = PROXY_PACKAGE + className;
+            return (Class<T>) CLASS_CACHE.computeIfAbsent(fullClassName, this::generateClass);
+        }
+
+        // Una clase por forma de proxy, no una por cada build()
+        Map<String, Class<?>> classes = ClassMetadataStore.get(targetClass, PROXY_CLASSES);
+        return (Class<T>) classes.computeIfAbsent(shapeKey(),
+                key -> generateClass(PROXY_PACKAGE + "Proxy" + COUNTER.incrementAndGet()));
+    }
+
+    /**
+     * Entregada al {@code <clinit>} de cada clase proxy para inicializar su
+     * tabla {@code static final ProxyMethod[] $methods}.
+     */
+    public static ProxyMethod[] methodTable(Class<?> proxyClass) {
+        ProxyMethod[] table = PENDING_TABLES.remove(proxyClass);
+        if (table == null) {
+            throw new IllegalStateException("No method table for " + proxyClass.getName());
+        }
+        return table;
+    }
 
-        if (CLASS_CACHE.containsKey(fullClassName)) {
-            return (Class<T>) CLASS_CACHE.get(fullClassName);
+    private String shapeKey() {
+        StringBuilder key = new StringBuilder(lazySupplier != null ? "lazy:" : "intercept:")
+                .append(superClass.getName());
+        for (Class<?> iface : interfaces) {
+            key.append(',').append(iface.getName());
         }
+        return key.toString();
+    }
 
+    private Class<?> generateClass(String fullClassName) {
         try {
+            boolean lazy = lazySupplier != null;
+            List<java.lang.reflect.Method> methods = getProxiedMethods();
+
             ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
             String internalClassName = fullClassName.replace('.', '/');
             String superInternalName = Type.getInternalName(superClass);
 
             // Definir la clase
-            cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC,
+            cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER,
                     internalClassName,
                     null,
                     superInternalName,
                     getInterfacesInternalNames());
 
-            // Campo para el handler
-            cw.visitField(Opcodes.ACC_PRIVATE, "handler",
-                    Type.getDescriptor(InvocationHandler.class), null, null);
-
-            // Generar constructor con o sin llamada a super()
             generateConstructor(cw, internalClassName, superInternalName);
-            generateMethods(cw, internalClassName);
-            generateSetHandlerMethod(cw, internalClassName);
+
+            if (lazy) {
+                String delegateDesc = Type.getDescriptor(targetClass);
+                cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_VOLATILE, "$delegate", delegateDesc, null, null);
+                cw.visitField(Opcodes.ACC_PRIVATE, "$supplier", SUPPLIER_DESC, null, null);
+                generateLazyAccessors(cw, internalClassName);
+                generateLazyObjectMethods(cw, internalClassName);
+                for (java.lang.reflect.Method method : methods) {
+                    if (!isObjectMethod(method)) {
+                        generateDelegatingMethod(cw, method, internalClassName);
+                    }
+                }
+                generateUnsupported(cw, "$setHandler", "(" + HANDLER_DESC + ")V");
+            } else {
+                cw.visitField(Opcodes.ACC_PRIVATE, "$handler", HANDLER_DESC, null, null);
+                cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL,
+                        "$methods", METHODS_DESC, null, null);
+                cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL,
+                        "$noArgs", "[Ljava/lang/Object;", null, null);
+                generateStaticInitializer(cw, internalClassName);
+                for (int i = 0; i < methods.size(); i++) {
+                    generateInterceptedMethod(cw, methods.get(i), i, internalClassName);
+                }
+                generateSetHandlerMethod(cw, internalClassName);
+                generateUnsupported(cw, "$setDelegate", "(" + SUPPLIER_DESC + ")V");
+                generateIsResolved(cw, null);
+            }
 
             cw.visitEnd();
 
@@ -172,11 +275,16 @@ public class ProxyGenerator {
             saveClassForDebugging(fullClassName, classBytes);
 
             // Cargar la clase usando el ClassLoader correcto
-            Class<?> proxyClass = new ProxyClassLoader(targetClass.getClassLoader())
-                    .defineClass(fullClassName, classBytes);
-
-            CLASS_CACHE.put(fullClassName, proxyClass);
-            return (Class<T>) proxyClass;
+            Class<?> proxyClass = new ProxyClassLoader(parentLoader()).defineClass(fullClassName, classBytes);
+
+            if (!lazy) {
+                ProxyMethod[] table = new ProxyMethod[methods.size()];
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = new ProxyMethod(i, methods.get(i));
+                }
+                PENDING_TABLES.put(proxyClass, table);
+            }
+            return proxyClass;
 
         } catch (Exception e) {
             throw new RuntimeException("Error generating proxy class", e);
@@ -194,76 +302,287 @@ public class ProxyGenerator {
         mv.visitEnd();
     }
 
-    // ... (el resto de los métodos permanecen igual que en la versión anterior)
-    private void generateMethods(ClassWriter cw, String internalClassName) {
-        Set<java.lang.reflect.Method> allMethods = getAllMethods();
+    private void generateStaticInitializer(ClassWriter cw, String internalClassName) {
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+        mv.visitLdcInsn(Type.getObjectType(internalClassName));
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(ProxyGenerator.class),
+                "methodTable", "(Ljava/lang/Class;)" + METHODS_DESC, false);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, internalClassName, "$methods", METHODS_DESC);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitTypeInsn(Opcodes.ANEWARRAY, "java/lang/Object");
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, internalClassName, "$noArgs", "[Ljava/lang/Object;");
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void generateInterceptedMethod(ClassWriter cw, java.lang.reflect.Method method, int index,
+            String internalClassName) {
+        String methodDescriptor = Type.getMethodDescriptor(method);
+        String[] exceptions = getExceptionsInternalNames(method);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, AsmCoreUtils.getName(method), methodDescriptor, null, exceptions);
+        mv.visitCode();
+
+        Class<?>[] parameterTypes = AsmCoreUtils.getParameterTypes(method);
+
+        /* 1.  handler  (IndexedInvocationHandler)  */
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, internalClassName, "$handler", HANDLER_DESC);
+
+        /* 2.  proxy object (this)  */
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
 
-        for (java.lang.reflect.Method method : allMethods) {
-            if (shouldSkipMethod(method)) {
-                continue;
+        /* 3.  índice constante y descriptor  $methods[index]  */
+        pushInt(mv, index);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, internalClassName, "$methods", METHODS_DESC);
+        pushInt(mv, index);
+        mv.visitInsn(Opcodes.AALOAD);
+
+        /* 4.  args[]  (Object[]) – compartido si el método no tiene parámetros  */
+        if (parameterTypes.length == 0) {
+            mv.visitFieldInsn(Opcodes.GETSTATIC, internalClassName, "$noArgs", "[Ljava/lang/Object;");
+        } else {
+            pushInt(mv, parameterTypes.length);
+            mv.visitTypeInsn(Opcodes.ANEWARRAY, "java/lang/Object");
+            int slot = 1;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                mv.visitInsn(Opcodes.DUP);
+                pushInt(mv, i);
+                Type paramType = Type.getType(parameterTypes[i]);
+                mv.visitVarInsn(paramType.getOpcode(Opcodes.ILOAD), slot);
+                boxPrimitive(mv, parameterTypes[i]);
+                mv.visitInsn(Opcodes.AASTORE);
+                slot += paramType.getSize();
             }
+        }
 
-            generateInterceptedMethod(cw, method, internalClassName);
+        /* 5.  invoke handler con la variante según el tipo de retorno  */
+        Class<?> returnType = AsmCoreUtils.getReturnType(method);
+        if (returnType == int.class) {
+            invokeHandler(mv, "invokeInt", "I");
+            mv.visitInsn(Opcodes.IRETURN);
+        } else if (returnType == long.class) {
+            invokeHandler(mv, "invokeLong", "J");
+            mv.visitInsn(Opcodes.LRETURN);
+        } else if (returnType == double.class) {
+            invokeHandler(mv, "invokeDouble", "D");
+            mv.visitInsn(Opcodes.DRETURN);
+        } else if (returnType == boolean.class) {
+            invokeHandler(mv, "invokeBoolean", "Z");
+            mv.visitInsn(Opcodes.IRETURN);
+        } else if (returnType == void.class) {
+            invokeHandler(mv, "invokeVoid", "V");
+            mv.visitInsn(Opcodes.RETURN);
+        } else {
+            invokeHandler(mv, "invoke", "Ljava/lang/Object;");
+            /* 6.  manejar el valor de retorno  */
+            handleReturnValue(mv, returnType);
         }
+
+        mv.visitMaxs(0, 0);   // ASM calculará
+        mv.visitEnd();
     }
 
-    private void generateInterceptedMethod(ClassWriter cw, java.lang.reflect.Method method, String internalClassName) {
+    private void invokeHandler(MethodVisitor mv, String name, String returnDescriptor) {
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, HANDLER_INTERNAL, name,
+                HANDLER_CALL_ARGS + returnDescriptor, true);
+    }
+
+    /**
+     * Método lazy: {@code return $target().m(args)} sin pasar por ningún handler.
+     */
+    private void generateDelegatingMethod(ClassWriter cw, java.lang.reflect.Method method, String internalClassName) {
         String methodDescriptor = Type.getMethodDescriptor(method);
         String[] exceptions = getExceptionsInternalNames(method);
 
         MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, AsmCoreUtils.getName(method), methodDescriptor, null, exceptions);
         mv.visitCode();
 
-        int argsCount = AsmCoreUtils.getParameterCount(method);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, internalClassName, "$target",
+                "()" + Type.getDescriptor(targetClass), false);
+
+        // Los métodos de interfaces adicionales que el tipo objetivo no declara
+        Class<?> owner = targetClass;
+        if (!method.getDeclaringClass().isAssignableFrom(targetClass)) {
+            owner = method.getDeclaringClass();
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(owner));
+        }
+
+        int slot = 1;
+        for (Class<?> parameterType : AsmCoreUtils.getParameterTypes(method)) {
+            Type paramType = Type.getType(parameterType);
+            mv.visitVarInsn(paramType.getOpcode(Opcodes.ILOAD), slot);
+            slot += paramType.getSize();
+        }
+
+        boolean ownerIsInterface = AsmCoreUtils.isInterface(owner);
+        mv.visitMethodInsn(ownerIsInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+                Type.getInternalName(owner), AsmCoreUtils.getName(method), methodDescriptor, ownerIsInterface);
+        mv.visitInsn(Type.getType(AsmCoreUtils.getReturnType(method)).getOpcode(Opcodes.IRETURN));
+
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
 
-        /* 1.  handler  (InvocationHandler)  */
+    /**
+     * {@code $target()} (lectura volátil), {@code $resolve()} (sincronizado, una
+     * sola vez), {@code $setDelegate} y {@code $isResolved}.
+     */
+    private void generateLazyAccessors(ClassWriter cw, String internalClassName) {
+        String delegateDesc = Type.getDescriptor(targetClass);
+        String delegateInternal = Type.getInternalName(targetClass);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PRIVATE, "$target", "()" + delegateDesc, null, null);
+        mv.visitCode();
+        Label resolved = new Label();
         mv.visitVarInsn(Opcodes.ALOAD, 0);
-        mv.visitFieldInsn(Opcodes.GETFIELD, internalClassName, "handler",
-                Type.getDescriptor(InvocationHandler.class));
+        mv.visitFieldInsn(Opcodes.GETFIELD, internalClassName, "$delegate", delegateDesc);
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitJumpInsn(Opcodes.IFNONNULL, resolved);
+        mv.visitInsn(Opcodes.POP);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, internalClassName, "$resolve", "()" + delegateDesc, false);
+        mv.visitLabel(resolved);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
 
-        /* 2.  proxy object (this)  */
+        mv = cw.visitMethod(Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNCHRONIZED, "$resolve", "()" + delegateDesc, null, null);
+        mv.visitCode();
+        Label done = new Label();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, internalClassName, "$delegate", delegateDesc);
+        mv.visitJumpInsn(Opcodes.IFNONNULL, done);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, internalClassName, "$supplier", SUPPLIER_DESC);
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/function/Supplier", "get", "()Ljava/lang/Object;", true);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, delegateInternal);
+        mv.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, "$delegate", delegateDesc);
+        // El proveedor ya no hace falta; se libera junto con lo que capture
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitInsn(Opcodes.ACONST_NULL);
+        mv.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, "$supplier", SUPPLIER_DESC);
+        mv.visitLabel(done);
         mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, internalClassName, "$delegate", delegateDesc);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
 
-        /* 3.  method name (String)  */
-        mv.visitLdcInsn(AsmCoreUtils.getName(method));
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "$setDelegate", "(" + SUPPLIER_DESC + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, "$supplier", SUPPLIER_DESC);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(2, 2);
+        mv.visitEnd();
 
-        /* 4.  args[]  (Object[])  – justo antes de la llamada  */
-        mv.visitIntInsn(Opcodes.BIPUSH, argsCount);
-        mv.visitTypeInsn(Opcodes.ANEWARRAY, "java/lang/Object");
-        for (int i = 0; i < argsCount; i++) {
-            mv.visitInsn(Opcodes.DUP);
-            mv.visitIntInsn(Opcodes.BIPUSH, i);
-            loadParameter(mv, AsmCoreUtils.getParameterTypes(method)[i], i + 1);
-            boxPrimitive(mv, AsmCoreUtils.getParameterTypes(method)[i]);
-            mv.visitInsn(Opcodes.AASTORE);
-        }
+        generateIsResolved(cw, internalClassName);
+    }
 
-        /* 5.  invoke handler: handler.invoke(proxy, methodName, args)  */
-        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE,
-                Type.getInternalName(InvocationHandler.class),
-                "invoke",
-                "(Ljava/lang/Object;Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/Object;",
-                true);
+    /**
+     * {@code toString}, {@code hashCode} y {@code equals} se responden sin
+     * inicializar la instancia real, aunque el tipo objetivo los sobrescriba.
+     */
+    private void generateLazyObjectMethods(ClassWriter cw, String internalClassName) {
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "toString", "()Ljava/lang/String;", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(Opcodes.NEW, "java/lang/StringBuilder");
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitLdcInsn("LazyProxy{Proxycraft-" + targetClass.getSimpleName() + ", initialized=");
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/StringBuilder", "<init>", "(Ljava/lang/String;)V", false);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, internalClassName, "$isResolved", "()Z", false);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append",
+                "(Z)Ljava/lang/StringBuilder;", false);
+        mv.visitLdcInsn("}");
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append",
+                "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
 
-        /* 6.  manejar el valor de retorno  */
-        handleReturnValue(mv, AsmCoreUtils.getReturnType(method));
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "hashCode", "()I", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/System", "identityHashCode", "(Ljava/lang/Object;)I", false);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
 
-        mv.visitMaxs(0, 0);   // ASM calculará
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "equals", "(Ljava/lang/Object;)Z", null, null);
+        mv.visitCode();
+        Label different = new Label();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitJumpInsn(Opcodes.IF_ACMPNE, different);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitLabel(different);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(0, 0);
         mv.visitEnd();
     }
 
-    private void loadParameter(MethodVisitor mv, Class<?> paramType, int index) {
-        if (paramType == int.class || paramType == boolean.class || paramType == byte.class
-                || paramType == short.class || paramType == char.class) {
-            mv.visitVarInsn(Opcodes.ILOAD, index);
-        } else if (paramType == long.class) {
-            mv.visitVarInsn(Opcodes.LLOAD, index);
-        } else if (paramType == double.class) {
-            mv.visitVarInsn(Opcodes.DLOAD, index);
-        } else if (paramType == float.class) {
-            mv.visitVarInsn(Opcodes.FLOAD, index);
+    private static boolean isObjectMethod(java.lang.reflect.Method method) {
+        String descriptor = AsmCoreUtils.getName(method) + Type.getMethodDescriptor(method);
+        return descriptor.equals("toString()Ljava/lang/String;")
+                || descriptor.equals("hashCode()I")
+                || descriptor.equals("equals(Ljava/lang/Object;)Z");
+    }
+
+    /**
+     * @param internalClassName clase lazy, o {@code null} para proxies con handler (siempre resueltos)
+     */
+    private void generateIsResolved(ClassWriter cw, String internalClassName) {
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "$isResolved", "()Z", null, null);
+        mv.visitCode();
+        if (internalClassName == null) {
+            mv.visitInsn(Opcodes.ICONST_1);
         } else {
-            mv.visitVarInsn(Opcodes.ALOAD, index);
+            Label unresolved = new Label();
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitFieldInsn(Opcodes.GETFIELD, internalClassName, "$delegate", Type.getDescriptor(targetClass));
+            mv.visitJumpInsn(Opcodes.IFNULL, unresolved);
+            mv.visitInsn(Opcodes.ICONST_1);
+            mv.visitInsn(Opcodes.IRETURN);
+            mv.visitLabel(unresolved);
+            mv.visitInsn(Opcodes.ICONST_0);
+        }
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void generateUnsupported(ClassWriter cw, String name, String descriptor) {
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, name, descriptor, null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(Opcodes.NEW, "java/lang/UnsupportedOperationException");
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitLdcInsn(name);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/UnsupportedOperationException", "<init>",
+                "(Ljava/lang/String;)V", false);
+        mv.visitInsn(Opcodes.ATHROW);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
         }
     }
 
@@ -338,31 +657,44 @@ public class ProxyGenerator {
     }
 
     private void generateSetHandlerMethod(ClassWriter cw, String internalClassName) {
-        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "setHandler",
-                "(Lio/warmup/framework/proxy/InvocationHandler;)V", null, null);
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "$setHandler", "(" + HANDLER_DESC + ")V", null, null);
         mv.visitCode();
         mv.visitVarInsn(Opcodes.ALOAD, 0);
         mv.visitVarInsn(Opcodes.ALOAD, 1);
-        mv.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, "handler", Type.getDescriptor(InvocationHandler.class));
+        mv.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, "$handler", HANDLER_DESC);
         mv.visitInsn(Opcodes.RETURN);
         mv.visitMaxs(2, 2);
         mv.visitEnd();
     }
 
-    private Set<java.lang.reflect.Method> getAllMethods() {
-        Set<java.lang.reflect.Method> methods = new HashSet<>();
+    /**
+     * Métodos a proxiar, sin duplicados por firma y en orden estable: el índice
+     * de cada uno es su posición en esta lista.
+     */
+    private List<java.lang.reflect.Method> getProxiedMethods() {
+        Map<String, java.lang.reflect.Method> methods = new TreeMap<>();
+
+        if (!AsmCoreUtils.isInterface(targetClass)) {
+            // targetClass.getMethods() mantenido para compatibilidad con ASM
+            for (java.lang.reflect.Method method : targetClass.getMethods()) {
+                addProxiedMethod(methods, method);
+            }
+        }
 
         for (Class<?> iface : interfaces) {
             // iface.getMethods() mantenido para compatibilidad con ASM
-            methods.addAll(Arrays.asList(iface.getMethods()));
+            for (java.lang.reflect.Method method : iface.getMethods()) {
+                addProxiedMethod(methods, method);
+            }
         }
 
-        if (!AsmCoreUtils.isInterface(targetClass)) {
-            // targetClass.getMethods() mantenido para compatibilidad con ASM
-            methods.addAll(Arrays.asList(targetClass.getMethods()));
-        }
+        return new ArrayList<>(methods.values());
+    }
 
-        return methods;
+    private void addProxiedMethod(Map<String, java.lang.reflect.Method> methods, java.lang.reflect.Method method) {
+        if (!shouldSkipMethod(method)) {
+            methods.putIfAbsent(AsmCoreUtils.getName(method) + Type.getMethodDescriptor(method), method);
+        }
     }
 
     private boolean shouldSkipMethod(java.lang.reflect.Method method) {
@@ -378,13 +710,29 @@ public class ProxyGenerator {
             return true;
         }
 
+        if (Modifier.isStatic(method.getModifiers())) {
+            return true;
+        }
+
         return false;
     }
 
+    private ClassLoader parentLoader() {
+        ClassLoader loader = targetClass.getClassLoader();
+        for (Iterator<Class<?>> it = interfaces.iterator(); loader == null && it.hasNext();) {
+            loader = it.next().getClassLoader();
+        }
+        // Tipos del JDK: el proxy necesita ver las clases de este paquete
+        return loader != null ? loader : ProxyGenerator.class.getClassLoader();
+    }
+
     private String[] getInterfacesInternalNames() {
-        return interfaces.stream()
-                .map(clazz -> Type.getInternalName(clazz))
-                .toArray(String[]::new);
+        List<String> names = new ArrayList<>();
+        for (Class<?> clazz : interfaces) {
+            names.add(Type.getInternalName(clazz));
+        }
+        names.add(Type.getInternalName(GeneratedProxy.class));
+        return names.toArray(new String[0]);
     }
 
     private String[] getExceptionsInternalNames(java.lang.reflect.Method method) {
@@ -393,13 +741,6 @@ public class ProxyGenerator {
                 .toArray(String[]::new);
     }
 
-    private String generateClassName() {
-        if (className != null) {
-            return PROXY_PACKAGE + className;
-        }
-        return PROXY_PACKAGE + "Proxy" + COUNTER.incrementAndGet();
-    }
-
     private void saveClassForDebugging(String className, byte[] classBytes) {
         try {
             File file = new File("debug/" + className.replace('.', '/') + ".class");
@@ -0,0 +1,60 @@
+package io.warmup.framework.proxy;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Descriptor inmutable de un método interceptado por un proxy generado.
+ *
+ * Cada clase proxy tiene una tabla {@code ProxyMethod[]} construida una sola vez;
+ * el bytecode generado pasa al {@link IndexedInvocationHandler} la posición
+ * constante del método y su descriptor, de modo que el handler puede despachar
+ * con un {@code switch} o indexar sus propias tablas sin comparar nombres.
+ */
+public final class ProxyMethod {
+
+    private final int index;
+    private final Method method;
+    private final Class<?>[] parameterTypes;
+
+    ProxyMethod(int index, Method method) {
+        this.index = index;
+        this.method = method;
+        this.parameterTypes = method.getParameterTypes();
+    }
+
+    /**
+     * @return posición del método en la tabla de la clase proxy
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return method.getName();
+    }
+
+    /**
+     * @return el método del tipo proxiado (interfaz o superclase)
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
+    public int getParameterCount() {
+        return parameterTypes.length;
+    }
+
+    public Class<?> getReturnType() {
+        return method.getReturnType();
+    }
+
+    @Override
+    public String toString() {
+        return "ProxyMethod{" + index + ": " + method.getName() + Arrays.toString(parameterTypes) + "}";
+    }
+}
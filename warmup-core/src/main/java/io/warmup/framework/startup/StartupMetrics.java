@@ -1,5 +1,8 @@
 package io.warmup.framework.startup;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,6 +20,12 @@ public class StartupMetrics {
     private final CriticalPhaseMetrics criticalMetrics;
     private final BackgroundPhaseMetrics backgroundMetrics;
     
+    // 🚀 Instanciación de singletons eager por capas topológicas
+    private volatile List<Long> singletonLayerTimesMs = Collections.emptyList();
+    private volatile List<Integer> singletonLayerSizes = Collections.emptyList();
+    private volatile int singletonCriticalPathLength;
+    private volatile boolean parallelSingletonInitialization;
+    
     public StartupMetrics(boolean criticalPhaseCompleted,
                          boolean backgroundPhaseCompleted,
                          boolean backgroundPhaseStarted,
@@ -57,6 +66,13 @@ public class StartupMetrics {
         
         metrics.put("total_startup_time_ms", getTotalStartupTimeMs());
         
+        if (!singletonLayerTimesMs.isEmpty()) {
+            metrics.put("singleton_layer_times_ms", singletonLayerTimesMs);
+            metrics.put("singleton_layer_sizes", singletonLayerSizes);
+            metrics.put("singleton_critical_path_length", singletonCriticalPathLength);
+            metrics.put("singleton_parallel_initialization", parallelSingletonInitialization);
+        }
+        
         return metrics;
     }
     
@@ -137,6 +153,38 @@ public class StartupMetrics {
         // Implementation would set the total startup time
     }
     
+    /**
+     * Records the eager singleton instantiation by dependency layers.
+     *
+     * @param layerTimesMs wall time of each layer, in resolution order
+     * @param layerSizes number of singletons in each layer
+     * @param criticalPathLength longest dependency chain (number of layers)
+     * @param parallel whether layers were instantiated in parallel
+     */
+    public void recordSingletonLayers(List<Long> layerTimesMs, List<Integer> layerSizes,
+                                      int criticalPathLength, boolean parallel) {
+        this.singletonLayerTimesMs = Collections.unmodifiableList(new ArrayList<>(layerTimesMs));
+        this.singletonLayerSizes = Collections.unmodifiableList(new ArrayList<>(layerSizes));
+        this.singletonCriticalPathLength = criticalPathLength;
+        this.parallelSingletonInitialization = parallel;
+    }
+    
+    public List<Long> getSingletonLayerTimesMs() {
+        return singletonLayerTimesMs;
+    }
+    
+    public List<Integer> getSingletonLayerSizes() {
+        return singletonLayerSizes;
+    }
+    
+    public int getSingletonCriticalPathLength() {
+        return singletonCriticalPathLength;
+    }
+    
+    public boolean isParallelSingletonInitialization() {
+        return parallelSingletonInitialization;
+    }
+    
     /**
      * Sets the subsystem initialization times
      */
@@ -0,0 +1,218 @@
+package io.warmup.framework.aop;
+
+import io.warmup.framework.annotation.After;
+import io.warmup.framework.annotation.AfterReturning;
+import io.warmup.framework.annotation.AfterThrowing;
+import io.warmup.framework.annotation.Around;
+import io.warmup.framework.annotation.Aspect;
+import io.warmup.framework.annotation.Before;
+import io.warmup.framework.annotation.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🔗 TEST ADVICE CHAIN - Cadenas de advices precompiladas por método
+ */
+public class AdviceChainTest {
+
+    private AspectManager aspectManager;
+    private Greeter greeter;
+    private Method greet;
+    private Method fail;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        aspectManager = new AspectManager();
+        greeter = new Greeter();
+        greet = Greeter.class.getDeclaredMethod("greet", String.class);
+        fail = Greeter.class.getDeclaredMethod("fail");
+    }
+
+    @Test
+    void testAroundChainIsCompiledOnceAndReused() throws Throwable {
+        RecordingAroundAspect aspect = new RecordingAroundAspect();
+        aspectManager.registerAspect(RecordingAroundAspect.class, aspect);
+
+        assertEquals(1, aspectManager.prepareAdviceChains(Greeter.class));
+        AdviceChain chain = aspectManager.getAdviceChain(greet);
+
+        assertEquals("[hello world]", aspectManager.invokeWithAspects(greeter, greet, new Object[]{"world"}));
+        assertEquals("[hello again]", aspectManager.invokeWithAspects(greeter, greet, new Object[]{"again"}));
+
+        assertSame(chain, aspectManager.getAdviceChain(greet));
+        assertEquals(2, chain.size());
+        assertEquals(List.of("around", "returned [hello world]", "around", "returned [hello again]"), aspect.events);
+    }
+
+    @Test
+    void testBeforeAfterAndAfterThrowing() throws Throwable {
+        RecordingLifecycleAspect aspect = new RecordingLifecycleAspect();
+        aspectManager.registerAspect(RecordingLifecycleAspect.class, aspect);
+
+        assertEquals("hello world", aspectManager.invokeWithAspects(greeter, greet, new Object[]{"world"}));
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> aspectManager.invokeWithAspects(greeter, fail, new Object[0]));
+
+        assertEquals("boom", thrown.getMessage());
+        assertEquals(List.of("before greet", "after greet", "before fail", "threw boom"), aspect.events);
+    }
+
+    @Test
+    void testLateAspectRegistrationRecompilesChain() throws Throwable {
+        AdviceChain empty = aspectManager.getAdviceChain(greet);
+        assertTrue(empty.isEmpty());
+
+        aspectManager.registerAspect(RecordingAroundAspect.class, new RecordingAroundAspect());
+
+        assertNotSame(empty, aspectManager.getAdviceChain(greet));
+        assertEquals("[hello world]", aspectManager.invokeWithAspects(greeter, greet, new Object[]{"world"}));
+    }
+
+    @Test
+    void testAroundLevelsShareOneReusableJoinPoint() throws Throwable {
+        OuterAspect outer = new OuterAspect();
+        InnerAspect inner = new InnerAspect();
+        aspectManager.registerAspect(OuterAspect.class, outer);
+        aspectManager.registerAspect(InnerAspect.class, inner);
+
+        assertEquals("[<hello world>]", aspectManager.invokeWithAspects(greeter, greet, new Object[]{"world"}));
+        assertEquals("[<hello again>]", aspectManager.invokeWithAspects(greeter, greet, new Object[]{"again"}));
+
+        // Un único join point por hilo para ambos niveles y ambas llamadas
+        List<JoinPoint> seen = new ArrayList<>(outer.seen);
+        seen.addAll(inner.seen);
+        assertEquals(4, seen.size());
+        for (JoinPoint joinPoint : seen) {
+            assertSame(seen.get(0), joinPoint);
+        }
+
+        // Retenido fuera del advice ya no se puede usar; la copia sí conserva los datos
+        assertThrows(IllegalStateException.class, () -> ((ProceedingJoinPoint) seen.get(0)).proceed());
+        assertNull(seen.get(0).getMethod());
+        assertEquals(greet, outer.snapshots.get(1).getMethod());
+        assertArrayEquals(new Object[]{"again"}, outer.snapshots.get(1).getArgs());
+    }
+
+    @Test
+    void testNestedAdvisedCallGetsItsOwnJoinPoint() throws Throwable {
+        NestingAspect aspect = new NestingAspect(aspectManager, greeter, fail);
+        aspectManager.registerAspect(NestingAspect.class, aspect);
+
+        assertEquals("hello world", aspectManager.invokeWithAspects(greeter, greet, new Object[]{"world"}));
+
+        // La llamada anidada (fail) no pisó el join point de greet
+        assertEquals(List.of("before fail", "greet after nested"), aspect.events);
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class Greeter {
+        public String greet(String name) {
+            return "hello " + name;
+        }
+
+        public String fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    @Aspect
+    public static class RecordingAroundAspect {
+        final List<String> events = new ArrayList<>();
+
+        @Around("execution(* *$Greeter.greet(..))")
+        public Object wrap(ProceedingJoinPoint joinPoint) throws Throwable {
+            events.add("around");
+            return "[" + joinPoint.proceed() + "]";
+        }
+
+        @AfterReturning(pointcut = "execution(* *$Greeter.greet(..))", returning = "result")
+        public void returned(Object result) {
+            events.add("returned " + result);
+        }
+    }
+
+    @Aspect
+    public static class RecordingLifecycleAspect {
+        final List<String> events = new ArrayList<>();
+
+        @Before("execution(* *$Greeter.*(..))")
+        public void before(JoinPoint joinPoint) {
+            events.add("before " + joinPoint.getMethod().getName());
+        }
+
+        @After("execution(* *$Greeter.greet(..))")
+        public void after(JoinPoint joinPoint) {
+            events.add("after " + joinPoint.getMethod().getName());
+        }
+
+        @AfterThrowing(pointcut = "execution(* *$Greeter.fail(..))", throwing = "error")
+        public void threw(IllegalStateException error) {
+            events.add("threw " + error.getMessage());
+        }
+    }
+
+    public abstract static class IdentityAspect {
+        final List<JoinPoint> seen = new ArrayList<>();
+        final List<JoinPoint> snapshots = new ArrayList<>();
+
+        Object wrap(ProceedingJoinPoint joinPoint, String open, String close) {
+            seen.add(joinPoint);
+            snapshots.add(joinPoint.snapshot());
+            return open + joinPoint.proceed() + close;
+        }
+    }
+
+    @Aspect
+    @Order(1)
+    public static class OuterAspect extends IdentityAspect {
+        @Around("execution(* *$Greeter.greet(..))")
+        public Object square(ProceedingJoinPoint joinPoint) {
+            return wrap(joinPoint, "[", "]");
+        }
+    }
+
+    @Aspect
+    @Order(2)
+    public static class InnerAspect extends IdentityAspect {
+        @Around("execution(* *$Greeter.greet(..))")
+        public Object angle(ProceedingJoinPoint joinPoint) {
+            return wrap(joinPoint, "<", ">");
+        }
+    }
+
+    @Aspect
+    public static class NestingAspect {
+        final List<String> events = new ArrayList<>();
+        private final AspectManager aspectManager;
+        private final Greeter greeter;
+        private final Method fail;
+
+        public NestingAspect(AspectManager aspectManager, Greeter greeter, Method fail) {
+            this.aspectManager = aspectManager;
+            this.greeter = greeter;
+            this.fail = fail;
+        }
+
+        @Before("execution(* *$Greeter.fail(..))")
+        public void beforeFail(JoinPoint joinPoint) {
+            events.add("before " + joinPoint.getMethodName());
+        }
+
+        @Before("execution(* *$Greeter.greet(..))")
+        public void beforeGreet(JoinPoint joinPoint) {
+            try {
+                aspectManager.invokeWithAspects(greeter, fail, new Object[0]);
+            } catch (Throwable expected) {
+                // fail() siempre lanza
+            }
+            events.add(joinPoint.getMethodName() + " after nested");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.warmup.framework.aop;
+
+import io.warmup.framework.annotation.Around;
+import io.warmup.framework.annotation.Aspect;
+import io.warmup.framework.core.AopHandler;
+import io.warmup.framework.core.WarmupContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧊 TEST ASPECT PROXY CACHE - Una clase proxy por clase original
+ */
+public class AspectProxyCacheTest {
+
+    private WarmupContainer container;
+    private AspectManager aspectManager;
+    private CountingAspect countingAspect;
+
+    @BeforeEach
+    void setUp() {
+        container = new WarmupContainer();
+        AopHandler handler = (AopHandler) container.getAopHandler();
+        handler.setContainer(container);
+        aspectManager = handler.getAspectManager();
+        countingAspect = new CountingAspect();
+        aspectManager.registerAspect(CountingAspect.class, countingAspect);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Test
+    void testPrototypeProxiesShareOneGeneratedClass() {
+        Counter a = AspectProxyASM.createProxy(new Counter(), Counter.class, container);
+        Counter b = AspectProxyASM.createProxy(new Counter(), Counter.class, container);
+
+        assertNotSame(a, b);
+        assertNotSame(Counter.class, a.getClass());
+        assertSame(a.getClass(), b.getClass());
+        assertEquals(11, a.next(10));
+        assertEquals(List.of("next"), countingAspect.calls);
+    }
+
+    @Test
+    void testReusedProxyClassSeesAspectsRegisteredLater() {
+        Counter before = AspectProxyASM.createProxy(new Counter(), Counter.class, container);
+        DoublingAspect doubling = new DoublingAspect();
+        aspectManager.registerAspect(DoublingAspect.class, doubling);
+
+        Counter after = AspectProxyASM.createProxy(new Counter(), Counter.class, container);
+
+        assertSame(before.getClass(), after.getClass());
+        assertEquals(4, after.next(1));
+        assertEquals(List.of("next"), countingAspect.calls);
+        assertEquals(1, doubling.calls);
+    }
+
+    @Test
+    void testObjectProxiesCopyTargetState() {
+        Counter target = new Counter();
+        target.base = 100;
+
+        Counter proxy = (Counter) AspectProxyASM.createProxyForObject(target, Counter.class, container);
+        Counter again = (Counter) AspectProxyASM.createProxyForObject(new Counter(), Counter.class, container);
+
+        assertSame(proxy.getClass(), again.getClass());
+        assertEquals(100, proxy.base);
+        assertEquals(105, proxy.next(4));
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class Counter {
+        int base;
+
+        public int next(int value) {
+            return base + value + 1;
+        }
+    }
+
+    @Aspect
+    public static class CountingAspect {
+        final List<String> calls = new ArrayList<>();
+
+        @Around("execution(* *$Counter.next(..))")
+        public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls.add(joinPoint.getMethodName());
+            return joinPoint.proceed();
+        }
+    }
+
+    @Aspect
+    public static class DoublingAspect {
+        int calls;
+
+        @Around("execution(* *$Counter.next(..))")
+        public Object twice(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return (Integer) joinPoint.proceed() * 2;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package io.warmup.framework.aop;
+
+import io.warmup.framework.annotation.Async;
+import io.warmup.framework.async.AsyncDeadline;
+import io.warmup.framework.async.AsyncExecutor;
+import io.warmup.framework.async.AsyncPolicy;
+import io.warmup.framework.async.DeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🏁 TEST ASYNC HEDGING - Ejecuciones duplicadas y deadlines propagados en @Async
+ */
+public class AsyncHedgingTest {
+
+    private AspectManager aspectManager;
+    private ReadService service;
+
+    @BeforeEach
+    void setUp() {
+        aspectManager = new AspectManager();
+        service = new ReadService(aspectManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.release.countDown();
+    }
+
+    @Test
+    void testSlowFirstAttemptIsHedged() throws Throwable {
+        Object result = aspectManager.invokeWithAspects(service, method("hedgedRead"), new Object[0]);
+
+        // El primer intento queda bloqueado; el hedge a los 50ms gana
+        assertEquals("attempt 2", ((CompletableFuture<?>) result).get(2, TimeUnit.SECONDS));
+        assertEquals(2, service.attempts.get());
+    }
+
+    @Test
+    void testFastFirstAttemptIsNotHedged() throws Throwable {
+        Object result = aspectManager.invokeWithAspects(service, method("fastRead"), new Object[0]);
+
+        assertEquals("fast", ((CompletableFuture<?>) result).get(2, TimeUnit.SECONDS));
+        Thread.sleep(150);
+        assertEquals(1, service.attempts.get());
+    }
+
+    @Test
+    void testFailureWithoutAttemptsInFlightIsNotRetried() throws Throwable {
+        Object result = aspectManager.invokeWithAspects(service, method("failingRead"), new Object[0]);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> ((CompletableFuture<?>) result).get(2, TimeUnit.SECONDS));
+
+        // El fallo llega antes del hedge: no se lanza un segundo intento
+        assertInstanceOf(IllegalStateException.class, rootCause(thrown));
+        Thread.sleep(150);
+        assertEquals(1, service.attempts.get());
+    }
+
+    @Test
+    void testRejectedHedgeDoesNotLeaveExecutionHanging() throws Throwable {
+        // Acepta el primer intento y rechaza cualquier duplicado
+        AtomicInteger submitted = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                if (submitted.incrementAndGet() > 1) {
+                    throw new RejectedExecutionException("hedge rejected");
+                }
+                super.execute(command);
+            }
+        };
+        AsyncExecutor.getInstance().registerExecutor("rejecting-hedges", executor);
+        try {
+            AsyncPolicy policy = AsyncPolicy.of(method("blockedFailingRead").getAnnotation(Async.class));
+            CompletableFuture<Object> result = AsyncExecutor.getInstance()
+                    .executeAsync("rejecting-hedges", () -> service.blockedFailingRead(), policy);
+
+            Thread.sleep(150);
+            assertTrue(submitted.get() > 1, "el hedge debió intentarse");
+            service.release.countDown();
+
+            // El único intento en vuelo falla: el rechazo no cuenta como lanzado
+            ExecutionException thrown = assertThrows(ExecutionException.class,
+                    () -> result.get(2, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, rootCause(thrown));
+            assertEquals(1, service.attempts.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testNestedCallInheritsDeadlineAndIsSkippedPastIt() throws Throwable {
+        Object fresh = aspectManager.invokeWithAspects(service, method("fanOut"), new Object[]{0L});
+        assertEquals("nested", ((CompletableFuture<?>) fresh).get(2, TimeUnit.SECONDS));
+        assertTrue(service.nestedRemainingMs > 0 && service.nestedRemainingMs <= 200,
+                "deadline heredado: " + service.nestedRemainingMs);
+
+        Object late = aspectManager.invokeWithAspects(service, method("fanOut"), new Object[]{300L});
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> ((CompletableFuture<?>) late).get(2, TimeUnit.SECONDS));
+
+        // La llamada anidada se omitió sin ejecutar el método
+        assertInstanceOf(DeadlineExceededException.class, rootCause(thrown));
+        assertEquals(1, service.nestedCalls.get());
+    }
+
+    @Test
+    void testPercentileDelayReplacesFixedDelayOnceWarm() throws Exception {
+        AsyncPolicy policy = AsyncPolicy.of(method("adaptiveRead").getAnnotation(Async.class));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), policy.hedgeDelayNanos());
+
+        for (int i = 0; i < 20; i++) {
+            CompletableFuture<Object> result = AsyncExecutor.getInstance()
+                    .executeAsync("default", () -> service.adaptiveRead().join(), policy);
+            assertEquals("adaptive", result.get(2, TimeUnit.SECONDS));
+        }
+
+        // Con 20 latencias de ~5ms el retraso pasa a ser el p90 observado
+        long delayMs = TimeUnit.NANOSECONDS.toMillis(policy.hedgeDelayNanos());
+        assertTrue(delayMs >= 5 && delayMs < 500, "retraso de hedge: " + delayMs + "ms");
+        assertEquals(20, service.attempts.get());
+    }
+
+    private Method method(String name) throws NoSuchMethodException {
+        for (Method method : ReadService.class.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        while (error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class ReadService {
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger nestedCalls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        private final AspectManager aspectManager;
+        volatile long nestedRemainingMs;
+
+        public ReadService(AspectManager aspectManager) {
+            this.aspectManager = aspectManager;
+        }
+
+        @Async(hedgeAfterMs = 50)
+        public CompletableFuture<String> hedgedRead() throws InterruptedException {
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return CompletableFuture.completedFuture("attempt " + attempt);
+        }
+
+        @Async(hedgeAfterMs = 100)
+        public CompletableFuture<String> fastRead() {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture("fast");
+        }
+
+        @Async(hedgeAfterMs = 100, maxHedges = 2)
+        public CompletableFuture<String> failingRead() {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("read failed");
+        }
+
+        @Async(hedgeAfterMs = 50)
+        public CompletableFuture<String> blockedFailingRead() throws InterruptedException {
+            attempts.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("read failed");
+        }
+
+        @Async(hedgeAfterMs = 500, hedgePercentile = 90)
+        public CompletableFuture<String> adaptiveRead() throws InterruptedException {
+            attempts.incrementAndGet();
+            Thread.sleep(5);
+            return CompletableFuture.completedFuture("adaptive");
+        }
+
+        @Async(deadlineMs = 200)
+        public CompletableFuture<Object> fanOut(long workMs) throws Throwable {
+            Thread.sleep(workMs);
+            Object nested = aspectManager.invokeWithAspects(this,
+                    ReadService.class.getMethod("nested"), new Object[0]);
+            return CompletableFuture.completedFuture(((CompletableFuture<?>) nested).join());
+        }
+
+        @Async
+        public CompletableFuture<String> nested() {
+            nestedCalls.incrementAndGet();
+            nestedRemainingMs = AsyncDeadline.remainingMillis();
+            return CompletableFuture.completedFuture("nested");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.warmup.framework.aop;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ⚡ TEST METHOD INVOKERS - Invocadores tipados generados por método
+ */
+public class MethodInvokersTest {
+
+    @Test
+    void testGeneratedInvokerHandlesPrimitivesAndIsCached() throws Throwable {
+        Method add = Calculator.class.getDeclaredMethod("add", int.class, long.class);
+        MethodInvoker invoker = MethodInvokers.of(add);
+
+        assertEquals(7L, invoker.invoke(new Calculator(), new Object[]{3, 4L}));
+        assertSame(invoker, MethodInvokers.of(add));
+        // Clase generada en el paquete de la clase declarante, no un MethodHandle envuelto
+        assertEquals(Calculator.class.getPackage(), invoker.getClass().getPackage());
+    }
+
+    @Test
+    void testSingleArgumentPathNeedsNoArray() throws Throwable {
+        Method describe = Calculator.class.getDeclaredMethod("describe", String.class);
+        Method twice = Calculator.class.getDeclaredMethod("twice", int.class);
+        Method echo = Calculator.class.getDeclaredMethod("echo", String.class);
+        Calculator calculator = new Calculator();
+
+        assertEquals("string x", MethodInvokers.of(describe).invokeSingle(calculator, "x"));
+        assertEquals(8, MethodInvokers.of(twice).invokeSingle(null, 4));
+        // Alternativa con MethodHandle (método privado)
+        assertEquals("echo y", MethodInvokers.of(echo).invokeSingle(calculator, "y"));
+        // El invoker generado implementa invokeSingle, no la variante por defecto con array
+        assertEquals(MethodInvokers.of(describe).getClass(),
+                MethodInvokers.of(describe).getClass().getMethod("invokeSingle", Object.class, Object.class)
+                        .getDeclaringClass());
+    }
+
+    @Test
+    void testOverloadsWithNullArgumentsAreResolvedByMethod() throws Throwable {
+        Method withString = Calculator.class.getDeclaredMethod("describe", String.class);
+        Method withNumber = Calculator.class.getDeclaredMethod("describe", Integer.class);
+        Calculator calculator = new Calculator();
+
+        assertEquals("string null", MethodInvokers.of(withString).invoke(calculator, new Object[]{null}));
+        assertEquals("number null", MethodInvokers.of(withNumber).invoke(calculator, new Object[]{null}));
+    }
+
+    @Test
+    void testExceptionsPropagateUnwrapped() throws Exception {
+        Method fail = Calculator.class.getDeclaredMethod("fail");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> MethodInvokers.of(fail).invoke(new Calculator(), new Object[0]));
+        assertEquals("boom", thrown.getMessage());
+    }
+
+    @Test
+    void testPrivateAndStaticMethods() throws Throwable {
+        Method secret = Calculator.class.getDeclaredMethod("secret");
+        Method twice = Calculator.class.getDeclaredMethod("twice", int.class);
+
+        assertEquals("secret", MethodInvokers.of(secret).invoke(new Calculator(), new Object[0]));
+        assertEquals(8, MethodInvokers.of(twice).invoke(null, new Object[]{4}));
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class Calculator {
+        public long add(int a, long b) {
+            return a + b;
+        }
+
+        public String describe(String value) {
+            return "string " + value;
+        }
+
+        public String describe(Integer value) {
+            return "number " + value;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        private String secret() {
+            return "secret";
+        }
+
+        private String echo(String value) {
+            return "echo " + value;
+        }
+
+        static int twice(int value) {
+            return value * 2;
+        }
+    }
+}
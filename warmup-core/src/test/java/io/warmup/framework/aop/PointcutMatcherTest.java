@@ -0,0 +1,106 @@
+package io.warmup.framework.aop;
+
+import io.warmup.framework.annotation.Async;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🎯 TEST POINTCUT MATCHER - Expresiones compiladas a árbol de matchers
+ */
+public class PointcutMatcherTest {
+
+    private static final Map<String, String> NO_NAMED = Collections.emptyMap();
+
+    @Test
+    void testExecutionPatterns() throws Exception {
+        Method find = method(OrderService.class, "findOrder", String.class);
+        Method save = method(OrderService.class, "save", String.class);
+
+        assertTrue(compile("execution(* *$OrderService.find*(..))").matches(find));
+        assertFalse(compile("execution(* *$OrderService.find*(..))").matches(save));
+        assertTrue(compile("execution(public java.lang.String io.warmup..*Service.*(..))").matches(find));
+        assertTrue(compile("execution(void *.save(..))").matches(save));
+        assertFalse(compile("execution(int *.save(..))").matches(save));
+    }
+
+    @Test
+    void testBooleanOperatorsAndPrecedence() throws Exception {
+        Method find = method(OrderService.class, "findOrder", String.class);
+        Method save = method(OrderService.class, "save", String.class);
+
+        PointcutMatcher notSave = compile("within(*$OrderService) && !execution(* *.save(..))");
+        assertTrue(notSave.matches(find));
+        assertFalse(notSave.matches(save));
+
+        // && se evalúa antes que ||
+        PointcutMatcher precedence = compile("execution(* *.save(..)) || within(*Other) && execution(* *.find*(..))");
+        assertTrue(precedence.matches(save));
+        assertFalse(precedence.matches(find));
+        assertTrue(compile("(execution(* *.save(..)) || within(*$OrderService)) && execution(* *.find*(..))").matches(find));
+    }
+
+    @Test
+    void testAnnotationAndNamedReferences() throws Exception {
+        Method sendAsync = method(OrderService.class, "sendAsync");
+        Method save = method(OrderService.class, "save", String.class);
+        Map<String, String> named = Map.of(
+                "asyncMethods", "@annotation(io.warmup.framework.annotation.Async)",
+                "serviceLayer", "within(*Service) && asyncMethods()");
+
+        PointcutMatcher matcher = PointcutMatcher.compile("serviceLayer()", named::get);
+
+        assertTrue(matcher.matches(sendAsync));
+        assertFalse(matcher.matches(save));
+    }
+
+    @Test
+    void testClassLevelPrefilter() {
+        PointcutMatcher matcher = compile("execution(* *$OrderService.*(..)) || within(*Repository)");
+
+        assertTrue(matcher.couldMatch(OrderService.class));
+        assertFalse(matcher.couldMatch(OtherComponent.class));
+        assertTrue(compile("!within(*$OrderService)").couldMatch(OrderService.class));
+    }
+
+    @Test
+    void testInvalidOrUnresolvedExpressionsNeverMatch() throws Exception {
+        Method save = method(OrderService.class, "save", String.class);
+
+        assertSame(PointcutMatcher.NEVER, compile("execution(* *.save(..)"));
+        assertSame(PointcutMatcher.NEVER, compile("@annotation(com.example.Missing)"));
+        assertSame(PointcutMatcher.NEVER, compile(""));
+        assertFalse(compile("missing()").matches(save));
+        assertSame(PointcutMatcher.NEVER, PointcutMatcher.compile("loop()", Map.of("loop", "loop()")::get));
+    }
+
+    private static PointcutMatcher compile(String expression) {
+        return PointcutMatcher.compile(expression, NO_NAMED::get);
+    }
+
+    private static Method method(Class<?> type, String name, Class<?>... params) throws NoSuchMethodException {
+        return type.getDeclaredMethod(name, params);
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class OrderService {
+        public String findOrder(String id) {
+            return id;
+        }
+
+        public void save(String order) {
+        }
+
+        @Async
+        public void sendAsync() {
+        }
+    }
+
+    public static class OtherComponent {
+    }
+}
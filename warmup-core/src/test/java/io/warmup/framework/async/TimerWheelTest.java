@@ -0,0 +1,107 @@
+package io.warmup.framework.async;
+
+import io.warmup.framework.annotation.Async;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ⏱️ TEST TIMER WHEEL - Temporizadores compartidos con programación y cancelación O(1)
+ */
+public class TimerWheelTest {
+
+    private TimerWheel timerWheel;
+
+    @BeforeEach
+    void setUp() {
+        // Rueda pequeña: 8 buckets de 1ms obligan a dar varias vueltas
+        timerWheel = new TimerWheel(1, TimeUnit.MILLISECONDS, 8, "test-timer-wheel");
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerWheel.stop();
+    }
+
+    @Test
+    void testExpiresAfterSeveralRoundsAndNeverEarly() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] elapsedMs = new long[1];
+
+        TimerWheel.Timeout timeout = timerWheel.schedule(() -> {
+            elapsedMs[0] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            fired.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(elapsedMs[0] >= 30, "expiró a los " + elapsedMs[0] + "ms");
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timerWheel.pendingTimeouts());
+    }
+
+    @Test
+    void testCancelledTimeoutsNeverRunAndAreUnlinked() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < 10_000; i++) {
+            TimerWheel.Timeout timeout = timerWheel.schedule(runs::incrementAndGet, 20 + i % 50, TimeUnit.MILLISECONDS);
+            assertTrue(timeout.cancel());
+            assertTrue(timeout.isCancelled());
+        }
+
+        awaitNoPendingTimeouts(timerWheel);
+        Thread.sleep(100);
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testOrTimeoutFailsSlowFutureAndCancelsOnCompletion() throws Exception {
+        CompletableFuture<String> slow = timerWheel.orTimeout(new CompletableFuture<>(), 20, TimeUnit.MILLISECONDS);
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> slow.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, thrown.getCause());
+
+        CompletableFuture<String> fast = timerWheel.orTimeout(new CompletableFuture<>(), 10, TimeUnit.SECONDS);
+        assertEquals(1, timerWheel.pendingTimeouts());
+        fast.complete("done");
+
+        // El temporizador de 10s se desenlaza en el siguiente tick, no a los 10s
+        awaitNoPendingTimeouts(timerWheel);
+        assertEquals("done", fast.get());
+    }
+
+    @Test
+    void testAsyncTimeoutsDoNotStartThreadsPerCall() throws Exception {
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+        executor.executeAsync("default", () -> "warm", 1_000, Async.ExceptionHandling.COMPLETE_EXCEPTIONALLY).get();
+        long threadsBefore = ManagementFactory.getThreadMXBean().getTotalStartedThreadCount();
+
+        for (int n = 0; n < 500; n++) {
+            int i = n;
+            assertEquals(i, executor.executeAsync("default", () -> i, 1_000,
+                    Async.ExceptionHandling.COMPLETE_EXCEPTIONALLY).get());
+        }
+
+        // Antes: un ScheduledThreadPool nuevo por llamada con timeout
+        long started = ManagementFactory.getThreadMXBean().getTotalStartedThreadCount() - threadsBefore;
+        assertTrue(started < 50, "hilos creados: " + started);
+    }
+
+    private static void awaitNoPendingTimeouts(TimerWheel wheel) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (wheel.pendingTimeouts() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+}
@@ -0,0 +1,130 @@
+package io.warmup.framework.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RegistrySnapshot} and the frozen {@link DependencyRegistry}.
+ */
+class RegistrySnapshotTest {
+
+    private WarmupContainer container;
+
+    @BeforeEach
+    void setUp() {
+        container = new WarmupContainer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Test
+    void testClassTableLookupByIdentity() {
+        Map<Class<?>, String> source = new HashMap<>();
+        source.put(String.class, "string");
+        source.put(Integer.class, "integer");
+        source.put(Long.class, "long");
+
+        RegistrySnapshot.ClassTable<String> table = new RegistrySnapshot.ClassTable<>(source);
+
+        assertEquals(3, table.size);
+        assertEquals("string", table.get(String.class));
+        assertEquals("long", table.get(Long.class));
+        assertNull(table.get(Double.class));
+        assertNull(table.get(null));
+    }
+
+    @Test
+    void testBindingKeyParsesTypeAndName() {
+        RegistrySnapshot.BindingKey key = RegistrySnapshot.BindingKey.parse("com.example.Service:primary:v2");
+
+        assertEquals("com.example.Service", key.typeName);
+        assertEquals("primary:v2", key.name);
+        assertEquals(new RegistrySnapshot.BindingKey("com.example.Service", "primary:v2"), key);
+        assertEquals("com.example.Service:primary:v2", key.toString());
+    }
+
+    @Test
+    void testFrozenRegistryResolvesNamedBindings() throws Exception {
+        container.getDependencyRegistry().registerNamedWithInterfaces(Greeter.class, "english", true);
+        container.start();
+
+        DependencyRegistry registry = container.getDependencyRegistry();
+        Dependency byType = registry.findDependency(Greeter.class, "english");
+
+        assertNotNull(byType);
+        assertSame(byType, registry.findDependency(GreeterApi.class, "english"));
+        assertNull(registry.findDependency(Greeter.class, "spanish"));
+        assertTrue(registry.hasBinding(Greeter.class, "english"));
+    }
+
+    @Test
+    void testLateRegistrationIsVisibleAfterFreeze() throws Exception {
+        container.register(Greeter.class, true);
+        container.start();
+
+        DependencyRegistry registry = container.getDependencyRegistry();
+        assertNotNull(registry.getDependency(Greeter.class));
+        assertNull(registry.getDependency(LateService.class));
+
+        container.register(LateService.class, true);
+
+        assertNotNull(registry.getDependency(LateService.class));
+        assertNotNull(container.get(LateService.class));
+        assertTrue(registry.hasBinding(LateService.class, null));
+    }
+
+    @Test
+    void testBindingMapsAreReadOnlyAndRegisterDependencyRefreshesSnapshot() throws Exception {
+        container.register(Greeter.class, true);
+        container.start();
+
+        DependencyRegistry registry = container.getDependencyRegistry();
+        Dependency late = new Dependency(LateService.class, true);
+        assertThrows(UnsupportedOperationException.class,
+                () -> registry.getDependencies().put(LateService.class, late));
+        assertThrows(UnsupportedOperationException.class,
+                () -> registry.getNamedDependencies().clear());
+
+        registry.registerDependency(LateService.class, late);
+
+        assertSame(late, registry.getDependency(LateService.class));
+        assertTrue(registry.getDependencies().containsKey(LateService.class));
+    }
+
+    @Test
+    void testBindingMapsAreCopiesSafeToIterateWhileRegistering() throws Exception {
+        container.register(Greeter.class, true);
+        container.start();
+
+        DependencyRegistry registry = container.getDependencyRegistry();
+        Map<Class<?>, Dependency> before = registry.getDependencies();
+
+        // Con una vista viva del HashMap esto lanzaría ConcurrentModificationException
+        for (Class<?> type : before.keySet()) {
+            registry.registerDependency(LateService.class, new Dependency(LateService.class, true));
+        }
+
+        assertFalse(before.containsKey(LateService.class));
+        assertTrue(registry.getDependencies().containsKey(LateService.class));
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public interface GreeterApi {
+    }
+
+    public static class Greeter implements GreeterApi {
+    }
+
+    public static class LateService {
+    }
+}
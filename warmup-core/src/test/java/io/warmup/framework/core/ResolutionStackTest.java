@@ -0,0 +1,107 @@
+package io.warmup.framework.core;
+
+import io.warmup.framework.annotation.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ResolutionStack} and cycle detection through the container.
+ */
+class ResolutionStackTest {
+
+    private WarmupContainer container;
+
+    @BeforeEach
+    void setUp() {
+        container = new WarmupContainer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Test
+    void testCyclePathIsReportedFromFirstRepeatedFrame() {
+        ResolutionStack stack = ResolutionStack.current();
+        stack.enter(new Dependency(Root.class, ScopeManager.ScopeType.PROTOTYPE, false));
+        stack.enter(new Dependency(CycleA.class, ScopeManager.ScopeType.PROTOTYPE, false));
+        stack.enter(new Dependency(CycleB.class, ScopeManager.ScopeType.PROTOTYPE, false));
+        try {
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                    () -> stack.checkCycle(CycleA.class));
+            assertEquals("Ciclo de dependencias detectado: CycleA -> CycleB -> CycleA", ex.getMessage());
+        } finally {
+            stack.pop();
+            stack.pop();
+            stack.pop();
+        }
+        assertEquals(0, stack.depth());
+    }
+
+    @Test
+    void testStackGrowsPastInitialCapacity() {
+        ResolutionStack stack = ResolutionStack.current();
+        int frames = ResolutionStack.INITIAL_CAPACITY * 2 + 1;
+        for (int i = 0; i < frames; i++) {
+            stack.push(new Dependency(Root.class, ScopeManager.ScopeType.PROTOTYPE, false));
+        }
+        assertEquals(frames, stack.depth());
+        for (int i = 0; i < frames; i++) {
+            stack.pop();
+        }
+        assertEquals(0, stack.depth());
+    }
+
+    @Test
+    void testContainerDetectsFieldInjectionCycle() {
+        container.register(CycleA.class, false);
+        container.register(CycleB.class, false);
+
+        Throwable thrown = assertThrows(Throwable.class, () -> container.get(CycleA.class));
+
+        boolean reported = false;
+        for (Throwable t = thrown; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("Ciclo de dependencias detectado")) {
+                reported = true;
+                break;
+            }
+        }
+        assertTrue(reported, "cycle should be reported: " + thrown);
+        assertEquals(0, ResolutionStack.current().depth());
+    }
+
+    @Test
+    void testStackIsEmptyAfterResolution() {
+        container.register(Root.class, false);
+        container.register(Leaf.class, true);
+
+        Root root = container.get(Root.class);
+
+        assertNotNull(root.leaf);
+        assertEquals(0, ResolutionStack.current().depth());
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class Leaf {
+    }
+
+    public static class Root {
+        @Inject
+        Leaf leaf;
+    }
+
+    public static class CycleA {
+        @Inject
+        CycleB b;
+    }
+
+    public static class CycleB {
+        @Inject
+        CycleA a;
+    }
+}
@@ -0,0 +1,98 @@
+package io.warmup.framework.core.test;
+
+import io.warmup.framework.annotation.Primary;
+import io.warmup.framework.annotation.Profile;
+import io.warmup.framework.core.DependencyRegistry;
+import io.warmup.framework.core.ProfileManager;
+import io.warmup.framework.core.WarmupContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🚀 TEST BEST IMPLEMENTATION CACHE - Ganador @Primary memoizado por interfaz
+ */
+public class BestImplementationCacheTest {
+
+    private WarmupContainer container;
+
+    @BeforeEach
+    void setUp() {
+        container = new WarmupContainer();
+        container.getDependencyRegistry().registerImplementation(Notifier.class, EmailNotifier.class, false);
+        container.getDependencyRegistry().registerImplementation(Notifier.class, SmsNotifier.class, false);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Test
+    void testWinnerIsPrecomputedAtFreezeAndReused() throws Exception {
+        container.start();
+        DependencyRegistry registry = container.getDependencyRegistry();
+
+        Notifier first = registry.getBestImplementation(Notifier.class);
+        Notifier second = registry.getBestImplementation(Notifier.class);
+
+        assertInstanceOf(SmsNotifier.class, first);
+        assertInstanceOf(SmsNotifier.class, second);
+        assertNotSame(first, second, "prototype winner must still create new instances");
+    }
+
+    @Test
+    void testLateRegistrationInvalidatesWinner() throws Exception {
+        container.start();
+        DependencyRegistry registry = container.getDependencyRegistry();
+        assertInstanceOf(SmsNotifier.class, registry.getBestImplementation(Notifier.class));
+
+        registry.registerImplementation(Notifier.class, PushNotifier.class, false);
+
+        assertInstanceOf(PushNotifier.class, registry.getBestImplementation(Notifier.class));
+    }
+
+    @Test
+    void testProfileChangeInvalidatesWinner() throws Exception {
+        DependencyRegistry registry = container.getDependencyRegistry();
+        registry.registerImplementation(Notifier.class, TestNotifier.class, false);
+        container.start();
+        assertInstanceOf(SmsNotifier.class, registry.getBestImplementation(Notifier.class));
+
+        try {
+            container.setActiveProfiles("test");
+            assertInstanceOf(TestNotifier.class, registry.getBestImplementation(Notifier.class));
+
+            // ProfileManager también notifica los cambios incrementales
+            container.setActiveProfiles("default");
+            assertInstanceOf(SmsNotifier.class, registry.getBestImplementation(Notifier.class));
+            ((ProfileManager) container.getProfileManager()).addActiveProfile("test");
+            assertInstanceOf(TestNotifier.class, registry.getBestImplementation(Notifier.class));
+        } finally {
+            container.setActiveProfiles("default");
+        }
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public interface Notifier {
+    }
+
+    public static class EmailNotifier implements Notifier {
+    }
+
+    @Primary(5)
+    public static class SmsNotifier implements Notifier {
+    }
+
+    @Primary(10)
+    public static class PushNotifier implements Notifier {
+    }
+
+    @Profile("test")
+    @Primary(20)
+    public static class TestNotifier implements Notifier {
+    }
+}
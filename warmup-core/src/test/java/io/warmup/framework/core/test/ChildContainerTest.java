@@ -0,0 +1,127 @@
+package io.warmup.framework.core.test;
+
+import io.warmup.framework.annotation.Inject;
+import io.warmup.framework.core.ChildContainer;
+import io.warmup.framework.core.WarmupContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🌿 TEST CHILD CONTAINER - Overlay de overrides sobre el contenedor padre
+ */
+public class ChildContainerTest {
+
+    private WarmupContainer container;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        container = new WarmupContainer();
+        container.register(SharedService.class, true);
+        container.registerImplementation(DataSource.class, DefaultDataSource.class, true);
+        container.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Test
+    void testChildWithoutOverridesDelegatesToParent() {
+        ChildContainer child = container.createChild();
+
+        assertSame(container.get(SharedService.class), child.get(SharedService.class));
+        assertSame(container.get(DataSource.class), child.get(DataSource.class));
+        assertSame(container, child.getParent());
+    }
+
+    @Test
+    void testInstanceOverrideIsVisibleOnlyInChild() {
+        ChildContainer tenantA = container.createChild();
+        ChildContainer tenantB = container.createChild();
+        TenantDataSource dataSource = new TenantDataSource("tenant-a");
+
+        tenantA.register(DataSource.class, dataSource);
+
+        assertSame(dataSource, tenantA.get(DataSource.class));
+        assertTrue(tenantA.isOverridden(DataSource.class));
+        assertInstanceOf(DefaultDataSource.class, tenantB.get(DataSource.class));
+        assertInstanceOf(DefaultDataSource.class, container.get(DataSource.class));
+    }
+
+    @Test
+    void testChildComponentsAreWiredAgainstOverrides() {
+        ChildContainer tenant = container.createChild();
+        TenantDataSource dataSource = new TenantDataSource("tenant-a");
+        tenant.register(DataSource.class, dataSource);
+        tenant.register(ReportService.class, true);
+
+        ReportService report = tenant.get(ReportService.class);
+
+        assertSame(dataSource, report.dataSource);
+        assertSame(container.get(SharedService.class), report.shared);
+        assertSame(report, tenant.get(ReportService.class));
+    }
+
+    @Test
+    void testNestedChildFallsBackThroughAncestors() {
+        ChildContainer tenant = container.createChild();
+        TenantDataSource dataSource = new TenantDataSource("tenant-a");
+        tenant.register(DataSource.class, dataSource);
+
+        ChildContainer request = tenant.createChild();
+        request.registerNamed(String.class, "requestId", "req-42");
+
+        assertSame(dataSource, request.get(DataSource.class));
+        assertEquals("req-42", request.getNamed(String.class, "requestId"));
+        assertSame(container, request.getRoot());
+        assertFalse(request.isOverridden(DataSource.class));
+    }
+
+    @Test
+    void testNullInstanceIsRejected() {
+        ChildContainer child = container.createChild();
+
+        assertThrows(IllegalArgumentException.class, () -> child.register(DataSource.class, (DataSource) null));
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public interface DataSource {
+        String url();
+    }
+
+    public static class DefaultDataSource implements DataSource {
+        @Override
+        public String url() {
+            return "default";
+        }
+    }
+
+    public static class TenantDataSource implements DataSource {
+        private final String url;
+
+        public TenantDataSource(String url) {
+            this.url = url;
+        }
+
+        @Override
+        public String url() {
+            return url;
+        }
+    }
+
+    public static class SharedService {
+    }
+
+    public static class ReportService {
+        @Inject
+        DataSource dataSource;
+
+        @Inject
+        SharedService shared;
+    }
+}
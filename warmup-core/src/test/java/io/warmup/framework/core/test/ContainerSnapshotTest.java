@@ -0,0 +1,143 @@
+package io.warmup.framework.core.test;
+
+import io.warmup.framework.common.ClassMetadata;
+import io.warmup.framework.core.ContainerSnapshot;
+import io.warmup.framework.core.WarmupContainer;
+import io.warmup.framework.core.test.snapshot.SnapshotComponents;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧊 TEST CONTAINER SNAPSHOT - Grafo resuelto persistido entre arranques
+ */
+public class ContainerSnapshotTest {
+
+    private static final String PACKAGE = "io.warmup.framework.core.test.snapshot";
+
+    @TempDir
+    Path tempDir;
+
+    private Path snapshotFile;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = tempDir.resolve("container.snapshot");
+        System.setProperty(ContainerSnapshot.PATH_PROPERTY, snapshotFile.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(ContainerSnapshot.PATH_PROPERTY);
+    }
+
+    @Test
+    void testSnapshotIsWrittenAfterStart() throws Exception {
+        WarmupContainer container = boot();
+        try {
+            // start() crea los singletons eager por capas
+            assertFalse(container.getStartupMetrics().getSingletonLayerSizes().isEmpty());
+        } finally {
+            container.shutdown();
+        }
+
+        ContainerSnapshot snapshot = ContainerSnapshot.load(snapshotFile);
+        assertNotNull(snapshot);
+        assertEquals(ContainerSnapshot.classpathHash(List.of(PACKAGE)), snapshot.getClasspathHash());
+
+        List<ClassMetadata> components = snapshot.getComponents().get(PACKAGE);
+        assertNotNull(components);
+        assertEquals(2, components.size());
+        assertTrue(components.stream().allMatch(metadata -> metadata.isSingleton));
+
+        // Las capas de creación se guardan con el snapshot: Repository antes que Service
+        int repositoryLayer = layerOf(snapshot, SnapshotComponents.Repository.class);
+        int serviceLayer = layerOf(snapshot, SnapshotComponents.Service.class);
+        assertTrue(repositoryLayer >= 0, "Repository missing from creation layers");
+        assertTrue(repositoryLayer < serviceLayer);
+    }
+
+    @Test
+    void testSecondBootRestoresPackagesWithoutScanning() throws Exception {
+        boot().shutdown();
+
+        WarmupContainer container = new WarmupContainer();
+        try {
+            container.scanPackage(PACKAGE);
+
+            assertNotNull(container.getContainerSnapshot());
+            assertEquals(1L, container.getContainerCoordinator().getPerformanceOptimizer()
+                    .getOptimizerMetrics().get("snapshotRestoredPackages"));
+
+            container.start();
+            SnapshotComponents.Service service = container.get(SnapshotComponents.Service.class);
+            assertNotNull(service.repository);
+        } finally {
+            container.shutdown();
+        }
+    }
+
+    @Test
+    void testStaleOrCorruptSnapshotIsIgnored() throws Exception {
+        boot().shutdown();
+
+        // Añadir o borrar clases cambia la fecha del directorio del paquete
+        Path packageDir = Paths.get(SnapshotComponents.class.getResource("").toURI());
+        FileTime original = Files.getLastModifiedTime(packageDir);
+        try {
+            Files.setLastModifiedTime(packageDir, FileTime.fromMillis(original.toMillis() + 60_000));
+            assertNull(ContainerSnapshot.load(snapshotFile));
+        } finally {
+            Files.setLastModifiedTime(packageDir, original);
+        }
+        assertNotNull(ContainerSnapshot.load(snapshotFile));
+
+        Files.write(snapshotFile, new byte[]{1, 2, 3});
+        assertNull(ContainerSnapshot.load(snapshotFile));
+        assertNull(ContainerSnapshot.load(tempDir.resolve("missing.snapshot")));
+    }
+
+    @Test
+    void testClasspathHashCoversSubpackages() throws Exception {
+        // El escaneo de "io.warmup.framework.core.test" recorre también "snapshot"
+        List<String> packages = List.of("io.warmup.framework.core.test");
+        long before = ContainerSnapshot.classpathHash(packages);
+
+        Path classFile = Paths.get(SnapshotComponents.class.getResource("SnapshotComponents.class").toURI());
+        FileTime original = Files.getLastModifiedTime(classFile);
+        try {
+            Files.setLastModifiedTime(classFile, FileTime.fromMillis(original.toMillis() + 60_000));
+            assertNotEquals(before, ContainerSnapshot.classpathHash(packages));
+        } finally {
+            Files.setLastModifiedTime(classFile, original);
+        }
+        assertEquals(before, ContainerSnapshot.classpathHash(packages));
+    }
+
+    private static int layerOf(ContainerSnapshot snapshot, Class<?> type) {
+        List<List<String>> layers = snapshot.getCreationLayers();
+        for (int i = 0; i < layers.size(); i++) {
+            if (layers.get(i).contains(type.getName())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private WarmupContainer boot() throws Exception {
+        WarmupContainer container = new WarmupContainer();
+        container.scanPackage(PACKAGE);
+        container.start();
+        assertTrue(Files.exists(snapshotFile));
+        return container;
+    }
+}
@@ -0,0 +1,190 @@
+package io.warmup.framework.core.test;
+
+import io.warmup.framework.annotation.Inject;
+import io.warmup.framework.annotation.PostConstruct;
+import io.warmup.framework.core.WarmupContainer;
+import io.warmup.framework.exception.WarmupException;
+import io.warmup.framework.jit.asm.DependencyGraph;
+import io.warmup.framework.startup.StartupMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🚀 TEST EAGER SINGLETONS - Instanciación por capas topológicas
+ */
+public class EagerSingletonInitializationTest {
+
+    private WarmupContainer container;
+
+    @BeforeEach
+    void setUp() {
+        container = new WarmupContainer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // Las propiedades del contenedor son propiedades de sistema
+        System.clearProperty("warmup.startup.parallelSingletons");
+        container.shutdown();
+    }
+
+    @Test
+    void testGraphIsSplitIntoDeterministicLayers() {
+        DependencyGraph graph = new DependencyGraph();
+        DependencyGraph.DependencyNode config = graph.getOrCreateNode(ConfigBean.class);
+        DependencyGraph.DependencyNode cache = graph.getOrCreateNode(CacheBean.class);
+        DependencyGraph.DependencyNode pool = graph.getOrCreateNode(PoolBean.class);
+        DependencyGraph.DependencyNode app = graph.getOrCreateNode(AppBean.class);
+        cache.addDependency(config);
+        pool.addDependency(config);
+        app.addDependency(cache);
+        app.addDependency(pool);
+
+        List<List<Class<?>>> layers = graph.getLayers();
+
+        assertEquals(3, layers.size());
+        assertEquals(Collections.singletonList(ConfigBean.class), layers.get(0));
+        assertEquals(Arrays.asList(CacheBean.class, PoolBean.class), layers.get(1));
+        assertEquals(Collections.singletonList(AppBean.class), layers.get(2));
+        assertTrue(graph.getCyclicNodes().isEmpty());
+        assertEquals(AppBean.class, graph.getResolutionOrder().get(3));
+    }
+
+    @Test
+    void testEagerSingletonsAreCreatedLayerByLayer() throws Exception {
+        registerGraph();
+
+        container.initializeAllComponents();
+
+        AppBean app = container.get(AppBean.class);
+        assertTrue(app.initialized);
+        assertSame(container.get(ConfigBean.class), app.cache.config);
+        assertSame(app.cache.config, app.pool.config);
+        assertTrue(container.getDependencyRegistry().getDependency(PoolBean.class).isInstanceCreated());
+
+        StartupMetrics metrics = container.getStartupMetrics();
+        assertEquals(3, metrics.getSingletonCriticalPathLength());
+        assertEquals(Arrays.asList(1, 2, 1), metrics.getSingletonLayerSizes());
+        assertEquals(3, metrics.getSingletonLayerTimesMs().size());
+        assertTrue(metrics.isParallelSingletonInitialization());
+        assertEquals(3, metrics.toMap().get("singleton_critical_path_length"));
+    }
+
+    @Test
+    void testSerialFallback() throws Exception {
+        container.setProperty("warmup.startup.parallelSingletons", "false");
+        registerGraph();
+
+        container.initializeAllComponents();
+
+        assertTrue(container.get(AppBean.class).initialized);
+        assertFalse(container.getStartupMetrics().isParallelSingletonInitialization());
+        assertEquals(3, container.getStartupMetrics().getSingletonCriticalPathLength());
+    }
+
+    @Test
+    void testFailuresAreReportedDeterministically() {
+        container.register(FailingAlpha.class, true);
+        container.register(FailingBeta.class, true);
+
+        WarmupException error = assertThrows(WarmupException.class, container::initializeAllComponents);
+
+        assertTrue(error.getMessage().contains(FailingAlpha.class.getName()), error.getMessage());
+        assertEquals(1, error.getSuppressed().length);
+        assertTrue(error.getSuppressed()[0].getMessage().contains(FailingBeta.class.getName()));
+    }
+
+    @Test
+    void testSingletonReachedThroughPrototypeIsCreatedOnce() throws Exception {
+        SharedBean.constructions.set(0);
+        container.register(SharedBean.class, true);
+        container.register(PrototypeWrapper.class, false);
+        container.register(ServiceBean.class, true);
+
+        container.initializeAllComponents();
+
+        assertEquals(1, SharedBean.constructions.get());
+        assertSame(container.get(SharedBean.class), container.get(ServiceBean.class).wrapper.shared);
+        // ServiceBean -> PrototypeWrapper -> SharedBean: SharedBean va en una capa anterior
+        assertEquals(Arrays.asList(1, 1), container.getStartupMetrics().getSingletonLayerSizes());
+    }
+
+    private void registerGraph() {
+        container.register(AppBean.class, true);
+        container.register(PoolBean.class, true);
+        container.register(CacheBean.class, true);
+        container.register(ConfigBean.class, true);
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class ConfigBean {
+    }
+
+    public static class CacheBean {
+        @Inject
+        ConfigBean config;
+    }
+
+    public static class PoolBean {
+        @Inject
+        ConfigBean config;
+    }
+
+    public static class AppBean {
+        @Inject
+        CacheBean cache;
+        @Inject
+        PoolBean pool;
+        boolean initialized;
+
+        @PostConstruct
+        public void init() {
+            initialized = cache != null && pool != null;
+        }
+    }
+
+    public static class SharedBean {
+        static final AtomicInteger constructions = new AtomicInteger();
+
+        public SharedBean() {
+            constructions.incrementAndGet();
+            // Ensancha la ventana en la que dos tareas de una capa podrían crearlo a la vez
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    public static class PrototypeWrapper {
+        @Inject
+        SharedBean shared;
+    }
+
+    public static class ServiceBean {
+        @Inject
+        PrototypeWrapper wrapper;
+    }
+
+    public static class FailingAlpha {
+        @PostConstruct
+        public void init() {
+            throw new IllegalStateException("alpha unavailable");
+        }
+    }
+
+    public static class FailingBeta {
+        @PostConstruct
+        public void init() {
+            throw new IllegalStateException("beta unavailable");
+        }
+    }
+}
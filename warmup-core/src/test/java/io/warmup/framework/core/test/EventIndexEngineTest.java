@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -199,10 +200,54 @@ public class EventIndexEngineTest {
         assertDoesNotThrow(() -> engine.dispatchEvent(new TestEvent()));
     }
 
+    @Test
+    void testCompiledDispatchOrderAndLateSupertypeRegistration() throws Exception {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        RecordingListener derived = new RecordingListener("derived", calls);
+        RecordingListener base = new RecordingListener("base", calls);
+        engine.registerListener(DerivedEvent.class, new EventListenerMethod(derived,
+                RecordingListener.class.getMethod("onDerived", DerivedEvent.class)));
+
+        engine.dispatchEvent(new DerivedEvent());
+        assertEquals(List.of("derived"), calls);
+
+        // La tabla compilada para DerivedEvent debe reconstruirse al registrar un listener del padre
+        engine.registerListener(BaseEvent.class, new EventListenerMethod(base,
+                RecordingListener.class.getMethod("onBase", BaseEvent.class)));
+        calls.clear();
+        engine.dispatchEvent(new DerivedEvent());
+        assertEquals(List.of("derived", "base"), calls);
+
+        // Un listener de DerivedEvent nunca recibe un BaseEvent
+        calls.clear();
+        engine.dispatchEvent(new BaseEvent());
+        assertEquals(List.of("base"), calls);
+    }
+
     /**
      * 🎯 CLASES DE SOPORTE PARA TESTING
      */
     
+    public static class RecordingListener {
+        private final String name;
+        private final List<String> calls;
+        
+        public RecordingListener(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+        
+        @io.warmup.framework.annotation.EventListener
+        public void onDerived(DerivedEvent event) {
+            calls.add(name);
+        }
+        
+        @io.warmup.framework.annotation.EventListener
+        public void onBase(BaseEvent event) {
+            calls.add(name);
+        }
+    }
+    
     public static class TestEvent extends Event {
         public TestEvent() {}
     }
@@ -0,0 +1,155 @@
+package io.warmup.framework.core.test;
+
+import io.warmup.framework.annotation.Inject;
+import io.warmup.framework.annotation.PostConstruct;
+import io.warmup.framework.core.DependencyRegistry;
+import io.warmup.framework.core.ResolutionPlan;
+import io.warmup.framework.core.WarmupContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🚀 TEST RESOLUTION PLANS - Planes compilados al congelar el registry en start()
+ */
+public class ResolutionPlanTest {
+
+    private WarmupContainer container;
+
+    @BeforeEach
+    void setUp() {
+        container = new WarmupContainer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Test
+    void testPrototypeIsCompiledOnStart() throws Exception {
+        container.register(Repository.class, true);
+        container.register(Service.class, false);
+        container.start();
+
+        DependencyRegistry registry = container.getDependencyRegistry();
+        assertTrue(registry.isFrozen());
+        assertNotNull(registry.getDependency(Service.class).getResolutionPlan());
+        assertNull(registry.getDependency(Repository.class).getResolutionPlan());
+    }
+
+    @Test
+    void testCompiledPlanKeepsInjectionSemantics() throws Exception {
+        container.register(Repository.class, true);
+        container.register(Service.class, false);
+        container.start();
+
+        Service first = container.get(Service.class);
+        Service second = container.get(Service.class);
+
+        assertNotSame(first, second);
+        assertNotNull(first.repository);
+        assertSame(first.repository, second.repository);
+        assertSame(first.repository, first.setterRepository);
+        assertEquals(1, first.initCount);
+        assertEquals(1, second.initCount);
+    }
+
+    @Test
+    void testUnrelatedLateRegistrationKeepsPlans() throws Exception {
+        container.register(Repository.class, true);
+        container.register(Service.class, false);
+        container.start();
+
+        DependencyRegistry registry = container.getDependencyRegistry();
+        ResolutionPlan servicePlan = registry.getDependency(Service.class).getResolutionPlan();
+
+        container.register(Standalone.class, false);
+
+        assertTrue(registry.isFrozen());
+        assertSame(servicePlan, registry.getDependency(Service.class).getResolutionPlan());
+        // El nuevo binding también se compila
+        assertNotNull(registry.getDependency(Standalone.class).getResolutionPlan());
+
+        Service service = container.get(Service.class);
+        assertNotNull(service.repository);
+        assertEquals(1, service.initCount);
+    }
+
+    @Test
+    void testLateRegistrationRecompilesAffectedPlans() throws Exception {
+        container.register(Service.class, false);
+        container.register(Consumer.class, false);
+        container.start();
+
+        DependencyRegistry registry = container.getDependencyRegistry();
+        ResolutionPlan consumerPlan = registry.getDependency(Consumer.class).getResolutionPlan();
+        assertNotNull(consumerPlan);
+
+        // Repository no estaba registrado: Service y Consumer lo resolvían dinámicamente
+        container.register(Repository.class, true);
+
+        ResolutionPlan recompiled = registry.getDependency(Consumer.class).getResolutionPlan();
+        assertNotNull(recompiled);
+        assertNotSame(consumerPlan, recompiled);
+        assertNotNull(registry.getDependency(Service.class).getResolutionPlan());
+
+        Consumer consumer = container.get(Consumer.class);
+        assertSame(container.get(Repository.class), consumer.service.repository);
+        assertEquals(1, consumer.service.initCount);
+    }
+
+    @Test
+    void testPrototypeCycleIsNotCompiled() throws Exception {
+        container.register(CycleA.class, false);
+        container.register(CycleB.class, false);
+        container.start();
+
+        DependencyRegistry registry = container.getDependencyRegistry();
+        assertNull(registry.getDependency(CycleA.class).getResolutionPlan());
+        assertNull(registry.getDependency(CycleB.class).getResolutionPlan());
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class Repository {
+    }
+
+    public static class Service {
+        @Inject
+        Repository repository;
+
+        Repository setterRepository;
+        int initCount;
+
+        @Inject
+        void setRepository(Repository repository) {
+            this.setterRepository = repository;
+        }
+
+        @PostConstruct
+        void init() {
+            initCount++;
+        }
+    }
+
+    public static class Standalone {
+    }
+
+    public static class Consumer {
+        @Inject
+        Service service;
+    }
+
+    public static class CycleA {
+        @Inject
+        CycleB b;
+    }
+
+    public static class CycleB {
+        @Inject
+        CycleA a;
+    }
+}
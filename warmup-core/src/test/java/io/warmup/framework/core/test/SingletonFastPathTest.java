@@ -0,0 +1,70 @@
+package io.warmup.framework.core.test;
+
+import io.warmup.framework.core.Dependency;
+import io.warmup.framework.core.WarmupContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🚀 TEST SINGLETON FAST PATH - Handle resuelto publicado por Dependency
+ */
+public class SingletonFastPathTest {
+
+    private WarmupContainer container;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        container = new WarmupContainer();
+        container.register(CachedService.class, true);
+        container.register(PrototypeService.class, false);
+        container.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.shutdown();
+    }
+
+    @Test
+    void testSingletonHandleIsPublishedAfterFirstResolution() {
+        CachedService first = container.get(CachedService.class);
+        Dependency dependency = container.getDependencyRegistry().getDependency(CachedService.class);
+
+        assertSame(first, dependency.getResolvedInstance());
+        assertSame(first, container.get(CachedService.class));
+        assertSame(first, dependency.getInstance(container.getCoreContainer(), new HashSet<>()));
+    }
+
+    @Test
+    void testClearCacheDropsHandle() {
+        CachedService first = container.get(CachedService.class);
+        Dependency dependency = container.getDependencyRegistry().getDependency(CachedService.class);
+
+        dependency.clearCache();
+
+        assertNull(dependency.getResolvedInstance());
+        assertNotSame(first, container.get(CachedService.class));
+    }
+
+    @Test
+    void testPrototypeIsNeverPublished() {
+        container.get(PrototypeService.class);
+        Dependency dependency = container.getDependencyRegistry().getDependency(PrototypeService.class);
+
+        assertNull(dependency.getResolvedInstance());
+        assertNotSame(container.get(PrototypeService.class), container.get(PrototypeService.class));
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class CachedService {
+    }
+
+    public static class PrototypeService {
+    }
+}
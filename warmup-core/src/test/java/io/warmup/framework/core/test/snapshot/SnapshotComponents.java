@@ -0,0 +1,23 @@
+package io.warmup.framework.core.test.snapshot;
+
+import io.warmup.framework.annotation.Component;
+import io.warmup.framework.annotation.Inject;
+
+/**
+ * Componentes escaneados por {@code ContainerSnapshotTest}.
+ */
+public final class SnapshotComponents {
+
+    private SnapshotComponents() {
+    }
+
+    @Component
+    public static class Repository {
+    }
+
+    @Component
+    public static class Service {
+        @Inject
+        public Repository repository;
+    }
+}
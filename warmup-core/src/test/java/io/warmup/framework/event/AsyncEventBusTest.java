@@ -0,0 +1,236 @@
+package io.warmup.framework.event;
+
+import io.warmup.framework.core.WarmupContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🚀 TEST ASYNC EVENT BUS - Despacho en ring buffer acotado con políticas de desbordamiento
+ */
+public class AsyncEventBusTest {
+
+    private EventBus eventBus;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        // El singleton del resolver es estático: no heredar el de otros tests
+        EventBusResolver.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (eventBus != null) {
+            eventBus.shutdown();
+        }
+    }
+
+    @Test
+    void testPublishAsyncReturnsBeforeSlowListenerRuns() throws Exception {
+        eventBus = new EventBus();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        eventBus.registerListener(TestEvent.class, event -> {
+            awaitRelease();
+            threads.add(Thread.currentThread().getName());
+            delivered.countDown();
+        });
+
+        eventBus.publishEventAsync(new TestEvent(1));
+
+        // El publicador no espera al listener bloqueado
+        assertEquals(1, delivered.getCount());
+        release.countDown();
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        assertTrue(threads.get(0).startsWith("warmup-event-dispatcher"), threads.get(0));
+    }
+
+    @Test
+    void testDropNewestDiscardsEventsWhenBufferIsFull() throws Exception {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        fillBuffer(AsyncEventConfig.OverflowPolicy.DROP_NEWEST, received);
+
+        eventBus.publishEventAsync(new TestEvent(4));
+        EventStatistics stats = eventBus.getEventStatistics(TestEvent.class);
+        assertEquals(1, stats.getDroppedCount());
+        assertEquals(2, stats.getQueueDepth());
+
+        release.countDown();
+        awaitProcessed(stats, 3);
+        assertEquals(List.of(1, 2, 3), received);
+    }
+
+    @Test
+    void testDropOldestKeepsMostRecentEvents() throws Exception {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        fillBuffer(AsyncEventConfig.OverflowPolicy.DROP_OLDEST, received);
+
+        eventBus.publishEventAsync(new TestEvent(4));
+        EventStatistics stats = eventBus.getEventStatistics(TestEvent.class);
+        assertEquals(1, stats.getDroppedCount());
+
+        release.countDown();
+        awaitProcessed(stats, 3);
+        assertEquals(List.of(1, 3, 4), received);
+    }
+
+    @Test
+    void testDeadLetterPolicyDivertsOverflow() throws Exception {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        fillBuffer(AsyncEventConfig.OverflowPolicy.DEAD_LETTER, received);
+
+        TestEvent overflow = new TestEvent(4);
+        eventBus.publishEventAsync(overflow);
+
+        List<DeadLetterEvent> deadLetters = eventBus.getDeadLetterEvents();
+        assertEquals(1, deadLetters.size());
+        assertSame(overflow, deadLetters.get(0).getPayload());
+        assertEquals(1, eventBus.getEventStatistics(TestEvent.class).getDeadLetteredCount());
+    }
+
+    @Test
+    void testCallerRunsDispatchesOnPublishingThread() throws Exception {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        fillBuffer(AsyncEventConfig.OverflowPolicy.CALLER_RUNS, received);
+
+        // Buffer lleno: el evento 4 se entrega antes de volver de publishEventAsync
+        eventBus.publishEventAsync(new TestEvent(4));
+        assertEquals(List.of(4), received);
+        EventStatistics stats = eventBus.getEventStatistics(TestEvent.class);
+        assertEquals(1, stats.getCallerRunsCount());
+
+        release.countDown();
+        awaitProcessed(stats, 4);
+        assertEquals(List.of(4, 1, 2, 3), received);
+        assertEquals(0, stats.getDroppedCount());
+    }
+
+    @Test
+    void testQueueDepthAndDispatchLagMetrics() throws Exception {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        fillBuffer(AsyncEventConfig.OverflowPolicy.DROP_NEWEST, received);
+
+        assertEquals(2, eventBus.getAsyncQueueDepth());
+        Thread.sleep(20);
+        release.countDown();
+
+        EventStatistics stats = eventBus.getEventStatistics(TestEvent.class);
+        awaitProcessed(stats, 3);
+        assertEquals(0, eventBus.getAsyncQueueDepth());
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(3, stats.getAsyncQueuedCount());
+        // Los eventos 2 y 3 esperaron en el buffer mientras el 1 estaba bloqueado
+        assertTrue(stats.getMaxDispatchLagMs() >= 20, "lag: " + stats.getMaxDispatchLagMs());
+        assertTrue(stats.getAverageDispatchLagMs() > 0);
+    }
+
+    @Test
+    void testShutdownDeliversQueuedEvents() throws Exception {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        fillBuffer(AsyncEventConfig.OverflowPolicy.BLOCK, received);
+
+        release.countDown();
+        eventBus.shutdown();
+        assertEquals(List.of(1, 2, 3), received);
+
+        // Tras shutdown se despacha en el hilo que publica
+        eventBus.publishEventAsync(new TestEvent(4));
+        assertEquals(List.of(1, 2, 3, 4), received);
+    }
+
+    @Test
+    void testContainerShutdownStopsEventBusDispatchers() throws Exception {
+        WarmupContainer container = new WarmupContainer();
+        eventBus = container.get(EventBus.class);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        eventBus.registerListener(TestEvent.class, event -> threads.add(Thread.currentThread().getName()));
+
+        eventBus.publishEventAsync(new TestEvent(1));
+        awaitProcessed(eventBus.getEventStatistics(TestEvent.class), 1);
+        assertTrue(threads.get(0).startsWith("warmup-event-dispatcher"), threads.get(0));
+
+        container.shutdown();
+
+        // Dispatchers parados: el evento se entrega en el hilo que publica
+        eventBus.publishEventAsync(new TestEvent(2));
+        assertEquals(Thread.currentThread().getName(), threads.get(1));
+    }
+
+    @Test
+    void testShuttingDownAnotherBusKeepsResolverSingleton() throws Exception {
+        EventBus shared = EventBusResolver.resolveEventBus(null, null);
+        eventBus = shared;
+        List<String> threads = new CopyOnWriteArrayList<>();
+        shared.registerListener(TestEvent.class, event -> threads.add(Thread.currentThread().getName()));
+
+        EventBusResolver.shutdown(new EventBus());
+
+        // El bus de otro container no afecta al singleton ni a sus dispatchers
+        assertSame(shared, EventBusResolver.resolveEventBus(null, null));
+        shared.publishEventAsync(new TestEvent(1));
+        awaitProcessed(shared.getEventStatistics(TestEvent.class), 1);
+        assertTrue(threads.get(0).startsWith("warmup-event-dispatcher"), threads.get(0));
+
+        EventBusResolver.shutdown(shared);
+        assertNotSame(shared, EventBusResolver.resolveEventBus(null, null));
+    }
+
+    /**
+     * Un dispatcher y buffer de 2: el evento 1 bloquea al dispatcher y los
+     * eventos 2 y 3 llenan el buffer.
+     */
+    private void fillBuffer(AsyncEventConfig.OverflowPolicy policy, List<Integer> received) throws Exception {
+        eventBus = new EventBus(AsyncEventConfig.defaultConfig()
+                .withBufferSize(2)
+                .withDispatcherThreads(1)
+                .withOverflowPolicy(policy));
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        eventBus.registerListener(TestEvent.class, event -> {
+            if (event.id == 1) {
+                firstStarted.countDown();
+                awaitRelease();
+            }
+            received.add(event.id);
+        });
+
+        eventBus.publishEventAsync(new TestEvent(1));
+        assertTrue(firstStarted.await(2, TimeUnit.SECONDS));
+        eventBus.publishEventAsync(new TestEvent(2));
+        eventBus.publishEventAsync(new TestEvent(3));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitProcessed(EventStatistics stats, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (stats.getProcessedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, stats.getProcessedCount());
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class TestEvent {
+        final int id;
+
+        public TestEvent(int id) {
+            this.id = id;
+        }
+    }
+}
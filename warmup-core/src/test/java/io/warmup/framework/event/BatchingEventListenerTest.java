@@ -0,0 +1,159 @@
+package io.warmup.framework.event;
+
+import io.warmup.framework.core.EventManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 📦 TEST BATCHING LISTENERS - Entrega en lotes por tamaño o por retraso máximo
+ */
+public class BatchingEventListenerTest {
+
+    private EventBus eventBus;
+
+    @AfterEach
+    void tearDown() {
+        if (eventBus != null) {
+            eventBus.shutdown();
+        }
+    }
+
+    @Test
+    void testAsyncEventsAreDeliveredInFullBatchesOnDispatcherThread() throws Exception {
+        eventBus = new EventBus(AsyncEventConfig.defaultConfig().withDispatcherThreads(1));
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        EventBatcher<MetricEvent> batcher = eventBus.registerBatchListener(MetricEvent.class, 10, 0, batch -> {
+            List<Integer> values = new ArrayList<>();
+            batch.forEach(event -> values.add(event.value));
+            batches.add(values);
+            threads.add(Thread.currentThread().getName());
+        });
+
+        for (int i = 0; i < 35; i++) {
+            eventBus.publishEventAsync(new MetricEvent(i));
+        }
+
+        awaitCondition(() -> batcher.getDeliveredBatches() == 3);
+        assertEquals(3, batches.size());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), batches.get(0));
+        assertEquals(5, batcher.getPendingEvents());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("warmup-event-dispatcher")));
+
+        // Sin maxDelayMs el resto espera hasta shutdown()
+        eventBus.shutdown();
+        assertEquals(4, batches.size());
+        assertEquals(List.of(30, 31, 32, 33, 34), batches.get(3));
+        assertEquals(35, batcher.getDeliveredEvents());
+    }
+
+    @Test
+    void testIncompleteBatchIsDeliveredAfterMaxDelay() throws Exception {
+        eventBus = new EventBus();
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+        AtomicLong deliveredAfterMs = new AtomicLong();
+        EventBatcher<MetricEvent> batcher = eventBus.registerBatchListener(MetricEvent.class, 100, 30, batch -> {
+            deliveredAfterMs.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            sizes.add(batch.size());
+        });
+
+        eventBus.publishEvent(new MetricEvent(1));
+        eventBus.publishEvent(new MetricEvent(2));
+        eventBus.publishEvent(new MetricEvent(3));
+        assertTrue(sizes.isEmpty());
+
+        awaitCondition(() -> batcher.getDeliveredBatches() == 1);
+        assertEquals(List.of(3), sizes);
+        assertTrue(deliveredAfterMs.get() >= 30, "entregado a los " + deliveredAfterMs.get() + "ms");
+        assertEquals(0, batcher.getPendingEvents());
+    }
+
+    @Test
+    void testUnregisteredBatcherIsClosedAndRemoved() throws Exception {
+        eventBus = new EventBus();
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        EventBatcher<MetricEvent> batcher = eventBus.registerBatchListener(MetricEvent.class, 100, 50,
+                batch -> sizes.add(batch.size()));
+
+        eventBus.publishEvent(new MetricEvent(1));
+        eventBus.publishEvent(new MetricEvent(2));
+        eventBus.unregisterListener(MetricEvent.class, batcher);
+
+        // El lote incompleto se entrega al desregistrar, sin esperar al retraso
+        assertEquals(List.of(2), sizes);
+        assertEquals(0, batcher.getPendingEvents());
+
+        // Retraso cancelado y batcher fuera del bus: ni la rueda ni shutdown() vuelven a entregar
+        eventBus.publishEvent(new MetricEvent(3));
+        Thread.sleep(100);
+        eventBus.shutdown();
+        assertEquals(List.of(2), sizes);
+        assertEquals(1, batcher.getDeliveredBatches());
+    }
+
+    @Test
+    void testAnnotatedListMethodIsRegisteredAsBatchListener() throws Exception {
+        EventManager eventManager = new EventManager();
+        IndexUpdater updater = new IndexUpdater();
+        eventManager.registerEventListeners(IndexUpdater.class, updater);
+
+        for (int i = 0; i < 7; i++) {
+            eventManager.dispatchEvent(new MetricEvent(i));
+        }
+
+        // Lote de 3 por tamaño: dos lotes completos, uno pendiente
+        assertEquals(List.of(3, 3), updater.batchSizes);
+        assertEquals(7, updater.singleEvents.size());
+
+        eventManager.flushBatches();
+        assertEquals(List.of(3, 3, 1), updater.batchSizes);
+    }
+
+    @Test
+    void testInvalidBatchSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new EventBatcher<MetricEvent>("invalid", 0, 0, batch -> { }));
+    }
+
+    private static void awaitCondition(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class MetricEvent extends Event {
+        final int value;
+
+        public MetricEvent(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class IndexUpdater {
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final List<MetricEvent> singleEvents = new CopyOnWriteArrayList<>();
+
+        @io.warmup.framework.annotation.EventListener(batchSize = 3, maxDelayMs = 10_000)
+        public void index(List<MetricEvent> events) {
+            batchSizes.add(events.size());
+        }
+
+        @io.warmup.framework.annotation.EventListener
+        public void onMetric(MetricEvent event) {
+            singleEvents.add(event);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.warmup.framework.event;
+
+import io.warmup.framework.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 📊 TEST EVENT STATISTICS - Contadores LongAdder e histogramas en nanosegundos
+ */
+public class EventStatisticsTest {
+
+    @Test
+    void testSubMillisecondListenersAreTimedInNanoseconds() {
+        EventBus eventBus = new EventBus();
+        eventBus.registerListener(SampleEvent.class, event -> { });
+
+        for (int i = 0; i < 100; i++) {
+            eventBus.publishEvent(new SampleEvent());
+        }
+
+        EventStatistics stats = eventBus.getEventStatistics(SampleEvent.class);
+        assertEquals(100, stats.getProcessedCount());
+        // Antes: (fin - inicio) / 1_000_000 registraba 0ms para todos
+        assertTrue(stats.getAverageProcessingTime() > 0.0);
+        assertTrue(stats.getProcessingTimePercentileNanos(0.5) > 0);
+        assertTrue(stats.getProcessingTimePercentileNanos(0.99) < TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    void testEachListenerHasItsOwnHistogram() {
+        EventBus eventBus = new EventBus();
+        EventListener<SampleEvent> fast = event -> { };
+        EventListener<SampleEvent> slow = event -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2));
+        eventBus.registerListener(SampleEvent.class, fast);
+        eventBus.registerListener(SampleEvent.class, slow);
+
+        for (int i = 0; i < 10; i++) {
+            eventBus.publishEvent(new SampleEvent());
+        }
+
+        Map<Object, LatencyHistogram> perListener =
+                eventBus.getEventStatistics(SampleEvent.class).getListenerProcessingTimes();
+        assertEquals(2, perListener.size());
+        assertEquals(10, perListener.get(fast).getCount());
+        assertEquals(10, perListener.get(slow).getCount());
+        assertTrue(perListener.get(slow).percentile(0.5) >= TimeUnit.MILLISECONDS.toNanos(2));
+        assertTrue(perListener.get(fast).percentile(0.5) < perListener.get(slow).percentile(0.5));
+    }
+
+    @Test
+    void testTimingCanBeDisabled() {
+        EventBus eventBus = new EventBus();
+        eventBus.setTimingEnabled(false);
+        eventBus.registerListener(SampleEvent.class, event -> { });
+        eventBus.registerListener(SampleEvent.class, event -> {
+            throw new IllegalStateException("fallo de prueba");
+        });
+
+        eventBus.publishEvent(new SampleEvent());
+        eventBus.publishEvent(new SampleEvent());
+
+        EventStatistics stats = eventBus.getEventStatistics(SampleEvent.class);
+        assertEquals(2, stats.getPublishedCount());
+        assertEquals(2, stats.getProcessedCount());
+        assertEquals(2, stats.getFailedCount());
+        assertEquals(0.0, stats.getAverageProcessingTime());
+        assertEquals(0, stats.getProcessingTimePercentileNanos(0.99));
+        assertTrue(stats.getListenerProcessingTimes().isEmpty());
+    }
+
+    @Test
+    void testTimingDisabledSkipsAsyncDispatchLag() throws Exception {
+        EventBus eventBus = new EventBus();
+        eventBus.setTimingEnabled(false);
+        eventBus.registerListener(SampleEvent.class, event -> { });
+
+        try {
+            for (int i = 0; i < 10; i++) {
+                eventBus.publishEventAsync(new SampleEvent());
+            }
+            EventStatistics stats = eventBus.getEventStatistics(SampleEvent.class);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (stats.get(EventStatistics.Counter.DEQUEUED) < 10 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertEquals(10, stats.get(EventStatistics.Counter.DEQUEUED));
+            assertEquals(0.0, stats.getMaxDispatchLagMs());
+            assertEquals(0.0, stats.getAverageDispatchLagMs());
+            assertEquals(0, stats.getDispatchLagPercentileNanos(0.99));
+        } finally {
+            eventBus.shutdown();
+        }
+    }
+
+    @Test
+    void testAverageDispatchLagIgnoresUntimedDequeues() {
+        EventStatistics stats = new EventStatistics(SampleEvent.class);
+        stats.recordDequeued(TimeUnit.MILLISECONDS.toNanos(4));
+        stats.recordDequeued(TimeUnit.MILLISECONDS.toNanos(2));
+        // Timing desactivado a mitad de camino: cuentan como DEQUEUED pero no diluyen la media
+        stats.recordDequeued(-1);
+        stats.recordDequeued(-1);
+
+        assertEquals(4, stats.get(EventStatistics.Counter.DEQUEUED));
+        assertEquals(3.0, stats.getAverageDispatchLagMs(), 0.001);
+        assertEquals(4.0, stats.getMaxDispatchLagMs(), 0.001);
+    }
+
+    @Test
+    void testUnregisteredListenerIsDroppedFromStatistics() {
+        EventBus eventBus = new EventBus();
+        EventListener<SampleEvent> listener = event -> { };
+        eventBus.registerListener(SampleEvent.class, listener);
+        eventBus.publishEvent(new SampleEvent());
+
+        EventStatistics stats = eventBus.getEventStatistics(SampleEvent.class);
+        assertTrue(stats.getListenerProcessingTimes().containsKey(listener));
+
+        eventBus.unregisterListener(SampleEvent.class, listener);
+
+        // Sin histograma que mantenga vivo al listener; los contadores se conservan
+        assertFalse(stats.getListenerProcessingTimes().containsKey(listener));
+        assertEquals(1, stats.getProcessedCount());
+    }
+
+    @Test
+    void testConcurrentPublishersAreCountedExactly() throws Exception {
+        EventBus eventBus = new EventBus();
+        AtomicInteger received = new AtomicInteger();
+        eventBus.registerListener(SampleEvent.class, event -> received.incrementAndGet());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    eventBus.publishEvent(new SampleEvent());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        EventStatistics stats = eventBus.getEventStatistics(SampleEvent.class);
+        assertEquals(40_000, stats.get(EventStatistics.Counter.PUBLISHED));
+        assertEquals(40_000, stats.get(EventStatistics.Counter.PROCESSED));
+        assertEquals(40_000, received.get());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testLegacyRecordActionStillCounts() {
+        EventStatistics stats = new EventStatistics(SampleEvent.class);
+        stats.recordAction("published");
+        stats.recordAction("PROCESSED");
+        stats.recordAction("failed");
+        stats.recordProcessingTime(3);
+
+        assertEquals(1, stats.getPublishedCount());
+        assertEquals(1, stats.getProcessedCount());
+        assertEquals(1, stats.getFailedCount());
+        assertEquals(3, stats.getTotalProcessingTime());
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class SampleEvent extends Event {
+    }
+}
@@ -0,0 +1,163 @@
+package io.warmup.framework.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🛤️ TEST PARTITIONED EVENT BUS - Orden por clave con carriles de un solo hilo
+ */
+public class PartitionedEventBusTest {
+
+    private EventBus eventBus;
+
+    @AfterEach
+    void tearDown() {
+        if (eventBus != null) {
+            eventBus.shutdown();
+        }
+    }
+
+    @Test
+    void testEventsWithSameKeyAreDeliveredInOrderAcrossLanes() throws Exception {
+        eventBus = new EventBus(AsyncEventConfig.defaultConfig().withPartitionLanes(4));
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        Set<String> laneThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(2_000);
+
+        eventBus.registerListener(OrderEvent.class, event -> {
+            laneThreads.add(Thread.currentThread().getName());
+            // Solo el carril de la clave toca su lista: no hace falta sincronizar
+            received.computeIfAbsent(event.orderId, k -> new ArrayList<>()).add(event.sequence);
+            done.countDown();
+        });
+
+        for (int sequence = 0; sequence < 100; sequence++) {
+            for (int order = 0; order < 20; order++) {
+                eventBus.publishEventAsync(new OrderEvent("order-" + order, sequence));
+            }
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(20, received.size());
+        for (List<Integer> sequences : received.values()) {
+            assertEquals(100, sequences.size());
+            for (int i = 0; i < sequences.size(); i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        }
+        assertTrue(laneThreads.size() > 1, "carriles usados: " + laneThreads);
+        assertTrue(laneThreads.stream().allMatch(name -> name.startsWith("warmup-event-dispatcher-lane-")));
+        assertEquals(2_000, java.util.Arrays.stream(eventBus.getPartitionLaneDeliveredCounts()).sum());
+    }
+
+    @Test
+    void testRegisteredKeyExtractorRoutesSubclassesToOneLane() throws Exception {
+        eventBus = new EventBus(AsyncEventConfig.defaultConfig().withPartitionLanes(8));
+        eventBus.registerPartitionKey(AccountEvent.class, event -> event.accountId);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(50);
+        eventBus.registerListener(DepositEvent.class, event -> {
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        for (int i = 0; i < 50; i++) {
+            eventBus.publishEventAsync(new DepositEvent(42L));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, threads.size());
+        assertTrue(threads.iterator().next().contains("-lane-"));
+    }
+
+    @Test
+    void testLaneBacklogMetricsShowBlockedKey() throws Exception {
+        eventBus = new EventBus(AsyncEventConfig.defaultConfig().withPartitionLanes(4));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        eventBus.registerListener(OrderEvent.class, event -> {
+            if (event.sequence == 0) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        eventBus.publishEventAsync(new OrderEvent("hot", 0));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        for (int i = 1; i <= 10; i++) {
+            eventBus.publishEventAsync(new OrderEvent("hot", i));
+        }
+
+        int[] backlogs = eventBus.getPartitionLaneBacklogs();
+        assertEquals(4, backlogs.length);
+        assertEquals(10, java.util.Arrays.stream(backlogs).max().getAsInt());
+        assertEquals(10, java.util.Arrays.stream(backlogs).sum());
+
+        release.countDown();
+        eventBus.shutdown();
+        assertEquals(0, java.util.Arrays.stream(eventBus.getPartitionLaneBacklogs()).sum());
+        assertEquals(11, eventBus.getEventStatistics(OrderEvent.class).getProcessedCount());
+    }
+
+    @Test
+    void testEventsWithoutKeyUseSharedDispatchers() throws Exception {
+        eventBus = new EventBus();
+        CountDownLatch done = new CountDownLatch(1);
+        List<String> threads = new ArrayList<>();
+        eventBus.registerListener(OrderEvent.class, event -> {
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        eventBus.publishEventAsync(new OrderEvent(null, 0));
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertFalse(threads.get(0).contains("-lane-"));
+        assertEquals(0, eventBus.getPartitionLaneBacklogs().length);
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class OrderEvent extends Event implements PartitionKeyed {
+        final String orderId;
+        final int sequence;
+
+        public OrderEvent(String orderId, int sequence) {
+            this.orderId = orderId;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Object getPartitionKey() {
+            return orderId;
+        }
+    }
+
+    public static class AccountEvent extends Event {
+        final long accountId;
+
+        public AccountEvent(long accountId) {
+            this.accountId = accountId;
+        }
+    }
+
+    public static class DepositEvent extends AccountEvent {
+        public DepositEvent(long accountId) {
+            super(accountId);
+        }
+    }
+}
@@ -224,6 +224,33 @@ class HealthCheckManagerTest {
         assertTrue(results.containsKey("refresh-test"));
     }
 
+    @Test
+    void testForceRefreshWithinTtlRunsChecksAgain() {
+        AtomicInteger executions = new AtomicInteger();
+        healthCheckManager.registerHealthCheck(new HealthCheck() {
+            @Override
+            public String getName() {
+                return "counted-check";
+            }
+
+            @Override
+            public HealthResult check() {
+                executions.incrementAndGet();
+                return HealthResult.up("ok");
+            }
+        });
+
+        healthCheckManager.checkHealth();
+        // Dentro del TTL: antes fallaba con NPE al copiar los resultados anulados
+        java.util.Map<String, HealthResult> results = healthCheckManager.checkHealthForceRefresh();
+
+        assertTrue(results.containsKey("counted-check"));
+        assertEquals(2, executions.get());
+        // Y los resultados refrescados vuelven a servirse desde cache
+        assertTrue(healthCheckManager.checkHealth().containsKey("counted-check"));
+        assertEquals(2, executions.get());
+    }
+
     @Test
     void testNonExistentHealthCheck() {
         // Test getting health check that doesn't exist
@@ -318,6 +345,44 @@ class HealthCheckManagerTest {
         // The exact behavior depends on implementation, but it should not throw exception to caller
     }
 
+    @Test
+    @Timeout(5)
+    void testSlowHealthCheckTimesOutWithItsOwnTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        HealthCheck slowCheck = new HealthCheck() {
+            @Override
+            public String getName() {
+                return "slow-check";
+            }
+
+            @Override
+            public HealthResult check() {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return HealthResult.up("too late");
+            }
+
+            @Override
+            public long getTimeout() {
+                return 100;
+            }
+        };
+
+        healthCheckManager.registerHealthCheck(slowCheck);
+        healthCheckManager.registerHealthCheck(createTestHealthCheck("fast-check", HealthStatus.UP));
+
+        java.util.Map<String, HealthResult> results = healthCheckManager.checkHealth();
+        release.countDown();
+
+        // El check lento se corta a los 100ms sin retrasar al resto
+        assertEquals(HealthStatus.DOWN, results.get("slow-check").getStatus());
+        assertTrue(results.get("slow-check").getMessage().contains("timeout"));
+        assertEquals(HealthStatus.UP, results.get("fast-check").getStatus());
+    }
+
     @Test
     void testHealthCheckWithDetails() {
         // Test health check with detailed information
@@ -5,6 +5,7 @@ import io.warmup.framework.core.*;
 import io.warmup.framework.event.*;
 import io.warmup.framework.metrics.*;
 import io.warmup.framework.health.*;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -30,6 +31,12 @@ class FrameworkIntegrationTest {
         container.disableAutoShutdown();
     }
 
+    @AfterEach
+    void tearDown() throws Exception {
+        // El DependencyRegistry es compartido: no dejar bindings a los tests siguientes
+        container.shutdown();
+    }
+
     @Test
     void testContainerEventIntegration() throws Exception {
         // Test integration between container and event system
@@ -0,0 +1,82 @@
+package io.warmup.framework.metadata;
+
+import io.warmup.framework.annotation.Inject;
+import io.warmup.framework.asm.AsmCoreUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧊 TEST CLASS METADATA STORE - Metadatos por clase respaldados por ClassValue
+ */
+public class ClassMetadataStoreTest {
+
+    @Test
+    void testValueIsComputedOncePerClass() {
+        AtomicInteger calls = new AtomicInteger();
+        ClassMetadataStore.Key<String> key = ClassMetadataStore.key("simpleName", c -> {
+            calls.incrementAndGet();
+            return c.getSimpleName();
+        });
+
+        assertEquals("SampleBean", ClassMetadataStore.get(SampleBean.class, key));
+        assertEquals("SampleBean", ClassMetadataStore.get(SampleBean.class, key));
+        assertEquals("OtherBean", ClassMetadataStore.get(OtherBean.class, key));
+
+        assertEquals(2, calls.get());
+        assertEquals(2, key.getComputationCount());
+    }
+
+    @Test
+    void testNullValuesAreCached() {
+        AtomicInteger calls = new AtomicInteger();
+        ClassMetadataStore.Key<Object> key = ClassMetadataStore.key("nothing", c -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        assertNull(ClassMetadataStore.get(SampleBean.class, key));
+        assertNull(ClassMetadataStore.get(SampleBean.class, key));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testClearAndInvalidateForceRecomputation() {
+        AtomicInteger calls = new AtomicInteger();
+        ClassMetadataStore.Key<Integer> key = ClassMetadataStore.key("counter", c -> calls.incrementAndGet());
+
+        assertEquals(1, ClassMetadataStore.get(SampleBean.class, key));
+        assertEquals(2, ClassMetadataStore.get(OtherBean.class, key));
+
+        key.clear();
+        assertEquals(3, ClassMetadataStore.get(SampleBean.class, key));
+
+        ClassMetadataStore.invalidate(OtherBean.class);
+        assertEquals(4, ClassMetadataStore.get(OtherBean.class, key));
+        assertEquals(3, ClassMetadataStore.get(SampleBean.class, key));
+    }
+
+    @Test
+    void testAsmMetadataIsSharedPerClass() {
+        List<AsmCoreUtils.AsmFieldInfo> fields = AsmCoreUtils.getInjectFields(SampleBean.class);
+
+        assertEquals(1, fields.size());
+        assertEquals("other", fields.get(0).name);
+        assertSame(fields, AsmCoreUtils.getInjectFields(SampleBean.class));
+        assertSame(AsmCoreUtils.getClassInfo(SampleBean.class), AsmCoreUtils.getClassInfo(SampleBean.class));
+        assertThrows(UnsupportedOperationException.class, () -> fields.add(null));
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class SampleBean {
+        @Inject
+        OtherBean other;
+    }
+
+    public static class OtherBean {
+    }
+}
@@ -0,0 +1,134 @@
+package io.warmup.framework.metrics;
+
+import io.warmup.framework.annotation.Timed;
+import io.warmup.framework.aop.ProceedingJoinPoint;
+import io.warmup.framework.core.WarmupContainer;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ⏱️ TEST METRICS ASPECT - Muestreo de @Timed con contadores siempre activos
+ */
+public class MetricsAspectTest {
+
+    private WarmupContainer container;
+    private MethodMetrics methodMetrics;
+    private MetricsAspect aspect;
+    private PricingService service;
+
+    @BeforeEach
+    void setUp() {
+        container = new WarmupContainer();
+        methodMetrics = new MethodMetrics();
+        aspect = new MetricsAspect(container, methodMetrics);
+        service = new PricingService();
+    }
+
+    @Test
+    void testEveryCallIsTimedByDefault() throws Throwable {
+        Method price = PricingService.class.getMethod("price");
+        long requestsBefore = container.getMetricsManager().getContainerMetrics().getTotalRequests();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(42, invoke(price));
+        }
+
+        MethodMetrics.MethodStats stats = methodMetrics.getMethodStats("PricingService.price");
+        assertEquals(10, stats.getCallCount());
+        assertEquals(10, stats.getSampledCalls());
+        assertEquals(1.0, stats.getSampleRate());
+        assertEquals(1, aspect.getSamplingInterval(price));
+        assertEquals(requestsBefore + 10, container.getMetricsManager().getContainerMetrics().getTotalRequests());
+    }
+
+    @Test
+    void testOneInNSamplingKeepsExactCallCounts() throws Throwable {
+        Method hot = PricingService.class.getMethod("hot");
+
+        for (int i = 0; i < 8_000; i++) {
+            assertEquals("hot", invoke(hot));
+        }
+
+        MethodMetrics.MethodStats stats = methodMetrics.getMethodStats("PricingService.quote");
+        assertEquals(8_000, stats.getCallCount());
+        assertEquals(8_000, stats.getSuccessfulCalls());
+        assertEquals(0.25, stats.getSampleRate(), 0.05);
+        assertEquals(4, aspect.getSamplingInterval(hot));
+    }
+
+    @Test
+    void testSubMillisecondCallsAreTimedInNanoseconds() throws Throwable {
+        Method price = PricingService.class.getMethod("price");
+
+        invoke(price);
+
+        MethodMetrics.MethodStats stats = methodMetrics.getMethodStats("PricingService.price");
+        assertTrue(stats.getMinTime() > 0);
+        assertTrue(stats.getTotalTime() > 0);
+    }
+
+    @Test
+    void testEachTargetClassKeepsItsOwnSampler() throws Throwable {
+        Method hot = PricingService.class.getMethod("hot");
+        PricingService discount = new DiscountPricingService();
+
+        for (int i = 0; i < 8_000; i++) {
+            invoke(hot);
+            invoke(discount, hot);
+        }
+
+        // Antes solo se cacheaba la primera clase: la subclase creaba un muestreador por llamada
+        MethodMetrics.MethodStats stats = methodMetrics.getMethodStats("DiscountPricingService.quote");
+        assertEquals(8_000, stats.getCallCount());
+        assertEquals(0.25, stats.getSampleRate(), 0.05);
+        assertEquals(4, aspect.getSamplingInterval(DiscountPricingService.class, hot));
+        assertEquals(0.25, methodMetrics.getMethodStats("PricingService.quote").getSampleRate(), 0.05);
+    }
+
+    @Test
+    void testAdaptiveSamplingStaysWithinBudget() {
+        TimingSampler sampler = new TimingSampler(2, 100);
+        long start = System.nanoTime();
+
+        // ~10.000 muestras en un segundo con presupuesto de 100/s: intervalo ≈ 2 * 100
+        for (int i = 0; i < 10_000; i++) {
+            sampler.sampled(start + i);
+        }
+        sampler.sampled(start + 1_000_000_000L);
+        assertEquals(200, sampler.getInterval(), 10);
+
+        // Ventana tranquila: el intervalo baja pero nunca por debajo de sampleEvery
+        sampler.sampled(start + 10_000_000_000L);
+        assertEquals(2, sampler.getInterval());
+    }
+
+    private Object invoke(Method method) throws Throwable {
+        return invoke(service, method);
+    }
+
+    private Object invoke(PricingService target, Method method) throws Throwable {
+        ProceedingJoinPoint joinPoint = new ProceedingJoinPoint(target, method, new Object[0],
+                () -> method.invoke(target));
+        return aspect.measureMethodExecution(joinPoint, method.getAnnotation(Timed.class));
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public static class PricingService {
+        @Timed
+        public int price() {
+            return 42;
+        }
+
+        @Timed(name = "quote", sampleEvery = 4)
+        public String hot() {
+            return "hot";
+        }
+    }
+
+    public static class DiscountPricingService extends PricingService {
+    }
+}
@@ -0,0 +1,219 @@
+package io.warmup.framework.proxy;
+
+import io.warmup.framework.lazy.LazyFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🎯 TEST PROXY GENERATOR - Despacho por índice y proxies lazy sin handler
+ */
+public class ProxyGeneratorTest {
+
+    @Test
+    void testHandlerReceivesConstantIndexAndDescriptor() {
+        List<ProxyMethod> seen = new ArrayList<>();
+        Calculator proxy = Proxies.createProxy(Calculator.class, (IndexedInvocationHandler) (p, index, method, args) -> {
+            assertEquals(index, method.getIndex());
+            seen.add(method);
+            return "label".equals(method.getName()) ? "#" + args[0] : null;
+        });
+
+        assertEquals("#7", proxy.label(7));
+        assertEquals("#8", proxy.label(8));
+
+        assertEquals(2, seen.size());
+        assertSame(seen.get(0), seen.get(1));
+        assertEquals(String.class, seen.get(0).getReturnType());
+        assertArrayEquals(new Class<?>[]{int.class}, seen.get(0).getParameterTypes());
+    }
+
+    @Test
+    void testPrimitiveReturnsUseSpecializedPaths() {
+        PrimitiveHandler handler = new PrimitiveHandler();
+        Calculator proxy = Proxies.createProxy(Calculator.class, handler);
+
+        assertEquals(5, proxy.add(2, 3));
+        assertEquals(12L, proxy.multiply(3L, 4L));
+        assertEquals(1.5, proxy.half(3.0));
+        assertTrue(proxy.positive(1));
+        proxy.reset();
+
+        // Ninguna llamada pasó por invoke() genérico con boxing del retorno
+        assertEquals(0, handler.genericCalls);
+        assertEquals(5, handler.specializedCalls);
+    }
+
+    @Test
+    void testLegacyNameHandlerAndClassReuse() {
+        Calculator first = Proxies.createProxy(Calculator.class,
+                (InvocationHandler) (p, name, args) -> "add".equals(name) ? 42 : null);
+        Calculator second = Proxies.createProxy(Calculator.class, (IndexedInvocationHandler) (p, i, m, a) -> 0);
+
+        assertEquals(42, first.add(1, 1));
+        assertEquals(0, second.add(1, 1));
+        assertSame(first.getClass(), second.getClass());
+    }
+
+    @Test
+    void testLazyProxyDelegatesDirectlyAfterFirstCall() {
+        AtomicInteger created = new AtomicInteger();
+        Calculator lazy = LazyFactory.createLazyProxy(Calculator.class, () -> {
+            created.incrementAndGet();
+            return new SimpleCalculator();
+        });
+
+        GeneratedProxy generated = (GeneratedProxy) lazy;
+        assertFalse(generated.$isResolved());
+        assertEquals(0, created.get());
+
+        assertEquals(5, lazy.add(2, 3));
+        assertEquals(12L, lazy.multiply(3L, 4L));
+        assertEquals("n=9", lazy.label(9));
+
+        assertTrue(generated.$isResolved());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void testLazySubclassProxyPropagatesExceptions() {
+        Counter lazy = LazyFactory.createLazyProxy(Counter.class, Counter::new);
+
+        assertEquals(1, lazy.next());
+        assertEquals(2, lazy.next());
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, lazy::fail);
+        assertEquals("boom", thrown.getMessage());
+    }
+
+    @Test
+    void testLazySubclassObjectMethodsDoNotInitialize() {
+        AtomicInteger created = new AtomicInteger();
+        Counter lazy = LazyFactory.createLazyProxy(Counter.class, () -> {
+            created.incrementAndGet();
+            return new Counter();
+        });
+
+        // Counter sobrescribe los tres; el proxy los responde sin crear la instancia
+        assertEquals("LazyProxy{Proxycraft-Counter, initialized=false}", lazy.toString());
+        assertEquals(System.identityHashCode(lazy), lazy.hashCode());
+        assertTrue(lazy.equals(lazy));
+        assertFalse(lazy.equals(new Counter()));
+        assertEquals(0, created.get());
+
+        lazy.next();
+        assertEquals("LazyProxy{Proxycraft-Counter, initialized=true}", lazy.toString());
+        assertEquals(1, created.get());
+    }
+
+    // ========== CLASES DE PRUEBA ==========
+
+    public interface Calculator {
+        int add(int a, int b);
+
+        long multiply(long a, long b);
+
+        double half(double value);
+
+        boolean positive(int value);
+
+        String label(int value);
+
+        void reset();
+    }
+
+    public static class SimpleCalculator implements Calculator {
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public long multiply(long a, long b) {
+            return a * b;
+        }
+
+        public double half(double value) {
+            return value / 2;
+        }
+
+        public boolean positive(int value) {
+            return value > 0;
+        }
+
+        public String label(int value) {
+            return "n=" + value;
+        }
+
+        public void reset() {
+        }
+    }
+
+    public static class Counter {
+        private int count;
+
+        public int next() {
+            return ++count;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        @Override
+        public String toString() {
+            return "Counter{" + count + "}";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Counter && ((Counter) other).count == count;
+        }
+
+        @Override
+        public int hashCode() {
+            return count;
+        }
+    }
+
+    public static class PrimitiveHandler implements IndexedInvocationHandler {
+        int genericCalls;
+        int specializedCalls;
+
+        @Override
+        public Object invoke(Object proxy, int methodIndex, ProxyMethod method, Object[] args) {
+            genericCalls++;
+            return null;
+        }
+
+        @Override
+        public int invokeInt(Object proxy, int methodIndex, ProxyMethod method, Object[] args) {
+            specializedCalls++;
+            return (Integer) args[0] + (Integer) args[1];
+        }
+
+        @Override
+        public long invokeLong(Object proxy, int methodIndex, ProxyMethod method, Object[] args) {
+            specializedCalls++;
+            return (Long) args[0] * (Long) args[1];
+        }
+
+        @Override
+        public double invokeDouble(Object proxy, int methodIndex, ProxyMethod method, Object[] args) {
+            specializedCalls++;
+            return (Double) args[0] / 2;
+        }
+
+        @Override
+        public boolean invokeBoolean(Object proxy, int methodIndex, ProxyMethod method, Object[] args) {
+            specializedCalls++;
+            return (Integer) args[0] > 0;
+        }
+
+        @Override
+        public void invokeVoid(Object proxy, int methodIndex, ProxyMethod method, Object[] args) {
+            specializedCalls++;
+            assertEquals(0, args.length);
+        }
+    }
+}
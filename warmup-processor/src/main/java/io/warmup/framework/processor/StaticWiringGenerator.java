@@ -0,0 +1,694 @@
+package io.warmup.framework.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * 🧊 Genera el cableado completo del modo estático
+ * ({@code io.warmup.framework.core.StaticComponentWiring}).
+ *
+ * Emite una clase {@code WarmupStaticWiring} por paquete con componentes (así
+ * puede usar miembros package-private) con la llamada al constructor, las
+ * asignaciones de campos @Inject/@Value, las llamadas a métodos @Inject,
+ * @PostConstruct y @PreDestroy, y la implementación elegida para cada punto de
+ * inyección (@Named, @Primary). Cada punto de inyección llama al handle del
+ * binding elegido, que ejecuta directamente su factory generada: la
+ * resolución no pasa por el registro del contenedor. Lo que no se puede
+ * cablear con código generado se reporta como error de compilación.
+ *
+ * Se activa con la opción {@code -Awarmup.static=true}.
+ */
+class StaticWiringGenerator {
+
+    static final String OPTION = "warmup.static";
+
+    private static final String WIRING_CLASS = "WarmupStaticWiring";
+    private static final String WIRING_INTERFACE = "io.warmup.framework.core.StaticComponentWiring";
+    private static final String CONTAINER_INTERFACE = "io.warmup.framework.core.IContainer";
+
+    private static final String COMPONENT = "io.warmup.framework.annotation.Component";
+    private static final String INJECT = "io.warmup.framework.annotation.Inject";
+    private static final String NAMED = "io.warmup.framework.annotation.Named";
+    private static final String VALUE = "io.warmup.framework.annotation.Value";
+    private static final String PRIMARY = "io.warmup.framework.annotation.Primary";
+    private static final String LAZY = "io.warmup.framework.annotation.Lazy";
+    private static final String PROFILE = "io.warmup.framework.annotation.Profile";
+    private static final String POST_CONSTRUCT = "io.warmup.framework.annotation.PostConstruct";
+    private static final String PRE_DESTROY = "io.warmup.framework.annotation.PreDestroy";
+
+    private final ProcessingEnvironment processingEnv;
+    private final Elements elementUtils;
+    private final Types typeUtils;
+
+    private final List<Candidate> candidates = new ArrayList<>();
+
+    StaticWiringGenerator(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.elementUtils = processingEnv.getElementUtils();
+        this.typeUtils = processingEnv.getTypeUtils();
+    }
+
+    static boolean isEnabled(ProcessingEnvironment processingEnv) {
+        return "true".equalsIgnoreCase(processingEnv.getOptions().get(OPTION));
+    }
+
+    /**
+     * Componente candidato a satisfacer puntos de inyección.
+     */
+    private static final class Candidate {
+        final TypeElement element;
+        final String name;
+        final Integer primaryPriority;
+        final boolean singleton;
+        final boolean lazy;
+
+        Candidate(TypeElement element, String name, Integer primaryPriority, boolean singleton, boolean lazy) {
+            this.element = element;
+            this.name = name;
+            this.primaryPriority = primaryPriority;
+            this.singleton = singleton;
+            this.lazy = lazy;
+        }
+    }
+
+    /**
+     * Cableado de un paquete: handles que usan sus factories y bindings.
+     */
+    private static final class PackageWiring {
+        final Map<String, String> handles = new LinkedHashMap<>();
+        final List<String> declarations = new ArrayList<>();
+        final List<String> bindings = new ArrayList<>();
+
+        /**
+         * Variable local con el handle de {@code component}, declarada al
+         * principio de wire() para que las factories la capturen.
+         */
+        String handle(String type, String component, boolean accessible) {
+            String existing = handles.get(component);
+            if (existing != null) {
+                return existing;
+            }
+            String variable = "handle" + handles.size();
+            handles.put(component, variable);
+            declarations.add("        " + WIRING_INTERFACE + ".Handle<" + type + "> " + variable + " = binder.handle("
+                    + type + ".class" + (accessible ? "" : ", " + literal(component)) + ");\n");
+            return variable;
+        }
+    }
+
+    void generate(List<TypeElement> components) {
+        for (TypeElement component : components) {
+            AnnotationMirror named = annotation(component, NAMED);
+            AnnotationMirror primary = annotation(component, PRIMARY);
+            AnnotationMirror componentAnnotation = annotation(component, COMPONENT);
+            String name = named != null ? ((String) value(named, "value")).trim() : null;
+            candidates.add(new Candidate(component,
+                    name != null && !name.isEmpty() ? name : null,
+                    primary != null ? (Integer) value(primary, "value") : null,
+                    componentAnnotation == null || (Boolean) value(componentAnnotation, "singleton"),
+                    annotation(component, LAZY) != null));
+        }
+
+        Map<String, PackageWiring> wiringsByPackage = new LinkedHashMap<>();
+        boolean valid = true;
+        for (Candidate candidate : candidates) {
+            PackageWiring wiring = wiringsByPackage.computeIfAbsent(packageOf(candidate.element), k -> new PackageWiring());
+            String binding = generateBinding(candidate, wiring);
+            if (binding == null) {
+                valid = false;
+                continue;
+            }
+            wiring.bindings.add(binding);
+        }
+        if (!valid) {
+            return;
+        }
+
+        List<String> wiringClasses = new ArrayList<>();
+        for (Map.Entry<String, PackageWiring> entry : wiringsByPackage.entrySet()) {
+            String packageName = entry.getKey();
+            String className = packageName.isEmpty() ? WIRING_CLASS : packageName + "." + WIRING_CLASS;
+            if (writeWiringClass(packageName, className, entry.getValue())) {
+                wiringClasses.add(className);
+            }
+        }
+        writeServiceFile(wiringClasses);
+    }
+
+    // ========================================
+    // 🎯 BINDING POR COMPONENTE
+    // ========================================
+
+    private String generateBinding(Candidate candidate, PackageWiring wiring) {
+        TypeElement component = candidate.element;
+        String packageName = packageOf(component);
+        String type = component.getQualifiedName().toString();
+
+        if (!checkComponent(component)) {
+            return null;
+        }
+
+        ExecutableElement constructor = selectConstructor(component);
+        if (constructor == null) {
+            return null;
+        }
+
+        boolean valid = true;
+        Set<String> dependencies = new LinkedHashSet<>();
+        StringBuilder factory = new StringBuilder();
+
+        List<String> args = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            String expression = resolve(parameter, parameter.asType(), packageName, wiring, dependencies);
+            valid &= expression != null;
+            args.add(expression);
+        }
+        factory.append("                    ").append(type).append(" instance = new ").append(type)
+                .append("(").append(String.join(", ", args)).append(");\n");
+
+        for (VariableElement field : injectFields(component)) {
+            TypeElement owner = (TypeElement) field.getEnclosingElement();
+            if (!checkMember(field, owner, packageName, "campo")) {
+                valid = false;
+                continue;
+            }
+            if (field.getModifiers().contains(Modifier.FINAL)) {
+                error(field, "campo final no inyectable");
+                valid = false;
+                continue;
+            }
+            String expression = resolve(field, field.asType(), packageName, wiring, dependencies);
+            valid &= expression != null;
+            factory.append("                    ").append(receiver(component, owner)).append(".")
+                    .append(field.getSimpleName()).append(" = ").append(expression).append(";\n");
+        }
+
+        for (ExecutableElement method : annotatedMethods(component, INJECT)) {
+            TypeElement owner = (TypeElement) method.getEnclosingElement();
+            if (!checkMember(method, owner, packageName, "método @Inject")) {
+                valid = false;
+                continue;
+            }
+            List<String> methodArgs = new ArrayList<>();
+            for (VariableElement parameter : method.getParameters()) {
+                String expression = resolve(parameter, parameter.asType(), packageName, wiring, dependencies);
+                valid &= expression != null;
+                methodArgs.add(expression);
+            }
+            factory.append("                    ").append(receiver(component, owner)).append(".")
+                    .append(method.getSimpleName()).append("(").append(String.join(", ", methodArgs)).append(");\n");
+        }
+
+        String postConstruct = lifecycleCalls(component, POST_CONSTRUCT, "@PostConstruct", packageName);
+        String preDestroy = lifecycleCalls(component, PRE_DESTROY, "@PreDestroy", packageName);
+        if (!valid || postConstruct == null || preDestroy == null) {
+            return null;
+        }
+        factory.append(postConstruct);
+        factory.append("                    return instance;\n");
+
+        StringBuilder out = new StringBuilder();
+        out.append("        binder.bind(").append(type).append(".class, ")
+                .append(candidate.name != null ? literal(candidate.name) : "null").append(", ")
+                .append(flags(candidate)).append(", ")
+                .append(candidate.primaryPriority != null ? candidate.primaryPriority : 0).append(",\n");
+        out.append("                ").append(classArray(interfacesOf(component, packageName))).append(",\n");
+        out.append("                ").append(classArray(dependencies)).append(",\n");
+        out.append("                container -> {\n").append(factory).append("                },\n");
+        if (preDestroy.isEmpty()) {
+            out.append("                null);\n");
+        } else {
+            out.append("                instance -> {\n").append(preDestroy).append("                });\n");
+        }
+        return out.toString();
+    }
+
+    private boolean checkComponent(TypeElement component) {
+        if (component.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(component, "un componente abstracto no se puede instanciar");
+            return false;
+        }
+        if (!component.getTypeParameters().isEmpty()) {
+            error(component, "los componentes genéricos no están soportados");
+            return false;
+        }
+        if (annotation(component, PROFILE) != null) {
+            error(component, "@Profile se evalúa en runtime y no se puede cablear estáticamente");
+            return false;
+        }
+        for (Element current = component; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            TypeElement type = (TypeElement) current;
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                error(component, "clase privada, no accesible desde el cableado generado");
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+                error(component, "clase interna no estática, no se puede instanciar desde el cableado generado");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mismo criterio que el runtime: constructor @Inject, sin argumentos o el
+     * único declarado.
+     */
+    private ExecutableElement selectConstructor(TypeElement component) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(component.getEnclosedElements());
+        ExecutableElement selected = null;
+        for (ExecutableElement constructor : constructors) {
+            if (annotation(constructor, INJECT) != null) {
+                selected = constructor;
+                break;
+            }
+        }
+        if (selected == null) {
+            for (ExecutableElement constructor : constructors) {
+                if (constructor.getParameters().isEmpty()) {
+                    selected = constructor;
+                    break;
+                }
+            }
+        }
+        if (selected == null && constructors.size() == 1) {
+            selected = constructors.get(0);
+        }
+        if (selected == null) {
+            error(component, "varios constructores sin @Inject: marca el que debe usar el contenedor");
+            return null;
+        }
+        return checkMember(selected, component, packageOf(component), "constructor") ? selected : null;
+    }
+
+    private String lifecycleCalls(TypeElement component, String annotation, String label, String packageName) {
+        StringBuilder calls = new StringBuilder();
+        boolean valid = true;
+        for (ExecutableElement method : annotatedMethods(component, annotation)) {
+            TypeElement owner = (TypeElement) method.getEnclosingElement();
+            if (!checkMember(method, owner, packageName, "método " + label)) {
+                valid = false;
+                continue;
+            }
+            if (!method.getParameters().isEmpty()) {
+                error(method, "un método " + label + " no puede tener parámetros");
+                valid = false;
+                continue;
+            }
+            calls.append("                    ").append(receiver(component, owner)).append(".")
+                    .append(method.getSimpleName()).append("();\n");
+        }
+        return valid ? calls.toString() : null;
+    }
+
+    // ========================================
+    // 🔍 RESOLUCIÓN DE PUNTOS DE INYECCIÓN
+    // ========================================
+
+    /**
+     * Expresión Java que produce el valor del punto de inyección, o null si no
+     * se puede cablear (el error ya se ha reportado).
+     */
+    private String resolve(Element site, TypeMirror type, String packageName, PackageWiring wiring,
+                           Set<String> dependencies) {
+        AnnotationMirror value = annotation(site, VALUE);
+        if (value != null) {
+            return resolveValue(site, type, (String) value(value, "value"));
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            error(site, "tipo " + type + " sin @Value: no se puede inyectar");
+            return null;
+        }
+        DeclaredType declared = (DeclaredType) type;
+        TypeElement declaredElement = (TypeElement) declared.asElement();
+        if (declaredElement.getQualifiedName().contentEquals(CONTAINER_INTERFACE)) {
+            return "container";
+        }
+        if (!declared.getTypeArguments().isEmpty()) {
+            error(site, "el tipo genérico " + type + " no se puede cablear en modo estático");
+            return null;
+        }
+
+        AnnotationMirror namedAnnotation = annotation(site, NAMED);
+        String named = namedAnnotation != null ? (String) value(namedAnnotation, "value") : null;
+
+        TypeMirror target = typeUtils.erasure(type);
+        List<Candidate> matches = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (typeUtils.isAssignable(typeUtils.erasure(candidate.element.asType()), target)
+                    && (named == null || named.equals(candidate.name))) {
+                matches.add(candidate);
+            }
+        }
+
+        Candidate chosen = select(site, type, named, matches);
+        if (chosen == null) {
+            return null;
+        }
+        String chosenType = chosen.element.getQualifiedName().toString();
+        String component = elementUtils.getBinaryName(chosen.element).toString();
+        if (isAccessible(chosen.element, packageName)) {
+            dependencies.add(chosenType);
+            return wiring.handle(chosenType, component, true) + ".get(container)";
+        }
+        // La implementación no es visible desde este paquete: handle tipado con el tipo declarado
+        String declaredType = declaredElement.getQualifiedName().toString();
+        if (!isAccessible(declaredElement, packageName)) {
+            error(site, "el tipo " + declaredType + " no es accesible desde " + packageName);
+            return null;
+        }
+        return wiring.handle(declaredType, component, false) + ".get(container)";
+    }
+
+    private Candidate select(Element site, TypeMirror type, String named, List<Candidate> matches) {
+        if (matches.size() == 1) {
+            return matches.get(0);
+        }
+        if (matches.isEmpty()) {
+            error(site, "ningún componente satisface " + type
+                    + (named != null ? " con @Named(\"" + named + "\")" : ""));
+            return null;
+        }
+
+        // Varias implementaciones: gana el @Primary de mayor prioridad
+        Candidate best = null;
+        boolean tie = false;
+        for (Candidate candidate : matches) {
+            if (candidate.primaryPriority == null) {
+                continue;
+            }
+            if (best == null || candidate.primaryPriority > best.primaryPriority) {
+                best = candidate;
+                tie = false;
+            } else if (candidate.primaryPriority.equals(best.primaryPriority)) {
+                tie = true;
+            }
+        }
+        if (best == null || tie) {
+            List<String> names = new ArrayList<>();
+            for (Candidate candidate : matches) {
+                names.add(candidate.element.getQualifiedName().toString());
+            }
+            error(site, "inyección ambigua de " + type + ": " + names + " (usa @Named o @Primary)");
+            return null;
+        }
+        return best;
+    }
+
+    private String resolveValue(Element site, TypeMirror type, String expression) {
+        String raw = "container.resolvePropertyValue(" + literal(expression) + ")";
+        switch (typeUtils.erasure(type).toString()) {
+            case "java.lang.String":
+                return raw;
+            case "int":
+            case "java.lang.Integer":
+                return "Integer.parseInt(" + raw + ")";
+            case "long":
+            case "java.lang.Long":
+                return "Long.parseLong(" + raw + ")";
+            case "boolean":
+            case "java.lang.Boolean":
+                return "Boolean.parseBoolean(" + raw + ")";
+            case "double":
+            case "java.lang.Double":
+                return "Double.parseDouble(" + raw + ")";
+            case "float":
+            case "java.lang.Float":
+                return "Float.parseFloat(" + raw + ")";
+            default:
+                error(site, "@Value no soporta el tipo " + type + " en modo estático");
+                return null;
+        }
+    }
+
+    // ========================================
+    // 🧭 JERARQUÍA Y VISIBILIDAD
+    // ========================================
+
+    /**
+     * Clases de la jerarquía, de la superclase más alta al componente.
+     */
+    private List<TypeElement> hierarchy(TypeElement component) {
+        List<TypeElement> types = new ArrayList<>();
+        for (TypeElement current = component; current != null; ) {
+            if (current.getQualifiedName().contentEquals("java.lang.Object")) {
+                break;
+            }
+            types.add(0, current);
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return types;
+    }
+
+    private List<VariableElement> injectFields(TypeElement component) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement type : hierarchy(component)) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)
+                        && (annotation(field, INJECT) != null || annotation(field, VALUE) != null)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Métodos de instancia con la anotación, superclases primero; un método
+     * sobrescrito solo se llama una vez (la versión más derivada).
+     */
+    private List<ExecutableElement> annotatedMethods(TypeElement component, String annotation) {
+        List<TypeElement> types = hierarchy(component);
+        List<ExecutableElement> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = types.size() - 1; i >= 0; i--) {
+            List<ExecutableElement> declared = ElementFilter.methodsIn(types.get(i).getEnclosedElements());
+            for (int j = declared.size() - 1; j >= 0; j--) {
+                ExecutableElement method = declared.get(j);
+                if (method.getModifiers().contains(Modifier.STATIC) || !seen.add(signature(method))) {
+                    continue;
+                }
+                if (annotation(method, annotation) != null) {
+                    methods.add(0, method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private String signature(ExecutableElement method) {
+        StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+        for (VariableElement parameter : method.getParameters()) {
+            signature.append(typeUtils.erasure(parameter.asType())).append(';');
+        }
+        return signature.append(')').toString();
+    }
+
+    private boolean checkMember(Element member, TypeElement owner, String packageName, String kind) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            error(member, kind + " privado: usa visibilidad de paquete para que lo use el cableado generado");
+            return false;
+        }
+        if (!modifiers.contains(Modifier.PUBLIC) && !packageOf(owner).equals(packageName)) {
+            error(member, kind + " no accesible desde el paquete " + packageName);
+            return false;
+        }
+        if (!isAccessible(owner, packageName)) {
+            error(member, "la clase " + owner.getQualifiedName() + " no es accesible desde " + packageName);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isAccessible(TypeElement type, String packageName) {
+        boolean samePackage = packageOf(type).equals(packageName);
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Set<String> interfacesOf(TypeElement component, String packageName) {
+        Set<String> interfaces = new LinkedHashSet<>();
+        for (TypeElement type : hierarchy(component)) {
+            collectInterfaces(type, packageName, interfaces);
+        }
+        return interfaces;
+    }
+
+    private void collectInterfaces(TypeElement type, String packageName, Set<String> interfaces) {
+        for (TypeMirror mirror : type.getInterfaces()) {
+            TypeElement element = (TypeElement) ((DeclaredType) mirror).asElement();
+            if (isAccessible(element, packageName)) {
+                interfaces.add(element.getQualifiedName().toString());
+            }
+            collectInterfaces(element, packageName, interfaces);
+        }
+    }
+
+    private String receiver(TypeElement component, TypeElement owner) {
+        // Los miembros de superclases se acceden por su tipo (campos ocultos)
+        return owner.equals(component) ? "instance" : "((" + owner.getQualifiedName() + ") instance)";
+    }
+
+    // ========================================
+    // 💾 ESCRITURA
+    // ========================================
+
+    private boolean writeWiringClass(String packageName, String className, PackageWiring wiring) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(className);
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                if (!packageName.isEmpty()) {
+                    out.println("package " + packageName + ";");
+                    out.println();
+                }
+                out.println("/**");
+                out.println(" * Cableado estático generado por WarmupAnnotationProcessor. No editar.");
+                out.println(" */");
+                out.println("public final class " + WIRING_CLASS + " implements " + WIRING_INTERFACE + " {");
+                out.println();
+                out.println("    @Override");
+                out.println("    public void wire(" + WIRING_INTERFACE + ".Binder binder) {");
+                for (String declaration : wiring.declarations) {
+                    out.print(declaration);
+                }
+                for (String binding : wiring.bindings) {
+                    out.print(binding);
+                }
+                out.println("    }");
+                out.println("}");
+            }
+            return true;
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error generando cableado estático " + className + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeServiceFile(List<String> wiringClasses) {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/services/" + WIRING_INTERFACE);
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                for (String wiringClass : wiringClasses) {
+                    out.println(wiringClass);
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error generando META-INF/services para el cableado estático: " + e.getMessage());
+        }
+    }
+
+    // ========================================
+    // 🔧 UTILIDADES
+    // ========================================
+
+    private String flags(Candidate candidate) {
+        List<String> flags = new ArrayList<>();
+        if (candidate.singleton) {
+            flags.add(WIRING_INTERFACE + ".SINGLETON");
+        }
+        if (candidate.lazy) {
+            flags.add(WIRING_INTERFACE + ".LAZY");
+        }
+        if (candidate.primaryPriority != null) {
+            flags.add(WIRING_INTERFACE + ".PRIMARY");
+        }
+        return flags.isEmpty() ? "0" : String.join(" | ", flags);
+    }
+
+    private static String classArray(Set<String> types) {
+        if (types.isEmpty()) {
+            return "new Class<?>[0]";
+        }
+        List<String> literals = new ArrayList<>();
+        for (String type : types) {
+            literals.add(type + ".class");
+        }
+        return "new Class<?>[]{" + String.join(", ", literals) + "}";
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                default:
+                    literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private String packageOf(TypeElement type) {
+        return elementUtils.getPackageOf(type).getQualifiedName().toString();
+    }
+
+    private AnnotationMirror annotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationType)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object value(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elementUtils.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "[warmup.static] " + message, element);
+    }
+}
@@ -37,6 +37,7 @@ import org.objectweb.asm.Type;
 
 @SupportedAnnotationTypes("io.warmup.framework.annotation.Component")
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
+@SupportedOptions(StaticWiringGenerator.OPTION)
 public class WarmupAnnotationProcessor extends AbstractProcessor {
 
     public WarmupAnnotationProcessor() {
@@ -83,6 +84,9 @@ public class WarmupAnnotationProcessor extends AbstractProcessor {
         if (roundEnv.processingOver() && !components.isEmpty()) {
             generateConfigClass();
             generateDependencyResolvers();
+            if (StaticWiringGenerator.isEnabled(processingEnv)) {
+                generateStaticWiring();
+            }
             processed = true;
             processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
                     "Generación de código pre-compilado completada");
@@ -91,6 +95,19 @@ public class WarmupAnnotationProcessor extends AbstractProcessor {
         return true;
     }
 
+    private void generateStaticWiring() {
+        List<TypeElement> elements = new ArrayList<>();
+        for (ComponentInfo info : components) {
+            TypeElement element = elementUtils.getTypeElement(info.className);
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        // Orden estable: el código generado no depende del orden del HashSet
+        elements.sort((a, b) -> a.getQualifiedName().toString().compareTo(b.getQualifiedName().toString()));
+        new StaticWiringGenerator(processingEnv).generate(elements);
+    }
+
     private void generateDependencyResolvers() {
         String resolversPackage = "io.warmup.framework.generated.resolvers";
         generateASMAnalyzerClass();
@@ -232,7 +249,7 @@ public class WarmupAnnotationProcessor extends AbstractProcessor {
                 for (ComponentInfo info : components) {
                     String simpleName = info.className.substring(info.className.lastIndexOf('.') + 1);
                     String fullClassName = info.className.replace('.', '_');
-                    out.println("        registry.getDependencies().put(" + info.className + ".class, new " + fullClassName + "Resolver());");
+                    out.println("        registry.registerDependency(" + info.className + ".class, new " + fullClassName + "Resolver());");
                 }
 
                 out.println("    }");
@@ -0,0 +1,69 @@
+package io.warmup.framework.processor;
+
+import io.warmup.framework.core.StaticComponentWiring;
+import io.warmup.framework.core.WarmupContainer;
+import io.warmup.framework.processor.staticwiring.StaticComponents;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧊 TEST MODO ESTÁTICO - Contenedor cableado solo con código generado
+ */
+public class StaticContainerModeTest {
+
+    private WarmupContainer container;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty(StaticComponentWiring.MODE_PROPERTY, "true");
+        StaticComponents.EVENTS.clear();
+        container = new WarmupContainer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        System.clearProperty(StaticComponentWiring.MODE_PROPERTY);
+        container.shutdown();
+    }
+
+    @Test
+    void testComponentsAreWiredByGeneratedCode() throws Exception {
+        container.scanPackage("io.warmup.framework.processor.staticwiring");
+        container.start();
+
+        assertTrue(container.isStaticMode());
+        StaticComponents.Catalog catalog = container.get(StaticComponents.Catalog.class);
+        assertTrue(catalog.ready);
+        assertSame(catalog, container.get(StaticComponents.Catalog.class));
+        assertSame(container.get(StaticComponents.Clock.class), catalog.clock);
+        assertEquals(1, StaticComponents.EVENTS.size());
+    }
+
+    @Test
+    void testQualifiersAreResolvedAtCompileTime() throws Exception {
+        container.start();
+
+        StaticComponents.Catalog catalog = container.get(StaticComponents.Catalog.class);
+        assertEquals("memory", catalog.store.id());
+        assertEquals("disk", catalog.backup.id());
+        assertEquals("disk", container.getNamed(StaticComponents.Store.class, "disk").id());
+    }
+
+    @Test
+    void testPrototypesAndPreDestroy() throws Exception {
+        container.start();
+
+        StaticComponents.Request first = container.get(StaticComponents.Request.class);
+        StaticComponents.Request second = container.get(StaticComponents.Request.class);
+        assertNotSame(first, second);
+        assertSame(first.catalog, second.catalog);
+
+        container.shutdown();
+        assertEquals(Arrays.asList("init", "close"), StaticComponents.EVENTS);
+    }
+}
@@ -0,0 +1,175 @@
+package io.warmup.framework.processor;
+
+import io.warmup.framework.annotation.Component;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 🧊 TEST STATIC WIRING GENERATOR - Errores de compilación del modo estático
+ */
+public class StaticWiringGeneratorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void testValidComponentsGenerateDirectFactoryCalls() throws Exception {
+        Result result = compile(
+                source("app.Repository", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class Repository {}\n"),
+                source("app.Service", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class Service {\n"
+                        + "    @io.warmup.framework.annotation.Inject Repository repository;\n"
+                        + "}\n"));
+
+        assertTrue(result.success, result.errors.toString());
+        String wiring = new String(Files.readAllBytes(output.resolve("app/WarmupStaticWiring.java")), "UTF-8");
+        assertTrue(wiring.contains("instance.repository = handle0.get(container);"), wiring);
+        assertFalse(wiring.contains("container.get("), wiring);
+        assertTrue(Files.exists(output.resolve("META-INF/services/io.warmup.framework.core.StaticComponentWiring")));
+    }
+
+    @Test
+    void testPrivateMembersAreRejected() throws Exception {
+        Result result = compile(
+                source("app.Repository", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class Repository {}\n"),
+                source("app.Service", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class Service {\n"
+                        + "    @io.warmup.framework.annotation.Inject private Repository repository;\n"
+                        + "    @io.warmup.framework.annotation.PostConstruct private void init() {}\n"
+                        + "}\n"));
+
+        assertFalse(result.success);
+        assertError(result, "campo privado");
+        assertError(result, "método @PostConstruct privado");
+    }
+
+    @Test
+    void testAmbiguousCandidatesAreRejected() throws Exception {
+        Result result = compile(
+                source("app.Store", "package app;\n"
+                        + "public interface Store {}\n"),
+                source("app.MemoryStore", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class MemoryStore implements Store {}\n"),
+                source("app.DiskStore", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class DiskStore implements Store {}\n"),
+                source("app.Service", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class Service {\n"
+                        + "    @io.warmup.framework.annotation.Inject Store store;\n"
+                        + "}\n"));
+
+        assertFalse(result.success);
+        assertError(result, "inyección ambigua de app.Store");
+    }
+
+    @Test
+    void testPrimaryResolvesAmbiguity() throws Exception {
+        Result result = compile(
+                source("app.Store", "package app;\n"
+                        + "public interface Store {}\n"),
+                source("app.MemoryStore", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "@io.warmup.framework.annotation.Primary\n"
+                        + "public class MemoryStore implements Store {}\n"),
+                source("app.DiskStore", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class DiskStore implements Store {}\n"),
+                source("app.Service", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "public class Service {\n"
+                        + "    @io.warmup.framework.annotation.Inject Store store;\n"
+                        + "}\n"));
+
+        assertTrue(result.success, result.errors.toString());
+        String wiring = new String(Files.readAllBytes(output.resolve("app/WarmupStaticWiring.java")), "UTF-8");
+        assertTrue(wiring.contains("binder.handle(app.MemoryStore.class)"), wiring);
+    }
+
+    @Test
+    void testProfileComponentsAreRejected() throws Exception {
+        Result result = compile(
+                source("app.DevOnly", "package app;\n"
+                        + "@io.warmup.framework.annotation.Component\n"
+                        + "@io.warmup.framework.annotation.Profile(\"dev\")\n"
+                        + "public class DevOnly {}\n"));
+
+        assertFalse(result.success);
+        assertError(result, "@Profile se evalúa en runtime");
+    }
+
+    // ========== COMPILACIÓN EN MEMORIA ==========
+
+    private static final class Result {
+        final boolean success;
+        final List<String> errors;
+
+        Result(boolean success, List<String> errors) {
+            this.success = success;
+            this.errors = errors;
+        }
+    }
+
+    private Result compile(JavaFileObject... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        // warmup-core (anotaciones y StaticComponentWiring) desde su ubicación real, no desde java.class.path
+        String classpath = Paths.get(Component.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString();
+        List<String> options = Arrays.asList(
+                "-proc:only", "-Awarmup.static=true",
+                "-classpath", classpath,
+                "-s", output.toString(), "-d", output.toString());
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+                Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new WarmupAnnotationProcessor()));
+        boolean success = task.call();
+
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return new Result(success, errors);
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private static void assertError(Result result, String fragment) {
+        assertTrue(result.errors.stream().anyMatch(error -> error.contains(fragment)),
+                "sin error con '" + fragment + "': " + result.errors);
+    }
+}
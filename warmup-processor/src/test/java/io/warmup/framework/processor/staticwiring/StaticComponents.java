@@ -0,0 +1,87 @@
+package io.warmup.framework.processor.staticwiring;
+
+import io.warmup.framework.annotation.Component;
+import io.warmup.framework.annotation.Inject;
+import io.warmup.framework.annotation.Named;
+import io.warmup.framework.annotation.PostConstruct;
+import io.warmup.framework.annotation.PreDestroy;
+import io.warmup.framework.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Componentes del test de modo estático; {@link WarmupStaticWiring} lo genera
+ * WarmupAnnotationProcessor con -Awarmup.static=true al compilar los tests
+ * de este módulo (ver el pom).
+ */
+public final class StaticComponents {
+
+    public static final List<String> EVENTS = new ArrayList<>();
+
+    private StaticComponents() {
+    }
+
+    public interface Store {
+        String id();
+    }
+
+    @Component
+    @Primary
+    public static class MemoryStore implements Store {
+        @Override
+        public String id() {
+            return "memory";
+        }
+    }
+
+    @Component
+    @Named("disk")
+    public static class DiskStore implements Store {
+        @Override
+        public String id() {
+            return "disk";
+        }
+    }
+
+    @Component
+    public static class Clock {
+    }
+
+    @Component
+    public static class Catalog {
+        public final Store store;
+        @Inject
+        @Named("disk")
+        public Store backup;
+        public Clock clock;
+        public boolean ready;
+
+        @Inject
+        public Catalog(Store store) {
+            this.store = store;
+        }
+
+        @Inject
+        void setClock(Clock clock) {
+            this.clock = clock;
+        }
+
+        @PostConstruct
+        void init() {
+            ready = store != null && backup != null && clock != null;
+            EVENTS.add("init");
+        }
+
+        @PreDestroy
+        void close() {
+            EVENTS.add("close");
+        }
+    }
+
+    @Component(singleton = false)
+    public static class Request {
+        @Inject
+        public Catalog catalog;
+    }
+}